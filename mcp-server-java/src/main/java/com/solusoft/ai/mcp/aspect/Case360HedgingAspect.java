@@ -0,0 +1,32 @@
+package com.solusoft.ai.mcp.aspect;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import com.solusoft.ai.mcp.integration.case360.resilience.Case360Hedging;
+
+/**
+ * Runs outside {@link Case360ResilienceAspect}, so the primary and the hedge each take their
+ * own bulkhead permit and are each seen by the circuit breaker.
+ */
+@Aspect
+@Component
+@Order(1)
+public class Case360HedgingAspect {
+
+    private final Case360Hedging hedging;
+
+    public Case360HedgingAspect(Case360Hedging hedging) {
+        this.hedging = hedging;
+    }
+
+    // Intercept every Case360Client read annotated with @HedgedRead
+    @Around("@annotation(com.solusoft.ai.mcp.integration.case360.resilience.HedgedRead)")
+    public Object hedge(ProceedingJoinPoint joinPoint) throws Throwable {
+        // proceed() may be called more than once (and from other threads): each call clones the invocation
+        return hedging.execute(joinPoint.getSignature().getName(), joinPoint::proceed);
+    }
+}
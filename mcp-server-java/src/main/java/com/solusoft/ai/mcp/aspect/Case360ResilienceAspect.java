@@ -0,0 +1,28 @@
+package com.solusoft.ai.mcp.aspect;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import com.solusoft.ai.mcp.integration.case360.resilience.Case360Operation;
+import com.solusoft.ai.mcp.integration.case360.resilience.Case360Resilience;
+
+@Aspect
+@Component
+@Order(2)
+public class Case360ResilienceAspect {
+
+    private final Case360Resilience resilience;
+
+    public Case360ResilienceAspect(Case360Resilience resilience) {
+        this.resilience = resilience;
+    }
+
+    // Intercept every Case360Client method annotated with @Case360Operation
+    @Around("@annotation(operation)")
+    public Object guard(ProceedingJoinPoint joinPoint, Case360Operation operation) throws Throwable {
+        return resilience.execute(operation.value(), joinPoint.getSignature().getName(), joinPoint::proceed);
+    }
+}
@@ -0,0 +1,98 @@
+package com.solusoft.ai.mcp.config;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.oxm.jaxb.Jaxb2Marshaller;
+import org.springframework.stereotype.Component;
+import org.springframework.xml.transform.StringResult;
+import org.springframework.xml.transform.StringSource;
+
+import com.solusoft.ai.mcp.integration.case360.mtom.MtomPutFile;
+import com.solusoft.ai.mcp.integration.case360.soap.Case360RestrictedBindings;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.xml.bind.JAXBElement;
+import jakarta.xml.bind.annotation.XmlElementDecl;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Builds the Case360 JAXB contexts and round-trips every operation once at startup.
+ *
+ * Runs as an ApplicationRunner, so it completes before readiness switches to ACCEPTING_TRAFFIC:
+ * the first real tool call does not pay for context creation or the JAXB runtime's lazy
+ * accessor setup. Timings go to {@code case360.jaxb.startup} (phase=context|warmup, mode).
+ */
+@Component
+@Slf4j
+public class Case360MarshallerWarmup implements ApplicationRunner {
+
+    private final Jaxb2Marshaller marshaller;
+    private final Jaxb2Marshaller mtomMarshaller;
+    private final MeterRegistry meterRegistry;
+    private final String jaxbMode;
+
+    public Case360MarshallerWarmup(@Qualifier("marshaller") Jaxb2Marshaller marshaller,
+            @Qualifier("mtomMarshaller") Jaxb2Marshaller mtomMarshaller,
+            MeterRegistry meterRegistry,
+            @Value("${case360.jaxb.mode:restricted}") String jaxbMode) {
+        this.marshaller = marshaller;
+        this.mtomMarshaller = mtomMarshaller;
+        this.meterRegistry = meterRegistry;
+        this.jaxbMode = jaxbMode;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        long start = System.nanoTime();
+        marshaller.getJaxbContext();
+        mtomMarshaller.getJaxbContext();
+        long contextNanos = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        int operations = warmUp();
+        mtomMarshaller.marshal(new MtomPutFile(), new StringResult());
+        long warmupNanos = System.nanoTime() - start;
+
+        record("context", contextNanos);
+        record("warmup", warmupNanos);
+        log.info("Case360 JAXB ready (mode={}): context {} ms, warmup of {} elements {} ms", jaxbMode,
+                TimeUnit.NANOSECONDS.toMillis(contextNanos), operations, TimeUnit.NANOSECONDS.toMillis(warmupNanos));
+    }
+
+    /**
+     * Marshals and unmarshals an empty instance of every operation element the client uses.
+     */
+    int warmUp() throws Exception {
+        Case360RestrictedBindings bindings = new Case360RestrictedBindings();
+        int count = 0;
+        for (Method method : Case360RestrictedBindings.class.getDeclaredMethods()) {
+            XmlElementDecl decl = method.getAnnotation(XmlElementDecl.class);
+            if (decl == null || decl.scope() != XmlElementDecl.GLOBAL.class) {
+                continue;
+            }
+            Object value = method.getParameterTypes()[0].getDeclaredConstructor().newInstance();
+            JAXBElement<?> element = (JAXBElement<?>) method.invoke(bindings, value);
+
+            StringResult xml = new StringResult();
+            marshaller.marshal(element, xml);
+            marshaller.unmarshal(new StringSource(xml.toString()));
+            count++;
+        }
+        return count;
+    }
+
+    private void record(String phase, long nanos) {
+        Timer.builder("case360.jaxb.startup")
+                .tag("phase", phase)
+                .tag("mode", jaxbMode)
+                .description("Case360 JAXB context creation and warmup time")
+                .register(meterRegistry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+}
@@ -0,0 +1,59 @@
+package com.solusoft.ai.mcp.config;
+
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+
+import org.slf4j.MDC;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+/**
+ * Executor wrapper that carries the caller's logging context (MDC, e.g. "trace_id")
+ * and Spring SecurityContext onto the worker thread, and clears both afterwards.
+ */
+public class ContextPropagatingExecutor implements Executor, AutoCloseable {
+
+    private final ExecutorService delegate;
+
+    public ContextPropagatingExecutor(ExecutorService delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        Map<String, String> callerMdc = MDC.getCopyOfContextMap();
+        Authentication callerAuth = SecurityContextHolder.getContext().getAuthentication();
+
+        delegate.execute(() -> {
+            Map<String, String> previousMdc = MDC.getCopyOfContextMap();
+            SecurityContext previousContext = SecurityContextHolder.getContext();
+            try {
+                if (callerMdc != null) {
+                    MDC.setContextMap(callerMdc);
+                } else {
+                    MDC.clear();
+                }
+                SecurityContext context = SecurityContextHolder.createEmptyContext();
+                context.setAuthentication(callerAuth);
+                SecurityContextHolder.setContext(context);
+
+                task.run();
+            } finally {
+                // Pooled threads must not leak the caller's identity into the next task
+                if (previousMdc != null) {
+                    MDC.setContextMap(previousMdc);
+                } else {
+                    MDC.clear();
+                }
+                SecurityContextHolder.setContext(previousContext);
+            }
+        });
+    }
+
+    @Override
+    public void close() {
+        delegate.shutdown();
+    }
+}
@@ -26,7 +26,8 @@ public class McpSecurityConfig {
         http
             .csrf(csrf -> csrf.disable())
             .authorizeHttpRequests(auth -> auth
-            	.requestMatchers("/actuator/**").permitAll()
+            	// Probes and build info stay open; /actuator/metrics needs an API key like everything else
+            	.requestMatchers("/actuator/health", "/actuator/health/**", "/actuator/info").permitAll()
             	.requestMatchers("/admin/**").permitAll() 
                 .requestMatchers("/mcp/**").permitAll()
                 .anyRequest().authenticated()
@@ -23,6 +23,10 @@ import org.springframework.oxm.jaxb.Jaxb2Marshaller;
 import org.springframework.ws.client.core.WebServiceTemplate;
 import org.springframework.ws.transport.http.HttpComponents5MessageSender;
 
+import com.solusoft.ai.mcp.integration.case360.mtom.MtomPutFile;
+import com.solusoft.ai.mcp.integration.case360.mtom.MtomPutFileResponse;
+import com.solusoft.ai.mcp.integration.case360.soap.Case360RestrictedBindings;
+
 @Configuration
 public class SoapConfig {
 
@@ -37,11 +41,37 @@ public class SoapConfig {
     @Value("${case360.pool.max-per-route:20}") private int maxPerRoute;
     @Value("${case360.pool.ttl-minutes:10}") private int ttlMinutes;
 
+    // restricted = only the operations Case360Client calls; full = the whole generated package
+    @Value("${case360.jaxb.mode:restricted}") private String jaxbMode;
+
+    /**
+     * JAXB context creation is deferred to {@link Case360MarshallerWarmup}, which builds and
+     * exercises it (timed) before the readiness probe reports UP.
+     */
     @Bean
     public Jaxb2Marshaller marshaller() {
         Jaxb2Marshaller marshaller = new Jaxb2Marshaller();
-        // MUST match the package where your WSDL classes were generated
-        marshaller.setContextPath("com.solusoft.ai.mcp.integration.case360.soap");
+        if ("full".equalsIgnoreCase(jaxbMode)) {
+            // MUST match the package where your WSDL classes were generated
+            marshaller.setContextPath("com.solusoft.ai.mcp.integration.case360.soap");
+        } else {
+            marshaller.setClassesToBeBound(Case360RestrictedBindings.class);
+        }
+        marshaller.setLazyInit(true);
+        return marshaller;
+    }
+
+    /**
+     * MTOM marshaller for binary uploads.
+     * Only binds the DataHandler-based request classes, so document bytes travel as an
+     * XOP attachment instead of an inline base64 string.
+     */
+    @Bean
+    public Jaxb2Marshaller mtomMarshaller() {
+        Jaxb2Marshaller marshaller = new Jaxb2Marshaller();
+        marshaller.setClassesToBeBound(MtomPutFile.class, MtomPutFileResponse.class);
+        marshaller.setMtomEnabled(true);
+        marshaller.setLazyInit(true);
         return marshaller;
     }
 
@@ -122,4 +152,19 @@ public class SoapConfig {
         template.setMessageSender(new HttpComponents5MessageSender(httpClient));
         return template;
     }
+
+    /**
+     * BEAN 4: MTOM Web Service Template
+     * Same connection pool and auth, used only for streaming document uploads.
+     */
+    @Bean
+    public WebServiceTemplate case360MtomWebServiceTemplate(
+            @Qualifier("mtomMarshaller") Jaxb2Marshaller mtomMarshaller, 
+            @Qualifier("case360HttpClient") CloseableHttpClient httpClient) {
+        
+        WebServiceTemplate template = new WebServiceTemplate(mtomMarshaller);
+        template.setDefaultUri(case360Url);
+        template.setMessageSender(new HttpComponents5MessageSender(httpClient));
+        return template;
+    }
 }
\ No newline at end of file
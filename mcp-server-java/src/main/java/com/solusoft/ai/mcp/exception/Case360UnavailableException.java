@@ -0,0 +1,21 @@
+package com.solusoft.ai.mcp.exception;
+
+import java.time.Duration;
+
+/**
+ * Case360 call rejected locally (circuit open or bulkhead full) without reaching the server.
+ * Safe to retry after {@link #getRetryAfter()}.
+ */
+public class Case360UnavailableException extends Case360IntegrationException {
+
+    private final Duration retryAfter;
+
+    public Case360UnavailableException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
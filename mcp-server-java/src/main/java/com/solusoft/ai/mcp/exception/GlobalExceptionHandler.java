@@ -5,6 +5,7 @@ import java.util.HashMap;
 import java.util.Map;
 
 import org.slf4j.MDC;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
@@ -18,6 +19,14 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class GlobalExceptionHandler {
 
+    @ExceptionHandler(Case360UnavailableException.class)
+    public ResponseEntity<Map<String, Object>> handleUnavailable(Case360UnavailableException ex) {
+        log.warn("Legacy System Unavailable: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(ex.getRetryAfter().toSeconds(), 1)))
+                .body(buildResponse(HttpStatus.SERVICE_UNAVAILABLE, "CASE360_UNAVAILABLE", "Legacy system is temporarily unavailable.").getBody());
+    }
+
     @ExceptionHandler(Case360IntegrationException.class)
     public ResponseEntity<Map<String, Object>> handleIntegrationError(Case360IntegrationException ex) {
         log.error("Legacy System Failure: {}", ex.getMessage());
@@ -36,6 +45,12 @@ public class GlobalExceptionHandler {
         return buildResponse(HttpStatus.BAD_REQUEST, "INVALID_INPUT", ex.getMessage());
     }
 
+    @ExceptionHandler(SecurityException.class)
+    public ResponseEntity<Map<String, Object>> handleBlockedContent(SecurityException ex) {
+        log.warn("Content Blocked: {}", ex.getMessage());
+        return buildResponse(HttpStatus.UNSUPPORTED_MEDIA_TYPE, "FILE_TYPE_BLOCKED", ex.getMessage());
+    }
+
     @ExceptionHandler(NoResourceFoundException.class)
     public ResponseEntity<Map<String, Object>> handle404(NoResourceFoundException ex) {
         return buildResponse(HttpStatus.NOT_FOUND, "NOT_FOUND", "Endpoint does not exist.");
@@ -0,0 +1,21 @@
+package com.solusoft.ai.mcp.exception;
+
+import java.time.Duration;
+
+/**
+ * Request refused by local admission control (e.g. the document memory budget is exhausted).
+ * Nothing was sent to Case360; safe to retry after {@link #getRetryAfter()}.
+ */
+public class ServerBusyException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    public ServerBusyException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
@@ -0,0 +1,74 @@
+package com.solusoft.ai.mcp.features.claims.controller;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+
+import com.solusoft.ai.mcp.features.claims.service.DocumentStagingService;
+import com.solusoft.ai.mcp.features.claims.service.DocumentStagingService.StagedDocument;
+import com.solusoft.ai.mcp.features.claims.service.DocumentUploadService;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Staging endpoint for documents too large to send as base64 in an MCP message.
+ *
+ * Accepts either a multipart form ({@code file} part) or the raw bytes as the request body
+ * (file name in {@code X-File-Name}). The response carries a staging token for the
+ * {@code upload_staged_document} tool. Authenticated with the same X-MCP-API-KEY as the tools.
+ */
+@RestController
+@RequestMapping("/mcp/staging")
+@Slf4j
+public class DocumentStagingController {
+
+    private final DocumentStagingService documentStagingService;
+
+    public DocumentStagingController(DocumentStagingService documentStagingService) {
+        this.documentStagingService = documentStagingService;
+    }
+
+    // curl -H "X-MCP-API-KEY: ..." -F file=@claim.pdf http://localhost:8080/mcp/staging
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @PreAuthorize("hasRole('CLAIMS_PROCESSOR')")
+    public ResponseEntity<Map<String, Object>> stageMultipart(@RequestParam("file") MultipartFile file) throws IOException {
+        log.info("Entering stageMultipart");
+        try (InputStream content = file.getInputStream()) {
+            return created(documentStagingService.stage(content, file.getOriginalFilename(),
+                    DocumentUploadService::requireAllowedType));
+        }
+    }
+
+    // curl -H "X-MCP-API-KEY: ..." -H "Content-Type: application/pdf" -H "X-File-Name: claim.pdf" --data-binary @claim.pdf ...
+    @PostMapping(consumes = {MediaType.APPLICATION_OCTET_STREAM_VALUE, MediaType.APPLICATION_PDF_VALUE, "image/tiff"})
+    @PreAuthorize("hasRole('CLAIMS_PROCESSOR')")
+    public ResponseEntity<Map<String, Object>> stageBinary(HttpServletRequest request,
+            @RequestHeader(value = "X-File-Name", required = false) String fileName) throws IOException {
+        log.info("Entering stageBinary");
+        try (InputStream content = request.getInputStream()) {
+            return created(documentStagingService.stage(content, fileName, DocumentUploadService::requireAllowedType));
+        }
+    }
+
+    private static ResponseEntity<Map<String, Object>> created(StagedDocument staged) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(Map.of(
+            "staging_token", staged.token(),
+            "size_bytes", staged.sizeBytes(),
+            "mime_type", staged.mimeType(),
+            "sha256", staged.contentHash(),
+            "expires_at", staged.expiresAt().toString()
+        ));
+    }
+}
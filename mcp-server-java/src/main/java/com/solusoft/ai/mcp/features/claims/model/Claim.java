@@ -20,5 +20,7 @@ public record Claim(
     String status,
     Instant createdAt,
     Instant processedAt,
-    String additionalData // Stores the raw JSON string
+    String additionalData, // Stores the raw JSON string
+    String caseStatus, // CLAIM_STATUS last written to Case360 by this server (null if none)
+    Instant caseStatusAt
 ) {}
\ No newline at end of file
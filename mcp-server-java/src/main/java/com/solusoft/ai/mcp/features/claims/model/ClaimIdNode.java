@@ -0,0 +1,15 @@
+package com.solusoft.ai.mcp.features.claims.model;
+
+import java.time.Instant;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+@Table("claim_id_nodes")
+public record ClaimIdNode(
+    @Id
+    Integer nodeId,      // Node bits of generated claim IDs
+
+    String instanceId,   // Instance currently holding the lease
+    Instant heartbeatAt
+) {}
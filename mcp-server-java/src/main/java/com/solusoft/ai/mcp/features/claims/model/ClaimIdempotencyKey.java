@@ -0,0 +1,22 @@
+package com.solusoft.ai.mcp.features.claims.model;
+
+import java.time.Instant;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+@Table("claim_idempotency_keys")
+public record ClaimIdempotencyKey(
+    @Id
+    String keyHash,      // SHA-256 of tool, caller and idempotency key (or request fingerprint)
+
+    String toolName,
+    String requestHash,  // SHA-256 of the request, to reject a key reused for a different claim
+    String status,       // IN_PROGRESS, COMPLETED
+    String response,     // Tool response JSON once COMPLETED, stored verbatim so replays are byte-identical
+    Instant createdAt,
+    Instant expiresAt    // IN_PROGRESS: lapses unless the running holder refreshes it; COMPLETED: end of the TTL
+) {
+    public static final String IN_PROGRESS = "IN_PROGRESS";
+    public static final String COMPLETED = "COMPLETED";
+}
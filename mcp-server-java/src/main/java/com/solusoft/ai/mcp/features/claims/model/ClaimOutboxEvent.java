@@ -0,0 +1,30 @@
+package com.solusoft.ai.mcp.features.claims.model;
+
+import java.time.Instant;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+@Table("claim_outbox")
+public record ClaimOutboxEvent(
+    @Id
+    Long id,             // Also the per-claim dispatch order
+
+    String claimId,
+    String eventType,    // CLAIM_UPSERTED
+    String payload,      // Case360 field values (JSON object)
+    String status,       // PENDING, DISPATCHED, FAILED
+    Integer attempts,
+    String lastError,
+    String lockedBy,     // Dispatcher instance working on the event
+    Instant lockedUntil,
+    Instant createdAt,
+    Instant availableAt, // Next attempt after a retryable failure
+    Instant dispatchedAt
+) {
+    public static final String CLAIM_UPSERTED = "CLAIM_UPSERTED";
+
+    public static final String PENDING = "PENDING";
+    public static final String DISPATCHED = "DISPATCHED";
+    public static final String FAILED = "FAILED";
+}
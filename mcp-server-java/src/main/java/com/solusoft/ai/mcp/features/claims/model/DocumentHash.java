@@ -0,0 +1,19 @@
+package com.solusoft.ai.mcp.features.claims.model;
+
+import java.time.Instant;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+@Table("document_hashes")
+public record DocumentHash(
+    @Id
+    String contentHash, // Hex SHA-256 of the decoded document
+    
+    String documentId,  // Case360 filestore ID holding this content
+    String storedName,
+    String mimeType,
+    Long sizeBytes,
+    Integer versionNumber, // Case360 version the hash was taken from; null when recorded at upload
+    Instant createdAt
+) {}
@@ -0,0 +1,23 @@
+package com.solusoft.ai.mcp.features.claims.model;
+
+import com.fasterxml.jackson.annotation.JsonClassDescription;
+import com.fasterxml.jackson.annotation.JsonPropertyDescription;
+
+@JsonClassDescription("Input for submitting a claim in one call: extraction, upload, case creation and storage")
+public record SubmitClaimRequest(
+
+    @JsonPropertyDescription("Raw text of the claim document. Optional when stagingToken refers to a PDF; its text is then extracted on the server")
+    String documentText,
+
+    @JsonPropertyDescription("Optional: The Base64 encoded supporting document")
+    String documentBase64,
+
+    @JsonPropertyDescription("Optional: The name of the file (e.g., claim.pdf)")
+    String documentName,
+
+    @JsonPropertyDescription("Optional: staging_token from POST /mcp/staging, instead of documentBase64")
+    String stagingToken,
+
+    @JsonPropertyDescription("Optional: 'auto' or 'healthcare' to override the detected claim type")
+    String claimType
+) {}
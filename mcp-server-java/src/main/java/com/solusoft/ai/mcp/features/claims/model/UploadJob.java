@@ -0,0 +1,33 @@
+package com.solusoft.ai.mcp.features.claims.model;
+
+import java.time.Instant;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+@Table("upload_jobs")
+public record UploadJob(
+    @Id
+    String jobId,
+    
+    String status,       // QUEUED, UPLOADING, COMPLETED, FAILED
+    String fileName,     // Name supplied by the client
+    String filePath,     // Local copy of the document until the transfer finishes
+    String contentHash,
+    String mimeType,
+    Long sizeBytes,
+    String documentId,   // Case360 filestore ID once COMPLETED
+    String storedName,
+    Boolean deduplicated,
+    String errorMessage,
+    Integer attempts,
+    String lockedBy,     // Instance that queued or is uploading the job
+    Instant lockedUntil, // Afterwards any instance may resume it
+    Instant createdAt,
+    Instant updatedAt
+) {
+    public static final String QUEUED = "QUEUED";
+    public static final String UPLOADING = "UPLOADING";
+    public static final String COMPLETED = "COMPLETED";
+    public static final String FAILED = "FAILED";
+}
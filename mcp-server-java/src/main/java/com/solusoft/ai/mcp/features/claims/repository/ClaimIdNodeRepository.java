@@ -0,0 +1,42 @@
+package com.solusoft.ai.mcp.features.claims.repository;
+
+import java.time.Instant;
+import java.util.Optional;
+
+import org.springframework.data.jdbc.repository.query.Modifying;
+import org.springframework.data.jdbc.repository.query.Query;
+import org.springframework.data.repository.ListCrudRepository;
+import org.springframework.data.repository.query.Param;
+
+import com.solusoft.ai.mcp.features.claims.model.ClaimIdNode;
+
+public interface ClaimIdNodeRepository extends ListCrudRepository<ClaimIdNode, Integer> {
+
+    // Takes the lowest node ID that is free or whose lease expired. Two instances racing for the
+    // same ID both reach the ON CONFLICT branch; only one sees the row as expired, the other gets
+    // no row back and tries again.
+    @Query("""
+        INSERT INTO claim_id_nodes (node_id, instance_id, heartbeat_at)
+        SELECT n, :instanceId, :now FROM generate_series(0, :maxNodeId) AS n
+        WHERE NOT EXISTS (SELECT 1 FROM claim_id_nodes c WHERE c.node_id = n AND c.heartbeat_at >= :expiredBefore)
+        ORDER BY n
+        LIMIT 1
+        ON CONFLICT (node_id) DO UPDATE SET instance_id = EXCLUDED.instance_id, heartbeat_at = EXCLUDED.heartbeat_at
+            WHERE claim_id_nodes.heartbeat_at < :expiredBefore
+        RETURNING node_id
+    """)
+    Optional<Integer> lease(@Param("instanceId") String instanceId, @Param("maxNodeId") int maxNodeId,
+            @Param("now") Instant now, @Param("expiredBefore") Instant expiredBefore);
+
+    // 0 rows: the lease expired and was taken over
+    @Modifying
+    @Query("""
+        UPDATE claim_id_nodes SET heartbeat_at = :now
+        WHERE node_id = :nodeId AND instance_id = :instanceId
+    """)
+    int heartbeat(@Param("nodeId") int nodeId, @Param("instanceId") String instanceId, @Param("now") Instant now);
+
+    @Modifying
+    @Query("DELETE FROM claim_id_nodes WHERE node_id = :nodeId AND instance_id = :instanceId")
+    void release(@Param("nodeId") int nodeId, @Param("instanceId") String instanceId);
+}
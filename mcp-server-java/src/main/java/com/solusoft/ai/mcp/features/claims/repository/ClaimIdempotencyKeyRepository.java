@@ -0,0 +1,53 @@
+package com.solusoft.ai.mcp.features.claims.repository;
+
+import java.time.Instant;
+import java.util.Optional;
+
+import org.springframework.data.jdbc.repository.query.Modifying;
+import org.springframework.data.jdbc.repository.query.Query;
+import org.springframework.data.repository.ListCrudRepository;
+import org.springframework.data.repository.query.Param;
+
+import com.solusoft.ai.mcp.features.claims.model.ClaimIdempotencyKey;
+
+public interface ClaimIdempotencyKeyRepository extends ListCrudRepository<ClaimIdempotencyKey, String> {
+
+    // Inserts the IN_PROGRESS row, or takes over an expired one. No row back: another call holds
+    // the key (or already completed it) and this one must not create the case.
+    @Query("""
+        INSERT INTO claim_idempotency_keys (key_hash, tool_name, request_hash, status, created_at, expires_at)
+        VALUES (:#{#k.keyHash}, :#{#k.toolName}, :#{#k.requestHash}, 'IN_PROGRESS', :#{#k.createdAt}, :#{#k.expiresAt})
+        ON CONFLICT (key_hash) DO UPDATE SET tool_name = EXCLUDED.tool_name, request_hash = EXCLUDED.request_hash,
+               status = 'IN_PROGRESS', response = NULL, created_at = EXCLUDED.created_at, expires_at = EXCLUDED.expires_at
+            WHERE claim_idempotency_keys.expires_at < EXCLUDED.created_at
+        RETURNING key_hash
+    """)
+    Optional<String> claim(@Param("k") ClaimIdempotencyKey k);
+
+    @Modifying
+    @Query("""
+        UPDATE claim_idempotency_keys SET status = 'COMPLETED', response = :response, expires_at = :expiresAt
+        WHERE key_hash = :keyHash
+    """)
+    void complete(@Param("keyHash") String keyHash, @Param("response") String response,
+            @Param("expiresAt") Instant expiresAt);
+
+    // Heartbeat of the running call: pushes out the lapse of its own IN_PROGRESS row (created_at
+    // tells it apart from a takeover). 0 when the row was completed, released or taken over.
+    @Modifying
+    @Query("""
+        UPDATE claim_idempotency_keys SET expires_at = :expiresAt
+        WHERE key_hash = :keyHash AND status = 'IN_PROGRESS' AND created_at = :createdAt
+    """)
+    int extend(@Param("keyHash") String keyHash, @Param("createdAt") Instant createdAt,
+            @Param("expiresAt") Instant expiresAt);
+
+    // The call failed: let the next retry run it again
+    @Modifying
+    @Query("DELETE FROM claim_idempotency_keys WHERE key_hash = :keyHash AND status = 'IN_PROGRESS'")
+    void release(@Param("keyHash") String keyHash);
+
+    @Modifying
+    @Query("DELETE FROM claim_idempotency_keys WHERE expires_at < :now")
+    int deleteExpired(@Param("now") Instant now);
+}
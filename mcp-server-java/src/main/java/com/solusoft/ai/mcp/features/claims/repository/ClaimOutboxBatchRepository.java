@@ -0,0 +1,14 @@
+package com.solusoft.ai.mcp.features.claims.repository;
+
+import java.util.List;
+
+import com.solusoft.ai.mcp.features.claims.model.ClaimOutboxEvent;
+
+public interface ClaimOutboxBatchRepository {
+
+    /**
+     * Inserts PENDING events as JDBC batches of {@code batchSize}, in list order (which is also
+     * their dispatch order per claim).
+     */
+    void insertAll(List<ClaimOutboxEvent> events, int batchSize);
+}
@@ -0,0 +1,40 @@
+package com.solusoft.ai.mcp.features.claims.repository;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+import com.solusoft.ai.mcp.features.claims.model.ClaimOutboxEvent;
+
+public class ClaimOutboxBatchRepositoryImpl implements ClaimOutboxBatchRepository {
+
+    private static final String INSERT = """
+        INSERT INTO claim_outbox (claim_id, event_type, payload, status, attempts, created_at, available_at)
+        VALUES (:claimId, :eventType, CAST(:payload AS JSONB), 'PENDING', 0, :createdAt, :availableAt)
+    """;
+
+    private final NamedParameterJdbcOperations jdbcOperations;
+
+    public ClaimOutboxBatchRepositoryImpl(NamedParameterJdbcOperations jdbcOperations) {
+        this.jdbcOperations = jdbcOperations;
+    }
+
+    @Override
+    public void insertAll(List<ClaimOutboxEvent> events, int batchSize) {
+        int size = Math.max(batchSize, 1);
+        for (int from = 0; from < events.size(); from += size) {
+            SqlParameterSource[] batch = events.subList(from, Math.min(from + size, events.size())).stream()
+                    .map(e -> new MapSqlParameterSource()
+                            .addValue("claimId", e.claimId())
+                            .addValue("eventType", e.eventType())
+                            .addValue("payload", e.payload())
+                            .addValue("createdAt", Timestamp.from(e.createdAt()))
+                            .addValue("availableAt", Timestamp.from(e.availableAt())))
+                    .toArray(SqlParameterSource[]::new);
+            jdbcOperations.batchUpdate(INSERT, batch);
+        }
+    }
+}
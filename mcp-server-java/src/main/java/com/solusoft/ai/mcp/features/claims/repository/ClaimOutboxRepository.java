@@ -0,0 +1,83 @@
+package com.solusoft.ai.mcp.features.claims.repository;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.springframework.data.jdbc.repository.query.Modifying;
+import org.springframework.data.jdbc.repository.query.Query;
+import org.springframework.data.repository.ListCrudRepository;
+import org.springframework.data.repository.query.Param;
+
+import com.solusoft.ai.mcp.features.claims.model.ClaimOutboxEvent;
+
+public interface ClaimOutboxRepository extends ListCrudRepository<ClaimOutboxEvent, Long>, ClaimOutboxBatchRepository {
+
+    @Modifying
+    @Query("""
+        INSERT INTO claim_outbox (claim_id, event_type, payload, status, attempts, created_at, available_at)
+        VALUES (:#{#e.claimId}, :#{#e.eventType}, CAST(:#{#e.payload} AS JSONB), 'PENDING', 0,
+                :#{#e.createdAt}, :#{#e.availableAt})
+    """)
+    void insert(@Param("e") ClaimOutboxEvent e);
+
+    // Locks up to batchSize due events, at most one per claim: an event is only eligible while no
+    // earlier event of the same claim is still pending (including one waiting out a retry), which
+    // keeps per-claim order across dispatcher instances. SKIP LOCKED lets instances share the scan.
+    @Query("""
+        UPDATE claim_outbox SET locked_by = :instanceId, locked_until = :lockedUntil
+        WHERE id IN (
+            SELECT o.id FROM claim_outbox o
+            WHERE o.status = 'PENDING' AND o.available_at <= :now
+              AND (o.locked_until IS NULL OR o.locked_until < :now)
+              AND NOT EXISTS (SELECT 1 FROM claim_outbox p
+                              WHERE p.claim_id = o.claim_id AND p.status = 'PENDING' AND p.id < o.id)
+            ORDER BY o.id
+            LIMIT :batchSize
+            FOR UPDATE SKIP LOCKED)
+        RETURNING *
+    """)
+    List<ClaimOutboxEvent> lockBatch(@Param("instanceId") String instanceId, @Param("now") Instant now,
+            @Param("lockedUntil") Instant lockedUntil, @Param("batchSize") int batchSize);
+
+    @Modifying
+    @Query("""
+        UPDATE claim_outbox SET status = 'DISPATCHED', attempts = attempts + 1, last_error = NULL,
+               locked_by = NULL, locked_until = NULL, dispatched_at = :now
+        WHERE id = :id
+    """)
+    void markDispatched(@Param("id") long id, @Param("now") Instant now);
+
+    @Modifying
+    @Query("""
+        UPDATE claim_outbox SET attempts = attempts + 1, last_error = :error, locked_by = NULL, locked_until = NULL,
+               available_at = :availableAt
+        WHERE id = :id
+    """)
+    void markRetry(@Param("id") long id, @Param("error") String error, @Param("availableAt") Instant availableAt);
+
+    // Case360 was not called (capacity or circuit rejection): not an attempt
+    @Modifying
+    @Query("""
+        UPDATE claim_outbox SET last_error = :error, locked_by = NULL, locked_until = NULL, available_at = :availableAt
+        WHERE id = :id
+    """)
+    void reschedule(@Param("id") long id, @Param("error") String error, @Param("availableAt") Instant availableAt);
+
+    @Modifying
+    @Query("""
+        UPDATE claim_outbox SET status = 'FAILED', attempts = attempts + 1, last_error = :error,
+               locked_by = NULL, locked_until = NULL
+        WHERE id = :id
+    """)
+    void markFailed(@Param("id") long id, @Param("error") String error);
+
+    @Query("SELECT COUNT(*) FROM claim_outbox WHERE status = 'PENDING'")
+    long countPending();
+
+    @Query("SELECT MIN(created_at) FROM claim_outbox WHERE status = 'PENDING'")
+    Instant oldestPending();
+
+    @Modifying
+    @Query("DELETE FROM claim_outbox WHERE status = 'DISPATCHED' AND dispatched_at < :before")
+    int deleteDispatchedBefore(@Param("before") Instant before);
+}
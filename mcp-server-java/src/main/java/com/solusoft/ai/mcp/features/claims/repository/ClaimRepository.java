@@ -1,5 +1,8 @@
 package com.solusoft.ai.mcp.features.claims.repository;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jdbc.repository.query.Modifying;
@@ -9,11 +12,14 @@ import org.springframework.data.repository.query.Param;
 
 import com.solusoft.ai.mcp.features.claims.model.Claim;
 
-public interface ClaimRepository extends ListCrudRepository<Claim, Integer> {
+public interface ClaimRepository extends ListCrudRepository<Claim, Integer>, ClaimUpsertRepository {
     
     // Spring generates this SQL automatically: SELECT * FROM claims WHERE claim_id = ?
     Optional<Claim> findByClaimId(String claimId);
     
+    // SELECT * FROM claims WHERE claim_id IN (...)
+    List<Claim> findByClaimIdIn(Collection<String> claimIds);
+    
     @Modifying
     @Query("""
         INSERT INTO claims (
@@ -27,4 +33,14 @@ public interface ClaimRepository extends ListCrudRepository<Claim, Integer> {
         )
     """)
     void saveClaimWithJson(@Param("c") Claim c);
+
+    // Records the case created for a stored claim; 0 rows if the claim already has one
+    @Modifying
+    @Query("UPDATE claims SET case_id = :caseId WHERE claim_id = :claimId AND case_id IS NULL")
+    int attachCase(@Param("claimId") String claimId, @Param("caseId") String caseId);
+
+    // Records a CLAIM_STATUS just written to the claim's Case360 case (status tier 2)
+    @Modifying
+    @Query("UPDATE claims SET case_status = :status, case_status_at = :at WHERE claim_id = :claimId")
+    int recordCaseStatus(@Param("claimId") String claimId, @Param("status") String status, @Param("at") Instant at);
 }
\ No newline at end of file
@@ -0,0 +1,26 @@
+package com.solusoft.ai.mcp.features.claims.repository;
+
+import java.util.List;
+
+import com.solusoft.ai.mcp.features.claims.model.Claim;
+
+/**
+ * Insert-or-update of claims keyed by claim_id, in one statement per claim.
+ */
+public interface ClaimUpsertRepository {
+
+    /**
+     * Inserts the claim, or updates the row with the same claim_id. The stored case_id and
+     * created_at are kept when the claim carries none.
+     *
+     * @return true when the row was inserted, false when it was updated
+     */
+    boolean upsert(Claim claim);
+
+    /**
+     * {@link #upsert} for many claims as JDBC batches of {@code batchSize} statements.
+     *
+     * @return the number of claims stored
+     */
+    int upsertAll(List<Claim> claims, int batchSize);
+}
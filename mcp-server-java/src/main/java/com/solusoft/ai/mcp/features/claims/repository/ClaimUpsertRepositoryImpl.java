@@ -0,0 +1,80 @@
+package com.solusoft.ai.mcp.features.claims.repository;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+import com.solusoft.ai.mcp.features.claims.model.Claim;
+
+public class ClaimUpsertRepositoryImpl implements ClaimUpsertRepository {
+
+    // xmax is only set on a row version written by an update, so (xmax = 0) means inserted
+    private static final String UPSERT = """
+        INSERT INTO claims (
+            claim_id, claim_doc_id, policy_number, claimant_name, claim_type, claim_amount,
+            case_id, status, created_at, processed_at, additional_data
+        ) VALUES (
+            :claimId, :claimDocId, :policyNumber, :claimantName, :claimType, :claimAmount,
+            :caseId, :status, :createdAt, :processedAt, CAST(:additionalData AS JSONB)
+        )
+        ON CONFLICT (claim_id) DO UPDATE SET
+            claim_doc_id = EXCLUDED.claim_doc_id,
+            policy_number = EXCLUDED.policy_number,
+            claimant_name = EXCLUDED.claimant_name,
+            claim_type = EXCLUDED.claim_type,
+            claim_amount = EXCLUDED.claim_amount,
+            case_id = COALESCE(EXCLUDED.case_id, claims.case_id),
+            status = EXCLUDED.status,
+            created_at = COALESCE(claims.created_at, EXCLUDED.created_at),
+            processed_at = EXCLUDED.processed_at,
+            additional_data = EXCLUDED.additional_data
+    """;
+
+    private final NamedParameterJdbcOperations jdbcOperations;
+
+    public ClaimUpsertRepositoryImpl(NamedParameterJdbcOperations jdbcOperations) {
+        this.jdbcOperations = jdbcOperations;
+    }
+
+    @Override
+    public boolean upsert(Claim claim) {
+        Boolean inserted = jdbcOperations.queryForObject(UPSERT + " RETURNING (xmax = 0)", parameters(claim),
+                Boolean.class);
+        return Boolean.TRUE.equals(inserted);
+    }
+
+    @Override
+    public int upsertAll(List<Claim> claims, int batchSize) {
+        int size = Math.max(batchSize, 1);
+        for (int from = 0; from < claims.size(); from += size) {
+            SqlParameterSource[] batch = claims.subList(from, Math.min(from + size, claims.size())).stream()
+                    .map(ClaimUpsertRepositoryImpl::parameters)
+                    .toArray(SqlParameterSource[]::new);
+            jdbcOperations.batchUpdate(UPSERT, batch);
+        }
+        return claims.size();
+    }
+
+    private static SqlParameterSource parameters(Claim claim) {
+        return new MapSqlParameterSource()
+                .addValue("claimId", claim.claimId())
+                .addValue("claimDocId", claim.claimDocId())
+                .addValue("policyNumber", claim.policyNumber())
+                .addValue("claimantName", claim.claimantName())
+                .addValue("claimType", claim.claimType())
+                .addValue("claimAmount", claim.claimAmount())
+                .addValue("caseId", claim.caseId())
+                .addValue("status", claim.status())
+                .addValue("createdAt", timestamp(claim.createdAt()))
+                .addValue("processedAt", timestamp(claim.processedAt()))
+                .addValue("additionalData", claim.additionalData());
+    }
+
+    private static Timestamp timestamp(Instant instant) {
+        return instant != null ? Timestamp.from(instant) : null;
+    }
+}
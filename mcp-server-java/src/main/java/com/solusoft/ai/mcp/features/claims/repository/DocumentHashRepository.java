@@ -0,0 +1,39 @@
+package com.solusoft.ai.mcp.features.claims.repository;
+
+import java.util.Optional;
+
+import org.springframework.data.jdbc.repository.query.Modifying;
+import org.springframework.data.jdbc.repository.query.Query;
+import org.springframework.data.repository.ListCrudRepository;
+import org.springframework.data.repository.query.Param;
+
+import com.solusoft.ai.mcp.features.claims.model.DocumentHash;
+
+public interface DocumentHashRepository extends ListCrudRepository<DocumentHash, String> {
+
+    // SELECT * FROM document_hashes WHERE document_id = ? AND version_number = ? (first match)
+    Optional<DocumentHash> findFirstByDocumentIdAndVersionNumber(String documentId, Integer versionNumber);
+
+    // The hash is a caller-assigned ID, so save() would try an UPDATE; insert explicitly.
+    // Another instance may have recorded the same content first: keep its document ID.
+    @Modifying
+    @Query("""
+        INSERT INTO document_hashes (content_hash, document_id, stored_name, mime_type, size_bytes, version_number, created_at)
+        VALUES (:#{#h.contentHash}, :#{#h.documentId}, :#{#h.storedName}, :#{#h.mimeType}, :#{#h.sizeBytes},
+                :#{#h.versionNumber}, :#{#h.createdAt})
+        ON CONFLICT (content_hash) DO NOTHING
+    """)
+    void insertIfAbsent(@Param("h") DocumentHash h);
+
+    // As insertIfAbsent, but a row for the same document takes the new version: the content was
+    // recorded at upload (no version yet) or a later version went back to it.
+    @Modifying
+    @Query("""
+        INSERT INTO document_hashes (content_hash, document_id, stored_name, mime_type, size_bytes, version_number, created_at)
+        VALUES (:#{#h.contentHash}, :#{#h.documentId}, :#{#h.storedName}, :#{#h.mimeType}, :#{#h.sizeBytes},
+                :#{#h.versionNumber}, :#{#h.createdAt})
+        ON CONFLICT (content_hash) DO UPDATE SET version_number = EXCLUDED.version_number
+        WHERE document_hashes.document_id = EXCLUDED.document_id
+    """)
+    void insertOrSetVersion(@Param("h") DocumentHash h);
+}
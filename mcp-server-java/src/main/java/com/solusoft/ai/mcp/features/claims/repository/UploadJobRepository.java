@@ -0,0 +1,76 @@
+package com.solusoft.ai.mcp.features.claims.repository;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.springframework.data.jdbc.repository.query.Modifying;
+import org.springframework.data.jdbc.repository.query.Query;
+import org.springframework.data.repository.ListCrudRepository;
+import org.springframework.data.repository.query.Param;
+
+import com.solusoft.ai.mcp.features.claims.model.UploadJob;
+
+public interface UploadJobRepository extends ListCrudRepository<UploadJob, String> {
+
+    // Unfinished jobs nobody holds: the instance that had them died or gave them up
+    @Query("""
+        SELECT * FROM upload_jobs
+        WHERE status IN ('QUEUED', 'UPLOADING') AND (locked_until IS NULL OR locked_until < :now)
+    """)
+    List<UploadJob> findUnlocked(@Param("now") Instant now);
+
+    // The job ID is caller-assigned, so save() would try an UPDATE; insert explicitly.
+    @Modifying
+    @Query("""
+        INSERT INTO upload_jobs (job_id, status, file_name, file_path, content_hash, mime_type, size_bytes,
+                                 attempts, locked_by, locked_until, created_at, updated_at)
+        VALUES (:#{#j.jobId}, :#{#j.status}, :#{#j.fileName}, :#{#j.filePath}, :#{#j.contentHash}, :#{#j.mimeType},
+                :#{#j.sizeBytes}, 0, :#{#j.lockedBy}, :#{#j.lockedUntil}, :#{#j.createdAt}, :#{#j.updatedAt})
+    """)
+    void insert(@Param("j") UploadJob j);
+
+    // Atomic take-over of an unfinished job: 0 when another instance holds it or it has finished
+    @Modifying
+    @Query("""
+        UPDATE upload_jobs SET locked_by = :instanceId, locked_until = :lockedUntil, updated_at = :now
+        WHERE job_id = :jobId AND status IN ('QUEUED', 'UPLOADING')
+          AND (locked_until IS NULL OR locked_until < :now)
+    """)
+    int lock(@Param("jobId") String jobId, @Param("instanceId") String instanceId, @Param("now") Instant now,
+            @Param("lockedUntil") Instant lockedUntil);
+
+    // Lets any instance (this one included) resume the job on its next scan
+    @Modifying
+    @Query("UPDATE upload_jobs SET locked_by = NULL, locked_until = NULL WHERE job_id = :jobId AND locked_by = :instanceId")
+    void unlock(@Param("jobId") String jobId, @Param("instanceId") String instanceId);
+
+    // 0 when the lock expired and was taken over while the job waited for a worker
+    @Modifying
+    @Query("""
+        UPDATE upload_jobs SET status = 'UPLOADING', attempts = attempts + 1, locked_until = :lockedUntil,
+               updated_at = :now
+        WHERE job_id = :jobId AND locked_by = :instanceId AND status IN ('QUEUED', 'UPLOADING')
+    """)
+    int markUploading(@Param("jobId") String jobId, @Param("instanceId") String instanceId, @Param("now") Instant now,
+            @Param("lockedUntil") Instant lockedUntil);
+
+    @Modifying
+    @Query("""
+        UPDATE upload_jobs SET status = 'COMPLETED', document_id = :documentId, stored_name = :storedName,
+               deduplicated = :deduplicated, error_message = NULL, locked_by = NULL, locked_until = NULL,
+               updated_at = :now
+        WHERE job_id = :jobId
+    """)
+    void markCompleted(@Param("jobId") String jobId, @Param("documentId") String documentId,
+            @Param("storedName") String storedName, @Param("deduplicated") boolean deduplicated,
+            @Param("now") Instant now);
+
+    @Modifying
+    @Query("""
+        UPDATE upload_jobs SET status = 'FAILED', error_message = :errorMessage, locked_by = NULL, locked_until = NULL,
+               updated_at = :now
+        WHERE job_id = :jobId
+    """)
+    void markFailed(@Param("jobId") String jobId, @Param("errorMessage") String errorMessage,
+            @Param("now") Instant now);
+}
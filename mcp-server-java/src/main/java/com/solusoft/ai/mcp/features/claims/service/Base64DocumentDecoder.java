@@ -0,0 +1,365 @@
+package com.solusoft.ai.mcp.features.claims.service;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.function.Consumer;
+
+import org.apache.tika.Tika;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Single-pass base64 decoder for upload_document payloads.
+ *
+ * The input string is read once, character by character: a leading data-URI prefix
+ * ({@code data:...;base64,}) and any whitespace are skipped in place instead of being stripped
+ * into new strings. Output goes straight into a right-sized array, or, when the estimated size
+ * exceeds {@code claims.upload.spill-threshold-bytes}, through a 64 KB buffer into a temp file,
+ * so large documents never exist as a heap {@code byte[]}.
+ *
+ * The MIME type is sniffed from the first {@code claims.upload.sniff-bytes} of output. For spilled
+ * documents the check runs before anything is written to disk, so a disallowed type is rejected
+ * after decoding only the first chunk. A SHA-256 of the decoded content is computed on the way
+ * (per flushed chunk when spilling) for content-addressed deduplication.
+ */
+@Component
+@Slf4j
+public class Base64DocumentDecoder {
+
+    private static final int CHUNK_BYTES = 64 * 1024;
+    private static final int MAX_PREFIX_CHARS = 256;
+
+    private static final int WHITESPACE = -2;
+    private static final int PAD = -3;
+    private static final int INVALID = -1;
+    private static final int[] DECODE = new int[128];
+
+    static {
+        Arrays.fill(DECODE, INVALID);
+        String alphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/";
+        for (int i = 0; i < alphabet.length(); i++) {
+            DECODE[alphabet.charAt(i)] = i;
+        }
+        DECODE[' '] = WHITESPACE;
+        DECODE['\t'] = WHITESPACE;
+        DECODE['\n'] = WHITESPACE;
+        DECODE['\r'] = WHITESPACE;
+        DECODE['='] = PAD;
+    }
+
+    private final Tika tika = new Tika();
+    private final long spillThresholdBytes;
+    private final int sniffBytes;
+
+    public Base64DocumentDecoder(
+            @Value("${claims.upload.spill-threshold-bytes:8388608}") long spillThresholdBytes,
+            @Value("${claims.upload.sniff-bytes:8192}") int sniffBytes) {
+        this.spillThresholdBytes = spillThresholdBytes;
+        this.sniffBytes = Math.min(Math.max(sniffBytes, 1), CHUNK_BYTES);
+    }
+
+    /**
+     * Decodes {@code input}. {@code mimeCheck} receives the sniffed MIME type once and may throw
+     * to abort the decode (e.g. {@link SecurityException} for a disallowed type).
+     *
+     * @throws IllegalArgumentException if the input is not valid base64
+     */
+    public DecodedDocument decode(CharSequence input, Consumer<String> mimeCheck) throws IOException {
+        log.info("Entering decode");
+
+        int start = dataStart(input);
+        int end = input.length();
+        long estimate = estimateDecodedSize(input, start, end);
+
+        if (estimate > spillThresholdBytes) {
+            return decodeToFile(input, start, end, mimeCheck);
+        }
+
+        byte[] buffer = new byte[(int) estimate];
+        int length = (int) decodeInto(input, start, end, new ArrayOutput(buffer));
+        String mimeType = tika.detect(Arrays.copyOf(buffer, Math.min(length, sniffBytes)));
+        mimeCheck.accept(mimeType);
+
+        MessageDigest digest = sha256();
+        digest.update(buffer, 0, length);
+
+        log.debug("Decoded {} KB in memory ({})", length / 1024, mimeType);
+        return new DecodedDocument(buffer, length, null, mimeType, HexFormat.of().formatHex(digest.digest()));
+    }
+
+    /**
+     * Decoded size of {@code input} if it will be decoded in memory; otherwise the spill buffer
+     * size, since a spilled document only ever holds one chunk on the heap.
+     */
+    public long heapBytes(CharSequence input) {
+        int start = dataStart(input);
+        long estimate = estimateDecodedSize(input, start, input.length());
+        return estimate > spillThresholdBytes ? CHUNK_BYTES : estimate;
+    }
+
+    // -------------------------------------------------------------------------
+    //  INTERNALS
+    // -------------------------------------------------------------------------
+
+    private DecodedDocument decodeToFile(CharSequence input, int start, int end, Consumer<String> mimeCheck)
+            throws IOException {
+        Path file = Files.createTempFile("claims-upload-", ".bin");
+        try (OutputStream out = Files.newOutputStream(file)) {
+            FileOutput output = new FileOutput(out, mimeCheck);
+            long length = decodeInto(input, start, end, output);
+            output.finish();
+
+            log.debug("Decoded {} KB to {} ({})", length / 1024, file, output.mimeType);
+            return new DecodedDocument(null, length, file, output.mimeType, HexFormat.of().formatHex(output.digest.digest()));
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static long decodeInto(CharSequence input, int start, int end, Output out) throws IOException {
+        int bits = 0;
+        int quantum = 0;
+        boolean padded = false;
+
+        for (int i = start; i < end; i++) {
+            char c = input.charAt(i);
+            int value = c < 128 ? DECODE[c] : INVALID;
+
+            if (value >= 0) {
+                if (padded) {
+                    throw new IllegalArgumentException("Input byte array has incorrect ending byte at " + i);
+                }
+                bits = (bits << 6) | value;
+                if (++quantum == 4) {
+                    out.write3(bits);
+                    bits = 0;
+                    quantum = 0;
+                }
+            } else if (value == PAD) {
+                padded = true;
+            } else if (value != WHITESPACE) {
+                throw new IllegalArgumentException("Illegal base64 character " + Integer.toHexString(c) + " at " + i);
+            }
+        }
+
+        switch (quantum) {
+            case 1 -> throw new IllegalArgumentException("Last unit does not have enough valid bits");
+            case 2 -> out.write1(bits >> 4);
+            case 3 -> out.write2(bits >> 2);
+            default -> { }
+        }
+        return out.count();
+    }
+
+    /**
+     * Index of the first base64 character: after a data-URI / label prefix ending in a comma,
+     * looked for only in the first few hundred characters.
+     */
+    static int dataStart(CharSequence input) {
+        int limit = Math.min(input.length(), MAX_PREFIX_CHARS);
+        for (int i = 0; i < limit; i++) {
+            if (input.charAt(i) == ',') {
+                return i + 1;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Upper bound of the decoded size; exact when the payload has no embedded whitespace.
+     */
+    static long estimateDecodedSize(CharSequence input, int start, int end) {
+        int last = end;
+        while (last > start && (input.charAt(last - 1) == '=' || Character.isWhitespace(input.charAt(last - 1)))) {
+            last--;
+        }
+        return (long) (last - start) * 3 / 4;
+    }
+
+    private interface Output {
+        void write3(int bits) throws IOException;
+        void write2(int bits) throws IOException;
+        void write1(int bits) throws IOException;
+        long count();
+    }
+
+    private static final class ArrayOutput implements Output {
+
+        private final byte[] buffer;
+        private int position;
+
+        ArrayOutput(byte[] buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public void write3(int bits) {
+            buffer[position++] = (byte) (bits >> 16);
+            buffer[position++] = (byte) (bits >> 8);
+            buffer[position++] = (byte) bits;
+        }
+
+        @Override
+        public void write2(int bits) {
+            buffer[position++] = (byte) (bits >> 8);
+            buffer[position++] = (byte) bits;
+        }
+
+        @Override
+        public void write1(int bits) {
+            buffer[position++] = (byte) bits;
+        }
+
+        @Override
+        public long count() {
+            return position;
+        }
+    }
+
+    private final class FileOutput implements Output {
+
+        private final OutputStream out;
+        private final Consumer<String> mimeCheck;
+        private final byte[] buffer = new byte[CHUNK_BYTES];
+        private final MessageDigest digest = sha256();
+        private int position;
+        private long flushed;
+        private String mimeType;
+
+        FileOutput(OutputStream out, Consumer<String> mimeCheck) {
+            this.out = out;
+            this.mimeCheck = mimeCheck;
+        }
+
+        @Override
+        public void write3(int bits) throws IOException {
+            if (position + 3 > buffer.length) flush();
+            buffer[position++] = (byte) (bits >> 16);
+            buffer[position++] = (byte) (bits >> 8);
+            buffer[position++] = (byte) bits;
+        }
+
+        @Override
+        public void write2(int bits) throws IOException {
+            if (position + 2 > buffer.length) flush();
+            buffer[position++] = (byte) (bits >> 8);
+            buffer[position++] = (byte) bits;
+        }
+
+        @Override
+        public void write1(int bits) throws IOException {
+            if (position + 1 > buffer.length) flush();
+            buffer[position++] = (byte) bits;
+        }
+
+        @Override
+        public long count() {
+            return flushed + position;
+        }
+
+        void finish() throws IOException {
+            flush();
+        }
+
+        private void flush() throws IOException {
+            if (mimeType == null) {
+                mimeType = tika.detect(Arrays.copyOf(buffer, Math.min(position, sniffBytes)));
+                mimeCheck.accept(mimeType);
+            }
+            digest.update(buffer, 0, position);
+            out.write(buffer, 0, position);
+            flushed += position;
+            position = 0;
+        }
+    }
+
+    /**
+     * A decoded document, either held in memory or spilled to a temp file. Closing deletes the file.
+     */
+    public static final class DecodedDocument implements AutoCloseable {
+
+        private byte[] bytes;
+        private final long length;
+        private final Path file;
+        private final String mimeType;
+        private final String sha256;
+
+        DecodedDocument(byte[] bytes, long length, Path file, String mimeType, String sha256) {
+            this.bytes = bytes;
+            this.length = length;
+            this.file = file;
+            this.mimeType = mimeType;
+            this.sha256 = sha256;
+        }
+
+        public boolean inMemory() {
+            return file == null;
+        }
+
+        public long length() {
+            return length;
+        }
+
+        public String mimeType() {
+            return mimeType;
+        }
+
+        /**
+         * Lower-case hex SHA-256 of the decoded content.
+         */
+        public String sha256() {
+            return sha256;
+        }
+
+        /**
+         * Temp file holding the content, or null if the document is in memory.
+         */
+        public Path file() {
+            return file;
+        }
+
+        /**
+         * Content as an exact-length array. Only for in-memory documents; trims the decode buffer
+         * (one copy) only when the input contained whitespace.
+         */
+        public byte[] bytes() {
+            if (file != null) {
+                throw new IllegalStateException("Document was spilled to " + file);
+            }
+            if (bytes.length != length) {
+                bytes = Arrays.copyOf(bytes, (int) length);
+            }
+            return bytes;
+        }
+
+        public InputStream openStream() throws IOException {
+            return file != null ? Files.newInputStream(file) : new ByteArrayInputStream(bytes, 0, (int) length);
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (file != null) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+}
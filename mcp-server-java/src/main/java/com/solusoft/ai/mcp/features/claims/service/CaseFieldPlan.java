@@ -0,0 +1,102 @@
+package com.solusoft.ai.mcp.features.claims.service;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.RecordComponent;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Compiled mapping from a request record to Case360 case fields, replacing
+ * {@code objectMapper.convertValue(request, Map.class)} followed by key normalisation.
+ *
+ * Built once per record type: each component gets a MethodHandle to its accessor and its
+ * UPPER_SNAKE field name (incidentDate becomes INCIDENT_DATE). Values are passed through typed,
+ * so LocalDate and BigDecimal reach Case360 without a JSON round trip; only String components
+ * named like a date are parsed (an unparseable value is sent as is). Null components are
+ * included, as the Jackson conversion did.
+ */
+public final class CaseFieldPlan<R extends Record> {
+
+    private static final MethodType ACCESSOR_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private static final ClassValue<CaseFieldPlan<?>> PLANS = new ClassValue<>() {
+        @Override
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        protected CaseFieldPlan<?> computeValue(Class<?> type) {
+            return new CaseFieldPlan(type.asSubclass(Record.class));
+        }
+    };
+
+    private final String[] fieldNames;
+    private final MethodHandle[] accessors;
+    private final boolean[] parseDate;
+
+    private CaseFieldPlan(Class<R> type) {
+        RecordComponent[] components = type.getRecordComponents();
+        fieldNames = new String[components.length];
+        accessors = new MethodHandle[components.length];
+        parseDate = new boolean[components.length];
+
+        MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+        for (int i = 0; i < components.length; i++) {
+            RecordComponent component = components[i];
+            fieldNames[i] = toFieldName(component.getName());
+            parseDate[i] = component.getType() == String.class && fieldNames[i].contains("DATE");
+            try {
+                accessors[i] = lookup.unreflect(component.getAccessor()).asType(ACCESSOR_TYPE);
+            } catch (IllegalAccessException e) {
+                throw new IllegalArgumentException("Record " + type.getName() + " is not public", e);
+            }
+        }
+    }
+
+    /** The plan for a public record type, compiled on first use. */
+    @SuppressWarnings("unchecked")
+    public static <R extends Record> CaseFieldPlan<R> of(Class<R> type) {
+        return (CaseFieldPlan<R>) PLANS.get(type);
+    }
+
+    /** Case field values of the request, in a new mutable map. */
+    public Map<String, Object> toCaseFields(R request) {
+        Map<String, Object> fields = HashMap.newHashMap(fieldNames.length + 3);
+        for (int i = 0; i < accessors.length; i++) {
+            Object value;
+            try {
+                value = accessors[i].invokeExact((Object) request);
+            } catch (Throwable e) {
+                // Record accessors only return the field
+                throw new IllegalStateException("Failed to read " + fieldNames[i], e);
+            }
+            if (parseDate[i] && value instanceof String text) {
+                value = parseDate(text);
+            }
+            fields.put(fieldNames[i], value);
+        }
+        return fields;
+    }
+
+    /** Case field names in component order. */
+    public String[] fieldNames() {
+        return fieldNames.clone();
+    }
+
+    // Same rule as the previous per-call key normalisation
+    static String toFieldName(String name) {
+        return name.replaceAll("([a-z])([A-Z]+)", "$1_$2")
+                .replace(" ", "_")
+                .replace("-", "_")
+                .toUpperCase();
+    }
+
+    private static Object parseDate(String text) {
+        try {
+            return LocalDate.parse(text);
+        } catch (DateTimeParseException e) {
+            return text;
+        }
+    }
+}
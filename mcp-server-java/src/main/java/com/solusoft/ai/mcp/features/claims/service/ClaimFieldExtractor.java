@@ -0,0 +1,431 @@
+package com.solusoft.ai.mcp.features.claims.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Compiled "Label: value" extractor and claim type classifier for extract_claim_info.
+ *
+ * The dictionary ({@code claims.extraction.dictionary}) is compiled once into a label index
+ * (synonyms map to one output key) and a keyword automaton of claim type terms. Fields are found
+ * by jumping from colon to colon with {@link String#indexOf}, and each label is looked up by a
+ * hash of its normal form computed in place. The claim type is counted in one pass of the
+ * automaton, with at most one table lookup per character. Only emitted values (and keys of labels
+ * not in the dictionary) allocate strings.
+ *
+ * Keywords only count as whole words, so "care" is not "car". The type with the most keyword
+ * hits wins. Later lines override earlier ones for the same key, as before.
+ */
+@Component
+@Slf4j
+public class ClaimFieldExtractor {
+
+    // Longer "labels" are sentences that happen to contain a colon
+    private static final int MAX_LABEL_LENGTH = 64;
+    private static final int ALPHABET = 128;
+
+    private final LabelIndex labels;
+    private final KeywordAutomaton keywords;
+    private final String[] types;
+    private final String defaultType;
+
+    public ClaimFieldExtractor(
+            @Value("${claims.extraction.dictionary:classpath:claim-extraction.properties}") Resource dictionary) throws IOException {
+        Properties properties = new Properties();
+        try (InputStream in = dictionary.getInputStream()) {
+            properties.load(in);
+        }
+
+        Map<String, String> synonyms = new LinkedHashMap<>();
+        List<String> typeNames = new ArrayList<>();
+        List<String[]> typeKeywords = new ArrayList<>();
+        for (String name : properties.stringPropertyNames().stream().sorted().toList()) {
+            String[] values = Arrays.stream(properties.getProperty(name).split(","))
+                    .map(String::trim).filter(v -> !v.isEmpty()).toArray(String[]::new);
+            if (name.startsWith("field.")) {
+                String key = name.substring("field.".length()).intern();
+                for (String synonym : values) {
+                    synonyms.putIfAbsent(synonym, key);
+                }
+                synonyms.putIfAbsent(key, key);
+            } else if (name.startsWith("type.")) {
+                typeNames.add(name.substring("type.".length()));
+                typeKeywords.add(values);
+            }
+        }
+
+        this.labels = new LabelIndex(synonyms);
+        this.types = typeNames.toArray(String[]::new);
+        this.keywords = new KeywordAutomaton(typeKeywords);
+        this.defaultType = typeNames.contains("healthcare") ? "healthcare" : (types.length > 0 ? types[0] : "unknown");
+        log.info("Compiled claim extraction dictionary: {} labels, {} claim types", labels.size, types.length);
+    }
+
+    /**
+     * Extracts all "Label: value" lines and classifies the claim type ({@code claim_type}).
+     */
+    public Map<String, String> extract(CharSequence text) {
+        String document = text.toString();
+        Map<String, String> fields = new HashMap<>();
+
+        // Colon to colon: lines without one are never looked at
+        int length = document.length();
+        int colon = document.indexOf(':');
+        while (colon >= 0) {
+            int lineStart = document.lastIndexOf('\n', colon) + 1;
+            int lineEnd = document.indexOf('\n', colon);
+            if (lineEnd < 0) {
+                lineEnd = length;
+            }
+            addField(fields, document, lineStart, colon, lineEnd);
+            colon = lineEnd < length ? document.indexOf(':', lineEnd + 1) : -1;
+        }
+
+        int[] hits = new int[types.length];
+        keywords.count(document, hits);
+        fields.put("claim_type", classify(hits));
+        return fields;
+    }
+
+    // -------------------------------------------------------------------------
+    //  INTERNALS
+    // -------------------------------------------------------------------------
+
+    private void addField(Map<String, String> fields, CharSequence text, int lineStart, int colon, int lineEnd) {
+        int keyStart = skipSpace(text, lineStart, colon);
+        int keyEnd = trimEnd(text, keyStart, colon);
+        if (keyStart == keyEnd || keyEnd - keyStart > MAX_LABEL_LENGTH) {
+            return;
+        }
+
+        int valueStart = skipSpace(text, colon + 1, lineEnd);
+        int valueEnd = trimEnd(text, valueStart, lineEnd);
+
+        String key = labels.lookup(text, keyStart, keyEnd);
+        if (key == null) {
+            key = snakeCase(text, keyStart, keyEnd);
+        }
+        fields.put(key, text.subSequence(valueStart, valueEnd).toString());
+    }
+
+    private String classify(int[] hits) {
+        int best = -1;
+        for (int t = 0; t < hits.length; t++) {
+            if (hits[t] > 0 && (best < 0 || hits[t] > hits[best])) {
+                best = t;
+            }
+        }
+        return best < 0 ? defaultType : types[best];
+    }
+
+    private static int skipSpace(CharSequence text, int from, int to) {
+        while (from < to && Character.isWhitespace(text.charAt(from))) from++;
+        return from;
+    }
+
+    private static int trimEnd(CharSequence text, int from, int to) {
+        while (to > from && Character.isWhitespace(text.charAt(to - 1))) to--;
+        return to;
+    }
+
+    private static String snakeCase(CharSequence text, int from, int to) {
+        StringBuilder key = new StringBuilder(to - from);
+        for (int i = from; i < to; i++) {
+            char c = text.charAt(i);
+            key.append(c == ' ' ? '_' : Character.toLowerCase(c));
+        }
+        return key.toString();
+    }
+
+    private static boolean isSeparator(char c) {
+        return c == ' ' || c == '\t' || c == '_' || c == '-' || c == '.';
+    }
+
+    private static boolean isWordChar(char c) {
+        return c < ALPHABET ? WORD[c] : Character.isLetterOrDigit(c);
+    }
+
+    // ASCII case and line-break folding, shared by the label index and the keyword automaton
+    private static final byte[] FOLDED = new byte[ALPHABET];
+    private static final boolean[] WORD = new boolean[ALPHABET];
+    static {
+        for (int c = 0; c < ALPHABET; c++) {
+            FOLDED[c] = (byte) (c >= 'A' && c <= 'Z' ? c + ('a' - 'A') : c == '\t' || c == '\r' || c == '\n' ? ' ' : c);
+            WORD[c] = Character.isLetterOrDigit(c);
+        }
+    }
+
+    // Folding never yields an upper-case letter, so 'A' is free to stand for any non-ASCII letter or digit
+    private static final int OTHER_WORD = 'A';
+    private static final int OTHER = 0;
+
+    private static int fold(char c) {
+        return c < ALPHABET ? FOLDED[c] : -1;
+    }
+
+    // Keyword automaton column of a text character
+    private static int column(char c) {
+        if (c < ALPHABET) {
+            return FOLDED[c];
+        }
+        return Character.isLetterOrDigit(c) ? OTHER_WORD : OTHER;
+    }
+
+    /**
+     * Open-addressing table of labels in normal form (folded, runs of separators as one space).
+     * A lookup hashes the label in place with the {@link String#hashCode} formula over its normal
+     * form, so only a matching slot's label is compared character by character.
+     */
+    private static final class LabelIndex {
+
+        private static final long INVALID = -1;
+
+        private final String[] labels;
+        private final String[] keys;
+        private final int mask;
+        final int size;
+
+        LabelIndex(Map<String, String> synonyms) {
+            Map<String, String> normalized = new LinkedHashMap<>();
+            synonyms.forEach((label, key) -> {
+                String normal = normalize(label);
+                if (normal != null && !normal.isEmpty()) {
+                    normalized.putIfAbsent(normal, key);
+                }
+            });
+
+            int capacity = Integer.highestOneBit(Math.max(normalized.size(), 1) * 4);
+            this.labels = new String[capacity];
+            this.keys = new String[capacity];
+            this.mask = capacity - 1;
+            this.size = normalized.size();
+            normalized.forEach((label, key) -> {
+                int slot = label.hashCode() & mask;
+                while (labels[slot] != null) {
+                    slot = (slot + 1) & mask;
+                }
+                labels[slot] = label;
+                keys[slot] = key;
+            });
+        }
+
+        String lookup(CharSequence text, int from, int to) {
+            long hash = hash(text, from, to);
+            if (hash == INVALID) {
+                return null;
+            }
+            for (int slot = (int) hash & mask; labels[slot] != null; slot = (slot + 1) & mask) {
+                if (labels[slot].hashCode() == (int) hash && matches(labels[slot], text, from, to)) {
+                    return keys[slot];
+                }
+            }
+            return null;
+        }
+
+        // Leading separators are dropped from dictionary labels; in the text they make the label unknown
+        private static String normalize(String label) {
+            int from = 0;
+            while (from < label.length() && isSeparator(label.charAt(from))) from++;
+            StringBuilder normal = new StringBuilder(label.length());
+            boolean pendingSpace = false;
+            for (int i = from; i < label.length(); i++) {
+                char c = label.charAt(i);
+                if (isSeparator(c)) {
+                    pendingSpace = true;
+                    continue;
+                }
+                if (pendingSpace) {
+                    normal.append(' ');
+                    pendingSpace = false;
+                }
+                int f = fold(c);
+                if (f < 0) return null;
+                normal.append((char) f);
+            }
+            return normal.toString();
+        }
+
+        private static long hash(CharSequence text, int from, int to) {
+            int hash = 0;
+            boolean pendingSpace = false;
+            for (int i = from; i < to; i++) {
+                char c = text.charAt(i);
+                if (isSeparator(c)) {
+                    if (i == from) return INVALID;
+                    pendingSpace = true;
+                    continue;
+                }
+                if (pendingSpace) {
+                    hash = 31 * hash + ' ';
+                    pendingSpace = false;
+                }
+                int f = fold(c);
+                if (f < 0) return INVALID;
+                hash = 31 * hash + f;
+            }
+            return hash & 0xFFFFFFFFL;
+        }
+
+        private static boolean matches(String label, CharSequence text, int from, int to) {
+            int k = 0;
+            boolean pendingSpace = false;
+            for (int i = from; i < to; i++) {
+                char c = text.charAt(i);
+                if (isSeparator(c)) {
+                    pendingSpace = true;
+                    continue;
+                }
+                if (pendingSpace) {
+                    if (k == label.length() || label.charAt(k++) != ' ') return false;
+                    pendingSpace = false;
+                }
+                if (k == label.length() || label.charAt(k++) != fold(c)) return false;
+            }
+            return k == label.length();
+        }
+    }
+
+    /**
+     * Keyword trie compiled into an Aho-Corasick automaton that only starts matches at word starts,
+     * as a flat transition table ({@code state * ALPHABET + column}). Multi-word keywords continue
+     * across a single space or line break; when a path fails, the automaton falls back to the
+     * longest keyword prefix starting at the current word. An entry holds the next state, with
+     * {@link #HIT} set when keywords end on that word boundary (their types are in
+     * {@code outputs[state]}).
+     */
+    private static final class KeywordAutomaton {
+
+        static final int BETWEEN = 0;   // outside any word; also the trie root
+        static final int SKIP = 1;      // inside a word that starts no keyword
+
+        static final int STATE = 0x7FFF;
+        static final int HIT = 0x8000;
+
+        final char[] table;
+        final int[][] outputs;
+
+        KeywordAutomaton(List<String[]> keywordsByType) {
+            // Trie over folded characters: children[node][char], 0 meaning no child
+            List<int[]> children = new ArrayList<>(List.of(new int[ALPHABET], new int[ALPHABET]));
+            List<Integer> ownType = new ArrayList<>(List.of(-1, -1));
+            for (int type = 0; type < keywordsByType.size(); type++) {
+                keyword:
+                for (String keyword : keywordsByType.get(type)) {
+                    int node = BETWEEN;
+                    for (int i = 0; i < keyword.length(); i++) {
+                        int f = fold(keyword.charAt(i));
+                        if (f < 0 || (node == BETWEEN && !WORD[f])) {
+                            continue keyword;
+                        }
+                        if (children.get(node)[f] == 0) {
+                            if (children.size() > STATE) {
+                                throw new IllegalStateException("Too many claim type keywords");
+                            }
+                            children.get(node)[f] = children.size();
+                            children.add(new int[ALPHABET]);
+                            ownType.add(-1);
+                        }
+                        node = children.get(node)[f];
+                    }
+                    if (ownType.get(node) < 0) {
+                        ownType.set(node, type);
+                    }
+                }
+            }
+
+            int nodes = children.size();
+            char[] table = new char[nodes * ALPHABET];
+            int[][] outputs = new int[nodes][];
+            int[] fallback = new int[nodes];
+            outputs[BETWEEN] = outputs[SKIP] = new int[0];
+            for (int col = 0; col < ALPHABET; col++) {
+                int root = WORD[col] ? children.get(BETWEEN)[col] : 0;
+                table[BETWEEN * ALPHABET + col] = entry(root != 0 ? root : WORD[col] ? SKIP : BETWEEN, false);
+                table[SKIP * ALPHABET + col] = entry(WORD[col] ? SKIP : BETWEEN, false);
+            }
+
+            // Breadth first, so a node's fallback (a shorter path) already has its row
+            fallback[BETWEEN] = SKIP;
+            ArrayDeque<Integer> queue = new ArrayDeque<>(List.of(BETWEEN));
+            while (!queue.isEmpty()) {
+                int node = queue.poll();
+                for (int f = 0; f < ALPHABET; f++) {
+                    int child = children.get(node)[f];
+                    if (child == 0) {
+                        continue;
+                    }
+                    // Past a space a new word starts; inside a word, the fallback follows the same character
+                    fallback[child] = WORD[f] ? table[fallback[node] * ALPHABET + f] & STATE : BETWEEN;
+                    int[] inherited = outputs[fallback[child]];
+                    outputs[child] = ownType.get(child) < 0 ? inherited : prepend(ownType.get(child), inherited);
+                    for (int col = 0; col < ALPHABET; col++) {
+                        int next = col == OTHER_WORD ? 0 : children.get(child)[col];
+                        if (next == 0) {
+                            next = table[fallback[child] * ALPHABET + col] & STATE;
+                        }
+                        table[child * ALPHABET + col] = entry(next, !WORD[col] && outputs[child].length > 0);
+                    }
+                    queue.add(child);
+                }
+            }
+            this.table = table;
+            this.outputs = outputs;
+        }
+
+        /**
+         * Adds the whole-word keyword hits in {@code text} to {@code hits}, indexed by type.
+         */
+        void count(String text, int[] hits) {
+            int length = text.length();
+            int state = BETWEEN;
+            for (int i = 0; i < length; i++) {
+                int entry = table[state * ALPHABET + column(text.charAt(i))];
+                if (entry >= HIT) {
+                    countHits(state, hits);
+                }
+                state = entry & STATE;
+                if (state == SKIP) {
+                    // Rest of a word that starts no keyword; the character ending it leads back to BETWEEN
+                    while (++i < length && isWordChar(text.charAt(i))) {
+                    }
+                    state = BETWEEN;
+                }
+            }
+            // The end of the text ends the last word
+            if (table[state * ALPHABET + ' '] >= HIT) {
+                countHits(state, hits);
+            }
+        }
+
+        private void countHits(int state, int[] hits) {
+            for (int type : outputs[state]) {
+                hits[type]++;
+            }
+        }
+
+        private static char entry(int next, boolean hit) {
+            return (char) (hit ? next | HIT : next);
+        }
+
+        private static int[] prepend(int type, int[] types) {
+            int[] all = new int[types.length + 1];
+            all[0] = type;
+            System.arraycopy(types, 0, all, 1, types.length);
+            return all;
+        }
+    }
+}
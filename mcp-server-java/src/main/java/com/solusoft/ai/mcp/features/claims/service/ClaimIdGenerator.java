@@ -0,0 +1,176 @@
+package com.solusoft.ai.mcp.features.claims.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.solusoft.ai.mcp.features.claims.repository.ClaimIdNodeRepository;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Snowflake-style claim IDs: 41 bits of milliseconds since 2024-01-01, 10 bits of node ID and a
+ * 12-bit per-millisecond sequence, printed in decimal after the AUTO- / HC- prefix.
+ *
+ * The timestamp and sequence are one AtomicLong, advanced with a single CAS to
+ * max(now, previous + 1). IDs are therefore strictly increasing per node, even when more than
+ * 4096 IDs are taken in one millisecond (the sequence carries into the next one) or the clock
+ * steps back.
+ *
+ * The node ID is {@code claims.id.node-id} when set (0..1023). Otherwise each instance leases the
+ * lowest free ID in {@code claim_id_nodes} and refreshes the lease every third of
+ * {@code claims.id.lease-ttl-seconds}, so replicas get distinct IDs without per-pod config. If the
+ * lease cannot be refreshed within the TTL, IDs are refused until a lease is held again, since
+ * another replica may by then have taken the node ID over.
+ */
+@Component
+@Slf4j
+public class ClaimIdGenerator {
+
+    static final long EPOCH_MILLIS = Instant.parse("2024-01-01T00:00:00Z").toEpochMilli();
+    static final int NODE_BITS = 10;
+    static final int SEQUENCE_BITS = 12;
+    static final int MAX_NODE_ID = (1 << NODE_BITS) - 1;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    private static final int LEASE_ATTEMPTS = 5;
+
+    private final AtomicLong state = new AtomicLong();
+    private final ClaimIdNodeRepository claimIdNodeRepository;
+    private final Duration leaseTtl;
+    private final String instanceId;
+    private final boolean leased;
+
+    private volatile int nodeId;
+    private volatile long leaseValidUntil;
+    private ScheduledExecutorService heartbeat;
+
+    public ClaimIdGenerator(ClaimIdNodeRepository claimIdNodeRepository,
+            @Value("${claims.id.node-id:-1}") int configuredNodeId,
+            @Value("${claims.id.lease-ttl-seconds:60}") long leaseTtlSeconds) {
+        if (configuredNodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("claims.id.node-id must be between 0 and " + MAX_NODE_ID);
+        }
+        this.claimIdNodeRepository = claimIdNodeRepository;
+        this.leaseTtl = Duration.ofSeconds(Math.max(leaseTtlSeconds, 3));
+        this.instanceId = Optional.ofNullable(System.getenv("HOSTNAME")).orElse("instance") + "/" + UUID.randomUUID();
+        this.leased = configuredNodeId < 0;
+        this.nodeId = leased ? -1 : configuredNodeId;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!leased) {
+            log.info("Claim ID node {} (configured)", nodeId);
+            return;
+        }
+        try {
+            ensureLease();
+        } catch (RuntimeException e) {
+            // Retried on the first nextId() call
+            log.warn("Could not lease a claim ID node at startup: {}", e.getMessage());
+        }
+        long periodMs = leaseTtl.toMillis() / 3;
+        heartbeat = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().daemon().name("claim-id-lease").factory());
+        heartbeat.scheduleWithFixedDelay(this::renewLease, periodMs, periodMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (heartbeat != null) {
+            heartbeat.shutdownNow();
+        }
+        if (leased && nodeId >= 0) {
+            try {
+                claimIdNodeRepository.release(nodeId, instanceId);
+            } catch (Exception e) {
+                log.warn("Failed to release claim ID node {}: {}", nodeId, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Next claim ID with the given prefix, e.g. {@code AUTO-} or {@code HC-}.
+     *
+     * @throws IllegalStateException if no node ID lease is held
+     */
+    public String nextClaimId(String prefix) {
+        return prefix + nextId();
+    }
+
+    public long nextId() {
+        long now = System.currentTimeMillis();
+        int node = nodeId;
+        if (leased && (node < 0 || now >= leaseValidUntil)) {
+            node = ensureLease();
+        }
+        return nextId(now, node);
+    }
+
+    // -------------------------------------------------------------------------
+    //  INTERNALS
+    // -------------------------------------------------------------------------
+
+    long nextId(long nowMillis, int node) {
+        long now = (nowMillis - EPOCH_MILLIS) << SEQUENCE_BITS;
+        long next = state.updateAndGet(previous -> Math.max(now, previous + 1));
+        return ((next >>> SEQUENCE_BITS) << (NODE_BITS + SEQUENCE_BITS))
+                | ((long) node << SEQUENCE_BITS)
+                | (next & SEQUENCE_MASK);
+    }
+
+    int nodeId() {
+        return nodeId;
+    }
+
+    private synchronized int ensureLease() {
+        if (nodeId >= 0 && System.currentTimeMillis() < leaseValidUntil) {
+            return nodeId;
+        }
+        if (renewLease()) {
+            return nodeId;
+        }
+        for (int attempt = 1; attempt <= LEASE_ATTEMPTS; attempt++) {
+            Instant now = Instant.now();
+            Optional<Integer> lease = claimIdNodeRepository.lease(instanceId, MAX_NODE_ID, now, now.minus(leaseTtl));
+            if (lease.isPresent()) {
+                nodeId = lease.get();
+                leaseValidUntil = now.plus(leaseTtl).toEpochMilli();
+                log.info("Leased claim ID node {} as {}", nodeId, instanceId);
+                return nodeId;
+            }
+            log.debug("Claim ID node lease attempt {} lost a race, retrying", attempt);
+        }
+        throw new IllegalStateException("No claim ID node available (all " + (MAX_NODE_ID + 1) + " leased).");
+    }
+
+    private synchronized boolean renewLease() {
+        if (nodeId < 0) {
+            return false;
+        }
+        try {
+            Instant now = Instant.now();
+            if (claimIdNodeRepository.heartbeat(nodeId, instanceId, now) == 1) {
+                leaseValidUntil = now.plus(leaseTtl).toEpochMilli();
+                return true;
+            }
+            log.warn("Claim ID node {} lease was taken over, leasing a new node ID", nodeId);
+            nodeId = -1;
+            leaseValidUntil = 0;
+        } catch (Exception e) {
+            log.warn("Failed to renew claim ID node {} lease: {}", nodeId, e.getMessage());
+        }
+        return false;
+    }
+}
@@ -0,0 +1,379 @@
+package com.solusoft.ai.mcp.features.claims.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.solusoft.ai.mcp.exception.ServerBusyException;
+import com.solusoft.ai.mcp.features.claims.model.ClaimIdempotencyKey;
+import com.solusoft.ai.mcp.features.claims.repository.ClaimIdempotencyKeyRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Makes the claim creation tools safe to retry: a call repeated with the same idempotency key
+ * (or, without one, the same request) returns the first call's response instead of creating
+ * another Case360 case folder.
+ *
+ * Keys are scoped to the tool and the caller. Three layers:
+ * <ul>
+ * <li>duplicates arriving while the first call is still running on this instance wait for it;</li>
+ * <li>completed responses stay in a bounded LRU for {@code claims.idempotency.ttl-seconds};</li>
+ * <li>{@code claim_idempotency_keys} holds an IN_PROGRESS row while the case is created and the
+ *     response afterwards, so duplicates on other replicas wait for or replay it.</li>
+ * </ul>
+ * Failed calls release their key so the retry runs again. While the call runs, its IN_PROGRESS row
+ * is refreshed every third of {@code claims.idempotency.in-progress-timeout-seconds}, however long
+ * Case360 takes; a row left by a crashed instance lapses after that timeout. If Postgres is
+ * unreachable, duplicates are still caught on this instance only.
+ *
+ * Metric: {@code claims.idempotency.requests{result=memory_hit|in_flight|db_hit|miss}}.
+ */
+@Service
+@Slf4j
+public class ClaimIdempotencyService {
+
+    static final int MAX_KEY_LENGTH = 255;
+
+    record Entry(String requestHash, String response, Instant expiresAt) {}
+
+    private final ClaimIdempotencyKeyRepository repository;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final Duration ttl;
+    private final Duration inProgressTimeout;
+    private final Duration waitTimeout;
+    private final Duration pollInterval;
+    private final int maxEntries;
+
+    private final Map<String, Entry> completed;
+    private final Map<String, CompletableFuture<String>> inFlight = new ConcurrentHashMap<>();
+    private ScheduledExecutorService sweeper;
+
+    public ClaimIdempotencyService(ClaimIdempotencyKeyRepository repository, ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${claims.idempotency.ttl-seconds:86400}") long ttlSeconds,
+            @Value("${claims.idempotency.max-entries:10000}") int maxEntries,
+            @Value("${claims.idempotency.in-progress-timeout-seconds:120}") long inProgressTimeoutSeconds,
+            @Value("${claims.idempotency.wait-seconds:30}") long waitSeconds,
+            @Value("${claims.idempotency.poll-millis:250}") long pollMillis) {
+        this.repository = repository;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+        this.maxEntries = maxEntries;
+        this.inProgressTimeout = Duration.ofSeconds(inProgressTimeoutSeconds);
+        this.waitTimeout = Duration.ofSeconds(waitSeconds);
+        this.pollInterval = Duration.ofMillis(Math.max(pollMillis, 10));
+        this.completed = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > ClaimIdempotencyService.this.maxEntries;
+            }
+        };
+    }
+
+    /** Also runs the IN_PROGRESS heartbeats. */
+    @EventListener(ApplicationReadyEvent.class)
+    public void startSweeper() {
+        long periodMs = Math.max(ttl.toMillis() / 24, 60_000);
+        sweeper = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().daemon().name("claims-idempotency-sweeper").factory());
+        sweeper.scheduleWithFixedDelay(this::sweepExpired, periodMs, periodMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (sweeper != null) {
+            sweeper.shutdownNow();
+        }
+    }
+
+    /**
+     * Runs {@code action} once per key and returns its response; repeats get the stored response.
+     *
+     * @param idempotencyKey caller-chosen key, or null/blank to key on the request contents
+     * @throws IllegalArgumentException if the key was already used for a different request
+     * @throws ServerBusyException if another instance is still running the same call after
+     *         {@code claims.idempotency.wait-seconds}
+     */
+    public String execute(String toolName, String idempotencyKey, Object request, Callable<String> action)
+            throws Exception {
+        log.info("Entering execute");
+
+        String requestHash = fingerprint(request);
+        String keyHash = keyHash(toolName, idempotencyKey, requestHash);
+
+        Entry cached = getCached(keyHash);
+        if (cached != null) {
+            checkSameRequest(cached.requestHash(), requestHash);
+            record("memory_hit");
+            log.info("Replaying {} response for a repeated request", toolName);
+            return cached.response();
+        }
+
+        CompletableFuture<String> mine = new CompletableFuture<>();
+        CompletableFuture<String> running = inFlight.putIfAbsent(keyHash, mine);
+        if (running != null) {
+            record("in_flight");
+            log.info("Waiting for an identical {} call already in progress", toolName);
+            String response = awaitInFlight(running);
+            // Same key hash but possibly another payload under an explicit key
+            Entry entry = getCached(keyHash);
+            if (entry != null) {
+                checkSameRequest(entry.requestHash(), requestHash);
+            }
+            return response;
+        }
+
+        try {
+            // The previous holder may have finished between the cache lookup and putIfAbsent
+            Entry finished = getCached(keyHash);
+            if (finished != null) {
+                checkSameRequest(finished.requestHash(), requestHash);
+                record("memory_hit");
+                mine.complete(finished.response());
+                return finished.response();
+            }
+            String response = runOnce(toolName, keyHash, requestHash, action);
+            mine.complete(response);
+            return response;
+        } catch (Exception e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(keyHash, mine);
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    //  INTERNALS
+    // -------------------------------------------------------------------------
+
+    private String runOnce(String toolName, String keyHash, String requestHash, Callable<String> action)
+            throws Exception {
+        long deadline = System.nanoTime() + waitTimeout.toNanos();
+        while (true) {
+            // Postgres keeps microseconds: the heartbeat matches the row on this value
+            Instant now = Instant.now().truncatedTo(ChronoUnit.MICROS);
+            Optional<String> claimed;
+            try {
+                claimed = repository.claim(new ClaimIdempotencyKey(keyHash, toolName, requestHash,
+                        ClaimIdempotencyKey.IN_PROGRESS, null, now, now.plus(inProgressTimeout)));
+            } catch (RuntimeException e) {
+                log.warn("Idempotency table unavailable, deduplicating {} on this instance only: {}",
+                        toolName, e.getMessage());
+                record("miss");
+                return runAndCache(keyHash, requestHash, action, null);
+            }
+            if (claimed.isPresent()) {
+                record("miss");
+                return runAndCache(keyHash, requestHash, action, now);
+            }
+
+            Optional<ClaimIdempotencyKey> existing = repository.findById(keyHash);
+            if (existing.isPresent()) {
+                ClaimIdempotencyKey row = existing.get();
+                checkSameRequest(row.requestHash(), requestHash);
+                if (ClaimIdempotencyKey.COMPLETED.equals(row.status()) && row.expiresAt().isAfter(now)) {
+                    record("db_hit");
+                    log.info("Replaying {} response stored by an earlier call", toolName);
+                    putCached(keyHash, new Entry(requestHash, row.response(), row.expiresAt()));
+                    return row.response();
+                }
+            }
+            // Running elsewhere, or released / expired in between: look again shortly
+            if (System.nanoTime() >= deadline) {
+                throw new ServerBusyException("An identical " + toolName + " call is still in progress.",
+                        inProgressTimeout);
+            }
+            Thread.sleep(pollInterval.toMillis());
+        }
+    }
+
+    // claimedAt: created_at of this call's IN_PROGRESS row, or null when the table is unavailable
+    private String runAndCache(String keyHash, String requestHash, Callable<String> action, Instant claimedAt)
+            throws Exception {
+        boolean persisted = claimedAt != null;
+        ScheduledFuture<?> heartbeat = persisted ? keepAlive(keyHash, claimedAt) : null;
+        String response;
+        try {
+            try {
+                response = action.call();
+            } finally {
+                if (heartbeat != null) {
+                    heartbeat.cancel(false);
+                }
+            }
+        } catch (Exception e) {
+            if (persisted) {
+                try {
+                    repository.release(keyHash);
+                } catch (RuntimeException releaseFailure) {
+                    log.warn("Failed to release idempotency key after an error: {}", releaseFailure.getMessage());
+                }
+            }
+            throw e;
+        }
+
+        Instant expiresAt = Instant.now().plus(ttl);
+        putCached(keyHash, new Entry(requestHash, response, expiresAt));
+        if (persisted) {
+            try {
+                repository.complete(keyHash, response, expiresAt);
+            } catch (RuntimeException e) {
+                // The case exists; other instances will wait until the IN_PROGRESS row lapses
+                log.warn("Failed to store idempotent response: {}", e.getMessage());
+            }
+        }
+        return response;
+    }
+
+    private ScheduledFuture<?> keepAlive(String keyHash, Instant claimedAt) {
+        if (sweeper == null || sweeper.isShutdown()) {
+            return null;
+        }
+        long periodMs = Math.max(inProgressTimeout.toMillis() / 3, 1);
+        try {
+            return sweeper.scheduleAtFixedRate(() -> {
+                try {
+                    if (repository.extend(keyHash, claimedAt, Instant.now().plus(inProgressTimeout)) == 0) {
+                        log.warn("Idempotency key no longer held while the call is still running");
+                    }
+                } catch (RuntimeException e) {
+                    log.warn("Failed to refresh idempotency key: {}", e.getMessage());
+                }
+            }, periodMs, periodMs, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            // Shutting down
+            return null;
+        }
+    }
+
+    private String awaitInFlight(CompletableFuture<String> running) throws Exception {
+        try {
+            return running.get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new ServerBusyException("An identical call is still in progress.", inProgressTimeout);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof Exception cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static void checkSameRequest(String storedHash, String requestHash) {
+        if (!storedHash.equals(requestHash)) {
+            throw new IllegalArgumentException(
+                    "Idempotency key was already used for a different request; use a new key for a new claim.");
+        }
+    }
+
+    private String keyHash(String toolName, String idempotencyKey, String requestHash) {
+        String key;
+        if (idempotencyKey != null && !idempotencyKey.isBlank()) {
+            if (idempotencyKey.length() > MAX_KEY_LENGTH) {
+                throw new IllegalArgumentException("Idempotency key must be at most " + MAX_KEY_LENGTH + " characters.");
+            }
+            key = "key:" + idempotencyKey.trim();
+        } else {
+            key = "request:" + requestHash;
+        }
+        return sha256(toolName + "\n" + caller() + "\n" + key);
+    }
+
+    private static String caller() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        return auth != null ? auth.getName() : "anonymous";
+    }
+
+    private Entry getCached(String keyHash) {
+        synchronized (completed) {
+            Entry entry = completed.get(keyHash);
+            if (entry != null && !entry.expiresAt().isAfter(Instant.now())) {
+                completed.remove(keyHash);
+                return null;
+            }
+            return entry;
+        }
+    }
+
+    private void putCached(String keyHash, Entry entry) {
+        synchronized (completed) {
+            completed.put(keyHash, entry);
+        }
+    }
+
+    void sweepExpired() {
+        Instant now = Instant.now();
+        synchronized (completed) {
+            completed.values().removeIf(entry -> !entry.expiresAt().isAfter(now));
+        }
+        try {
+            int deleted = repository.deleteExpired(now);
+            if (deleted > 0) {
+                log.debug("Removed {} expired idempotency keys", deleted);
+            }
+        } catch (Exception e) {
+            log.warn("Failed to remove expired idempotency keys: {}", e.getMessage());
+        }
+    }
+
+    private void record(String result) {
+        Counter.builder("claims.idempotency.requests")
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    // Streams the JSON into the digest: submit_claim requests can carry a whole base64 document
+    private String fingerprint(Object request) throws IOException {
+        MessageDigest digest = newDigest();
+        objectMapper.writeValue(new DigestOutputStream(OutputStream.nullOutputStream(), digest), request);
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static String sha256(String value) {
+        return HexFormat.of().formatHex(newDigest().digest(value.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,392 @@
+package com.solusoft.ai.mcp.features.claims.service;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.solusoft.ai.mcp.exception.Case360UnavailableException;
+import com.solusoft.ai.mcp.exception.ServerBusyException;
+import com.solusoft.ai.mcp.features.claims.model.Claim;
+import com.solusoft.ai.mcp.features.claims.model.ClaimOutboxEvent;
+import com.solusoft.ai.mcp.features.claims.repository.ClaimOutboxRepository;
+import com.solusoft.ai.mcp.features.claims.repository.ClaimRepository;
+import com.solusoft.ai.mcp.integration.case360.AsyncCase360Client;
+import com.solusoft.ai.mcp.integration.case360.Case360Client;
+import com.solusoft.ai.mcp.integration.case360.Case360TemplateRegistry;
+import com.solusoft.ai.mcp.integration.case360.CaseFolderPool;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Transactional outbox keeping Case360 in step with claims stored through store_claim_record.
+ *
+ * {@link #store} writes the claim row and a CLAIM_UPSERTED event (the Case360 field values) in
+ * one transaction, so the tool returns without touching Case360. A background dispatcher locks
+ * due events in batches of {@code claims.outbox.batch-size}, at most one per claim so events of a
+ * claim are applied in order, and sends each batch with at most {@code claims.outbox.max-concurrency}
+ * events in flight (by default the Case360 CREATE bulkhead size): a claim without a case gets one
+ * (createCase, or a pooled folder) recorded on its row before the fields are set, so a retry
+ * never creates a second case. Failures are retried with exponential backoff up to
+ * {@code claims.outbox.max-attempts}, then left FAILED with the last error. Local rejections
+ * (bulkhead full, circuit open, server busy) never reached Case360: the event is rescheduled
+ * after the rejection's retry-after without using an attempt.
+ *
+ * Metrics: {@code claims.outbox.pending}, {@code claims.outbox.lag.seconds} (age of the oldest
+ * pending event), {@code claims.outbox.dispatch.lag} (commit to Case360 write, in ms) and
+ * {@code claims.outbox.events{result=dispatched|retried|rescheduled|failed}}.
+ */
+@Service
+@Slf4j
+public class ClaimOutboxService {
+
+    /** A claim to store with its Case360-only values (see {@link #store}). */
+    public record ClaimRecord(Claim claim, LocalDate incidentDate, Map<String, Object> details) {}
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final ClaimRepository claimRepository;
+    private final ClaimOutboxRepository outboxRepository;
+    private final Case360Client case360Client;
+    private final Case360TemplateRegistry templateRegistry;
+    private final CaseFolderPool caseFolderPool;
+    private final AsyncCase360Client asyncCase360Client;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    private final boolean dispatcherEnabled;
+    private final long pollMs;
+    private final int batchSize;
+    private final int maxConcurrency;
+    private final int maxAttempts;
+    private final Duration backoff;
+    private final Duration maxBackoff;
+    private final Duration lockTimeout;
+    private final Duration retention;
+    private final int storeBatchSize;
+    private final String instanceId = Optional.ofNullable(System.getenv("HOSTNAME")).orElse("instance") + "/"
+            + UUID.randomUUID();
+
+    private final AtomicLong pending = new AtomicLong();
+    private final AtomicLong lagSeconds = new AtomicLong();
+    private ScheduledExecutorService dispatcher;
+
+    public ClaimOutboxService(ClaimRepository claimRepository, ClaimOutboxRepository outboxRepository,
+            Case360Client case360Client, Case360TemplateRegistry templateRegistry, CaseFolderPool caseFolderPool,
+            AsyncCase360Client asyncCase360Client, ObjectMapper objectMapper, MeterRegistry meterRegistry,
+            @Value("${claims.outbox.dispatcher-enabled:true}") boolean dispatcherEnabled,
+            @Value("${claims.outbox.poll-millis:500}") long pollMs,
+            @Value("${claims.outbox.batch-size:50}") int batchSize,
+            @Value("${claims.outbox.max-concurrency:${case360.resilience.bulkhead.create:5}}") int maxConcurrency,
+            @Value("${claims.outbox.max-attempts:10}") int maxAttempts,
+            @Value("${claims.outbox.backoff-millis:1000}") long backoffMs,
+            @Value("${claims.outbox.max-backoff-seconds:300}") long maxBackoffSeconds,
+            @Value("${claims.outbox.lock-seconds:300}") long lockSeconds,
+            @Value("${claims.outbox.retention-days:7}") long retentionDays,
+            @Value("${claims.store.batch-size:200}") int storeBatchSize) {
+        this.claimRepository = claimRepository;
+        this.outboxRepository = outboxRepository;
+        this.case360Client = case360Client;
+        this.templateRegistry = templateRegistry;
+        this.caseFolderPool = caseFolderPool;
+        this.asyncCase360Client = asyncCase360Client;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.dispatcherEnabled = dispatcherEnabled;
+        this.pollMs = Math.max(pollMs, 10);
+        this.batchSize = Math.max(batchSize, 1);
+        this.maxConcurrency = Math.max(maxConcurrency, 1);
+        this.maxAttempts = Math.max(maxAttempts, 1);
+        this.backoff = Duration.ofMillis(Math.max(backoffMs, 1));
+        this.maxBackoff = Duration.ofSeconds(maxBackoffSeconds);
+        this.lockTimeout = Duration.ofSeconds(lockSeconds);
+        this.retention = Duration.ofDays(retentionDays);
+        this.storeBatchSize = Math.max(storeBatchSize, 1);
+
+        Gauge.builder("claims.outbox.pending", pending, AtomicLong::get)
+                .description("Claim events waiting to be written to Case360")
+                .register(meterRegistry);
+        Gauge.builder("claims.outbox.lag.seconds", lagSeconds, AtomicLong::get)
+                .description("Age of the oldest claim event not yet written to Case360")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startDispatcher() {
+        if (!dispatcherEnabled) {
+            log.info("Claim outbox dispatcher disabled on this instance");
+            return;
+        }
+        dispatcher = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().daemon().name("claims-outbox-dispatcher").factory());
+        dispatcher.scheduleWithFixedDelay(this::dispatchPending, pollMs, pollMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (dispatcher != null) {
+            dispatcher.shutdownNow();
+        }
+    }
+
+    /**
+     * Upserts the claim and queues its Case360 update in the same transaction.
+     *
+     * @param incidentDate not a claims column, but sent to Case360
+     * @param details      extra fields; sent under their UPPER_SNAKE names, never overriding the core fields
+     * @return true when the claim was created, false when an existing row was updated
+     */
+    @Transactional
+    public boolean store(Claim claim, LocalDate incidentDate, Map<String, Object> details) {
+        log.info("Entering store");
+
+        boolean created = claimRepository.upsert(claim);
+        outboxRepository.insert(event(new ClaimRecord(claim, incidentDate, details), Instant.now()));
+        return created;
+    }
+
+    /**
+     * {@link #store} for many claims in one transaction, written as JDBC batches of
+     * {@code claims.store.batch-size}.
+     *
+     * @return the number of claims stored
+     */
+    @Transactional
+    public int storeAll(List<ClaimRecord> records) {
+        log.info("Entering storeAll");
+
+        Instant now = Instant.now();
+        int stored = claimRepository.upsertAll(records.stream().map(ClaimRecord::claim).toList(), storeBatchSize);
+        outboxRepository.insertAll(records.stream().map(record -> event(record, now)).toList(), storeBatchSize);
+        return stored;
+    }
+
+    /**
+     * Dispatches due events until none are left, then refreshes the backlog metrics. Runs on the
+     * dispatcher thread; safe to call directly.
+     */
+    public void dispatchPending() {
+        try {
+            // More events in flight than Case360 CREATE permits would only be rejected by the bulkhead
+            Semaphore permits = new Semaphore(maxConcurrency);
+            List<ClaimOutboxEvent> batch;
+            do {
+                Instant now = Instant.now();
+                batch = outboxRepository.lockBatch(instanceId, now, now.plus(lockTimeout), batchSize);
+                if (!batch.isEmpty()) {
+                    log.debug("Dispatching {} claim outbox events", batch.size());
+                    CompletableFuture.allOf(batch.stream()
+                            .map(event -> CompletableFuture.runAsync(() -> bounded(permits, event), asyncCase360Client.executor()))
+                            .toArray(CompletableFuture[]::new)).join();
+                }
+            } while (batch.size() == batchSize && !Thread.currentThread().isInterrupted());
+
+            pending.set(outboxRepository.countPending());
+            Instant oldest = outboxRepository.oldestPending();
+            lagSeconds.set(oldest == null ? 0 : Math.max(Duration.between(oldest, Instant.now()).toSeconds(), 0));
+            outboxRepository.deleteDispatchedBefore(Instant.now().minus(retention));
+        } catch (Exception e) {
+            log.warn("Claim outbox dispatch failed: {}", e.getMessage());
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    //  INTERNALS
+    // -------------------------------------------------------------------------
+
+    private void bounded(Semaphore permits, ClaimOutboxEvent event) {
+        permits.acquireUninterruptibly();
+        try {
+            dispatch(event);
+        } finally {
+            permits.release();
+        }
+    }
+
+    void dispatch(ClaimOutboxEvent event) {
+        String acquired = null;
+        boolean attached = false;
+        try {
+            Claim claim = claimRepository.findByClaimId(event.claimId())
+                    .orElseThrow(() -> new IllegalStateException("Claim row not found: " + event.claimId()));
+            Map<String, Object> fields = fromJson(event.payload());
+            String templateName = templateName(claim.claimType());
+            BigDecimal templateId = templateRegistry.getCaseFolderTemplateId(templateName);
+
+            String caseId = claim.caseId();
+            if (caseId == null || caseId.isBlank()) {
+                acquired = caseFolderPool.acquire(templateName, templateId);
+                // Recorded before the fields are written, so a retry reuses this case
+                attached = claimRepository.attachCase(claim.claimId(), acquired) > 0;
+                if (attached) {
+                    caseId = acquired;
+                    fields.put("CREATED_ON", Instant.now());
+                    fields.put("CLAIM_STATUS", "reported");
+                } else {
+                    caseFolderPool.discard(acquired);
+                    acquired = null;
+                    caseId = claimRepository.findByClaimId(claim.claimId()).map(Claim::caseId)
+                            .orElseThrow(() -> new IllegalStateException("Claim row not found: " + event.claimId()));
+                }
+            }
+
+            if (attached) {
+                case360Client.updateNewCaseFields(caseId, templateId, fields);
+            } else {
+                case360Client.updateCaseFields(caseId, templateId, fields);
+            }
+            caseFolderPool.commit(acquired);
+
+            Instant now = Instant.now();
+            if (attached) {
+                claimRepository.recordCaseStatus(claim.claimId(), "reported", now);
+            }
+            outboxRepository.markDispatched(event.id(), now);
+            record("dispatched");
+            DistributionSummary.builder("claims.outbox.dispatch.lag")
+                    .baseUnit("milliseconds")
+                    .description("Time from storing a claim to its Case360 write")
+                    .register(meterRegistry)
+                    .record(Math.max(Duration.between(event.createdAt(), now).toMillis(), 0));
+            log.info("✓ Claim {} synchronised to case {}", event.claimId(), caseId);
+
+        } catch (Exception e) {
+            if (attached) {
+                // The case ID is on the claim row: the retry writes the fields to this folder
+                caseFolderPool.commit(acquired);
+            } else {
+                caseFolderPool.discard(acquired);
+            }
+            fail(event, e);
+        }
+    }
+
+    private void fail(ClaimOutboxEvent event, Exception e) {
+        String error = e.getClass().getSimpleName() + ": " + e.getMessage();
+        if (error.length() > MAX_ERROR_LENGTH) {
+            error = error.substring(0, MAX_ERROR_LENGTH);
+        }
+        int attempt = (event.attempts() == null ? 0 : event.attempts()) + 1;
+        try {
+            Duration retryAfter = rejectedRetryAfter(e);
+            if (retryAfter != null) {
+                log.info("Claim {} outbox event {} rejected locally, rescheduled in {}: {}", event.claimId(), event.id(),
+                        retryAfter, error);
+                outboxRepository.reschedule(event.id(), error, Instant.now().plus(retryAfter));
+                record("rescheduled");
+            } else if (attempt >= maxAttempts) {
+                log.error("Claim {} outbox event {} failed after {} attempts: {}", event.claimId(), event.id(), attempt, error);
+                outboxRepository.markFailed(event.id(), error);
+                record("failed");
+            } else {
+                Duration delay = backoff.multipliedBy(1L << Math.min(attempt - 1, 20));
+                if (delay.compareTo(maxBackoff) > 0) {
+                    delay = maxBackoff;
+                }
+                log.warn("Claim {} outbox event {} attempt {} failed, retrying in {}: {}", event.claimId(), event.id(),
+                        attempt, delay, error);
+                outboxRepository.markRetry(event.id(), error, Instant.now().plus(delay));
+                record("retried");
+            }
+        } catch (Exception updateFailure) {
+            // The lock expires and the event is picked up again
+            log.warn("Failed to record outbox event {} failure: {}", event.id(), updateFailure.getMessage());
+        }
+    }
+
+    // Retry-after of a rejection that kept the call from reaching Case360, or null
+    private static Duration rejectedRetryAfter(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            Duration retryAfter;
+            if (cause instanceof Case360UnavailableException unavailable) {
+                retryAfter = unavailable.getRetryAfter();
+            } else if (cause instanceof ServerBusyException busy) {
+                retryAfter = busy.getRetryAfter();
+            } else {
+                continue;
+            }
+            return retryAfter != null ? retryAfter : Duration.ofSeconds(1);
+        }
+        return null;
+    }
+
+    private ClaimOutboxEvent event(ClaimRecord record, Instant now) {
+        Claim claim = record.claim();
+        Map<String, Object> fields = new LinkedHashMap<>();
+        if (record.details() != null) {
+            record.details().forEach((key, value) -> fields.put(CaseFieldPlan.toFieldName(key), value));
+        }
+        fields.put("CLAIM_ID", claim.claimId());
+        fields.put("CLAIM_DOC_ID", claim.claimDocId());
+        fields.put("POLICY_NUMBER", claim.policyNumber());
+        fields.put("CLAIMANT_NAME", claim.claimantName());
+        fields.put("CLAIM_TYPE", claim.claimType());
+        fields.put("CLAIM_AMOUNT", claim.claimAmount() != null ? claim.claimAmount().toPlainString() : null);
+        fields.put("INCIDENT_DATE", record.incidentDate() != null ? record.incidentDate().toString() : null);
+        fields.values().removeIf(value -> value == null);
+
+        return new ClaimOutboxEvent(null, claim.claimId(), ClaimOutboxEvent.CLAIM_UPSERTED, toJson(fields),
+                ClaimOutboxEvent.PENDING, 0, null, null, null, now, now, null);
+    }
+
+    private static String templateName(String claimType) {
+        String type = claimType == null ? "" : claimType.trim().toLowerCase();
+        return type.equals("auto") || type.equals("motor") ? "Motor Claim" : "Healthcare Claim";
+    }
+
+    private String toJson(Map<String, Object> fields) {
+        try {
+            return objectMapper.writeValueAsString(fields);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Claim fields are not serializable", e);
+        }
+    }
+
+    // Dates travel as YYYY-MM-DD strings; Case360 date fields need LocalDate
+    private Map<String, Object> fromJson(String payload) throws JsonProcessingException {
+        Map<String, Object> fields = objectMapper.readValue(payload, new TypeReference<LinkedHashMap<String, Object>>() {});
+        fields.replaceAll((key, value) -> {
+            if (key.contains("DATE") && value instanceof String text) {
+                try {
+                    return LocalDate.parse(text);
+                } catch (Exception e) {
+                    return value;
+                }
+            }
+            return value;
+        });
+        return fields;
+    }
+
+    private void record(String result) {
+        Counter.builder("claims.outbox.events")
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment();
+    }
+}
@@ -0,0 +1,130 @@
+package com.solusoft.ai.mcp.features.claims.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Tier-1 claim status cache: bounded LRU with a short TTL.
+ *
+ * Filled on write by the create/store tools and by Case360 lookups; entries are dropped before
+ * any status-changing call. Metrics:
+ * {@code claims.status.cache.requests{result=memory_hit|db_hit|miss}},
+ * {@code claims.status.cache.hit.ratio}, {@code claims.status.cache.size} and
+ * {@code claims.status.cache.age{tier}} (how old a served status was, in ms).
+ */
+@Component
+public class ClaimStatusCache {
+
+    public record Entry(String status, Instant cachedAt) {}
+
+    private final int maxEntries;
+    private final Duration ttl;
+    private final Map<String, Entry> entries;
+
+    private final MeterRegistry meterRegistry;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong requests = new AtomicLong();
+
+    public ClaimStatusCache(MeterRegistry meterRegistry,
+            @Value("${claims.status-cache.max-entries:10000}") int maxEntries,
+            @Value("${claims.status-cache.ttl-seconds:30}") long ttlSeconds) {
+        this.meterRegistry = meterRegistry;
+        this.maxEntries = maxEntries;
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+        this.entries = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > ClaimStatusCache.this.maxEntries;
+            }
+        };
+
+        Gauge.builder("claims.status.cache.size", this, ClaimStatusCache::size)
+                .description("Claim statuses held in memory")
+                .register(meterRegistry);
+        Gauge.builder("claims.status.cache.hit.ratio", this,
+                        c -> c.requests.get() == 0 ? 0.0 : (double) c.hits.get() / c.requests.get())
+                .description("Share of status lookups answered without Case360 (memory or database)")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Fresh entry for {@code claimId}, or null. Does not record a lookup; see {@link #recordLookup}.
+     */
+    public Entry get(String claimId) {
+        Entry entry;
+        synchronized (entries) {
+            entry = entries.get(claimId);
+        }
+        if (entry == null) {
+            return null;
+        }
+        if (Duration.between(entry.cachedAt(), Instant.now()).compareTo(ttl) >= 0) {
+            synchronized (entries) {
+                entries.remove(claimId, entry);
+            }
+            return null;
+        }
+        return entry;
+    }
+
+    public void put(String claimId, String status) {
+        put(claimId, status, Instant.now());
+    }
+
+    /**
+     * Caches a status observed at {@code asOf} (e.g. a database row's processed_at), so the TTL
+     * and staleness metrics count from when the status was true, not when it was cached.
+     */
+    public void put(String claimId, String status, Instant asOf) {
+        if (claimId == null || status == null) return;
+        synchronized (entries) {
+            entries.put(claimId, new Entry(status, asOf));
+        }
+    }
+
+    public void invalidate(String claimId) {
+        synchronized (entries) {
+            entries.remove(claimId);
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    /**
+     * @param result  memory_hit, db_hit or miss
+     * @param asOf    when the served status was written (null on a miss)
+     */
+    public void recordLookup(String result, Instant asOf) {
+        requests.incrementAndGet();
+        if (!"miss".equals(result)) {
+            hits.incrementAndGet();
+        }
+        Counter.builder("claims.status.cache.requests")
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment();
+        if (asOf != null) {
+            DistributionSummary.builder("claims.status.cache.age")
+                    .tag("tier", result.equals("memory_hit") ? "memory" : "database")
+                    .baseUnit("milliseconds")
+                    .description("Age of claim statuses served from cache")
+                    .register(meterRegistry)
+                    .record(Math.max(Duration.between(asOf, Instant.now()).toMillis(), 0));
+        }
+    }
+}
@@ -0,0 +1,299 @@
+package com.solusoft.ai.mcp.features.claims.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.solusoft.ai.mcp.features.claims.model.Claim;
+import com.solusoft.ai.mcp.features.claims.repository.ClaimRepository;
+import com.solusoft.ai.mcp.integration.case360.AsyncCase360Client;
+import com.solusoft.ai.mcp.integration.case360.Case360Client;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Resolves claim statuses through three tiers: the in-memory {@link ClaimStatusCache}, the local
+ * claims table, then Case360. Only Case360 CLAIM_STATUS values are served: the table tier reads
+ * case_status (the value this server last wrote to the case, within
+ * {@code claims.status-cache.db-ttl-seconds}), never the local processing status. The table tier
+ * is best-effort: if the database is unavailable the lookup falls through to Case360.
+ *
+ * For many IDs at once, Case360 misses are grouped by query script (motor vs healthcare). Scripts
+ * listed in {@code claims.status.multi-param-scripts} accept repeated CLAIM_ID parameters and are
+ * queried in chunks of {@code claims.status.batch-size}; every other script is fanned out one call
+ * per ID, with at most {@code claims.status.max-concurrency} calls in flight. A failure only
+ * affects the IDs it belongs to.
+ */
+@Service
+@Slf4j
+public class ClaimStatusService {
+
+    public record ClaimStatusResult(String claimId, String status, String error, String source) {
+
+        static ClaimStatusResult ok(String claimId, String status, String source) {
+            return new ClaimStatusResult(claimId, status == null ? "unknown" : status, null, source);
+        }
+
+        static ClaimStatusResult failed(String claimId, Throwable e) {
+            return new ClaimStatusResult(claimId, null, e.getMessage(), "case360");
+        }
+
+        public boolean success() {
+            return error == null;
+        }
+    }
+
+    private final Case360Client case360Client;
+    private final AsyncCase360Client asyncCase360Client;
+    private final ClaimStatusCache cache;
+    private final ClaimRepository claimRepository;
+    private final Set<String> multiParamScripts;
+    private final int batchSize;
+    private final int maxConcurrency;
+    private final int maxIds;
+    private final Duration dbTtl;
+
+    public ClaimStatusService(Case360Client case360Client, AsyncCase360Client asyncCase360Client,
+            ClaimStatusCache cache, ClaimRepository claimRepository,
+            @Value("${claims.status.multi-param-scripts:}") Set<String> multiParamScripts,
+            @Value("${claims.status.batch-size:50}") int batchSize,
+            @Value("${claims.status.max-concurrency:8}") int maxConcurrency,
+            @Value("${claims.status.max-ids:500}") int maxIds,
+            @Value("${claims.status-cache.db-ttl-seconds:300}") long dbTtlSeconds) {
+        this.case360Client = case360Client;
+        this.asyncCase360Client = asyncCase360Client;
+        this.cache = cache;
+        this.claimRepository = claimRepository;
+        this.multiParamScripts = multiParamScripts;
+        this.batchSize = Math.max(batchSize, 1);
+        this.maxConcurrency = Math.max(maxConcurrency, 1);
+        this.maxIds = maxIds;
+        this.dbTtl = Duration.ofSeconds(dbTtlSeconds);
+    }
+
+    // -------------------------------------------------------------------------
+    //  WRITE-THROUGH
+    // -------------------------------------------------------------------------
+
+    /**
+     * Records a CLAIM_STATUS this server has just written to Case360 (create tools, submit_claim).
+     */
+    public void recordStatus(String claimId, String status) {
+        cache.put(claimId, status);
+    }
+
+    /**
+     * Drops any cached status; call before a status-changing write so a failed write
+     * cannot leave the old status cached.
+     */
+    public void invalidate(String claimId) {
+        cache.invalidate(claimId);
+    }
+
+    // -------------------------------------------------------------------------
+    //  READS
+    // -------------------------------------------------------------------------
+
+    /**
+     * Single lookup through all tiers. Case360 failures propagate to the caller.
+     */
+    public ClaimStatusResult getStatus(String claimId) {
+        if (claimId != null && !claimId.isBlank()) {
+            ClaimStatusResult local = fromLocalTiers(claimId);
+            if (local != null) {
+                return local;
+            }
+        }
+
+        cache.recordLookup("miss", null);
+        String status = case360Client.getClaimStatus(claimId);
+        cache.put(claimId, status);
+        return ClaimStatusResult.ok(claimId, status, "case360");
+    }
+
+    public List<ClaimStatusResult> getStatuses(List<String> claimIds) {
+        return getStatuses(claimIds, result -> {});
+    }
+
+    /**
+     * Looks up every distinct ID. {@code onResult} is called as each claim completes (from worker
+     * threads); the returned list is in input order.
+     */
+    public List<ClaimStatusResult> getStatuses(List<String> claimIds, Consumer<ClaimStatusResult> onResult) {
+        log.info("Entering getStatuses");
+
+        if (claimIds == null || claimIds.isEmpty()) {
+            throw new IllegalArgumentException("At least one claim ID is required.");
+        }
+
+        Set<String> distinct = new LinkedHashSet<>();
+        for (String claimId : claimIds) {
+            if (claimId != null && !claimId.isBlank()) {
+                distinct.add(claimId.trim());
+            }
+        }
+        if (distinct.isEmpty()) {
+            throw new IllegalArgumentException("At least one claim ID is required.");
+        }
+        if (distinct.size() > maxIds) {
+            throw new IllegalArgumentException("Too many claim IDs: " + distinct.size() + " (max " + maxIds + ").");
+        }
+
+        Map<String, CompletableFuture<ClaimStatusResult>> futures = new LinkedHashMap<>();
+        for (String claimId : distinct) {
+            futures.put(claimId, null);
+        }
+
+        // Tier 1: memory
+        List<String> remaining = new ArrayList<>();
+        for (String claimId : distinct) {
+            ClaimStatusCache.Entry entry = cache.get(claimId);
+            if (entry != null) {
+                cache.recordLookup("memory_hit", entry.cachedAt());
+                complete(futures, ClaimStatusResult.ok(claimId, entry.status(), "memory"), onResult);
+            } else {
+                remaining.add(claimId);
+            }
+        }
+
+        // Tier 2: claims table, one query for all memory misses (best-effort)
+        if (!remaining.isEmpty()) {
+            for (Claim claim : claimsFromTable(remaining)) {
+                if (isFresh(claim)) {
+                    cache.put(claim.claimId(), claim.caseStatus(), claim.caseStatusAt());
+                    cache.recordLookup("db_hit", claim.caseStatusAt());
+                    complete(futures, ClaimStatusResult.ok(claim.claimId(), claim.caseStatus(), "database"), onResult);
+                }
+            }
+            remaining.removeIf(id -> futures.get(id) != null);
+        }
+
+        // Tier 3: Case360
+        Map<String, List<String>> byScript = new LinkedHashMap<>();
+        for (String claimId : remaining) {
+            cache.recordLookup("miss", null);
+            byScript.computeIfAbsent(Case360Client.statusQueryScript(claimId), k -> new ArrayList<>()).add(claimId);
+        }
+
+        // Shared across scripts so the whole request never exceeds maxConcurrency SOAP calls
+        Semaphore permits = new Semaphore(maxConcurrency);
+
+        for (Map.Entry<String, List<String>> group : byScript.entrySet()) {
+            String script = group.getKey();
+            List<String> ids = group.getValue();
+            log.debug("Script {} -> {} claim(s)", script, ids.size());
+
+            if (multiParamScripts.contains(script)) {
+                for (int i = 0; i < ids.size(); i += batchSize) {
+                    List<String> chunk = ids.subList(i, Math.min(i + batchSize, ids.size()));
+                    CompletableFuture<Map<String, String>> batch = CompletableFuture.supplyAsync(
+                            () -> bounded(permits, () -> case360Client.getClaimStatuses(script, chunk)),
+                            asyncCase360Client.executor());
+
+                    for (String claimId : chunk) {
+                        futures.put(claimId, batch
+                                .thenApply(statuses -> fromCase360(claimId, statuses.get(claimId)))
+                                // Whole chunk failed: retry its IDs one by one so errors are per ID
+                                .exceptionallyCompose(e -> {
+                                    log.warn("Batch status query {} failed, falling back to single lookups: {}", script, e.getMessage());
+                                    return single(permits, claimId);
+                                })
+                                .whenComplete((r, e) -> onResult.accept(r)));
+                    }
+                }
+            } else {
+                for (String claimId : ids) {
+                    futures.put(claimId, single(permits, claimId).whenComplete((r, e) -> onResult.accept(r)));
+                }
+            }
+        }
+
+        List<ClaimStatusResult> results = futures.values().stream().map(CompletableFuture::join).toList();
+
+        log.info("Exiting getStatuses ({} claims, {} failed)", results.size(),
+                results.stream().filter(r -> !r.success()).count());
+        return results;
+    }
+
+    // -------------------------------------------------------------------------
+    //  INTERNALS
+    // -------------------------------------------------------------------------
+
+    private ClaimStatusResult fromLocalTiers(String claimId) {
+        ClaimStatusCache.Entry entry = cache.get(claimId);
+        if (entry != null) {
+            cache.recordLookup("memory_hit", entry.cachedAt());
+            return ClaimStatusResult.ok(claimId, entry.status(), "memory");
+        }
+
+        Claim claim;
+        try {
+            claim = claimRepository.findByClaimId(claimId).orElse(null);
+        } catch (RuntimeException e) {
+            log.warn("Claims table lookup for {} failed, asking Case360: {}", claimId, e.getMessage());
+            return null;
+        }
+        if (claim != null && isFresh(claim)) {
+            cache.put(claimId, claim.caseStatus(), claim.caseStatusAt());
+            cache.recordLookup("db_hit", claim.caseStatusAt());
+            return ClaimStatusResult.ok(claimId, claim.caseStatus(), "database");
+        }
+        return null;
+    }
+
+    private List<Claim> claimsFromTable(List<String> claimIds) {
+        try {
+            return claimRepository.findByClaimIdIn(claimIds);
+        } catch (RuntimeException e) {
+            log.warn("Claims table lookup for {} claim(s) failed, asking Case360: {}", claimIds.size(), e.getMessage());
+            return List.of();
+        }
+    }
+
+    private boolean isFresh(Claim claim) {
+        return claim.caseStatus() != null && claim.caseStatusAt() != null
+                && Duration.between(claim.caseStatusAt(), Instant.now()).compareTo(dbTtl) < 0;
+    }
+
+    private ClaimStatusResult fromCase360(String claimId, String status) {
+        cache.put(claimId, status);
+        return ClaimStatusResult.ok(claimId, status, "case360");
+    }
+
+    private CompletableFuture<ClaimStatusResult> single(Semaphore permits, String claimId) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return fromCase360(claimId, bounded(permits, () -> case360Client.getClaimStatus(claimId)));
+            } catch (Exception e) {
+                return ClaimStatusResult.failed(claimId, e);
+            }
+        }, asyncCase360Client.executor());
+    }
+
+    private static void complete(Map<String, CompletableFuture<ClaimStatusResult>> futures, ClaimStatusResult result,
+            Consumer<ClaimStatusResult> onResult) {
+        futures.put(result.claimId(), CompletableFuture.completedFuture(result));
+        onResult.accept(result);
+    }
+
+    private static <T> T bounded(Semaphore permits, Supplier<T> call) {
+        permits.acquireUninterruptibly();
+        try {
+            return call.get();
+        } finally {
+            permits.release();
+        }
+    }
+}
@@ -0,0 +1,266 @@
+package com.solusoft.ai.mcp.features.claims.service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.solusoft.ai.mcp.features.claims.model.Claim;
+import com.solusoft.ai.mcp.features.claims.model.CreateHealthClaimRequest;
+import com.solusoft.ai.mcp.features.claims.model.CreateMotorClaimRequest;
+import com.solusoft.ai.mcp.features.claims.model.SubmitClaimRequest;
+import com.solusoft.ai.mcp.features.claims.repository.ClaimRepository;
+import com.solusoft.ai.mcp.features.claims.service.DocumentUploadService.UploadResult;
+import com.solusoft.ai.mcp.integration.case360.AsyncCase360Client;
+import com.solusoft.ai.mcp.integration.case360.CaseFolderPool;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Server-side claim submission: the extract_claim_info, upload_document, create_*_claim and
+ * store_claim_record steps in one call.
+ *
+ * Fields are extracted first (nothing is written if a required field is missing). The document
+ * upload then runs alongside template lookup and case creation (a pooled folder from
+ * {@link CaseFolderPool} when one is ready); once both are done, the Case360 fields are updated and
+ * only then is the claim stored in Postgres, so no row points at a folder without its fields. If
+ * either write fails the folder is discarded. Work runs on the Case360 client's executor, so the caller's
+ * logging and security context carry over.
+ */
+@Service
+@Slf4j
+public class ClaimSubmissionService {
+
+    public record SubmissionResult(String claimId, String caseId, String claimType, String documentId,
+            boolean documentDeduplicated, Map<String, String> extractedFields, List<String> warnings) {}
+
+    // Keys that map onto the create_*_claim request records; everything else goes to additional_data
+    private static final Set<String> MOTOR_FIELDS = Set.of("claimant_name", "policy_number", "claim_amount",
+            "incident_date", "description", "incident_type", "vehicle_make", "license_plate_number", "priority");
+    private static final Set<String> HEALTH_FIELDS = Set.of("claimant_name", "policy_number", "claim_amount",
+            "incident_date", "description", "incident_type", "diagnosis", "hospital_name", "physician",
+            "physician_notes", "priority", "treatment_summary");
+    private static final CaseFieldPlan<CreateMotorClaimRequest> MOTOR_CASE_FIELDS =
+            CaseFieldPlan.of(CreateMotorClaimRequest.class);
+    private static final CaseFieldPlan<CreateHealthClaimRequest> HEALTH_CASE_FIELDS =
+            CaseFieldPlan.of(CreateHealthClaimRequest.class);
+
+    private final AsyncCase360Client asyncCase360Client;
+    private final ClaimFieldExtractor claimFieldExtractor;
+    private final DocumentUploadService documentUploadService;
+    private final DocumentTextService documentTextService;
+    private final ClaimRepository claimRepository;
+    private final ClaimStatusService claimStatusService;
+    private final ObjectMapper objectMapper;
+    private final ClaimIdGenerator claimIdGenerator;
+    private final CaseFolderPool caseFolderPool;
+
+    public ClaimSubmissionService(AsyncCase360Client asyncCase360Client, ClaimFieldExtractor claimFieldExtractor,
+            DocumentUploadService documentUploadService, DocumentTextService documentTextService,
+            ClaimRepository claimRepository, ClaimStatusService claimStatusService, ObjectMapper objectMapper,
+            ClaimIdGenerator claimIdGenerator, CaseFolderPool caseFolderPool) {
+        this.asyncCase360Client = asyncCase360Client;
+        this.claimFieldExtractor = claimFieldExtractor;
+        this.documentUploadService = documentUploadService;
+        this.documentTextService = documentTextService;
+        this.claimRepository = claimRepository;
+        this.claimStatusService = claimStatusService;
+        this.objectMapper = objectMapper;
+        this.claimIdGenerator = claimIdGenerator;
+        this.caseFolderPool = caseFolderPool;
+    }
+
+    /**
+     * Runs the whole pipeline.
+     *
+     * @throws IllegalArgumentException if there is no text, the claim type is unsupported or
+     *         policy number / claimant name could not be extracted
+     */
+    public SubmissionResult submit(SubmitClaimRequest request) throws IOException {
+        log.info("Entering submit");
+
+        boolean staged = request.stagingToken() != null && !request.stagingToken().isBlank();
+        boolean inline = request.documentBase64() != null && !request.documentBase64().isEmpty();
+
+        // 1. Extract (the staged PDF stays redeemable for the upload below)
+        String text = request.documentText();
+        if ((text == null || text.isBlank()) && staged) {
+            text = documentTextService.extractStaged(request.stagingToken().trim()).text();
+        }
+        if (text == null || text.isBlank()) {
+            throw new IllegalArgumentException("Document text cannot be empty");
+        }
+        Map<String, String> fields = claimFieldExtractor.extract(text);
+        boolean motor = isMotor(request.claimType() != null && !request.claimType().isBlank()
+                ? request.claimType() : fields.get("claim_type"));
+
+        List<String> missing = new ArrayList<>();
+        if (isBlank(fields.get("policy_number"))) missing.add("policy_number");
+        if (isBlank(fields.get("claimant_name"))) missing.add("claimant_name");
+        if (!missing.isEmpty()) {
+            throw new IllegalArgumentException("Could not extract required fields from the document: " + missing);
+        }
+
+        List<String> warnings = new ArrayList<>();
+        BigDecimal amount = parseAmount(fields.get("claim_amount"), warnings);
+        LocalDate incidentDate = parseDate(fields.get("incident_date"), warnings);
+        String claimId = claimIdGenerator.nextClaimId(motor ? "AUTO-" : "HC-");
+
+        // 2. Upload the document alongside template lookup and case creation
+        CompletableFuture<UploadResult> uploadFuture = !staged && !inline
+                ? CompletableFuture.completedFuture(null)
+                : CompletableFuture.supplyAsync(() -> upload(request, staged), asyncCase360Client.executor());
+        String templateName = motor ? "Motor Claim" : "Healthcare Claim";
+        CompletableFuture<BigDecimal> templateIdFuture = asyncCase360Client.getCaseFolderTemplateId(templateName);
+        CompletableFuture<String> caseIdFuture = templateIdFuture.thenApplyAsync(
+                templateId -> caseFolderPool.acquire(templateName, templateId), asyncCase360Client.executor());
+
+        try {
+            awaitAll(uploadFuture, caseIdFuture);
+        } catch (IOException | RuntimeException e) {
+            caseIdFuture.thenAccept(caseFolderPool::discard);
+            throw e;
+        }
+        UploadResult upload = uploadFuture.join();
+        String documentId = upload != null ? upload.documentId() : null;
+        BigDecimal templateId = templateIdFuture.join();
+        String caseId = caseIdFuture.join();
+
+        // 3. Case360 field update, then the Postgres write
+        Map<String, Object> updates = caseFields(motor, fields, amount, incidentDate, documentId);
+        updates.put("CREATED_ON", Instant.now());
+        updates.put("CLAIM_ID", claimId);
+        updates.put("CLAIM_STATUS", "reported");
+
+        // claim_doc_id is unique: a deduplicated document may already belong to another claim
+        String claimDocId = upload != null && !upload.deduplicated() ? documentId : claimId;
+        Claim claim = new Claim(null, claimId, claimDocId, fields.get("policy_number"), fields.get("claimant_name"),
+                motor ? "auto" : "healthcare", amount, caseId, "submitted", Instant.now(), Instant.now(),
+                additionalData(motor, fields, documentId), "reported", Instant.now());
+
+        try {
+            awaitAll(asyncCase360Client.updateNewCaseFields(caseId, templateId, updates));
+            // No row yet if the update failed: a retry can reuse claim_doc_id
+            claimRepository.save(claim);
+        } catch (IOException | RuntimeException e) {
+            caseFolderPool.discard(caseId);
+            throw e;
+        }
+        caseFolderPool.commit(caseId);
+        claimStatusService.recordStatus(claimId, claim.caseStatus());
+
+        log.info("✓ Claim {} submitted as case {} (document {})", claimId, caseId, documentId);
+        return new SubmissionResult(claimId, caseId, claim.claimType(), documentId,
+                upload != null && upload.deduplicated(), fields, warnings);
+    }
+
+    // -------------------------------------------------------------------------
+    //  INTERNALS
+    // -------------------------------------------------------------------------
+
+    private UploadResult upload(SubmitClaimRequest request, boolean staged) {
+        try {
+            return staged
+                    ? documentUploadService.uploadStaged(request.stagingToken().trim())
+                    : documentUploadService.upload(request.documentBase64(), request.documentName());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static boolean isMotor(String claimType) {
+        return switch (claimType == null ? "" : claimType.trim().toLowerCase()) {
+            case "auto", "motor" -> true;
+            case "healthcare", "health" -> false;
+            default -> throw new IllegalArgumentException("Unsupported claim type: " + claimType);
+        };
+    }
+
+    // Same field names as create_motor_claim / create_healthcare_claim send
+    private Map<String, Object> caseFields(boolean motor, Map<String, String> fields, BigDecimal amount,
+            LocalDate incidentDate, String documentId) {
+        if (motor) {
+            return MOTOR_CASE_FIELDS.toCaseFields(new CreateMotorClaimRequest(fields.get("claimant_name"),
+                    fields.get("policy_number"), amount, incidentDate, fields.get("description"), documentId,
+                    fields.get("incident_type"), fields.get("vehicle_make"), fields.get("license_plate_number"),
+                    fields.get("priority")));
+        }
+        return HEALTH_CASE_FIELDS.toCaseFields(new CreateHealthClaimRequest(fields.get("claimant_name"),
+                fields.get("policy_number"), amount, incidentDate, fields.get("diagnosis"), fields.get("hospital_name"),
+                fields.get("description"), documentId, fields.get("incident_type"), fields.get("physician"),
+                fields.get("physician_notes"), fields.get("priority"), fields.get("treatment_summary")));
+    }
+
+    private String additionalData(boolean motor, Map<String, String> fields, String documentId) {
+        Set<String> mapped = motor ? MOTOR_FIELDS : HEALTH_FIELDS;
+        Map<String, String> extra = new HashMap<>(fields);
+        extra.keySet().removeIf(key -> mapped.contains(key) || key.equals("claim_type"));
+        if (documentId != null) {
+            extra.put("document_id", documentId);
+        }
+        try {
+            return objectMapper.writeValueAsString(extra);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize claim details", e);
+        }
+    }
+
+    private static BigDecimal parseAmount(String value, List<String> warnings) {
+        if (isBlank(value)) {
+            return null;
+        }
+        try {
+            return new BigDecimal(value.replaceAll("[^0-9.\\-]", ""));
+        } catch (NumberFormatException e) {
+            warnings.add("claim_amount '" + value + "' is not a number and was not set");
+            return null;
+        }
+    }
+
+    private static LocalDate parseDate(String value, List<String> warnings) {
+        if (isBlank(value)) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(value.trim());
+        } catch (Exception e) {
+            warnings.add("incident_date '" + value + "' is not YYYY-MM-DD and was not set");
+            return null;
+        }
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    /**
+     * Waits for all futures (so no step is still running when this returns), then rethrows the
+     * first failure as its original exception so the tool can classify it.
+     */
+    private static void awaitAll(CompletableFuture<?>... futures) throws IOException {
+        try {
+            CompletableFuture.allOf(futures).join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof UncheckedIOException io) {
+                throw io.getCause();
+            }
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw e;
+        }
+    }
+}
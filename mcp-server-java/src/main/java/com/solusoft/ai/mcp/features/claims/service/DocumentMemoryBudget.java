@@ -0,0 +1,119 @@
+package com.solusoft.ai.mcp.features.claims.service;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.solusoft.ai.mcp.exception.ServerBusyException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Server-wide budget for document bytes held on the heap while uploads are decoded and sent.
+ *
+ * A fair semaphore counted in KB: each upload reserves its estimated heap footprint before
+ * decoding and releases it when the Case360 call has returned. When the budget is exhausted a
+ * caller waits up to {@code claims.memory-budget.max-wait-ms}, then gets a retryable
+ * {@link ServerBusyException}. A document larger than the whole budget reserves all of it, so it
+ * runs alone rather than never.
+ *
+ * Metrics: {@code claims.memory.budget.used} / {@code .limit} (bytes),
+ * {@code claims.memory.budget.utilization} (0..1), {@code claims.memory.budget.wait} and
+ * {@code claims.memory.budget.rejected}.
+ */
+@Component
+@Slf4j
+public class DocumentMemoryBudget {
+
+    private final boolean enabled;
+    private final int totalKb;
+    private final long maxWaitMs;
+    private final Semaphore permits;
+    private final Timer waitTimer;
+    private final Counter rejected;
+
+    public DocumentMemoryBudget(MeterRegistry meterRegistry,
+            @Value("${claims.memory-budget.enabled:true}") boolean enabled,
+            @Value("${claims.memory-budget.max-mb:256}") int maxMb,
+            @Value("${claims.memory-budget.max-wait-ms:2000}") long maxWaitMs) {
+        this.enabled = enabled;
+        this.totalKb = Math.max(maxMb, 1) * 1024;
+        this.maxWaitMs = maxWaitMs;
+        this.permits = new Semaphore(totalKb, true);
+
+        Gauge.builder("claims.memory.budget.used", this, b -> (double) b.usedBytes())
+                .baseUnit("bytes")
+                .description("Document bytes currently reserved on the heap")
+                .register(meterRegistry);
+        Gauge.builder("claims.memory.budget.limit", this, b -> (double) b.totalKb * 1024)
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("claims.memory.budget.utilization", this, b -> (double) b.usedBytes() / (b.totalKb * 1024L))
+                .description("Share of the document memory budget in use")
+                .register(meterRegistry);
+        this.waitTimer = Timer.builder("claims.memory.budget.wait")
+                .description("Time spent waiting for document memory budget")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("claims.memory.budget.rejected")
+                .description("Uploads refused because the memory budget stayed exhausted")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Reserves {@code bytes} of the budget. Close the returned permit to give them back.
+     *
+     * @throws ServerBusyException if the bytes could not be reserved within the wait limit
+     */
+    public Permit acquire(long bytes) {
+        if (!enabled || bytes <= 0) {
+            return new Permit(0);
+        }
+
+        int kb = (int) Math.min((bytes + 1023) / 1024, totalKb);
+        long start = System.nanoTime();
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(kb, maxWaitMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        waitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+        if (!acquired) {
+            rejected.increment();
+            log.warn("Memory budget exhausted: {} KB requested, {} KB free", kb, permits.availablePermits());
+            throw new ServerBusyException("Server is busy processing other documents.", Duration.ofSeconds(2));
+        }
+        log.debug("Reserved {} KB of document memory budget", kb);
+        return new Permit(kb);
+    }
+
+    public long usedBytes() {
+        return (long) (totalKb - permits.availablePermits()) * 1024;
+    }
+
+    public final class Permit implements AutoCloseable {
+
+        private int kb;
+
+        private Permit(int kb) {
+            this.kb = kb;
+        }
+
+        @Override
+        public void close() {
+            if (kb > 0) {
+                permits.release(kb);
+                kb = 0;
+            }
+        }
+    }
+}
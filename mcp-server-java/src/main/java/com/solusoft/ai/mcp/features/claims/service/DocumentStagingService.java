@@ -0,0 +1,218 @@
+package com.solusoft.ai.mcp.features.claims.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.apache.tika.Tika;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import com.solusoft.ai.mcp.features.claims.service.Base64DocumentDecoder.DecodedDocument;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Out-of-band document staging, so large documents do not travel as base64 inside MCP JSON-RPC.
+ *
+ * A client streams the raw bytes to {@code /mcp/staging}; they are copied to a temp file in
+ * {@code claims.staging.dir} with the SHA-256 and MIME type computed on the way, and the client
+ * gets back a random single-use token valid for {@code claims.staging.ttl-seconds}. The
+ * {@code upload_staged_document} tool redeems the token; the file is then handed to
+ * {@link DocumentUploadService} like a spilled decode and deleted once uploaded. Unredeemed files
+ * are swept after they expire.
+ */
+@Service
+@Slf4j
+public class DocumentStagingService {
+
+    public record StagedDocument(String token, String fileName, long sizeBytes, String mimeType, String contentHash,
+            Instant expiresAt) {}
+
+    public record Redeemed(StagedDocument staged, DecodedDocument content) {}
+
+    record Entry(StagedDocument document, Path file) {}
+
+    private static final int COPY_BUFFER_BYTES = 64 * 1024;
+
+    private final Tika tika = new Tika();
+    private final SecureRandom random = new SecureRandom();
+    private final Map<String, Entry> staged = new ConcurrentHashMap<>();
+
+    private final Path stagingDir;
+    private final long maxBytes;
+    private final Duration ttl;
+    private final int sniffBytes;
+    private ScheduledExecutorService sweeper;
+
+    public DocumentStagingService(MeterRegistry meterRegistry,
+            @Value("${claims.staging.dir:${java.io.tmpdir}/claims-staging}") Path stagingDir,
+            @Value("${claims.staging.max-bytes:104857600}") long maxBytes,
+            @Value("${claims.staging.ttl-seconds:900}") long ttlSeconds,
+            @Value("${claims.upload.sniff-bytes:8192}") int sniffBytes) {
+        this.stagingDir = stagingDir;
+        this.maxBytes = maxBytes;
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+        this.sniffBytes = Math.max(sniffBytes, 1);
+
+        Gauge.builder("claims.staging.documents", staged, Map::size)
+                .description("Staged documents waiting for upload_staged_document")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startSweeper() {
+        long periodMs = Math.max(ttl.toMillis() / 4, 1000);
+        sweeper = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().daemon().name("claims-staging-sweeper").factory());
+        sweeper.scheduleWithFixedDelay(this::sweepExpired, periodMs, periodMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (sweeper != null) {
+            sweeper.shutdownNow();
+        }
+        staged.values().forEach(entry -> delete(entry.file()));
+        staged.clear();
+    }
+
+    /**
+     * Streams {@code content} to a staging file.
+     *
+     * @param mimeCheck receives the sniffed MIME type and may throw to reject the document
+     * @throws IllegalArgumentException if the content is empty or larger than {@code claims.staging.max-bytes}
+     */
+    public StagedDocument stage(InputStream content, String fileName, Consumer<String> mimeCheck) throws IOException {
+        log.info("Entering stage");
+
+        Files.createDirectories(stagingDir);
+        Path file = Files.createTempFile(stagingDir, "staged-", ".bin");
+        try {
+            MessageDigest digest = sha256();
+            byte[] head = new byte[sniffBytes];
+            int headLength = 0;
+            long size = 0;
+
+            try (OutputStream out = Files.newOutputStream(file)) {
+                byte[] buffer = new byte[COPY_BUFFER_BYTES];
+                int read;
+                while ((read = content.read(buffer)) != -1) {
+                    size += read;
+                    if (size > maxBytes) {
+                        throw new IllegalArgumentException("Document exceeds the staging limit of " + maxBytes + " bytes.");
+                    }
+                    if (headLength < sniffBytes) {
+                        int n = Math.min(read, sniffBytes - headLength);
+                        System.arraycopy(buffer, 0, head, headLength, n);
+                        headLength += n;
+                    }
+                    digest.update(buffer, 0, read);
+                    out.write(buffer, 0, read);
+                }
+            }
+
+            if (size == 0) {
+                throw new IllegalArgumentException("Staged document is empty.");
+            }
+            String mimeType = tika.detect(Arrays.copyOf(head, headLength));
+            mimeCheck.accept(mimeType);
+
+            String token = newToken();
+            StagedDocument document = new StagedDocument(token, fileName, size, mimeType,
+                    HexFormat.of().formatHex(digest.digest()), Instant.now().plus(ttl));
+            staged.put(token, new Entry(document, file));
+
+            log.info("Staged {} KB ({}) until {}", size / 1024, mimeType, document.expiresAt());
+            return document;
+
+        } catch (IOException | RuntimeException e) {
+            delete(file);
+            throw e;
+        }
+    }
+
+    /**
+     * Redeems a token. The returned document owns the staging file and deletes it when closed.
+     *
+     * @throws IllegalArgumentException if the token is unknown, already used or expired
+     */
+    public Redeemed redeem(String token) {
+        Entry entry = token == null ? null : staged.remove(token);
+        if (entry == null || entry.document().expiresAt().isBefore(Instant.now())) {
+            if (entry != null) {
+                delete(entry.file());
+            }
+            throw new IllegalArgumentException("Unknown or expired staging token.");
+        }
+        StagedDocument document = entry.document();
+        return new Redeemed(document, new DecodedDocument(null, document.sizeBytes(), entry.file(),
+                document.mimeType(), document.contentHash()));
+    }
+
+    /**
+     * Staged document for {@code token} without redeeming it (read-only use such as text
+     * extraction), or null if the token is unknown or expired.
+     */
+    Entry peek(String token) {
+        Entry entry = token == null ? null : staged.get(token);
+        return entry == null || entry.document().expiresAt().isBefore(Instant.now()) ? null : entry;
+    }
+
+    // -------------------------------------------------------------------------
+    //  INTERNALS
+    // -------------------------------------------------------------------------
+
+    void sweepExpired() {
+        Instant now = Instant.now();
+        staged.forEach((token, entry) -> {
+            if (entry.document().expiresAt().isBefore(now) && staged.remove(token, entry)) {
+                log.debug("Staged document {} expired", entry.file());
+                delete(entry.file());
+            }
+        });
+    }
+
+    private String newToken() {
+        byte[] bytes = new byte[32];
+        random.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static void delete(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Failed to delete staged file {}: {}", file, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,300 @@
+package com.solusoft.ai.mcp.features.claims.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.text.PDFTextStripper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.solusoft.ai.mcp.features.claims.model.DocumentHash;
+import com.solusoft.ai.mcp.features.claims.repository.DocumentHashRepository;
+import com.solusoft.ai.mcp.integration.case360.Case360Client;
+import com.solusoft.ai.mcp.integration.case360.Case360DocumentTransfer;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Server-side PDF text extraction for staged or already-uploaded documents.
+ *
+ * Pages are split into one contiguous slice per worker of a dedicated ForkJoin pool
+ * ({@code claims.text.parallelism}), each at least {@code claims.text.pages-per-task} pages long.
+ * A worker parses the file once into its own PDDocument, since PDFBox documents are not
+ * thread-safe. At most {@code claims.text.max-pages} pages are read and the whole extraction must
+ * finish within {@code claims.text.timeout-seconds}; on a timeout or a failed slice the other
+ * workers stop at their next page instead of running on.
+ *
+ * Results are cached by content SHA-256. For Case360 documents the hash of the current version is
+ * taken from {@code document_hashes} when known, so a repeat request needs no download at all.
+ */
+@Service
+@Slf4j
+public class DocumentTextService {
+
+    public record TextResult(String contentHash, String text, int pageCount, int pagesExtracted, boolean truncated,
+            boolean cached) {
+
+        TextResult asCached() {
+            return new TextResult(contentHash, text, pageCount, pagesExtracted, truncated, true);
+        }
+    }
+
+    private final DocumentStagingService documentStagingService;
+    private final Case360Client case360Client;
+    private final Case360DocumentTransfer documentTransfer;
+    private final DocumentHashRepository documentHashRepository;
+    private final MeterRegistry meterRegistry;
+    private final ForkJoinPool pool;
+    private final int maxPages;
+    private final int pagesPerTask;
+    private final Duration timeout;
+    private final Map<String, TextResult> cache;
+
+    public DocumentTextService(DocumentStagingService documentStagingService, Case360Client case360Client,
+            Case360DocumentTransfer documentTransfer, DocumentHashRepository documentHashRepository,
+            MeterRegistry meterRegistry,
+            @Value("${claims.text.parallelism:4}") int parallelism,
+            @Value("${claims.text.max-pages:200}") int maxPages,
+            @Value("${claims.text.pages-per-task:8}") int pagesPerTask,
+            @Value("${claims.text.timeout-seconds:30}") long timeoutSeconds,
+            @Value("${claims.text.cache-entries:100}") int cacheEntries) {
+        this.documentStagingService = documentStagingService;
+        this.case360Client = case360Client;
+        this.documentTransfer = documentTransfer;
+        this.documentHashRepository = documentHashRepository;
+        this.meterRegistry = meterRegistry;
+        this.pool = new ForkJoinPool(Math.max(parallelism, 1));
+        this.maxPages = Math.max(maxPages, 1);
+        this.pagesPerTask = Math.max(pagesPerTask, 1);
+        this.timeout = Duration.ofSeconds(timeoutSeconds);
+        this.cache = new LinkedHashMap<>(64, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, TextResult> eldest) {
+                return size() > cacheEntries;
+            }
+        };
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdownNow();
+    }
+
+    /**
+     * Extracts text from a staged document. The token stays valid for upload_staged_document.
+     */
+    public TextResult extractStaged(String stagingToken) throws IOException {
+        log.info("Entering extractStaged");
+
+        DocumentStagingService.Entry entry = documentStagingService.peek(stagingToken);
+        if (entry == null) {
+            throw new IllegalArgumentException("Unknown or expired staging token.");
+        }
+        if (!"application/pdf".equals(entry.document().mimeType())) {
+            throw new IllegalArgumentException("Text extraction supports PDF documents only.");
+        }
+        return extract(entry.file(), entry.document().contentHash());
+    }
+
+    /**
+     * Extracts text from a document already stored in Case360, downloading it only on a cache miss.
+     */
+    public TextResult extractUploaded(String documentId) throws IOException {
+        log.info("Entering extractUploaded");
+
+        BigDecimal docId = new BigDecimal(documentId);
+        // A stored document can gain versions: a hash only stands for the version it was taken from
+        int version = case360Client.getCurrentVersion(docId);
+
+        Optional<DocumentHash> known = findHash(documentId, version);
+        if (known.isPresent()) {
+            TextResult cached = cached(known.get().contentHash());
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        Path file = Files.createTempFile("claims-text-", ".pdf");
+        try {
+            long expectedSize = known.map(DocumentHash::sizeBytes).orElse(-1L);
+            long size = documentTransfer.download(docId, version, file, null, expectedSize);
+            String contentHash = sha256(file);
+            if (known.isEmpty()) {
+                remember(contentHash, documentId, version, size);
+            }
+            if (!isPdf(file)) {
+                throw new IllegalArgumentException("Text extraction supports PDF documents only.");
+            }
+            return extract(file, contentHash);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    //  INTERNALS
+    // -------------------------------------------------------------------------
+
+    TextResult extract(Path pdf, String contentHash) throws IOException {
+        TextResult cached = cached(contentHash);
+        if (cached != null) {
+            return cached;
+        }
+
+        long start = System.nanoTime();
+        int pageCount;
+        try (PDDocument document = Loader.loadPDF(pdf.toFile())) {
+            pageCount = document.getNumberOfPages();
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Document could not be read as PDF: " + e.getMessage(), e);
+        }
+        int pages = Math.min(pageCount, maxPages);
+
+        // Every slice re-parses the file, so short documents use fewer workers
+        int slices = Math.min(pool.getParallelism(), (pages + pagesPerTask - 1) / pagesPerTask);
+        AtomicBoolean cancelled = new AtomicBoolean(false);
+        List<ForkJoinTask<String>> tasks = new ArrayList<>();
+        for (int i = 0; i < slices; i++) {
+            int from = 1 + (int) ((long) pages * i / slices);
+            int to = (int) ((long) pages * (i + 1) / slices);
+            tasks.add(pool.submit(() -> extractPages(pdf, from, to, cancelled)));
+        }
+
+        StringBuilder text = new StringBuilder();
+        long deadline = start + timeout.toNanos();
+        try {
+            for (ForkJoinTask<String> task : tasks) {
+                text.append(task.get(Math.max(deadline - System.nanoTime(), 0), TimeUnit.NANOSECONDS));
+            }
+        } catch (TimeoutException e) {
+            cancel(tasks, cancelled);
+            throw new IllegalStateException("Text extraction did not finish within " + timeout.toSeconds() + " seconds.");
+        } catch (ExecutionException e) {
+            cancel(tasks, cancelled);
+            throw new IllegalArgumentException("Document could not be read as PDF: " + e.getCause().getMessage(), e.getCause());
+        } catch (InterruptedException e) {
+            cancel(tasks, cancelled);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Text extraction interrupted.", e);
+        }
+
+        TextResult result = new TextResult(contentHash, text.toString(), pageCount, pages, pageCount > pages, false);
+        synchronized (cache) {
+            cache.put(contentHash, result);
+        }
+
+        Timer.builder("claims.text.extraction")
+                .description("PDF text extraction time (cache misses)")
+                .register(meterRegistry)
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        log.info("Extracted {} of {} pages in {} slice(s)", pages, pageCount, tasks.size());
+        return result;
+    }
+
+    // ForkJoinTask.cancel does not interrupt a running task: the flag is what stops the workers
+    private static void cancel(List<ForkJoinTask<String>> tasks, AtomicBoolean cancelled) {
+        cancelled.set(true);
+        tasks.forEach(task -> task.cancel(true));
+    }
+
+    static String extractPages(Path pdf, int firstPage, int lastPage, AtomicBoolean cancelled) throws IOException {
+        if (cancelled.get()) {
+            throw new CancellationException("Text extraction cancelled");
+        }
+        try (PDDocument document = Loader.loadPDF(pdf.toFile())) {
+            PDFTextStripper stripper = new PDFTextStripper() {
+                @Override
+                protected void startPage(PDPage page) throws IOException {
+                    if (cancelled.get()) {
+                        throw new CancellationException("Text extraction cancelled");
+                    }
+                    super.startPage(page);
+                }
+            };
+            stripper.setStartPage(firstPage);
+            stripper.setEndPage(lastPage);
+            return stripper.getText(document);
+        }
+    }
+
+    private TextResult cached(String contentHash) {
+        TextResult result;
+        synchronized (cache) {
+            result = cache.get(contentHash);
+        }
+        Counter.builder("claims.text.cache.requests")
+                .tag("result", result != null ? "hit" : "miss")
+                .register(meterRegistry)
+                .increment();
+        return result != null ? result.asCached() : null;
+    }
+
+    private Optional<DocumentHash> findHash(String documentId, int version) {
+        try {
+            return documentHashRepository.findFirstByDocumentIdAndVersionNumber(documentId, version);
+        } catch (Exception e) {
+            log.warn("Document hash lookup failed for {}: {}", documentId, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    // Record the hash so later requests (and uploads of the same content) skip the download
+    private void remember(String contentHash, String documentId, int version, long size) {
+        try {
+            documentHashRepository.insertOrSetVersion(
+                    new DocumentHash(contentHash, documentId, null, null, size, version, Instant.now()));
+        } catch (Exception e) {
+            log.warn("Failed to record document hash for {}: {}", documentId, e.getMessage());
+        }
+    }
+
+    private static boolean isPdf(Path file) throws IOException {
+        try (InputStream in = Files.newInputStream(file)) {
+            byte[] header = in.readNBytes(1024);
+            return new String(header, StandardCharsets.ISO_8859_1).contains("%PDF-");
+        }
+    }
+
+    private static String sha256(Path file) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+        try (InputStream in = new DigestInputStream(Files.newInputStream(file), digest)) {
+            in.transferTo(OutputStream.nullOutputStream());
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+}
@@ -0,0 +1,268 @@
+package com.solusoft.ai.mcp.features.claims.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.solusoft.ai.mcp.features.claims.model.DocumentHash;
+import com.solusoft.ai.mcp.features.claims.repository.DocumentHashRepository;
+import com.solusoft.ai.mcp.features.claims.service.Base64DocumentDecoder.DecodedDocument;
+import com.solusoft.ai.mcp.features.claims.service.DocumentStagingService.Redeemed;
+import com.solusoft.ai.mcp.integration.case360.AsyncCase360Client;
+import com.solusoft.ai.mcp.integration.case360.Case360Client;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Document upload to Case360 with content-addressed deduplication.
+ *
+ * The payload is decoded once ({@link Base64DocumentDecoder}), which also yields its SHA-256.
+ * The {@code document_hashes} table maps that hash to the Case360 document already holding the
+ * content; a hit returns that document ID without createFileStore/putFile. Concurrent uploads of
+ * the same content within this instance wait for the first one's transfer instead of starting
+ * their own. Across instances, the first recorded document ID wins.
+ *
+ * Documents staged out of band ({@link DocumentStagingService}) take the same path from their
+ * staging file.
+ */
+@Service
+@Slf4j
+public class DocumentUploadService {
+
+    public record UploadResult(String documentId, String storedName, String contentHash, long sizeBytes,
+            boolean deduplicated) {
+
+        UploadResult asDuplicate() {
+            return new UploadResult(documentId, storedName, contentHash, sizeBytes, true);
+        }
+    }
+
+    private static final Set<String> ALLOWED_MIME_TYPES = Set.of(
+        "application/pdf",
+        "image/tiff"
+    );
+
+    private final Case360Client case360Client;
+    private final AsyncCase360Client asyncCase360Client;
+    private final Base64DocumentDecoder documentDecoder;
+    private final DocumentHashRepository documentHashRepository;
+    private final DocumentStagingService documentStagingService;
+    private final DocumentMemoryBudget memoryBudget;
+    private final MeterRegistry meterRegistry;
+    private final long mtomThresholdBytes;
+    private final boolean dedupEnabled;
+
+    private final Map<String, CompletableFuture<UploadResult>> inFlight = new ConcurrentHashMap<>();
+
+    public DocumentUploadService(Case360Client case360Client, AsyncCase360Client asyncCase360Client,
+            Base64DocumentDecoder documentDecoder, DocumentHashRepository documentHashRepository,
+            DocumentStagingService documentStagingService, DocumentMemoryBudget memoryBudget, MeterRegistry meterRegistry,
+            @Value("${case360.mtom.threshold-bytes:1048576}") long mtomThresholdBytes,
+            @Value("${claims.upload.dedup.enabled:true}") boolean dedupEnabled) {
+        this.case360Client = case360Client;
+        this.asyncCase360Client = asyncCase360Client;
+        this.documentDecoder = documentDecoder;
+        this.documentHashRepository = documentHashRepository;
+        this.documentStagingService = documentStagingService;
+        this.memoryBudget = memoryBudget;
+        this.meterRegistry = meterRegistry;
+        this.mtomThresholdBytes = mtomThresholdBytes;
+        this.dedupEnabled = dedupEnabled;
+    }
+
+    /**
+     * Decodes, validates and stores a base64 document (data-URI prefix allowed).
+     *
+     * @throws IllegalArgumentException if the payload is empty or not valid base64
+     * @throws SecurityException if the content type is not allowed
+     * @throws com.solusoft.ai.mcp.exception.ServerBusyException if the document memory budget stays exhausted
+     */
+    public UploadResult upload(String documentBase64, String documentName) throws IOException {
+        log.info("Entering upload");
+
+        if (documentBase64 == null || documentBase64.isEmpty()) {
+            throw new IllegalArgumentException("Base64 string is empty.");
+        }
+
+        // Resolve the filestore template while the payload is decoded and validated
+        // (served from the template registry, so a dedup hit does not reach Case360)
+        CompletableFuture<BigDecimal> templateIdFuture = asyncCase360Client.getFilestoreTemplateId("Claim Document");
+
+        String safeFileName = safeFileName(documentName);
+
+        // Reserve the decoded bytes, plus their base64 copy in the SOAP envelope when sent inline,
+        // until the Case360 call has returned
+        long heapBytes = documentDecoder.heapBytes(documentBase64);
+        if (heapBytes < mtomThresholdBytes) {
+            heapBytes += heapBytes * 4 / 3;
+        }
+
+        // Single pass over the payload: prefix and whitespace are skipped, large documents spill to disk
+        try (DocumentMemoryBudget.Permit permit = memoryBudget.acquire(heapBytes);
+                DecodedDocument document = documentDecoder.decode(documentBase64, DocumentUploadService::requireAllowedType)) {
+            log.debug("✓ Decoded {} KB of data (sha256 {}).", document.length() / 1024, document.sha256());
+            return store(document, templateIdFuture, safeFileName);
+        }
+    }
+
+    /**
+     * Uploads a document staged through {@code /mcp/staging}. The staging file is streamed to
+     * Case360 from disk (MTOM) and deleted afterwards; the token cannot be used again.
+     *
+     * @throws IllegalArgumentException if the token is unknown, used or expired
+     */
+    public UploadResult uploadStaged(String stagingToken) throws IOException {
+        log.info("Entering uploadStaged");
+
+        CompletableFuture<BigDecimal> templateIdFuture = asyncCase360Client.getFilestoreTemplateId("Claim Document");
+
+        Redeemed redeemed = documentStagingService.redeem(stagingToken);
+        try (DecodedDocument document = redeemed.content()) {
+            return store(document, templateIdFuture, safeFileName(redeemed.staged().fileName()));
+        }
+    }
+
+    /**
+     * Stores an already decoded and validated document (used by {@link UploadJobService}).
+     * The caller keeps ownership of {@code document} and closes it.
+     */
+    UploadResult uploadDecoded(DecodedDocument document, String documentName) throws IOException {
+        CompletableFuture<BigDecimal> templateIdFuture = asyncCase360Client.getFilestoreTemplateId("Claim Document");
+        return store(document, templateIdFuture, safeFileName(documentName));
+    }
+
+    /**
+     * Rejects content types that may not be stored in Case360.
+     */
+    public static void requireAllowedType(String detectedType) {
+        log.debug("Detected MIME type: {}", detectedType);
+        if (!ALLOWED_MIME_TYPES.contains(detectedType)) {
+            throw new SecurityException("Security Block: File type '" + detectedType + "' is not allowed.");
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    //  INTERNALS
+    // -------------------------------------------------------------------------
+
+    private UploadResult store(DecodedDocument document, CompletableFuture<BigDecimal> templateIdFuture,
+            String safeFileName) throws IOException {
+        if (!dedupEnabled) {
+            return transfer(document, templateIdFuture, safeFileName);
+        }
+
+        CompletableFuture<UploadResult> mine = new CompletableFuture<>();
+        CompletableFuture<UploadResult> running = inFlight.putIfAbsent(document.sha256(), mine);
+        if (running != null) {
+            count("inflight");
+            log.info("Same content is already being uploaded, waiting for it");
+            return await(running).asDuplicate();
+        }
+
+        try {
+            UploadResult result = lookupOrTransfer(document, templateIdFuture, safeFileName);
+            mine.complete(result);
+            return result;
+        } catch (Throwable t) {
+            mine.completeExceptionally(t);
+            throw t;
+        } finally {
+            inFlight.remove(document.sha256(), mine);
+        }
+    }
+
+    private static String safeFileName(String documentName) {
+        String safeExtension = "";
+        if (documentName != null && documentName.contains(".")) {
+            safeExtension = documentName.substring(documentName.lastIndexOf("."));
+        }
+        return UUID.randomUUID().toString() + safeExtension;
+    }
+
+    private UploadResult lookupOrTransfer(DecodedDocument document, CompletableFuture<BigDecimal> templateIdFuture,
+            String safeFileName) throws IOException {
+        Optional<DocumentHash> existing = findExisting(document.sha256());
+        if (existing.isPresent()) {
+            count("db_hit");
+            DocumentHash hash = existing.get();
+            log.info("✓ Content already stored in Case360 as document {}", hash.documentId());
+            return new UploadResult(hash.documentId(), hash.storedName() != null ? hash.storedName() : safeFileName,
+                    document.sha256(), document.length(), true);
+        }
+
+        count("miss");
+        UploadResult result = transfer(document, templateIdFuture, safeFileName);
+        record(document, result);
+        return result;
+    }
+
+    private UploadResult transfer(DecodedDocument document, CompletableFuture<BigDecimal> templateIdFuture,
+            String safeFileName) throws IOException {
+        BigDecimal templateId = await(templateIdFuture);
+        String documentId = case360Client.createFileStore(templateId);
+
+        if (!document.inMemory()) {
+            case360Client.uploadDocument(new BigDecimal(documentId), document.file(), safeFileName);
+        } else if (document.length() >= mtomThresholdBytes) {
+            try (InputStream content = document.openStream()) {
+                case360Client.uploadDocument(new BigDecimal(documentId), content, document.length(), safeFileName);
+            }
+        } else {
+            case360Client.uploadDocument(new BigDecimal(documentId), document.bytes(), safeFileName);
+        }
+
+        log.info("✓ Document uploaded successfully to Case360 with ID: {}", documentId);
+        return new UploadResult(documentId, safeFileName, document.sha256(), document.length(), false);
+    }
+
+    // The dedup table is an optimisation: if it is unavailable, upload as before
+    private Optional<DocumentHash> findExisting(String contentHash) {
+        try {
+            return documentHashRepository.findById(contentHash);
+        } catch (Exception e) {
+            log.warn("Document hash lookup failed, uploading without dedup: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private void record(DecodedDocument document, UploadResult result) {
+        try {
+            documentHashRepository.insertIfAbsent(new DocumentHash(document.sha256(), result.documentId(),
+                    result.storedName(), document.mimeType(), document.length(), null, Instant.now()));
+        } catch (Exception e) {
+            log.warn("Failed to record document hash for {}: {}", result.documentId(), e.getMessage());
+        }
+    }
+
+    private void count(String result) {
+        Counter.builder("claims.upload.dedup")
+                .tag("result", result)
+                .description("upload_document content-hash lookups")
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
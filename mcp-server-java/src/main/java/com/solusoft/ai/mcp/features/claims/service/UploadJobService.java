@@ -0,0 +1,300 @@
+package com.solusoft.ai.mcp.features.claims.service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import com.solusoft.ai.mcp.config.ContextPropagatingExecutor;
+import com.solusoft.ai.mcp.exception.ServerBusyException;
+import com.solusoft.ai.mcp.features.claims.model.UploadJob;
+import com.solusoft.ai.mcp.features.claims.repository.UploadJobRepository;
+import com.solusoft.ai.mcp.features.claims.service.Base64DocumentDecoder.DecodedDocument;
+import com.solusoft.ai.mcp.features.claims.service.DocumentStagingService.Redeemed;
+import com.solusoft.ai.mcp.features.claims.service.DocumentUploadService.UploadResult;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Asynchronous uploads, so the MCP request does not stay open for the Case360 transfer.
+ *
+ * Submitting decodes and validates the document (or redeems a staging token), writes it to
+ * {@code claims.upload.jobs.dir}, records a QUEUED row in {@code upload_jobs} and returns the job
+ * ID. A bounded pool ({@code claims.upload.jobs.threads} workers, {@code claims.upload.jobs.queue-capacity}
+ * waiting jobs) then stores the document through {@link DocumentUploadService}, so deduplication
+ * applies as for synchronous uploads. A full queue is reported as a retryable {@link ServerBusyException}.
+ *
+ * A job is locked by the instance that queued it until {@code claims.upload.jobs.lock-seconds}
+ * after its upload started. On startup and then every {@code claims.upload.jobs.resume-seconds},
+ * each instance takes over QUEUED and UPLOADING jobs whose lock has expired (one atomic UPDATE per
+ * job, so only one instance resumes it) and queues them again if their file is still present. A job
+ * the queue cannot take is unlocked for the next scan. A transfer interrupted after Case360 stored
+ * the document is not repeated if its content hash was recorded. The jobs directory must therefore
+ * survive restarts (and be shared when running several instances).
+ */
+@Service
+@Slf4j
+public class UploadJobService {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final DocumentUploadService documentUploadService;
+    private final Base64DocumentDecoder documentDecoder;
+    private final DocumentStagingService documentStagingService;
+    private final DocumentMemoryBudget memoryBudget;
+    private final UploadJobRepository uploadJobRepository;
+    private final MeterRegistry meterRegistry;
+    private final Path jobsDir;
+    private final ThreadPoolExecutor pool;
+    private final ContextPropagatingExecutor executor;
+    private final Duration lockTimeout;
+    private final long resumeSeconds;
+    private final String instanceId = Optional.ofNullable(System.getenv("HOSTNAME")).orElse("instance") + "/"
+            + UUID.randomUUID();
+
+    private ScheduledExecutorService resumer;
+
+    public UploadJobService(DocumentUploadService documentUploadService, Base64DocumentDecoder documentDecoder,
+            DocumentStagingService documentStagingService, DocumentMemoryBudget memoryBudget,
+            UploadJobRepository uploadJobRepository, MeterRegistry meterRegistry,
+            @Value("${claims.upload.jobs.dir:${java.io.tmpdir}/claims-upload-jobs}") Path jobsDir,
+            @Value("${claims.upload.jobs.threads:2}") int threads,
+            @Value("${claims.upload.jobs.queue-capacity:50}") int queueCapacity,
+            @Value("${claims.upload.jobs.lock-seconds:900}") long lockSeconds,
+            @Value("${claims.upload.jobs.resume-seconds:60}") long resumeSeconds) {
+        this.documentUploadService = documentUploadService;
+        this.documentDecoder = documentDecoder;
+        this.documentStagingService = documentStagingService;
+        this.memoryBudget = memoryBudget;
+        this.uploadJobRepository = uploadJobRepository;
+        this.meterRegistry = meterRegistry;
+        this.jobsDir = jobsDir;
+        this.pool = new ThreadPoolExecutor(Math.max(threads, 1), Math.max(threads, 1), 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(queueCapacity, 1)),
+                Thread.ofPlatform().daemon().name("claims-upload-job-", 0).factory());
+        this.executor = new ContextPropagatingExecutor(pool);
+        this.lockTimeout = Duration.ofSeconds(lockSeconds);
+        this.resumeSeconds = Math.max(resumeSeconds, 1);
+
+        Gauge.builder("claims.upload.jobs.queued", pool, p -> p.getQueue().size())
+                .description("Upload jobs waiting for a worker")
+                .register(meterRegistry);
+        Gauge.builder("claims.upload.jobs.active", pool, ThreadPoolExecutor::getActiveCount)
+                .description("Upload jobs transferring to Case360")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startResuming() {
+        resumer = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().daemon().name("claims-upload-job-resumer").factory());
+        resumer.scheduleWithFixedDelay(this::resumeJobs, 0, resumeSeconds, TimeUnit.SECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (resumer != null) {
+            resumer.shutdownNow();
+        }
+        // Unfinished jobs keep their file and row, and are resumed once their lock expires
+        pool.shutdownNow();
+    }
+
+    /**
+     * Takes over and queues unfinished jobs whose lock has expired. Runs on the resumer thread;
+     * safe to call directly.
+     */
+    public void resumeJobs() {
+        try {
+            List<UploadJob> unlocked = uploadJobRepository.findUnlocked(Instant.now());
+            int resumed = 0;
+            for (UploadJob job : unlocked) {
+                if (resume(job)) {
+                    resumed++;
+                }
+            }
+            if (!unlocked.isEmpty()) {
+                log.info("Resumed {} of {} unfinished upload jobs", resumed, unlocked.size());
+            }
+        } catch (Exception e) {
+            log.warn("Resuming upload jobs failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Decodes and validates a base64 document, then queues its upload.
+     *
+     * @throws IllegalArgumentException if the payload is empty or not valid base64
+     * @throws SecurityException if the content type is not allowed
+     * @throws ServerBusyException if the memory budget or the job queue is exhausted
+     */
+    public UploadJob submit(String documentBase64, String documentName) throws IOException {
+        log.info("Entering submit");
+
+        if (documentBase64 == null || documentBase64.isEmpty()) {
+            throw new IllegalArgumentException("Base64 string is empty.");
+        }
+
+        try (DocumentMemoryBudget.Permit permit = memoryBudget.acquire(documentDecoder.heapBytes(documentBase64));
+                DecodedDocument document = documentDecoder.decode(documentBase64, DocumentUploadService::requireAllowedType)) {
+            return queue(document, documentName);
+        }
+    }
+
+    /**
+     * Queues the upload of a document staged through {@code /mcp/staging}; the token is used up.
+     *
+     * @throws IllegalArgumentException if the token is unknown, used or expired
+     * @throws ServerBusyException if the job queue is full
+     */
+    public UploadJob submitStaged(String stagingToken) throws IOException {
+        log.info("Entering submitStaged");
+
+        Redeemed redeemed = documentStagingService.redeem(stagingToken);
+        try (DecodedDocument document = redeemed.content()) {
+            return queue(document, redeemed.staged().fileName());
+        }
+    }
+
+    public Optional<UploadJob> find(String jobId) {
+        return uploadJobRepository.findById(jobId);
+    }
+
+    // -------------------------------------------------------------------------
+    //  INTERNALS
+    // -------------------------------------------------------------------------
+
+    private UploadJob queue(DecodedDocument document, String documentName) throws IOException {
+        String jobId = UUID.randomUUID().toString();
+        Files.createDirectories(jobsDir);
+        Path file = jobsDir.resolve(jobId + ".bin");
+
+        // Spilled and staged documents are already on disk: move rather than copy
+        if (document.inMemory()) {
+            Files.write(file, document.bytes());
+        } else {
+            Files.move(document.file(), file, StandardCopyOption.REPLACE_EXISTING);
+        }
+
+        Instant now = Instant.now();
+        UploadJob job = new UploadJob(jobId, UploadJob.QUEUED, documentName, file.toString(), document.sha256(),
+                document.mimeType(), document.length(), null, null, null, null, 0, instanceId, now.plus(lockTimeout),
+                now, now);
+        try {
+            uploadJobRepository.insert(job);
+        } catch (RuntimeException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        }
+
+        try {
+            enqueue(job);
+        } catch (RejectedExecutionException e) {
+            fail(jobId, "Upload queue is full.");
+            Files.deleteIfExists(file);
+            count("rejected");
+            throw new ServerBusyException("Upload queue is full, please retry shortly.", Duration.ofSeconds(5));
+        }
+
+        log.info("Queued upload job {} ({} KB)", jobId, document.length() / 1024);
+        return job;
+    }
+
+    private boolean resume(UploadJob job) {
+        Instant now = Instant.now();
+        if (uploadJobRepository.lock(job.jobId(), instanceId, now, now.plus(lockTimeout)) == 0) {
+            return false; // taken over by another instance, or finished, since the scan
+        }
+        if (!Files.exists(Path.of(job.filePath()))) {
+            fail(job.jobId(), "Document file was lost before the upload finished; please upload again.");
+            return false;
+        }
+        try {
+            enqueue(job);
+            return true;
+        } catch (RejectedExecutionException e) {
+            log.warn("Upload queue full, job {} is retried on the next scan", job.jobId());
+            uploadJobRepository.unlock(job.jobId(), instanceId);
+            return false;
+        }
+    }
+
+    private void enqueue(UploadJob job) {
+        executor.execute(() -> run(job));
+    }
+
+    private void run(UploadJob job) {
+        log.info("Entering upload job {}", job.jobId());
+
+        DecodedDocument document = new DecodedDocument(null, job.sizeBytes(), Path.of(job.filePath()),
+                job.mimeType(), job.contentHash());
+        try {
+            Instant now = Instant.now();
+            if (uploadJobRepository.markUploading(job.jobId(), instanceId, now, now.plus(lockTimeout)) == 0) {
+                // Waited longer than the lock: another instance has resumed it, and owns the file now
+                log.warn("Upload job {} was taken over by another instance", job.jobId());
+                return;
+            }
+            UploadResult result = documentUploadService.uploadDecoded(document, job.fileName());
+            uploadJobRepository.markCompleted(job.jobId(), result.documentId(), result.storedName(),
+                    result.deduplicated(), Instant.now());
+            count("completed");
+            log.info("✓ Upload job {} stored as document {}", job.jobId(), result.documentId());
+        } catch (Exception e) {
+            if (pool.isShutdown()) {
+                // Interrupted by shutdown: keep the file so the job is resumed once its lock expires
+                log.info("Upload job {} interrupted by shutdown", job.jobId());
+                return;
+            }
+            log.error("❌ Upload job {} failed.", job.jobId(), e);
+            fail(job.jobId(), e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName());
+        }
+        delete(document);
+    }
+
+    private static void delete(DecodedDocument document) {
+        try {
+            document.close();
+        } catch (IOException e) {
+            log.warn("Failed to delete upload job file {}: {}", document.file(), e.getMessage());
+        }
+    }
+
+    private void fail(String jobId, String message) {
+        try {
+            uploadJobRepository.markFailed(jobId, message.length() > MAX_ERROR_LENGTH
+                    ? message.substring(0, MAX_ERROR_LENGTH) : message, Instant.now());
+            count("failed");
+        } catch (Exception e) {
+            log.warn("Failed to record failure of upload job {}: {}", jobId, e.getMessage());
+        }
+    }
+
+    private void count(String result) {
+        Counter.builder("claims.upload.jobs")
+                .tag("result", result)
+                .description("Asynchronous upload job outcomes")
+                .register(meterRegistry)
+                .increment();
+    }
+}
@@ -2,27 +2,46 @@ package com.solusoft.ai.mcp.features.claims.tool;
 
 import java.math.BigDecimal;
 import java.time.Instant;
-import java.time.LocalDate;
-import java.util.Base64;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.Optional;
-import java.util.Set;
-import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
-import org.apache.tika.Tika;
 import org.springaicommunity.mcp.annotation.McpTool;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Service;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.solusoft.ai.mcp.exception.Case360UnavailableException;
+import com.solusoft.ai.mcp.exception.ServerBusyException;
 import com.solusoft.ai.mcp.features.claims.model.Claim;
 import com.solusoft.ai.mcp.features.claims.model.CreateHealthClaimRequest;
 import com.solusoft.ai.mcp.features.claims.model.CreateMotorClaimRequest;
 import com.solusoft.ai.mcp.features.claims.model.StoreClaimRequest;
-import com.solusoft.ai.mcp.features.claims.repository.ClaimRepository;
+import com.solusoft.ai.mcp.features.claims.model.SubmitClaimRequest;
+import com.solusoft.ai.mcp.features.claims.model.UploadJob;
+import com.solusoft.ai.mcp.features.claims.service.CaseFieldPlan;
+import com.solusoft.ai.mcp.features.claims.service.ClaimFieldExtractor;
+import com.solusoft.ai.mcp.features.claims.service.ClaimIdGenerator;
+import com.solusoft.ai.mcp.features.claims.service.ClaimIdempotencyService;
+import com.solusoft.ai.mcp.features.claims.service.ClaimOutboxService;
+import com.solusoft.ai.mcp.features.claims.service.ClaimOutboxService.ClaimRecord;
+import com.solusoft.ai.mcp.features.claims.service.ClaimStatusService;
+import com.solusoft.ai.mcp.features.claims.service.ClaimSubmissionService;
+import com.solusoft.ai.mcp.features.claims.service.ClaimSubmissionService.SubmissionResult;
+import com.solusoft.ai.mcp.features.claims.service.ClaimStatusService.ClaimStatusResult;
+import com.solusoft.ai.mcp.features.claims.service.DocumentTextService;
+import com.solusoft.ai.mcp.features.claims.service.DocumentTextService.TextResult;
+import com.solusoft.ai.mcp.features.claims.service.DocumentUploadService;
+import com.solusoft.ai.mcp.features.claims.service.DocumentUploadService.UploadResult;
+import com.solusoft.ai.mcp.features.claims.service.UploadJobService;
+import com.solusoft.ai.mcp.integration.case360.AsyncCase360Client;
 import com.solusoft.ai.mcp.integration.case360.Case360Client;
+import com.solusoft.ai.mcp.integration.case360.CaseFolderPool;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -30,20 +49,47 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class ClaimsMcpTools {
 
+    private static final TypeReference<Map<String, Object>> DETAILS_TYPE = new TypeReference<>() {};
+
+    private static final CaseFieldPlan<CreateMotorClaimRequest> MOTOR_CASE_FIELDS =
+            CaseFieldPlan.of(CreateMotorClaimRequest.class);
+    private static final CaseFieldPlan<CreateHealthClaimRequest> HEALTH_CASE_FIELDS =
+            CaseFieldPlan.of(CreateHealthClaimRequest.class);
+
     private final Case360Client case360Client;
     private final ObjectMapper objectMapper;
-    private final ClaimRepository claimRepository;
-    
-    private final Tika tika = new Tika();
-    private static final Set<String> ALLOWED_MIME_TYPES = Set.of(
-        "application/pdf", 
-        "image/tiff"
-    );
+    private final AsyncCase360Client asyncCase360Client;
+    private final ClaimStatusService claimStatusService;
+    private final DocumentUploadService documentUploadService;
+    private final DocumentTextService documentTextService;
+    private final ClaimFieldExtractor claimFieldExtractor;
+    private final UploadJobService uploadJobService;
+    private final ClaimSubmissionService claimSubmissionService;
+    private final ClaimIdGenerator claimIdGenerator;
+    private final ClaimIdempotencyService claimIdempotencyService;
+    private final CaseFolderPool caseFolderPool;
+    private final ClaimOutboxService claimOutboxService;
     
-    public ClaimsMcpTools(ClaimRepository claimRepository, Case360Client case360Client, ObjectMapper objectMapper) {
+    public ClaimsMcpTools(Case360Client case360Client, ObjectMapper objectMapper,
+            AsyncCase360Client asyncCase360Client, ClaimStatusService claimStatusService,
+            DocumentUploadService documentUploadService, DocumentTextService documentTextService,
+            ClaimFieldExtractor claimFieldExtractor, UploadJobService uploadJobService,
+            ClaimSubmissionService claimSubmissionService, ClaimIdGenerator claimIdGenerator,
+            ClaimIdempotencyService claimIdempotencyService, CaseFolderPool caseFolderPool,
+            ClaimOutboxService claimOutboxService) {
         this.case360Client = case360Client;
         this.objectMapper = objectMapper;
-        this.claimRepository = claimRepository;
+        this.asyncCase360Client = asyncCase360Client;
+        this.claimStatusService = claimStatusService;
+        this.documentUploadService = documentUploadService;
+        this.documentTextService = documentTextService;
+        this.claimFieldExtractor = claimFieldExtractor;
+        this.uploadJobService = uploadJobService;
+        this.claimSubmissionService = claimSubmissionService;
+        this.claimIdGenerator = claimIdGenerator;
+        this.claimIdempotencyService = claimIdempotencyService;
+        this.caseFolderPool = caseFolderPool;
+        this.claimOutboxService = claimOutboxService;
     }
 
     
@@ -57,19 +103,8 @@ public class ClaimsMcpTools {
                 throw new IllegalArgumentException("Document text cannot be empty");
             }
 
-            Map<String, String> claimData = new HashMap<>();
-
-            for (String line : documentText.split("\n")) {
-                if (line.contains(":")) {
-                    String[] parts = line.split(":", 2);
-                    claimData.put(parts[0].trim().toLowerCase().replace(" ", "_"), parts[1].trim());
-                }
-            }
-            
-            String lowerText = documentText.toLowerCase();
-            
-            String claimType = (lowerText.contains("vehicle") || lowerText.contains("car")) ? "auto" : "healthcare";
-            claimData.put("claim_type", claimType);
+            // Single pass: labels resolved through the synonym dictionary, claim type by whole-word keywords
+            Map<String, String> claimData = claimFieldExtractor.extract(documentText);
             
             String result = toJson(claimData);
             log.debug("Return value (JSON): {}", result);
@@ -87,40 +122,11 @@ public class ClaimsMcpTools {
         log.info("[TOOL] Entering upload_document");
         
         try {
-            if (documentBase64 == null || documentBase64.isEmpty()) {
-                throw new IllegalArgumentException("Base64 string is empty.");
-            }
-
-            if (documentBase64.contains(",")) {
-                documentBase64 = documentBase64.substring(documentBase64.indexOf(",") + 1);
-            }
-
-            documentBase64 = documentBase64.replaceAll("\\s+", "");
-            
-            byte[] docBytes = Base64.getDecoder().decode(documentBase64);
-            log.debug("✓ Decoded {} KB of data.", docBytes.length / 1024);
-            
-            String detectedType = tika.detect(docBytes);
-            log.debug("Detected MIME type: {}", detectedType);
-            if (!ALLOWED_MIME_TYPES.contains(detectedType)) {
-                throw new SecurityException("Security Block: File type '" + detectedType + "' is not allowed.");
-            }
-            
-            String safeExtension = "";
-            if (documentName != null && documentName.contains(".")) {
-                safeExtension = documentName.substring(documentName.lastIndexOf("."));
-            }
-            String safeFileName = UUID.randomUUID().toString() + safeExtension;
-            
+            UploadResult upload = documentUploadService.upload(documentBase64, documentName);
 
-            BigDecimal templateId = case360Client.getFilestoreTemplateId("Claim Document");
-            String documentId = case360Client.createFileStore(templateId);
-            
-            case360Client.uploadDocument(new BigDecimal(documentId), docBytes, safeFileName);
-            
-            log.info("✓ Document uploaded successfully to Case360 with ID: {}", documentId);
             log.info("[TOOL] Exiting upload_document");
-            return toJson(Map.of("success", true, "document_id", documentId,"stored_name", safeFileName));
+            return toJson(Map.of("success", true, "document_id", upload.documentId(), "stored_name", upload.storedName(),
+                    "deduplicated", upload.deduplicated()));
             
         } catch (Exception e) {
             log.error("❌ Base64 Decoding/Upload Failed.", e);
@@ -130,40 +136,145 @@ public class ClaimsMcpTools {
     
 
     @McpTool(
-        name = "create_motor_claim", 
-        description = "Creates a Motor Insurance Claim. Requires vehicle and accident details."
+        name = "upload_staged_document",
+        description = "Uploads a document previously staged via POST /mcp/staging to Case360. Takes the staging_token returned by that endpoint; each token can be used once."
     )
     @PreAuthorize("hasRole('CLAIMS_PROCESSOR')")
-    public String createMotorClaim(CreateMotorClaimRequest request) { 
-        log.info("[TOOL] Entering create_motor_claim");
+    public String uploadStagedDocument(String stagingToken) {
+        log.info("[TOOL] Entering upload_staged_document");
+
         try {
-            String claimId = String.valueOf(System.currentTimeMillis());
-            claimId = "AUTO-"+claimId;
-            @SuppressWarnings("unchecked")
-            Map<String, Object> fieldsMap = objectMapper.convertValue(request, Map.class);
-            log.info("Converted Request to Map: {}", fieldsMap);
-
-            // 3. BACKEND: Use existing generic logic
-            BigDecimal templateId = case360Client.getCaseFolderTemplateId("Motor Claim");
-            String caseId = case360Client.createCase(templateId);
-            
-            Map<String, Object> updates = normalizeDataForBackend(fieldsMap);
-            
-            updates.put("CREATED_ON", Instant.now());
-            updates.put("CLAIM_ID", claimId);
-            updates.put("CLAIM_STATUS", "reported");
-            case360Client.updateCaseFields(caseId, updates);
+            if (stagingToken == null || stagingToken.isBlank()) {
+                throw new IllegalArgumentException("Staging token is required.");
+            }
+
+            UploadResult upload = documentUploadService.uploadStaged(stagingToken.trim());
+
+            log.info("[TOOL] Exiting upload_staged_document");
+            return toJson(Map.of("success", true, "document_id", upload.documentId(), "stored_name", upload.storedName(),
+                    "size_bytes", upload.sizeBytes(), "deduplicated", upload.deduplicated()));
+
+        } catch (Exception e) {
+            log.error("❌ upload_staged_document Failed.", e);
+            return handleError("upload_staged_document", e);
+        }
+    }
+
+    @McpTool(
+        name = "upload_document_async",
+        description = "Starts an upload to Case360 and returns a job_id immediately; use for large documents. Pass either documentBase64 with documentName, or the staging_token from POST /mcp/staging. Poll get_upload_status for the document ID."
+    )
+    @PreAuthorize("hasRole('CLAIMS_PROCESSOR')")
+    public String uploadDocumentAsync(String documentBase64, String documentName, String stagingToken) {
+        log.info("[TOOL] Entering upload_document_async");
+
+        try {
+            UploadJob job;
+            if (stagingToken != null && !stagingToken.isBlank()) {
+                job = uploadJobService.submitStaged(stagingToken.trim());
+            } else {
+                job = uploadJobService.submit(documentBase64, documentName);
+            }
+
+            log.info("[TOOL] Exiting upload_document_async");
+            return toJson(Map.of("success", true, "job_id", job.jobId(), "job_status", job.status(),
+                    "size_bytes", job.sizeBytes()));
+
+        } catch (Exception e) {
+            log.error("❌ upload_document_async Failed.", e);
+            return handleError("upload_document_async", e);
+        }
+    }
+
+    @McpTool(
+        name = "get_upload_status",
+        description = "Reports the state of an upload_document_async job: QUEUED, UPLOADING, COMPLETED (with document_id) or FAILED (with message)."
+    )
+    @PreAuthorize("hasAnyRole('CLAIMS_PROCESSOR', 'SUPPORT_VIEWER')")
+    public String getUploadStatus(String jobId) {
+        log.info("[TOOL] Entering get_upload_status");
+
+        try {
+            if (jobId == null || jobId.isBlank()) {
+                throw new IllegalArgumentException("Job ID is required.");
+            }
+            UploadJob job = uploadJobService.find(jobId.trim())
+                    .orElseThrow(() -> new IllegalArgumentException("Upload job not found: " + jobId));
 
-            // --- CHANGED: Construct structured JSON response ---
             Map<String, Object> response = new HashMap<>();
-            response.put("status", "success");
-            response.put("case_id", caseId);
-            response.put("claim_id", claimId);
-            response.put("claim_doc_id", request.claimDocId());
-            response.put("processed_at", Instant.now().toString());
+            response.put("success", true);
+            response.put("job_id", job.jobId());
+            response.put("job_status", job.status());
+            response.put("size_bytes", job.sizeBytes());
+            response.put("attempts", job.attempts());
+            response.put("created_at", String.valueOf(job.createdAt()));
+            response.put("updated_at", String.valueOf(job.updatedAt()));
+            if (UploadJob.COMPLETED.equals(job.status())) {
+                response.put("document_id", job.documentId());
+                response.put("stored_name", job.storedName());
+                response.put("deduplicated", Boolean.TRUE.equals(job.deduplicated()));
+            } else if (UploadJob.FAILED.equals(job.status())) {
+                response.put("message", job.errorMessage());
+            }
 
             String result = toJson(response);
             log.debug("Return value: {}", result);
+            log.info("[TOOL] Exiting get_upload_status");
+            return result;
+
+        } catch (Exception e) {
+            log.error("❌ get_upload_status Failed.", e);
+            return handleError("get_upload_status", e);
+        }
+    }
+
+    @McpTool(
+        name = "extract_document_text",
+        description = "Extracts the text of a PDF on the server. Pass either the staging_token from POST /mcp/staging (the token stays usable for upload_staged_document) or the document_id of a document already uploaded to Case360. Pass the text to extract_claim_info."
+    )
+    @PreAuthorize("hasAnyRole('CLAIMS_PROCESSOR', 'SUPPORT_VIEWER')")
+    public String extractDocumentText(String stagingToken, String documentId) {
+        log.info("[TOOL] Entering extract_document_text");
+
+        try {
+            TextResult result;
+            if (stagingToken != null && !stagingToken.isBlank()) {
+                result = documentTextService.extractStaged(stagingToken.trim());
+            } else if (documentId != null && !documentId.isBlank()) {
+                result = documentTextService.extractUploaded(documentId.trim());
+            } else {
+                throw new IllegalArgumentException("Either a staging token or a document ID is required.");
+            }
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", true);
+            response.put("text", result.text());
+            response.put("page_count", result.pageCount());
+            response.put("pages_extracted", result.pagesExtracted());
+            response.put("truncated", result.truncated());
+            response.put("cached", result.cached());
+            response.put("content_hash", result.contentHash());
+
+            log.info("[TOOL] Exiting extract_document_text");
+            return toJson(response);
+
+        } catch (Exception e) {
+            log.error("❌ extract_document_text Failed.", e);
+            return handleError("extract_document_text", e);
+        }
+    }
+
+    @McpTool(
+        name = "create_motor_claim", 
+        description = "Creates a Motor Insurance Claim. Requires vehicle and accident details. Pass the same idempotencyKey when retrying: the original case_id/claim_id is returned instead of creating another case."
+    )
+    @PreAuthorize("hasRole('CLAIMS_PROCESSOR')")
+    public String createMotorClaim(CreateMotorClaimRequest request, String idempotencyKey) { 
+        log.info("[TOOL] Entering create_motor_claim");
+        try {
+            String result = claimIdempotencyService.execute("create_motor_claim", idempotencyKey, request,
+                    () -> createMotorClaimOnce(request));
+            log.debug("Return value: {}", result);
             log.info("[TOOL] Exiting create_motor_claim");
             return result;
 
@@ -172,41 +283,53 @@ public class ClaimsMcpTools {
             return handleError("create_motor_claim", e);
         }
     }
+
+    private String createMotorClaimOnce(CreateMotorClaimRequest request) throws Exception {
+        String claimId = claimIdGenerator.nextClaimId("AUTO-");
+
+        // Template lookup runs while the request is being mapped
+        CompletableFuture<BigDecimal> templateIdFuture = asyncCase360Client.getCaseFolderTemplateId("Motor Claim");
+
+        Map<String, Object> updates = MOTOR_CASE_FIELDS.toCaseFields(request);
+        log.info("Mapped request to case fields: {}", updates.keySet());
+
+        // 3. BACKEND: Use existing generic logic
+        BigDecimal templateId = await(templateIdFuture);
+        String caseId = caseFolderPool.acquire("Motor Claim", templateId);
+        
+        updates.put("CREATED_ON", Instant.now());
+        updates.put("CLAIM_ID", claimId);
+        updates.put("CLAIM_STATUS", "reported");
+        try {
+            case360Client.updateNewCaseFields(caseId, templateId, updates);
+        } catch (RuntimeException e) {
+            caseFolderPool.discard(caseId);
+            throw e;
+        }
+        caseFolderPool.commit(caseId);
+        claimStatusService.recordStatus(claimId, "reported");
+
+        // --- CHANGED: Construct structured JSON response ---
+        Map<String, Object> response = new HashMap<>();
+        response.put("status", "success");
+        response.put("case_id", caseId);
+        response.put("claim_id", claimId);
+        response.put("claim_doc_id", request.claimDocId());
+        response.put("processed_at", Instant.now().toString());
+
+        return toJson(response);
+    }
     
     @McpTool(
         name = "create_healthcare_claim", 
-        description = "Creates a Healthcare/Medical Claim. Requires diagnosis and hospital details."
+        description = "Creates a Healthcare/Medical Claim. Requires diagnosis and hospital details. Pass the same idempotencyKey when retrying: the original case_id/claim_id is returned instead of creating another case."
     )
     @PreAuthorize("hasRole('CLAIMS_PROCESSOR')")
-    public String createHealthClaim(CreateHealthClaimRequest request) { 
+    public String createHealthClaim(CreateHealthClaimRequest request, String idempotencyKey) { 
         log.info("[TOOL] Entering create_healthcare_claim");
         try {
-            String claimId = String.valueOf(System.currentTimeMillis());
-            claimId = "HC-"+claimId;
-            @SuppressWarnings("unchecked")
-            Map<String, Object> fieldsMap = objectMapper.convertValue(request, Map.class);
-            log.info("Converted Request to Map: {}", fieldsMap);
-
-            // 3. BACKEND: Use existing generic logic
-            BigDecimal templateId = case360Client.getCaseFolderTemplateId("Healthcare Claim");
-            String caseId = case360Client.createCase(templateId);
-            
-            Map<String, Object> updates = normalizeDataForBackend(fieldsMap);
-            
-            updates.put("CREATED_ON", Instant.now());
-            updates.put("CLAIM_ID", claimId);
-            updates.put("CLAIM_STATUS", "reported");
-            case360Client.updateCaseFields(caseId, updates);
-
-            // --- CHANGED: Construct structured JSON response ---
-            Map<String, Object> response = new HashMap<>();
-            response.put("status", "success");
-            response.put("case_id", caseId);
-            response.put("claim_id", claimId);
-            response.put("claim_doc_id", request.claimDocId());
-            response.put("processed_at", Instant.now().toString());
-
-            String result = toJson(response);
+            String result = claimIdempotencyService.execute("create_healthcare_claim", idempotencyKey, request,
+                    () -> createHealthClaimOnce(request));
             log.debug("Return value: {}", result);
             log.info("[TOOL] Exiting create_healthcare_claim");
             return result;
@@ -216,70 +339,104 @@ public class ClaimsMcpTools {
             return handleError("create_healthcare_claim", e);
         }
     }
+
+    private String createHealthClaimOnce(CreateHealthClaimRequest request) throws Exception {
+        String claimId = claimIdGenerator.nextClaimId("HC-");
+
+        // Template lookup runs while the request is being mapped
+        CompletableFuture<BigDecimal> templateIdFuture = asyncCase360Client.getCaseFolderTemplateId("Healthcare Claim");
+
+        Map<String, Object> updates = HEALTH_CASE_FIELDS.toCaseFields(request);
+        log.info("Mapped request to case fields: {}", updates.keySet());
+
+        // 3. BACKEND: Use existing generic logic
+        BigDecimal templateId = await(templateIdFuture);
+        String caseId = caseFolderPool.acquire("Healthcare Claim", templateId);
+        
+        updates.put("CREATED_ON", Instant.now());
+        updates.put("CLAIM_ID", claimId);
+        updates.put("CLAIM_STATUS", "reported");
+        try {
+            case360Client.updateNewCaseFields(caseId, templateId, updates);
+        } catch (RuntimeException e) {
+            caseFolderPool.discard(caseId);
+            throw e;
+        }
+        caseFolderPool.commit(caseId);
+        claimStatusService.recordStatus(claimId, "reported");
+
+        // --- CHANGED: Construct structured JSON response ---
+        Map<String, Object> response = new HashMap<>();
+        response.put("status", "success");
+        response.put("case_id", caseId);
+        response.put("claim_id", claimId);
+        response.put("claim_doc_id", request.claimDocId());
+        response.put("processed_at", Instant.now().toString());
+
+        return toJson(response);
+    }
     
+    @McpTool(
+        name = "submit_claim",
+        description = "PREFERRED for new claims: extracts the fields, uploads the supporting document, creates the Case360 case and stores the claim record in one call. Pass the document text, plus the document as documentBase64 or stagingToken (with only a staging token, the text is extracted from the PDF). Pass the same idempotencyKey when retrying."
+    )
+    @PreAuthorize("hasRole('CLAIMS_PROCESSOR')")
+    public String submitClaim(SubmitClaimRequest request, String idempotencyKey) {
+        log.info("[TOOL] Entering submit_claim");
+        try {
+            String result = claimIdempotencyService.execute("submit_claim", idempotencyKey, request,
+                    () -> submitClaimOnce(request));
+            log.debug("Return value: {}", result);
+            log.info("[TOOL] Exiting submit_claim");
+            return result;
+
+        } catch (Exception e) {
+            log.error("❌ submit_claim Failed.", e);
+            return handleError("submit_claim", e);
+        }
+    }
+
+    private String submitClaimOnce(SubmitClaimRequest request) throws Exception {
+        SubmissionResult submission = claimSubmissionService.submit(request);
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("status", "success");
+        response.put("claim_id", submission.claimId());
+        response.put("case_id", submission.caseId());
+        response.put("claim_type", submission.claimType());
+        response.put("document_id", submission.documentId());
+        response.put("document_deduplicated", submission.documentDeduplicated());
+        response.put("extracted_fields", submission.extractedFields());
+        response.put("warnings", submission.warnings());
+        response.put("processed_at", Instant.now().toString());
+
+        return toJson(response);
+    }
+
     @McpTool(name="store_claim_record",
     		description = "PRIMARY ACTION: Persist a finalized insurance claim to the database. " +
                     "Call this whenever a user asks to save, process, or store a claim document. " +
                     "Automatically extracts relevant business data (like diagnosis, vehicle info, dates) " +
-                    "from the context and puts it into the dynamic 'claimDetails' field.")
+                    "from the context and puts it into the dynamic 'claimDetails' field. " +
+                    "The Case360 case is created or updated in the background (case_sync: queued).")
     @PreAuthorize("hasRole('CLAIMS_PROCESSOR')")
     public String storeClaimRecord(StoreClaimRequest request) {
         log.info("[TOOL] Entering store_claim_record");
         try {
+            ClaimRecord record = toClaimRecord(request);
 
-        	Map<String, Object> claimDetails ;
-        	try {
-                // Manually parse the JSON string the AI sent
-                if (request.additionalClaimsFields() != null && !request.additionalClaimsFields().isBlank()) {
-                	Map<String, Object> rawMap = new ObjectMapper().readValue(request.additionalClaimsFields(), Map.class);
-                    
-                    rawMap.keySet().removeIf(key -> 
-                        key.toLowerCase().contains("admin") || 
-                        key.toLowerCase().contains("role") ||
-                        key.toLowerCase().contains("permission")
-                    );
-                    
-                    claimDetails = rawMap;
-                } else {
-                	claimDetails = new HashMap<>();
-                }
-            } catch (JsonProcessingException e) {
-                log.warn("AI sent bad JSON: " + request.additionalClaimsFields());
-                claimDetails = new HashMap<>();
-            }
-
-            String jsonBlob = toJson(claimDetails); // Helper method to convert Map -> JSON String
-    
-            Optional<Claim> existing = claimRepository.findByClaimId(request.claimId());
-    
-            // 3. Determine the DB Primary Key (ID)
-            Integer dbId = existing.map(Claim::id).orElse(null);
-    
-            // 4. Create the Entity (Record)
-            Claim claimEntity = new Claim(
-                dbId, 
-                request.claimId(),
-                request.claimDocId(),
-                request.policyNumber(),
-                request.claimantName(),
-                request.claimType(),
-                request.claimAmount(),
-                request.caseId(),
-                "submitted",
-                Instant.now(),
-                Instant.now(),
-                jsonBlob
-            );
-    
-            // 5. Save (Spring handles the SQL for you)
-            claimRepository.save(claimEntity);
+            // Upsert, queueing the Case360 update in the same transaction. "submitted" is not a
+            // Case360 CLAIM_STATUS, so the cached status is only dropped
+            claimStatusService.invalidate(request.claimId());
+            boolean created = claimOutboxService.store(record.claim(), record.incidentDate(), record.details());
 
             // --- CHANGED: Added "processed_at" timestamp to response ---
             Map<String, Object> response = new HashMap<>();
             response.put("success", true);
             response.put("status", "success");
             response.put("claim_id", request.claimId());
-            response.put("action", (dbId == null ? "created" : "updated"));
+            response.put("action", (created ? "created" : "updated"));
+            response.put("case_sync", "queued");
 
             String result = toJson(response);
             log.info("[TOOL] Exiting store_claim_record");
@@ -288,22 +445,103 @@ public class ClaimsMcpTools {
 
         } catch (Exception e) {
             log.error("❌ store_claim_record Failed.", e);
-            e.printStackTrace();
             return handleError("store_claim_record", e);
         }
     }
+
+    @McpTool(name = "store_claim_records",
+            description = "Bulk variant of store_claim_record for backfills: persists many finalized claims in one " +
+                    "transaction (all or none). Each element takes the same fields as store_claim_record. " +
+                    "Case360 cases are created or updated in the background (case_sync: queued).")
+    @PreAuthorize("hasRole('CLAIMS_PROCESSOR')")
+    public String storeClaimRecords(List<StoreClaimRequest> requests) {
+        log.info("[TOOL] Entering store_claim_records");
+        try {
+            if (requests == null || requests.isEmpty()) {
+                throw new IllegalArgumentException("requests must contain at least one claim");
+            }
+            List<ClaimRecord> records = new ArrayList<>(requests.size());
+            for (StoreClaimRequest request : requests) {
+                records.add(toClaimRecord(request));
+            }
+
+            records.forEach(record -> claimStatusService.invalidate(record.claim().claimId()));
+            int stored = claimOutboxService.storeAll(records);
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", true);
+            response.put("status", "success");
+            response.put("stored", stored);
+            response.put("claim_ids", records.stream().map(record -> record.claim().claimId()).toList());
+            response.put("case_sync", "queued");
+
+            String result = toJson(response);
+            log.info("[TOOL] Exiting store_claim_records");
+            log.debug("Return value: {}", result);
+            return result;
+
+        } catch (Exception e) {
+            log.error("❌ store_claim_records Failed.", e);
+            return handleError("store_claim_records", e);
+        }
+    }
+
+    private ClaimRecord toClaimRecord(StoreClaimRequest request) {
+        if (request == null || request.claimId() == null || request.claimId().isBlank()) {
+            throw new IllegalArgumentException("claimId is required");
+        }
+
+        Map<String, Object> claimDetails;
+        try {
+            // Parse the JSON string the AI sent
+            if (request.additionalClaimsFields() != null && !request.additionalClaimsFields().isBlank()) {
+                claimDetails = objectMapper.readValue(request.additionalClaimsFields(), DETAILS_TYPE);
+                claimDetails.keySet().removeIf(key -> 
+                    key.toLowerCase().contains("admin") || 
+                    key.toLowerCase().contains("role") ||
+                    key.toLowerCase().contains("permission")
+                );
+            } else {
+                claimDetails = new HashMap<>();
+            }
+        } catch (JsonProcessingException e) {
+            log.warn("AI sent bad JSON: " + request.additionalClaimsFields());
+            claimDetails = new HashMap<>();
+        }
+
+        Claim claim = new Claim(
+            null,
+            request.claimId(),
+            request.claimDocId(),
+            request.policyNumber(),
+            request.claimantName(),
+            request.claimType(),
+            request.claimAmount(),
+            // Null keeps the case the claim was synchronised to
+            request.caseId(),
+            "submitted",
+            Instant.now(),
+            Instant.now(),
+            toJson(claimDetails),
+            // Case360 CLAIM_STATUS is recorded by the outbox when it writes one; the upsert keeps it
+            null,
+            null
+        );
+        return new ClaimRecord(claim, request.incidentDate(), claimDetails);
+    }
     
     @McpTool(name = "get_claim_status", description = "Retrieves the current status of a claim by its ID")
     @PreAuthorize("hasAnyRole('CLAIMS_PROCESSOR', 'SUPPORT_VIEWER')") 
     public String getClaimStatus(String claimId) {
     	log.info("[TOOL] Entering get_claim_status");
         try {
-            String claimStatus = case360Client.getClaimStatus(claimId);
+            ClaimStatusResult claimStatus = claimStatusService.getStatus(claimId);
 
             Map<String, Object> response = new HashMap<>();
             response.put("status", "success");
             response.put("claim_id", claimId);
-            response.put("claim_status", claimStatus==null ? "unknown" : claimStatus);
+            response.put("claim_status", claimStatus.status());
+            response.put("source", claimStatus.source());
 
             String result = toJson(response);
             log.debug("Return value: {}", result);
@@ -316,47 +554,65 @@ public class ClaimsMcpTools {
         }
     }
 
+
+    @McpTool(name = "get_claim_statuses",
+            description = "Retrieves the current status of several claims in one call. "
+                    + "Returns one entry per claim ID; a failed lookup is reported on its own entry.")
+    @PreAuthorize("hasAnyRole('CLAIMS_PROCESSOR', 'SUPPORT_VIEWER')")
+    public String getClaimStatuses(List<String> claimIds) {
+        log.info("[TOOL] Entering get_claim_statuses");
+        try {
+            List<ClaimStatusResult> statuses = claimStatusService.getStatuses(claimIds,
+                    r -> log.debug("Claim {} -> {}", r.claimId(), r.success() ? r.status() : "error: " + r.error()));
+
+            List<Map<String, Object>> results = statuses.stream().map(r -> {
+                Map<String, Object> entry = new HashMap<>();
+                entry.put("claim_id", r.claimId());
+                entry.put("success", r.success());
+                if (r.success()) {
+                    entry.put("claim_status", r.status());
+                    entry.put("source", r.source());
+                } else {
+                    entry.put("message", r.error());
+                }
+                return entry;
+            }).toList();
+
+            long failed = statuses.stream().filter(r -> !r.success()).count();
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("status", failed == 0 ? "success" : "partial_success");
+            response.put("total", statuses.size());
+            response.put("failed", failed);
+            response.put("results", results);
+
+            String result = toJson(response);
+            log.debug("Return value: {}", result);
+            log.info("[TOOL] Exiting get_claim_statuses");
+            return result;
+
+        } catch (Exception e) {
+            log.error("❌ get_claim_statuses Failed.", e);
+            return handleError("get_claim_statuses", e);
+        }
+    }
     
     // -------------------------------------------------------------------------
     //  HELPER METHODS 
     // -------------------------------------------------------------------------
 
-    private Map<String, Object> normalizeDataForBackend(Map<String, Object> input) {
-        log.info("Normalizing data for backend. Input keys: {}", input != null ? input.keySet() : "null");
-        if (input == null) {
-            log.warn("normalizeDataForBackend received null input. Returning empty map.");
-            return new HashMap<>();
-        }
-        
-        Map<String, Object> output = new HashMap<>();
-        
-        for (Map.Entry<String, Object> entry : input.entrySet()) {
-            String rawKey = entry.getKey();
-            Object value = entry.getValue();
-
-            String cleanKey = toSnakeCaseUpper(rawKey);
-            
-            if (cleanKey.contains("DATE") && value instanceof String) {
-                try {
-                    output.put(cleanKey, LocalDate.parse((String) value));
-                } catch (Exception e) {
-                    output.put(cleanKey, value); 
-                }
-            } else {
-                output.put(cleanKey, value);
+    /**
+     * Joins a future, rethrowing the original failure so handleError can classify it.
+     */
+    private static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
             }
+            throw e;
         }
-        return output;
-    }
-
-    private String toSnakeCaseUpper(String str) {
-        String regex = "([a-z])([A-Z]+)";
-        String replacement = "$1_$2";
-        
-        return str.replaceAll(regex, replacement)
-                  .replace(" ", "_")
-                  .replace("-", "_")
-                  .toUpperCase();
     }
 
     private String toJson(Object data) {
@@ -375,7 +631,17 @@ public class ClaimsMcpTools {
         errorResponse.put("success", false);
         errorResponse.put("status", "error");
         
-        if (e instanceof IllegalArgumentException || e instanceof SecurityException) {
+        if (e instanceof Case360UnavailableException unavailable) {
+            errorResponse.put("category", "RETRYABLE");
+            errorResponse.put("message", "Case360 is temporarily unavailable.");
+            errorResponse.put("retry_after_seconds", Math.max(unavailable.getRetryAfter().toSeconds(), 1));
+            errorResponse.put("suggestion", "Retry after the indicated delay.");
+        } else if (e instanceof ServerBusyException busy) {
+            errorResponse.put("category", "RETRYABLE");
+            errorResponse.put("message", e.getMessage());
+            errorResponse.put("retry_after_seconds", Math.max(busy.getRetryAfter().toSeconds(), 1));
+            errorResponse.put("suggestion", "Retry after the indicated delay.");
+        } else if (e instanceof IllegalArgumentException || e instanceof SecurityException) {
             errorResponse.put("category", "USER_ERROR");
             errorResponse.put("message", e.getMessage());
             errorResponse.put("suggestion", "Review the input arguments and try again.");
@@ -0,0 +1,85 @@
+package com.solusoft.ai.mcp.integration.case360;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+
+import org.springframework.stereotype.Service;
+
+import com.solusoft.ai.mcp.config.ContextPropagatingExecutor;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Non-blocking facade over {@link Case360Client}.
+ *
+ * Every call runs on its own virtual thread (MDC + SecurityContext propagated)
+ * and returns a CompletableFuture, so tools can overlap independent Case360 steps with local work.
+ * Failures surface as the same {@link com.solusoft.ai.mcp.exception.Case360IntegrationException}s,
+ * wrapped in a CompletionException.
+ */
+@Service
+public class AsyncCase360Client {
+
+    private final Case360Client case360Client;
+    private final Case360TemplateRegistry templateRegistry;
+    private final ContextPropagatingExecutor executor;
+
+    public AsyncCase360Client(Case360Client case360Client, Case360TemplateRegistry templateRegistry) {
+        this.case360Client = case360Client;
+        this.templateRegistry = templateRegistry;
+        // One virtual thread per call: a call parked for the 30s read timeout costs no platform thread
+        this.executor = new ContextPropagatingExecutor(
+                Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("case360-", 0).factory()));
+    }
+
+    /**
+     * The context-propagating virtual-thread executor, for callers composing their own stages.
+     */
+    public Executor executor() {
+        return executor;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.close();
+    }
+
+    public CompletableFuture<Boolean> ping() {
+        return CompletableFuture.supplyAsync(case360Client::ping, executor);
+    }
+
+    public CompletableFuture<String> getClaimStatus(String claimId) {
+        return CompletableFuture.supplyAsync(() -> case360Client.getClaimStatus(claimId), executor);
+    }
+
+    public CompletableFuture<BigDecimal> getCaseFolderTemplateId(String templateName) {
+        return CompletableFuture.supplyAsync(() -> templateRegistry.getCaseFolderTemplateId(templateName), executor);
+    }
+
+    public CompletableFuture<BigDecimal> getFilestoreTemplateId(String templateName) {
+        return CompletableFuture.supplyAsync(() -> templateRegistry.getFilestoreTemplateId(templateName), executor);
+    }
+
+    public CompletableFuture<String> createCase(BigDecimal templateId) {
+        return CompletableFuture.supplyAsync(() -> case360Client.createCase(templateId), executor);
+    }
+
+    public CompletableFuture<Void> updateCaseFields(String caseId, BigDecimal templateId, Map<String, Object> updates) {
+        return CompletableFuture.runAsync(() -> case360Client.updateCaseFields(caseId, templateId, updates), executor);
+    }
+
+    public CompletableFuture<Void> updateNewCaseFields(String caseId, BigDecimal templateId, Map<String, Object> updates) {
+        return CompletableFuture.runAsync(() -> case360Client.updateNewCaseFields(caseId, templateId, updates), executor);
+    }
+
+    public CompletableFuture<String> createFileStore(BigDecimal templateId) {
+        return CompletableFuture.supplyAsync(() -> case360Client.createFileStore(templateId), executor);
+    }
+
+    public CompletableFuture<Void> uploadDocument(BigDecimal docId, byte[] content, String fileName) {
+        return CompletableFuture.runAsync(() -> case360Client.uploadDocument(docId, content, fileName), executor);
+    }
+}
@@ -1,12 +1,20 @@
 package com.solusoft.ai.mcp.integration.case360;
 
+import java.io.InputStream;
 import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.LocalDate;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.GregorianCalendar;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
 
 import javax.xml.datatype.DatatypeConfigurationException;
 import javax.xml.datatype.DatatypeFactory;
@@ -16,8 +24,16 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 import org.springframework.ws.client.core.WebServiceTemplate;
-
+import org.springframework.ws.soap.client.SoapFaultClientException;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.solusoft.ai.mcp.exception.Case360IntegrationException;
+import com.solusoft.ai.mcp.integration.case360.soap.CaseFolderTO;
 import com.solusoft.ai.mcp.integration.case360.soap.CreateCaseFolder;
 import com.solusoft.ai.mcp.integration.case360.soap.CreateCaseFolderResponse;
 import com.solusoft.ai.mcp.integration.case360.soap.CreateFileStore;
@@ -26,14 +42,35 @@ import com.solusoft.ai.mcp.integration.case360.soap.DoQueryByScriptName;
 import com.solusoft.ai.mcp.integration.case360.soap.DoQueryByScriptNameResponse;
 import com.solusoft.ai.mcp.integration.case360.soap.FieldPropertiesTO;
 import com.solusoft.ai.mcp.integration.case360.soap.FieldPropertiesTOArray;
+import com.solusoft.ai.mcp.integration.case360.soap.FileStoreTO;
 import com.solusoft.ai.mcp.integration.case360.soap.FmsFieldTO;
 import com.solusoft.ai.mcp.integration.case360.soap.FmsRowTO;
 import com.solusoft.ai.mcp.integration.case360.soap.GetCaseFolderFields;
 import com.solusoft.ai.mcp.integration.case360.soap.GetCaseFolderFieldsResponse;
+import com.solusoft.ai.mcp.integration.case360.soap.GetCaseFolderTemplates;
+import com.solusoft.ai.mcp.integration.case360.soap.GetCaseFolderTemplatesResponse;
+import com.solusoft.ai.mcp.integration.case360.soap.GetFileStore;
+import com.solusoft.ai.mcp.integration.case360.soap.GetFileStoreResponse;
+import com.solusoft.ai.mcp.integration.case360.soap.GetFileStoreTemplates;
+import com.solusoft.ai.mcp.integration.case360.soap.GetFileStoreTemplatesResponse;
+import com.solusoft.ai.mcp.integration.case360.soap.GetPartialFile;
+import com.solusoft.ai.mcp.integration.case360.soap.GetPartialFileRendition;
+import com.solusoft.ai.mcp.integration.case360.soap.GetPartialFileRenditionResponse;
+import com.solusoft.ai.mcp.integration.case360.soap.GetPartialFileResponse;
 import com.solusoft.ai.mcp.integration.case360.soap.ObjectFactory;
 import com.solusoft.ai.mcp.integration.case360.soap.PutFile;
+import com.solusoft.ai.mcp.integration.case360.soap.RemoveCaseFolder;
 import com.solusoft.ai.mcp.integration.case360.soap.SetCaseFolderFields;
-
+import com.solusoft.ai.mcp.integration.case360.mtom.InputStreamDataSource;
+import com.solusoft.ai.mcp.integration.case360.mtom.MtomPutFile;
+import com.solusoft.ai.mcp.integration.case360.resilience.Case360Operation;
+import com.solusoft.ai.mcp.integration.case360.resilience.Case360OperationType;
+import com.solusoft.ai.mcp.integration.case360.resilience.HedgedRead;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.activation.DataHandler;
+import jakarta.activation.FileDataSource;
 import jakarta.xml.bind.JAXBElement;
 import lombok.extern.slf4j.Slf4j;
 
@@ -45,14 +82,36 @@ public class Case360Client {
 	@Qualifier("case360WebServiceTemplate")
     private final WebServiceTemplate webServiceTemplate;
     private final ObjectFactory objectFactory = new ObjectFactory();
+    private final WebServiceTemplate mtomWebServiceTemplate;
+    private final CaseFolderSchemaCache schemaCache;
+    private final MeterRegistry meterRegistry;
     
-    // Injected ObjectMapper to handle dynamic field serialization
     public Case360Client(WebServiceTemplate webServiceTemplate) {
+        this(webServiceTemplate, webServiceTemplate, new CaseFolderSchemaCache(60), new SimpleMeterRegistry());
+    }
+
+    @Autowired
+    public Case360Client(@Qualifier("case360WebServiceTemplate") WebServiceTemplate webServiceTemplate,
+            @Qualifier("case360MtomWebServiceTemplate") WebServiceTemplate mtomWebServiceTemplate,
+            CaseFolderSchemaCache schemaCache, MeterRegistry meterRegistry) {
         this.webServiceTemplate = webServiceTemplate;
+        this.mtomWebServiceTemplate = mtomWebServiceTemplate;
+        this.schemaCache = schemaCache;
+        this.meterRegistry = meterRegistry;
     }
 
     private static final DatatypeFactory DATATYPE_FACTORY;
 
+    // Catch-all field for update keys the case folder template does not define
+    private static final String ADDITIONAL_DATA = "ADDITIONAL_DATA";
+
+    private static final ObjectMapper ADDITIONAL_DATA_MAPPER = JsonMapper.builder()
+            .addModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    private static final TypeReference<TreeMap<String, Object>> ADDITIONAL_DATA_TYPE = new TypeReference<>() {};
+
     static {
         try {
             DATATYPE_FACTORY = DatatypeFactory.newInstance();
@@ -62,6 +121,10 @@ public class Case360Client {
     }
     
     
+    // Deliberately not a @Case360Operation: ping swallows failures and returns false, so run
+    // through the circuit breaker an unreachable Case360 would count as a success (and health
+    // probes could close a half-open circuit).
+    @HedgedRead
     public boolean ping() {
         log.info("Entering ping");
 
@@ -97,6 +160,8 @@ public class Case360Client {
     }
     
     
+    @HedgedRead
+    @Case360Operation(Case360OperationType.QUERY)
     public String getClaimStatus(String claimId) {
         log.info("Entering getClaimStatus");
         log.debug("Input claimId: {} ", claimId);
@@ -107,11 +172,7 @@ public class Case360Client {
 				throw new Case360IntegrationException("Error in getClaimStatus: claimId is null or empty");
 			}
         	
-        	String queryScript = "getHCClaimByClaimId";
-        	
-        	if(claimId.toUpperCase().startsWith("AUTO")) {
-				queryScript = "getMotorClaimByClaimId";
-        	} 
+        	String queryScript = statusQueryScript(claimId);
         	
             var request = new DoQueryByScriptName(); // Java 10+ 'var'
             request.setQueryScriptName(queryScript);
@@ -152,6 +213,73 @@ public class Case360Client {
         }
     }
     
+    /**
+     * Query script that resolves a claim's status, chosen by claim ID prefix.
+     */
+    public static String statusQueryScript(String claimId) {
+        return claimId.toUpperCase().startsWith("AUTO") ? "getMotorClaimByClaimId" : "getHCClaimByClaimId";
+    }
+
+    /**
+     * Multi-parameter status query: sends one CLAIM_ID property per claim to a script that
+     * accepts repeated parameters and maps every returned row's CLAIM_ID to its CLAIM_STATUS.
+     * Claims without a row are absent from the result.
+     */
+    @Case360Operation(Case360OperationType.QUERY)
+    public Map<String, String> getClaimStatuses(String queryScript, List<String> claimIds) {
+        log.info("Entering getClaimStatuses");
+        log.debug("Input queryScript: {}, claimIds: {}", queryScript, claimIds);
+
+        try {
+            var request = new DoQueryByScriptName();
+            request.setQueryScriptName(queryScript);
+
+            var paramWrapper = new FieldPropertiesTOArray();
+            for (String claimId : claimIds) {
+                var param = new FieldPropertiesTO();
+                param.setPropertyName("CLAIM_ID");
+                param.setStringValue(claimId);
+                param.setDataType(4);
+                paramWrapper.getFieldPropertiesTO().add(param);
+            }
+            request.setQueryProperties(paramWrapper);
+
+            JAXBElement<DoQueryByScriptName> requestElement = 
+                    objectFactory.createDoQueryByScriptName(request);
+
+            @SuppressWarnings("unchecked")
+            JAXBElement<DoQueryByScriptNameResponse> responseElement = 
+                (JAXBElement<DoQueryByScriptNameResponse>) webServiceTemplate.marshalSendAndReceive(requestElement);
+
+            Map<String, String> result = new LinkedHashMap<>();
+            var rowSets = responseElement.getValue().getReturn();
+            if (rowSets != null) {
+                for (var rowSet : rowSets.getFmsRowSetTO()) {
+                    for (FmsRowTO row : rowSet.getFmsRowTO()) {
+                        String rowClaimId = null;
+                        String rowStatus = null;
+                        for (FmsFieldTO field : row.getFieldList()) {
+                            if ("CLAIM_ID".equals(field.getFieldName())) rowClaimId = field.getStringValue();
+                            if ("CLAIM_STATUS".equals(field.getFieldName())) rowStatus = field.getStringValue();
+                        }
+                        if (rowClaimId != null) {
+                            result.put(rowClaimId, rowStatus);
+                        }
+                    }
+                }
+            }
+
+            log.debug("Return value (Statuses): {}", result);
+            return result;
+
+        } catch (Exception e) {
+            log.error("Error in getClaimStatuses for script: {}", queryScript, e);
+            throw new Case360IntegrationException("Case360 Operation getClaimStatuses Failed for script: " + queryScript, e);
+        }
+    }
+
+    @HedgedRead
+    @Case360Operation(Case360OperationType.QUERY)
     public BigDecimal getCaseFolderTemplateId(String templateName) {
         log.info("Entering getCaseFolderTemplateId");
         log.debug("Input templateName: {}", templateName);
@@ -191,6 +319,8 @@ public class Case360Client {
         }
     }
     
+    @HedgedRead
+    @Case360Operation(Case360OperationType.QUERY)
     public BigDecimal getFilestoreTemplateId(String templateName) {
         log.info("Entering getFilestoreTemplateId");
         log.debug("Input templateName: {}", templateName);
@@ -230,6 +360,83 @@ public class Case360Client {
         }
     }
 
+    /**
+     * Bulk-loads every case folder template in one call.
+     * Returns template name -> template ID. Used by {@link Case360TemplateRegistry} to warm its cache.
+     */
+    @Case360Operation(Case360OperationType.QUERY)
+    public Map<String, BigDecimal> getCaseFolderTemplates() {
+        log.info("Entering getCaseFolderTemplates");
+
+        try {
+            JAXBElement<GetCaseFolderTemplates> requestElement = 
+                    objectFactory.createGetCaseFolderTemplates(new GetCaseFolderTemplates());
+
+            @SuppressWarnings("unchecked")
+            JAXBElement<GetCaseFolderTemplatesResponse> responseElement = 
+                (JAXBElement<GetCaseFolderTemplatesResponse>) webServiceTemplate.marshalSendAndReceive(requestElement);
+
+            Map<String, BigDecimal> result = new LinkedHashMap<>();
+            var templates = responseElement.getValue().getReturn();
+            if (templates != null) {
+                for (CaseFolderTO template : templates.getCaseFolderTO()) {
+                    if (template == null) continue;
+                    String name = template.getTemplateName() != null ? template.getTemplateName() : template.getDisplayName();
+                    BigDecimal id = valueOf(template.getTemplateID());
+                    if (name != null && id != null) {
+                        result.put(name, id);
+                    }
+                }
+            }
+
+            log.debug("Return value (Case Folder Templates): {}", result);
+            return result;
+
+        } catch (Exception e) {
+            log.error("Error in getCaseFolderTemplates", e);
+            throw new Case360IntegrationException("Case360 getCaseFolderTemplates Failed", e);
+        }
+    }
+
+    /**
+     * Bulk-loads every filestore template in one call.
+     * Returns template name -> template ID.
+     */
+    @Case360Operation(Case360OperationType.QUERY)
+    public Map<String, BigDecimal> getFileStoreTemplates() {
+        log.info("Entering getFileStoreTemplates");
+
+        try {
+            JAXBElement<GetFileStoreTemplates> requestElement = 
+                    objectFactory.createGetFileStoreTemplates(new GetFileStoreTemplates());
+
+            @SuppressWarnings("unchecked")
+            JAXBElement<GetFileStoreTemplatesResponse> responseElement = 
+                (JAXBElement<GetFileStoreTemplatesResponse>) webServiceTemplate.marshalSendAndReceive(requestElement);
+
+            Map<String, BigDecimal> result = new LinkedHashMap<>();
+            var templates = responseElement.getValue().getReturn();
+            if (templates != null) {
+                for (FileStoreTO template : templates.getFileStoreTO()) {
+                    if (template == null) continue;
+                    String name = template.getTemplateName() != null ? template.getTemplateName() : template.getTitle();
+                    BigDecimal id = valueOf(template.getTemplateId());
+                    if (name != null && id != null) {
+                        result.put(name, id);
+                    }
+                }
+            }
+
+            log.debug("Return value (FileStore Templates): {}", result);
+            return result;
+
+        } catch (Exception e) {
+            log.error("Error in getFileStoreTemplates", e);
+            throw new Case360IntegrationException("Case360 getFileStoreTemplates Failed", e);
+        }
+    }
+
+    @Case360Operation(Case360OperationType.CREATE)
     public String createCase(BigDecimal templateId) {
         log.info("Entering createCase");
         log.debug("Input templateId: {}", templateId);
@@ -257,18 +464,83 @@ public class Case360Client {
         }
     }
 
+    /**
+     * Deletes a case folder. Used to reclaim unused folders from {@link CaseFolderPool}.
+     */
+    @Case360Operation(Case360OperationType.CREATE)
+    public void removeCaseFolder(String strCaseId) {
+        log.info("Entering removeCaseFolder");
+        log.debug("Input caseId: {}", strCaseId);
+
+        try {
+            var request = new RemoveCaseFolder();
+            request.setCaseFolderId(new BigDecimal(strCaseId));
+
+            JAXBElement<RemoveCaseFolder> requestElement =
+                    objectFactory.createRemoveCaseFolder(request);
+
+            webServiceTemplate.marshalSendAndReceive(requestElement);
+
+        } catch (Exception e) {
+            log.error("Error in removeCaseFolder for caseId: {}", strCaseId, e);
+            throw new Case360IntegrationException("Case folder removal failed for Case ID : " + strCaseId, e);
+        }
+    }
+
     /**
      * Updates fields in Case360. 
      * Handles Dynamic Fields: Any key in 'updates' that does NOT exist in the case definition
      * will be bundled into a JSON string and saved to 'ADDITIONAL_DATA'.
      */
+    @Case360Operation(Case360OperationType.CREATE)
     public void updateCaseFields(String strCaseId, Map<String, Object> updates) {
+        updateCaseFields(strCaseId, null, updates);
+    }
+
+    /**
+     * Schema-cached variant: when the field definitions for {@code templateId} are cached, the
+     * update row is built locally and sent in a single SetCaseFolderFields call. Falls back to
+     * GetCaseFolderFields + SetCaseFolderFields when the schema is unknown/stale or the server rejects the row with a fault,
+     * and when keys must be merged into ADDITIONAL_DATA, whose current value only the read returns
+     * (unless the folder is new, see {@link #updateNewCaseFields}).
+     *
+     * Either way only the fields being changed are sent (see {@link #buildDelta}).
+     */
+    @Case360Operation(Case360OperationType.CREATE)
+    public void updateCaseFields(String strCaseId, BigDecimal templateId, Map<String, Object> updates) {
+        updateCaseFields(strCaseId, templateId, updates, false);
+    }
+
+    /**
+     * First update of a case folder just created from {@code templateId}. Its ADDITIONAL_DATA is
+     * known to be empty, so with a cached schema unmatched keys are written without reading the
+     * folder first.
+     */
+    @Case360Operation(Case360OperationType.CREATE)
+    public void updateNewCaseFields(String strCaseId, BigDecimal templateId, Map<String, Object> updates) {
+        updateCaseFields(strCaseId, templateId, updates, true);
+    }
+
+    private void updateCaseFields(String strCaseId, BigDecimal templateId, Map<String, Object> updates, boolean newFolder) {
         log.info("Entering updateCaseFields");
-        log.info("Input caseId: {}", strCaseId);
+        log.info("Input caseId: {}, templateId: {}", strCaseId, templateId);
         
         try {
             BigDecimal caseId = new BigDecimal(strCaseId);
 
+            CaseFolderSchemaCache.Schema schema = schemaCache.get(templateId);
+            if (schema != null && (newFolder || !mergesAdditionalData(schema, updates))) {
+                try {
+                    sendCaseFolderFields(caseId, buildDelta(buildRow(schema), updates));
+                    log.info("Exiting updateCaseFields successfully (cached schema)");
+                    return;
+                } catch (SoapFaultClientException e) {
+                    // Only a fault means the row was rejected; timeouts and transport errors are not retried here
+                    log.warn("Cached schema update rejected for caseId: {}, re-reading fields. Cause: {}", strCaseId, e.getMessage());
+                    schemaCache.invalidate(templateId);
+                }
+            }
+
             // A. GET Existing Fields
             var getRequest = new GetCaseFolderFields();
             getRequest.setCaseFolderId(caseId);
@@ -281,58 +553,10 @@ public class Case360Client {
                 (JAXBElement<GetCaseFolderFieldsResponse>) webServiceTemplate.marshalSendAndReceive(getRequestElement);
             
             FmsRowTO fields = getResponseElement.getValue().getReturn();
-            FmsRowTO newFields = getResponseElement.getValue().getReturn();
-
-            /* datatypeFactory;
-            try {
-                datatypeFactory = DatatypeFactory.newInstance();
-            } catch (DatatypeConfigurationException e) {
-                throw new RuntimeException("DatatypeFactory init failed", e);
-            }*/
-            ZoneId zoneId = ZoneId.systemDefault();
-
-
-            for (FmsFieldTO field : newFields.getFieldList()) {
-                String fieldName = field.getFieldName();
-
-                if (updates.containsKey(fieldName)) {
-                    Object value = updates.get(fieldName);
-
-                    if (value != null) {
-                        field.setModified(true);
-                        field.setNullValue(false);
-                        
-                        switch (field.getDataType()) {
-                            case 4 -> { 
-                                field.setStringValue(String.valueOf(value));
-                                field.setBigDecimalValue(null);
-                            }
-                            case 5 -> { 
-                                if (value instanceof java.time.LocalDate localDate) {
-                                    ZonedDateTime zdt = localDate.atStartOfDay(zoneId);
-                                    field.setCalendarValue(DATATYPE_FACTORY.newXMLGregorianCalendar(GregorianCalendar.from(zdt)));
-                                }
-                            }
-                            case 2 -> field.setIntValue(Integer.valueOf(value.toString()));
-                            case 1 -> field.setBooleanValue(Boolean.valueOf(value.toString()));
-                            case 6 -> field.setBigDecimalValue(objectFactory.createFmsFieldTOBigDecimalValue(new BigDecimal(value.toString())));
-                            default -> field.setStringValue(value.toString());
-                        }
-                    }
-                } 
-            }
 
+            schemaCache.learn(templateId, fields);
 
-            var setRequest = new SetCaseFolderFields();
-      	  	setRequest.setCaseFolderInstanceId(caseId);
-            setRequest.setOriginalCaseFolderFields(fields);
-            setRequest.setNewCaseFolderFields(newFields);
-            setRequest.setBForceUpdate(true); 
-            
-            JAXBElement<SetCaseFolderFields> setRequestElement = 
-                    objectFactory.createSetCaseFolderFields(setRequest);
-            
-            webServiceTemplate.marshalSendAndReceive(setRequestElement);
+            sendCaseFolderFields(caseId, buildDelta(fields, updates));
             
             log.info("Exiting updateCaseFields successfully");
 
@@ -340,7 +564,178 @@ public class Case360Client {
         	throw new Case360IntegrationException("Fields update failed for Case ID: " + strCaseId, e);
         }
     }
+
+    /**
+     * Original/new row pair for SetCaseFolderFields holding only the fields the update changes.
+     * Null values and read-only fields are skipped, as before.
+     */
+    record FieldDelta(FmsRowTO original, FmsRowTO updated) {}
+
+    /**
+     * Builds the delta against {@code current} (a GetCaseFolderFields row, or one built from the
+     * cached schema with unknown values). The original row carries the current values of the
+     * changed fields, the new row their updated values; field metadata is not sent back.
+     *
+     * Keys without a matching field are merged into the JSON object held in ADDITIONAL_DATA (new
+     * values win, other keys are kept). When the template has no ADDITIONAL_DATA field, the update
+     * sets it explicitly or its current value is not a JSON object, they are dropped with a warning.
+     */
+    FieldDelta buildDelta(FmsRowTO current, Map<String, Object> updates) throws JsonProcessingException {
+        FmsRowTO original = emptyRow(current);
+        FmsRowTO updated = emptyRow(current);
+
+        Map<String, Object> unmatched = new TreeMap<>();
+        updates.forEach((key, value) -> {
+            if (value != null) unmatched.put(key, value);
+        });
+
+        FmsFieldTO additionalData = null;
+        for (FmsFieldTO field : current.getFieldList()) {
+            if (field == null || field.getFieldName() == null) continue;
+            String fieldName = field.getFieldName();
+            unmatched.remove(fieldName);
+
+            if (ADDITIONAL_DATA.equals(fieldName) && !updates.containsKey(fieldName)) {
+                additionalData = field;
+                continue;
+            }
+            Object value = updates.get(fieldName);
+            if (value != null && !field.isReadOnly()) {
+                original.getFieldList().add(copyField(field));
+                updated.getFieldList().add(applyValue(copyField(field), value));
+            }
+        }
+
+        if (!unmatched.isEmpty()) {
+            Map<String, Object> merged = additionalData != null && !additionalData.isReadOnly()
+                    ? readAdditionalData(additionalData.getStringValue())
+                    : null;
+            if (merged != null) {
+                merged.putAll(unmatched);
+                String json = ADDITIONAL_DATA_MAPPER.writeValueAsString(merged);
+                if (!json.equals(additionalData.getStringValue())) {
+                    original.getFieldList().add(copyField(additionalData));
+                    updated.getFieldList().add(applyValue(copyField(additionalData), json));
+                }
+            } else {
+                log.warn("{} is not writable in this update; dropping unmatched keys {}", ADDITIONAL_DATA, unmatched.keySet());
+            }
+        }
+
+        original.setFieldCount(original.getFieldList().size());
+        updated.setFieldCount(updated.getFieldList().size());
+        return new FieldDelta(original, updated);
+    }
+
+    // Current ADDITIONAL_DATA keys in a mutable sorted map, or null when the value is not a JSON object
+    private static Map<String, Object> readAdditionalData(String value) {
+        if (value == null || value.isBlank()) {
+            return new TreeMap<>();
+        }
+        try {
+            return ADDITIONAL_DATA_MAPPER.readValue(value, ADDITIONAL_DATA_TYPE);
+        } catch (JsonProcessingException e) {
+            log.warn("{} does not hold a JSON object; not overwriting it", ADDITIONAL_DATA);
+            return null;
+        }
+    }
+
+    // A cached-schema row has no values, so keys bound for ADDITIONAL_DATA need the current one read first
+    private static boolean mergesAdditionalData(CaseFolderSchemaCache.Schema schema, Map<String, Object> updates) {
+        Set<String> names = new HashSet<>();
+        schema.fields().forEach(field -> names.add(field.name()));
+        return names.contains(ADDITIONAL_DATA) && !updates.containsKey(ADDITIONAL_DATA)
+                && updates.entrySet().stream().anyMatch(entry -> entry.getValue() != null && !names.contains(entry.getKey()));
+    }
+
+    private static FmsRowTO emptyRow(FmsRowTO source) {
+        var row = new FmsRowTO();
+        row.setTableId(source.getTableId());
+        row.setRepositoryId(source.getRepositoryId());
+        row.setRowId(source.getRowId());
+        return row;
+    }
+
+    // Value-only copy, so the row that was read is never modified
+    private static FmsFieldTO copyField(FmsFieldTO source) {
+        var field = new FmsFieldTO();
+        field.setFieldName(source.getFieldName());
+        field.setDataType(source.getDataType());
+        field.setReadOnly(source.isReadOnly());
+        field.setNullValue(source.isNullValue());
+        field.setStringValue(source.getStringValue());
+        field.setIntValue(source.getIntValue());
+        field.setBooleanValue(source.isBooleanValue());
+        field.setBigDecimalValue(source.getBigDecimalValue());
+        field.setCalendarValue(source.getCalendarValue());
+        field.setModified(false);
+        return field;
+    }
+
+    private FmsFieldTO applyValue(FmsFieldTO field, Object value) {
+        field.setModified(true);
+        field.setNullValue(false);
+
+        switch (field.getDataType()) {
+            case 4 -> { 
+                field.setStringValue(String.valueOf(value));
+                field.setBigDecimalValue(null);
+            }
+            case 5 -> { 
+                if (value instanceof java.time.LocalDate localDate) {
+                    ZonedDateTime zdt = localDate.atStartOfDay(ZoneId.systemDefault());
+                    field.setCalendarValue(DATATYPE_FACTORY.newXMLGregorianCalendar(GregorianCalendar.from(zdt)));
+                }
+            }
+            case 2 -> field.setIntValue(Integer.valueOf(value.toString()));
+            case 1 -> field.setBooleanValue(Boolean.valueOf(value.toString()));
+            case 6 -> field.setBigDecimalValue(objectFactory.createFmsFieldTOBigDecimalValue(new BigDecimal(value.toString())));
+            default -> field.setStringValue(value.toString());
+        }
+        return field;
+    }
+
+    /**
+     * Builds an untouched row from cached definitions. Values are unknown, so every field
+     * starts as null/unmodified; with bForceUpdate the server only applies the modified ones.
+     */
+    private FmsRowTO buildRow(CaseFolderSchemaCache.Schema schema) {
+        var row = new FmsRowTO();
+        row.setTableId(schema.tableId());
+        row.setRepositoryId(schema.repositoryId());
+
+        for (CaseFolderSchemaCache.FieldDefinition definition : schema.fields()) {
+            var field = new FmsFieldTO();
+            field.setFieldName(definition.name());
+            field.setDataType(definition.dataType());
+            field.setReadOnly(definition.readOnly());
+            // The row carries no values: nullValue describes the value, not whether the field allows null
+            field.setNullValue(true);
+            field.setModified(false);
+            row.getFieldList().add(field);
+        }
+        row.setFieldCount(row.getFieldList().size());
+        return row;
+    }
+
+    private void sendCaseFolderFields(BigDecimal caseId, FieldDelta delta) {
+        if (delta.updated().getFieldList().isEmpty()) {
+            log.info("No case folder fields to change for caseId: {}", caseId);
+            return;
+        }
+        var setRequest = new SetCaseFolderFields();
+  	  	setRequest.setCaseFolderInstanceId(caseId);
+        setRequest.setOriginalCaseFolderFields(delta.original());
+        setRequest.setNewCaseFolderFields(delta.updated());
+        setRequest.setBForceUpdate(true); 
+        
+        JAXBElement<SetCaseFolderFields> setRequestElement = 
+                objectFactory.createSetCaseFolderFields(setRequest);
+        
+        webServiceTemplate.marshalSendAndReceive(setRequestElement);
+    }
     
+    @Case360Operation(Case360OperationType.CREATE)
     public String createFileStore(BigDecimal templateId) {
         log.info("Entering createFileStore");
         log.debug("Input templateId: {}", templateId);
@@ -368,6 +763,7 @@ public class Case360Client {
         }
     }
     
+    @Case360Operation(Case360OperationType.UPLOAD)
     public void uploadDocument(BigDecimal docId, byte[] content, String fileName) {
         log.info("Entering uploadDocument");
         log.debug("Input docId: {}, fileName: {}, contentSize: {}", docId, fileName, (content != null ? content.length : 0));
@@ -381,7 +777,9 @@ public class Case360Client {
             JAXBElement<PutFile> requestElement = 
                     objectFactory.createPutFile(request);
             
-            webServiceTemplate.marshalSendAndReceive(requestElement);
+            try (var probe = UploadMemoryProbe.start(meterRegistry, "inline", content != null ? content.length : 0)) {
+                webServiceTemplate.marshalSendAndReceive(requestElement);
+            }
             
             log.info("Exiting uploadDocument successfully");
 
@@ -391,6 +789,151 @@ public class Case360Client {
         }
     }
 
+    private static BigDecimal valueOf(JAXBElement<BigDecimal> element) {
+        return element != null ? element.getValue() : null;
+    }
+
+    /**
+     * MTOM/XOP upload of a document stored on disk.
+     * The file is read by the attachment writer; it is never base64-encoded into the envelope.
+     */
+    @Case360Operation(Case360OperationType.UPLOAD)
+    public void uploadDocument(BigDecimal docId, Path file, String fileName) {
+        log.info("Entering uploadDocument (MTOM, file)");
+        log.debug("Input docId: {}, fileName: {}, path: {}", docId, fileName, file);
+
+        try {
+            long size = Files.size(file);
+            var request = new MtomPutFile(docId, new DataHandler(new FileDataSource(file.toFile())), fileName);
+
+            try (var probe = UploadMemoryProbe.start(meterRegistry, "mtom", size)) {
+                mtomWebServiceTemplate.marshalSendAndReceive(request);
+            }
+
+            log.info("Exiting uploadDocument (MTOM) successfully");
+
+        } catch (Exception e) {
+            log.error("Error in uploadDocument (MTOM) for docId: {}", docId, e);
+            throw new Case360IntegrationException("Upload failed for Document ID: " + docId, e);
+        }
+    }
+
+    /**
+     * MTOM/XOP upload from a stream. The stream is consumed once and closed by the caller.
+     *
+     * @param expectedSize size hint for metrics only (-1 if unknown)
+     */
+    @Case360Operation(Case360OperationType.UPLOAD)
+    public void uploadDocument(BigDecimal docId, InputStream content, long expectedSize, String fileName) {
+        log.info("Entering uploadDocument (MTOM, stream)");
+        log.debug("Input docId: {}, fileName: {}, expectedSize: {}", docId, fileName, expectedSize);
+
+        try {
+            var request = new MtomPutFile(docId, new DataHandler(new InputStreamDataSource(content, fileName)), fileName);
+
+            try (var probe = UploadMemoryProbe.start(meterRegistry, "mtom", expectedSize)) {
+                mtomWebServiceTemplate.marshalSendAndReceive(request);
+            }
+
+            log.info("Exiting uploadDocument (MTOM) successfully");
+
+        } catch (Exception e) {
+            log.error("Error in uploadDocument (MTOM) for docId: {}", docId, e);
+            throw new Case360IntegrationException("Upload failed for Document ID: " + docId, e);
+        }
+    }
+
+    /**
+     * Current version number of a filestore, used to pin ranged reads to one version.
+     */
+    @Case360Operation(Case360OperationType.QUERY)
+    public int getCurrentVersion(BigDecimal docId) {
+        log.info("Entering getCurrentVersion");
+        log.debug("Input docId: {}", docId);
+
+        try {
+            var request = new GetFileStore();
+            request.setDocumentId(docId);
+
+            JAXBElement<GetFileStore> requestElement = 
+                    objectFactory.createGetFileStore(request);
+
+            @SuppressWarnings("unchecked")
+            JAXBElement<GetFileStoreResponse> responseElement = 
+                (JAXBElement<GetFileStoreResponse>) webServiceTemplate.marshalSendAndReceive(requestElement);
+
+            int result = responseElement.getValue().getReturn().getCurrentVersion();
+            log.debug("Return value (Current Version): {}", result);
+            return result;
+
+        } catch (Exception e) {
+            log.error("Error in getCurrentVersion for docId: {}", docId, e);
+            throw new Case360IntegrationException("getFileStore failed for Document ID: " + docId, e);
+        }
+    }
+
+    /**
+     * Reads up to {@code count} bytes of a document starting at {@code offset}.
+     * A result shorter than {@code count} means the end of the file was reached.
+     */
+    @Case360Operation(Case360OperationType.QUERY)
+    public byte[] getPartialFile(BigDecimal docId, int versionNumber, long offset, int count) {
+        log.debug("Entering getPartialFile docId: {}, version: {}, offset: {}, count: {}", docId, versionNumber, offset, count);
+
+        try {
+            var request = new GetPartialFile();
+            request.setDocumentId(docId);
+            request.setVersionNumber(versionNumber);
+            request.setOffset(offset);
+            request.setCount(count);
+
+            JAXBElement<GetPartialFile> requestElement = 
+                    objectFactory.createGetPartialFile(request);
+
+            @SuppressWarnings("unchecked")
+            JAXBElement<GetPartialFileResponse> responseElement = 
+                (JAXBElement<GetPartialFileResponse>) webServiceTemplate.marshalSendAndReceive(requestElement);
+
+            byte[] result = responseElement.getValue().getReturn();
+            return result != null ? result : new byte[0];
+
+        } catch (Exception e) {
+            log.error("Error in getPartialFile for docId: {} at offset: {}", docId, offset, e);
+            throw new Case360IntegrationException("getPartialFile failed for Document ID: " + docId + " at offset " + offset, e);
+        }
+    }
+
+    /**
+     * Ranged read of a named rendition (e.g. a PDF rendition of a TIFF).
+     */
+    @Case360Operation(Case360OperationType.QUERY)
+    public byte[] getPartialFileRendition(BigDecimal docId, int versionNumber, long offset, int count, String renditionName) {
+        log.debug("Entering getPartialFileRendition docId: {}, rendition: {}, offset: {}, count: {}", docId, renditionName, offset, count);
+
+        try {
+            var request = new GetPartialFileRendition();
+            request.setDocumentId(docId);
+            request.setVersionNumber(versionNumber);
+            request.setOffset(offset);
+            request.setCount(count);
+            request.setFileName(renditionName);
+
+            JAXBElement<GetPartialFileRendition> requestElement = 
+                    objectFactory.createGetPartialFileRendition(request);
+
+            @SuppressWarnings("unchecked")
+            JAXBElement<GetPartialFileRenditionResponse> responseElement = 
+                (JAXBElement<GetPartialFileRenditionResponse>) webServiceTemplate.marshalSendAndReceive(requestElement);
+
+            byte[] result = responseElement.getValue().getReturn();
+            return result != null ? result : new byte[0];
+
+        } catch (Exception e) {
+            log.error("Error in getPartialFileRendition for docId: {} at offset: {}", docId, offset, e);
+            throw new Case360IntegrationException("getPartialFileRendition failed for Document ID: " + docId + " at offset " + offset, e);
+        }
+    }
+
     public XMLGregorianCalendar stringToGregorian(String dateString) throws DatatypeConfigurationException {
         // 1. Define your format (e.g., yyyy-MM-dd)
     	if(dateString!=null && !dateString.isEmpty()) {
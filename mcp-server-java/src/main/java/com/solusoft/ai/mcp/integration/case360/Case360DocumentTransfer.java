@@ -0,0 +1,145 @@
+package com.solusoft.ai.mcp.integration.case360;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.solusoft.ai.mcp.exception.Case360IntegrationException;
+import com.solusoft.ai.mcp.integration.case360.resilience.Case360CircuitBreaker;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Chunked, resumable document download on top of {@link Case360Client}.
+ *
+ * Uses getPartialFile/getPartialFileRendition in fixed-size chunks, written to the target as they
+ * arrive; a transient failure retries from the last good offset, and an existing partial target
+ * file is resumed from its length. The server may return fewer bytes than asked for, so only an
+ * empty chunk (or reaching the expected size, when the caller knows it) ends the transfer.
+ *
+ * There is no upload counterpart: putFile/putFileEx take the whole document and have no offset
+ * or append, so a failed upload can only be sent again in full.
+ */
+@Service
+@Slf4j
+public class Case360DocumentTransfer {
+
+    private final Case360Client case360Client;
+    private final int chunkSize;
+    private final int maxRetries;
+    private final long retryBackoffMs;
+
+    public Case360DocumentTransfer(Case360Client case360Client,
+            @Value("${case360.transfer.chunk-size-bytes:1048576}") int chunkSize,
+            @Value("${case360.transfer.max-retries:3}") int maxRetries,
+            @Value("${case360.transfer.retry-backoff-ms:500}") long retryBackoffMs) {
+        this.case360Client = case360Client;
+        this.chunkSize = chunkSize;
+        this.maxRetries = maxRetries;
+        this.retryBackoffMs = retryBackoffMs;
+    }
+
+    // -------------------------------------------------------------------------
+    //  DOWNLOAD
+    // -------------------------------------------------------------------------
+
+    /**
+     * Downloads the current version of a document into {@code target}.
+     * If {@code target} already holds a partial download, it is resumed from its size.
+     *
+     * @return total bytes in {@code target}
+     */
+    public long download(BigDecimal docId, Path target) {
+        return download(docId, case360Client.getCurrentVersion(docId), target, null);
+    }
+
+    /**
+     * Downloads a specific version (or, with {@code renditionName}, a rendition of it).
+     * Pass the same version when resuming so every chunk comes from one version.
+     */
+    public long download(BigDecimal docId, int versionNumber, Path target, String renditionName) {
+        return download(docId, versionNumber, target, renditionName, -1);
+    }
+
+    /**
+     * As {@link #download(BigDecimal, int, Path, String)}, stopping at {@code expectedSize} bytes
+     * (-1 when unknown). On a length mismatch the target is emptied and the download fails.
+     */
+    public long download(BigDecimal docId, int versionNumber, Path target, String renditionName, long expectedSize) {
+        log.info("Entering download docId: {}, version: {}, rendition: {}", docId, versionNumber, renditionName);
+
+        try (FileChannel channel = FileChannel.open(target, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            long offset = channel.size();
+            if (offset > 0) {
+                log.info("Resuming download of docId: {} from offset {}", docId, offset);
+            }
+
+            while (expectedSize < 0 || offset < expectedSize) {
+                final long chunkOffset = offset;
+                byte[] chunk = withRetry("getPartialFile", docId, chunkOffset, () -> renditionName == null
+                        ? case360Client.getPartialFile(docId, versionNumber, chunkOffset, chunkSize)
+                        : case360Client.getPartialFileRendition(docId, versionNumber, chunkOffset, chunkSize, renditionName));
+
+                if (chunk.length == 0) {
+                    break;
+                }
+
+                ByteBuffer buffer = ByteBuffer.wrap(chunk);
+                while (buffer.hasRemaining()) {
+                    offset += channel.write(buffer, offset);
+                }
+            }
+
+            if (expectedSize >= 0 && offset != expectedSize) {
+                // A resume would trust the bad bytes, so start over next time
+                channel.truncate(0);
+                log.error("Download of docId: {} ended at {} bytes, expected {}", docId, offset, expectedSize);
+                throw new Case360IntegrationException("Download of Document ID: " + docId + " returned " + offset
+                        + " bytes, expected " + expectedSize);
+            }
+
+            log.info("Exiting download docId: {}, {} bytes", docId, offset);
+            return offset;
+
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot write download target " + target, e);
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    //  RETRY
+    // -------------------------------------------------------------------------
+
+    private <T> T withRetry(String operation, BigDecimal docId, long offset, Supplier<T> call) {
+        int attempt = 0;
+        while (true) {
+            try {
+                return call.get();
+            } catch (Case360IntegrationException e) {
+                if (!isTransient(e) || ++attempt > maxRetries) {
+                    throw e;
+                }
+                log.warn("{} for docId: {} failed at offset {} (attempt {}/{}), retrying: {}",
+                        operation, docId, offset, attempt, maxRetries, e.getMessage());
+                try {
+                    Thread.sleep(retryBackoffMs * attempt);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    throw e;
+                }
+            }
+        }
+    }
+
+    static boolean isTransient(Throwable e) {
+        return Case360CircuitBreaker.isTransportFailure(e);
+    }
+}
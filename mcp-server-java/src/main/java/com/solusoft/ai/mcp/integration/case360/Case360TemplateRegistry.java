@@ -0,0 +1,179 @@
+package com.solusoft.ai.mcp.integration.case360;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * In-memory registry of Case360 template IDs (case folder + filestore).
+ *
+ * Template names almost never change, so instead of a doQueryByScriptName round trip
+ * per tool call we bulk-load all templates at startup and serve lookups from memory.
+ * Entries are refreshed in the background before the TTL expires (refresh-ahead);
+ * unknown names fall back to the single-name query and are then cached.
+ */
+@Component
+@Slf4j
+public class Case360TemplateRegistry {
+
+    enum Kind { CASE_FOLDER, FILE_STORE }
+
+    private record Entry(BigDecimal id, Instant loadedAt) {}
+
+    private final Case360Client case360Client;
+    private final Duration ttl;
+    private final Duration refreshAhead;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<Kind, Map<String, Entry>> tables = Map.of(
+            Kind.CASE_FOLDER, new ConcurrentHashMap<>(),
+            Kind.FILE_STORE, new ConcurrentHashMap<>());
+    private final AtomicBoolean refreshInFlight = new AtomicBoolean(false);
+
+    private ScheduledExecutorService refresher;
+
+    public Case360TemplateRegistry(Case360Client case360Client, MeterRegistry meterRegistry,
+            @Value("${case360.templates.ttl-minutes:30}") long ttlMinutes,
+            @Value("${case360.templates.refresh-ahead-minutes:5}") long refreshAheadMinutes) {
+        this.case360Client = case360Client;
+        this.meterRegistry = meterRegistry;
+        this.ttl = Duration.ofMinutes(ttlMinutes);
+        this.refreshAhead = Duration.ofMinutes(Math.min(refreshAheadMinutes, ttlMinutes));
+
+        for (Kind kind : Kind.values()) {
+            Gauge.builder("case360.templates.entries", tables.get(kind), Map::size)
+                    .tag("kind", kind.name())
+                    .description("Number of cached Case360 template IDs")
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * Preloads both template tables once the application is up and schedules the
+     * refresh-ahead cycle. A failed preload is not fatal: lookups fall back to the single-name query.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void preload() {
+        log.info("Preloading Case360 templates (ttl={}, refreshAhead={})", ttl, refreshAhead);
+        refreshAll();
+
+        long periodMs = Math.max(ttl.minus(refreshAhead).toMillis(), 1000);
+        refresher = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().daemon().name("case360-template-refresh").factory());
+        refresher.scheduleWithFixedDelay(this::refreshAll, periodMs, periodMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (refresher != null) {
+            refresher.shutdownNow();
+        }
+    }
+
+    public BigDecimal getCaseFolderTemplateId(String templateName) {
+        return lookup(Kind.CASE_FOLDER, templateName, case360Client::getCaseFolderTemplateId);
+    }
+
+    public BigDecimal getFilestoreTemplateId(String templateName) {
+        return lookup(Kind.FILE_STORE, templateName, case360Client::getFilestoreTemplateId);
+    }
+
+    /**
+     * Reloads both tables from Case360. Safe to call concurrently; overlapping calls are dropped.
+     */
+    public void refreshAll() {
+        if (!refreshInFlight.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            refresh(Kind.CASE_FOLDER, case360Client::getCaseFolderTemplates);
+            refresh(Kind.FILE_STORE, case360Client::getFileStoreTemplates);
+        } finally {
+            refreshInFlight.set(false);
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    //  INTERNALS
+    // -------------------------------------------------------------------------
+
+    private BigDecimal lookup(Kind kind, String templateName, Function<String, BigDecimal> singleQuery) {
+        Map<String, Entry> table = tables.get(kind);
+        Entry entry = table.get(templateName);
+
+        if (entry != null) {
+            Duration age = Duration.between(entry.loadedAt(), Instant.now());
+            if (age.compareTo(ttl) < 0) {
+                count("case360.templates.lookups", kind, "result", "hit");
+                if (age.compareTo(ttl.minus(refreshAhead)) >= 0) {
+                    refreshAsync();
+                }
+                return entry.id();
+            }
+        }
+
+        count("case360.templates.lookups", kind, "result", "miss");
+        try {
+            BigDecimal id = singleQuery.apply(templateName);
+            table.put(templateName, new Entry(id, Instant.now()));
+            return id;
+        } catch (RuntimeException e) {
+            if (entry != null) {
+                // Expired but still usable: a stale ID beats failing the tool call
+                log.warn("Template lookup failed for '{}', serving stale ID {}", templateName, entry.id());
+                count("case360.templates.lookups", kind, "result", "stale");
+                return entry.id();
+            }
+            throw e;
+        }
+    }
+
+    private void refreshAsync() {
+        if (refreshInFlight.get()) {
+            return;
+        }
+        Thread.ofVirtual().name("case360-template-refresh-ahead").start(this::refreshAll);
+    }
+
+    private void refresh(Kind kind, Supplier<Map<String, BigDecimal>> loader) {
+        try {
+            Map<String, BigDecimal> loaded = loader.get();
+            Instant now = Instant.now();
+            Map<String, Entry> table = tables.get(kind);
+            loaded.forEach((name, id) -> table.put(name, new Entry(id, now)));
+
+            count("case360.templates.refreshes", kind, "outcome", "success");
+            log.info("Refreshed {} {} templates", loaded.size(), kind);
+        } catch (Exception e) {
+            count("case360.templates.refreshes", kind, "outcome", "failure");
+            log.warn("Template refresh failed for {}: {}", kind, e.getMessage());
+        }
+    }
+
+    private void count(String name, Kind kind, String tagKey, String tagValue) {
+        Counter.builder(name)
+                .tag("kind", kind.name())
+                .tag(tagKey, tagValue)
+                .register(meterRegistry)
+                .increment();
+    }
+}
@@ -0,0 +1,290 @@
+package com.solusoft.ai.mcp.integration.case360;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Warm pool of empty Case360 case folders, so claim creation does not wait for createCaseFolder.
+ *
+ * For each template in {@code case360.case-folder-pool.templates} a background thread keeps
+ * {@code target} folders ready; a take that leaves fewer than {@code low-watermark} triggers a
+ * refill. An empty pool (or a disabled one) falls back to creating the folder inline.
+ *
+ * A taken folder, pooled or created inline, is leased until the caller {@link #commit commits} it (its fields were written)
+ * or {@link #discard discards} it. Leases older than {@code lease-timeout-seconds} are treated as
+ * leaked, and pooled folders older than {@code ttl-seconds} as stale; both are deleted with
+ * removeCaseFolder, as are the pooled folders left at shutdown. Folders pooled by an instance
+ * that crashed are not tracked anywhere and stay in Case360 as empty folders.
+ *
+ * Metrics: {@code case360.case_folder_pool.depth{template}},
+ * {@code case360.case_folder_pool.requests{template,result=hit|miss}} and
+ * {@code case360.case_folder_pool.reclaimed{reason=expired|leaked|discarded|shutdown}}.
+ */
+@Component
+@Slf4j
+public class CaseFolderPool {
+
+    record PooledFolder(String caseId, BigDecimal templateId, Instant createdAt) {}
+
+    record Lease(PooledFolder folder, String templateName, Instant leasedAt) {}
+
+    private final Case360Client case360Client;
+    private final Case360TemplateRegistry templateRegistry;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final int target;
+    private final int lowWatermark;
+    private final Duration ttl;
+    private final Duration leaseTimeout;
+    private final long maintenanceMs;
+
+    private final Map<String, ConcurrentLinkedDeque<PooledFolder>> pools = new ConcurrentHashMap<>();
+    private final Map<String, Lease> leases = new ConcurrentHashMap<>();
+    private final AtomicBoolean refillInFlight = new AtomicBoolean(false);
+    private ScheduledExecutorService maintainer;
+
+    public CaseFolderPool(Case360Client case360Client, Case360TemplateRegistry templateRegistry,
+            MeterRegistry meterRegistry,
+            @Value("${case360.case-folder-pool.enabled:false}") boolean enabled,
+            @Value("${case360.case-folder-pool.templates:Motor Claim,Healthcare Claim}") List<String> templates,
+            @Value("${case360.case-folder-pool.target:5}") int target,
+            @Value("${case360.case-folder-pool.low-watermark:2}") int lowWatermark,
+            @Value("${case360.case-folder-pool.ttl-seconds:3600}") long ttlSeconds,
+            @Value("${case360.case-folder-pool.lease-timeout-seconds:300}") long leaseTimeoutSeconds,
+            @Value("${case360.case-folder-pool.maintenance-seconds:30}") long maintenanceSeconds) {
+        this.case360Client = case360Client;
+        this.templateRegistry = templateRegistry;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.target = Math.max(target, 0);
+        this.lowWatermark = Math.min(Math.max(lowWatermark, 0), this.target);
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+        this.leaseTimeout = Duration.ofSeconds(leaseTimeoutSeconds);
+        this.maintenanceMs = Math.max(maintenanceSeconds, 1) * 1000;
+
+        for (String template : templates) {
+            String name = template.trim();
+            if (name.isEmpty()) continue;
+            ConcurrentLinkedDeque<PooledFolder> pool = new ConcurrentLinkedDeque<>();
+            pools.put(name, pool);
+            Gauge.builder("case360.case_folder_pool.depth", pool, ConcurrentLinkedDeque::size)
+                    .tag("template", name)
+                    .description("Empty case folders ready for claim creation")
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * Fills the pools once the application is up, then reclaims and refills every
+     * {@code maintenance-seconds}. With pooling off the schedule still runs, to reclaim
+     * leaked inline-created folders.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (pooling()) {
+            log.info("Starting case folder pool (templates={}, target={}, lowWatermark={})", pools.keySet(), target,
+                    lowWatermark);
+        } else {
+            log.info("Case folder pool disabled; reclaiming leaked case folders only");
+        }
+        maintainer = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().daemon().name("case360-folder-pool").factory());
+        maintainer.scheduleWithFixedDelay(this::maintain, 0, maintenanceMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (maintainer != null) {
+            maintainer.shutdownNow();
+        }
+        pools.values().forEach(pool -> {
+            PooledFolder folder;
+            while ((folder = pool.pollFirst()) != null) {
+                reclaim(folder, "shutdown");
+            }
+        });
+    }
+
+    /**
+     * Case folder for a new claim: a pooled one when available, otherwise created inline.
+     * Pass the ID to {@link #commit} once the claim fields are written, or to {@link #discard}.
+     */
+    public String acquire(String templateName, BigDecimal templateId) {
+        log.info("Entering acquire");
+
+        ConcurrentLinkedDeque<PooledFolder> pool = enabled ? pools.get(templateName) : null;
+        if (pool == null) {
+            return createLeased(templateName, templateId);
+        }
+
+        PooledFolder folder;
+        while ((folder = pool.pollFirst()) != null) {
+            if (folder.templateId().equals(templateId)) {
+                leases.put(folder.caseId(), new Lease(folder, templateName, Instant.now()));
+                count(templateName, "hit");
+                if (pool.size() < lowWatermark) {
+                    refillAsync();
+                }
+                log.debug("Case folder {} taken from the {} pool", folder.caseId(), templateName);
+                return folder.caseId();
+            }
+            // Template was redefined since the folder was created
+            reclaim(folder, "expired");
+        }
+
+        count(templateName, "miss");
+        refillAsync();
+        return createLeased(templateName, templateId);
+    }
+
+    // Leased like a pooled folder, so a discarded claim does not leave its inline-created folder behind
+    private String createLeased(String templateName, BigDecimal templateId) {
+        String caseId = case360Client.createCase(templateId);
+        Instant now = Instant.now();
+        leases.put(caseId, new Lease(new PooledFolder(caseId, templateId, now), templateName, now));
+        return caseId;
+    }
+
+    /** The claim fields are on the folder: it is no longer the pool's to reclaim. */
+    public void commit(String caseId) {
+        if (caseId != null) {
+            leases.remove(caseId);
+        }
+    }
+
+    /** Claim creation failed after the folder was taken: deletes it (pooled or inline-created) in the background. */
+    public void discard(String caseId) {
+        Lease lease = caseId != null ? leases.remove(caseId) : null;
+        if (lease == null) {
+            return;
+        }
+        if (maintainer != null && !maintainer.isShutdown()) {
+            maintainer.execute(() -> reclaim(lease.folder(), "discarded"));
+        } else {
+            reclaim(lease.folder(), "discarded");
+        }
+    }
+
+    public int depth(String templateName) {
+        ConcurrentLinkedDeque<PooledFolder> pool = pools.get(templateName);
+        return pool != null ? pool.size() : 0;
+    }
+
+    // -------------------------------------------------------------------------
+    //  INTERNALS
+    // -------------------------------------------------------------------------
+
+    void maintain() {
+        try {
+            reclaimExpired();
+            reclaimLeaked();
+            if (pooling()) {
+                refill();
+            }
+        } catch (Exception e) {
+            log.warn("Case folder pool maintenance failed: {}", e.getMessage());
+        }
+    }
+
+    private boolean pooling() {
+        return enabled && target > 0;
+    }
+
+    private void refillAsync() {
+        if (maintainer != null && !maintainer.isShutdown() && !refillInFlight.get()) {
+            try {
+                maintainer.execute(this::refill);
+            } catch (Exception e) {
+                // Shutting down
+            }
+        }
+    }
+
+    /** Tops each pool up to the target. Overlapping calls are dropped. */
+    void refill() {
+        if (!refillInFlight.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            for (Map.Entry<String, ConcurrentLinkedDeque<PooledFolder>> entry : pools.entrySet()) {
+                String templateName = entry.getKey();
+                ConcurrentLinkedDeque<PooledFolder> pool = entry.getValue();
+                try {
+                    BigDecimal templateId = templateRegistry.getCaseFolderTemplateId(templateName);
+                    while (pool.size() < target) {
+                        pool.addLast(new PooledFolder(case360Client.createCase(templateId), templateId, Instant.now()));
+                    }
+                } catch (Exception e) {
+                    // Claims fall back to inline creation until the next cycle
+                    log.warn("Failed to refill the {} case folder pool: {}", templateName, e.getMessage());
+                }
+            }
+        } finally {
+            refillInFlight.set(false);
+        }
+    }
+
+    private void reclaimExpired() {
+        Instant cutoff = Instant.now().minus(ttl);
+        for (ConcurrentLinkedDeque<PooledFolder> pool : pools.values()) {
+            for (PooledFolder folder : new ArrayList<>(pool)) {
+                if (folder.createdAt().isBefore(cutoff) && pool.remove(folder)) {
+                    reclaim(folder, "expired");
+                }
+            }
+        }
+    }
+
+    private void reclaimLeaked() {
+        Instant cutoff = Instant.now().minus(leaseTimeout);
+        leases.forEach((caseId, lease) -> {
+            if (lease.leasedAt().isBefore(cutoff) && leases.remove(caseId, lease)) {
+                log.warn("Case folder {} ({}) was taken {} ago and never committed; reclaiming it", caseId,
+                        lease.templateName(), Duration.between(lease.leasedAt(), Instant.now()));
+                reclaim(lease.folder(), "leaked");
+            }
+        });
+    }
+
+    private void reclaim(PooledFolder folder, String reason) {
+        Counter.builder("case360.case_folder_pool.reclaimed")
+                .tag("reason", reason)
+                .register(meterRegistry)
+                .increment();
+        try {
+            case360Client.removeCaseFolder(folder.caseId());
+            log.debug("Removed {} case folder {}", reason, folder.caseId());
+        } catch (Exception e) {
+            log.warn("Failed to remove {} case folder {}: {}", reason, folder.caseId(), e.getMessage());
+        }
+    }
+
+    private void count(String templateName, String result) {
+        Counter.builder("case360.case_folder_pool.requests")
+                .tag("template", templateName)
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment();
+    }
+}
@@ -0,0 +1,73 @@
+package com.solusoft.ai.mcp.integration.case360;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.solusoft.ai.mcp.integration.case360.soap.FmsFieldTO;
+import com.solusoft.ai.mcp.integration.case360.soap.FmsRowTO;
+
+import jakarta.xml.bind.JAXBElement;
+
+/**
+ * Per-template cache of case folder field definitions (name, data type, read-only flag).
+ *
+ * Lets {@link Case360Client#updateCaseFields(String, BigDecimal, Map)} build the
+ * SetCaseFolderFields rows locally instead of reading them with GetCaseFolderFields first.
+ */
+@Component
+public class CaseFolderSchemaCache {
+
+    public record FieldDefinition(String name, int dataType, boolean readOnly) {}
+
+    public record Schema(List<FieldDefinition> fields, JAXBElement<BigDecimal> tableId, int repositoryId, Instant loadedAt) {}
+
+    private final Map<BigDecimal, Schema> schemas = new ConcurrentHashMap<>();
+    private final Duration ttl;
+
+    public CaseFolderSchemaCache(@Value("${case360.schema-cache.ttl-minutes:60}") long ttlMinutes) {
+        this.ttl = Duration.ofMinutes(ttlMinutes);
+    }
+
+    /**
+     * Returns the cached schema, or null when it is missing or older than the TTL.
+     */
+    public Schema get(BigDecimal templateId) {
+        if (templateId == null) return null;
+        Schema schema = schemas.get(templateId);
+        if (schema == null || Duration.between(schema.loadedAt(), Instant.now()).compareTo(ttl) >= 0) {
+            return null;
+        }
+        return schema;
+    }
+
+    /**
+     * Learns the schema from a row returned by GetCaseFolderFields.
+     */
+    public void learn(BigDecimal templateId, FmsRowTO row) {
+        if (templateId == null || row == null) return;
+
+        List<FieldDefinition> fields = row.getFieldList().stream()
+                .filter(f -> f != null && f.getFieldName() != null)
+                .map(CaseFolderSchemaCache::toDefinition)
+                .toList();
+
+        schemas.put(templateId, new Schema(fields, row.getTableId(), row.getRepositoryId(), Instant.now()));
+    }
+
+    public void invalidate(BigDecimal templateId) {
+        if (templateId != null) {
+            schemas.remove(templateId);
+        }
+    }
+
+    private static FieldDefinition toDefinition(FmsFieldTO field) {
+        return new FieldDefinition(field.getFieldName(), field.getDataType(), field.isReadOnly());
+    }
+}
@@ -0,0 +1,71 @@
+package com.solusoft.ai.mcp.integration.case360;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Measures the heap cost of a single upload.
+ *
+ * Reports the bytes allocated by the uploading thread (exact, per upload) and the heap in use
+ * when the upload finishes, as the "case360.upload.allocated.bytes" and "case360.upload.heap.used.bytes"
+ * summaries tagged by transfer path.
+ */
+@Slf4j
+final class UploadMemoryProbe implements AutoCloseable {
+
+    private static final MemoryMXBean MEMORY = ManagementFactory.getMemoryMXBean();
+
+    private final MeterRegistry meterRegistry;
+    private final String path;
+    private final long size;
+    private final long allocatedAtStart;
+
+    private UploadMemoryProbe(MeterRegistry meterRegistry, String path, long size) {
+        this.meterRegistry = meterRegistry;
+        this.path = path;
+        this.size = size;
+        this.allocatedAtStart = currentThreadAllocatedBytes();
+    }
+
+    static UploadMemoryProbe start(MeterRegistry meterRegistry, String path, long size) {
+        return new UploadMemoryProbe(meterRegistry, path, size);
+    }
+
+    @Override
+    public void close() {
+        long heapUsed = MEMORY.getHeapMemoryUsage().getUsed();
+        long allocatedAtEnd = currentThreadAllocatedBytes();
+
+        DistributionSummary.builder("case360.upload.heap.used.bytes")
+                .tag("path", path)
+                .baseUnit("bytes")
+                .register(meterRegistry)
+                .record(heapUsed);
+
+        if (allocatedAtStart >= 0 && allocatedAtEnd >= 0) {
+            long allocated = allocatedAtEnd - allocatedAtStart;
+            DistributionSummary.builder("case360.upload.allocated.bytes")
+                    .tag("path", path)
+                    .baseUnit("bytes")
+                    .register(meterRegistry)
+                    .record(allocated);
+            log.debug("Upload memory [path={}] size={} KB allocated={} KB heapUsed={} MB",
+                    path, size / 1024, allocated / 1024, heapUsed / (1024 * 1024));
+        } else {
+            log.debug("Upload memory [path={}] size={} KB heapUsed={} MB", path, size / 1024, heapUsed / (1024 * 1024));
+        }
+    }
+
+    private static long currentThreadAllocatedBytes() {
+        // -1 where the JVM does not support it (e.g. virtual threads on some JDKs)
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threads
+                && threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled()) {
+            return threads.getCurrentThreadAllocatedBytes();
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,47 @@
+package com.solusoft.ai.mcp.integration.case360.mtom;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+import jakarta.activation.DataSource;
+
+/**
+ * One-shot DataSource over an already opened stream, so an attachment can be written
+ * without first copying the document into a byte[].
+ */
+public class InputStreamDataSource implements DataSource {
+
+    private final InputStream inputStream;
+    private final String name;
+    private boolean consumed;
+
+    public InputStreamDataSource(InputStream inputStream, String name) {
+        this.inputStream = inputStream;
+        this.name = name;
+    }
+
+    @Override
+    public synchronized InputStream getInputStream() throws IOException {
+        if (consumed) {
+            throw new IOException("Stream for '" + name + "' has already been read");
+        }
+        consumed = true;
+        return inputStream;
+    }
+
+    @Override
+    public OutputStream getOutputStream() throws IOException {
+        throw new UnsupportedOperationException("Read-only data source");
+    }
+
+    @Override
+    public String getContentType() {
+        return "application/octet-stream";
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+}
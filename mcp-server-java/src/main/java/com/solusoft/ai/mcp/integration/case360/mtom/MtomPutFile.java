@@ -0,0 +1,45 @@
+package com.solusoft.ai.mcp.integration.case360.mtom;
+
+import java.math.BigDecimal;
+
+import jakarta.activation.DataHandler;
+import jakarta.xml.bind.annotation.XmlAccessType;
+import jakarta.xml.bind.annotation.XmlAccessorType;
+import jakarta.xml.bind.annotation.XmlMimeType;
+import jakarta.xml.bind.annotation.XmlRootElement;
+import jakarta.xml.bind.annotation.XmlType;
+
+/**
+ * Hand-written twin of the generated {@code PutFile} request.
+ *
+ * The generated class maps {@code data} to byte[], which JAXB can only inline as base64.
+ * Mapping it to a {@link DataHandler} lets an MTOM-enabled marshaller emit the content as an
+ * XOP attachment read straight from the underlying file/stream.
+ */
+@XmlRootElement(name = "putFile", namespace = MtomPutFile.NAMESPACE)
+@XmlAccessorType(XmlAccessType.FIELD)
+@XmlType(name = "mtomPutFile", propOrder = {"documentId", "data", "fileName"})
+public class MtomPutFile {
+
+    public static final String NAMESPACE = "http://webservices.sonora.eistream.com/";
+
+    private BigDecimal documentId;
+
+    @XmlMimeType("application/octet-stream")
+    private DataHandler data;
+
+    private String fileName;
+
+    public MtomPutFile() {
+    }
+
+    public MtomPutFile(BigDecimal documentId, DataHandler data, String fileName) {
+        this.documentId = documentId;
+        this.data = data;
+        this.fileName = fileName;
+    }
+
+    public BigDecimal getDocumentId() { return documentId; }
+    public DataHandler getData() { return data; }
+    public String getFileName() { return fileName; }
+}
@@ -0,0 +1,12 @@
+package com.solusoft.ai.mcp.integration.case360.mtom;
+
+import jakarta.xml.bind.annotation.XmlRootElement;
+import jakarta.xml.bind.annotation.XmlType;
+
+/**
+ * Empty putFileResponse, bound so the MTOM marshaller can unmarshal the reply.
+ */
+@XmlRootElement(name = "putFileResponse", namespace = MtomPutFile.NAMESPACE)
+@XmlType(name = "mtomPutFileResponse")
+public class MtomPutFileResponse {
+}
@@ -0,0 +1,167 @@
+package com.solusoft.ai.mcp.integration.case360.resilience;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+import org.springframework.ws.client.WebServiceIOException;
+import org.springframework.ws.client.WebServiceTransportException;
+
+/**
+ * Count-based circuit breaker for Case360.
+ *
+ * CLOSED: outcomes of the last {@code windowSize} calls are kept; once at least {@code minCalls}
+ * have been seen and the failure rate reaches the threshold, the circuit opens.
+ * OPEN: every call is rejected until {@code openDuration} has passed.
+ * HALF_OPEN: up to {@code halfOpenProbes} calls are let through; if they all succeed the circuit
+ * closes, the first failure re-opens it.
+ *
+ * Each granted call holds a {@link Permit} stamped with the state it was admitted in. Outcomes
+ * only count for the state that admitted them: a call let through while CLOSED that finishes
+ * after the circuit opened (or went HALF_OPEN) is ignored rather than taken as a probe result.
+ *
+ * Calls are seconds long, so plain synchronization is cheap compared to the work it guards.
+ */
+public class Case360CircuitBreaker {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    /** Admission of one call; {@code epoch} identifies the state period it was admitted in. */
+    public record Permit(long epoch, boolean probe) {}
+
+    private final int minCalls;
+    private final int failureRateThreshold;
+    private final Duration openDuration;
+    private final int halfOpenProbes;
+    private final LongSupplier nanoClock;
+    private final Consumer<State> onTransition;
+
+    private final boolean[] window;
+    private int windowPos;
+    private int windowCount;
+    private int windowFailures;
+
+    private State state = State.CLOSED;
+    private long epoch;
+    private long openedAt;
+    private int probesInFlight;
+    private int probeSuccesses;
+
+    public Case360CircuitBreaker(int windowSize, int minCalls, int failureRateThreshold, Duration openDuration,
+            int halfOpenProbes, LongSupplier nanoClock, Consumer<State> onTransition) {
+        this.window = new boolean[Math.max(windowSize, 1)];
+        this.minCalls = Math.max(Math.min(minCalls, window.length), 1);
+        this.failureRateThreshold = failureRateThreshold;
+        this.openDuration = openDuration;
+        this.halfOpenProbes = Math.max(halfOpenProbes, 1);
+        this.nanoClock = nanoClock;
+        this.onTransition = onTransition;
+    }
+
+    /**
+     * Asks for permission to call Case360: a permit, or null when the call is rejected. Every
+     * permit must be passed back to {@link #onSuccess} or {@link #onFailure}.
+     */
+    public synchronized Permit tryAcquire() {
+        switch (state) {
+            case CLOSED:
+                return new Permit(epoch, false);
+            case OPEN:
+                if (nanoClock.getAsLong() - openedAt < openDuration.toNanos()) {
+                    return null;
+                }
+                transitionTo(State.HALF_OPEN);
+                // fall through: this caller is the first probe
+            case HALF_OPEN:
+            default:
+                if (probesInFlight < halfOpenProbes) {
+                    probesInFlight++;
+                    return new Permit(epoch, true);
+                }
+                return null;
+        }
+    }
+
+    public synchronized void onSuccess(Permit permit) {
+        if (permit.epoch() != epoch) {
+            return;
+        }
+        if (permit.probe()) {
+            if (++probeSuccesses >= halfOpenProbes) {
+                transitionTo(State.CLOSED);
+            }
+            return;
+        }
+        record(false);
+    }
+
+    public synchronized void onFailure(Permit permit) {
+        if (permit.epoch() != epoch) {
+            return;
+        }
+        if (permit.probe()) {
+            transitionTo(State.OPEN);
+            return;
+        }
+        record(true);
+        if (windowCount >= minCalls && windowFailures * 100 >= failureRateThreshold * windowCount) {
+            transitionTo(State.OPEN);
+        }
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    /**
+     * Time left until the circuit lets a probe through (zero unless OPEN).
+     */
+    public synchronized Duration remainingOpen() {
+        if (state != State.OPEN) {
+            return Duration.ZERO;
+        }
+        long left = openDuration.toNanos() - (nanoClock.getAsLong() - openedAt);
+        return Duration.ofNanos(Math.max(left, 0));
+    }
+
+    /**
+     * Failures that say "Case360 is unhealthy": connection/read errors and HTTP-level errors.
+     * SOAP faults and local validation errors mean the server answered, so they do not count.
+     */
+    public static boolean isTransportFailure(Throwable e) {
+        for (Throwable t = e; t != null; t = t.getCause()) {
+            if (t instanceof IOException || t instanceof WebServiceIOException || t instanceof WebServiceTransportException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void record(boolean failure) {
+        if (windowCount == window.length) {
+            if (window[windowPos]) windowFailures--;
+        } else {
+            windowCount++;
+        }
+        window[windowPos] = failure;
+        if (failure) windowFailures++;
+        windowPos = (windowPos + 1) % window.length;
+    }
+
+    private void transitionTo(State next) {
+        state = next;
+        epoch++;
+        probesInFlight = 0;
+        probeSuccesses = 0;
+        if (next == State.OPEN) {
+            openedAt = nanoClock.getAsLong();
+        }
+        if (next == State.CLOSED) {
+            windowPos = 0;
+            windowCount = 0;
+            windowFailures = 0;
+        }
+        onTransition.accept(next);
+    }
+}
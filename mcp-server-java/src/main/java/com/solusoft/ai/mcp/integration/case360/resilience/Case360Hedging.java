@@ -0,0 +1,233 @@
+package com.solusoft.ai.mcp.integration.case360.resilience;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.solusoft.ai.mcp.config.ContextPropagatingExecutor;
+import com.solusoft.ai.mcp.integration.case360.resilience.Case360Resilience.Case360Call;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Request hedging for idempotent Case360 reads.
+ *
+ * The primary request runs on a virtual thread. If it has not answered within the operation's
+ * recent latency percentile (floored at {@code min-delay-ms} until {@code min-samples} are seen),
+ * an identical hedge request is sent and whichever succeeds first wins. A failure is never hedged:
+ * the result only fails once every request sent has failed.
+ *
+ * Hedges are paid for from a token budget that every primary request tops up by
+ * {@code budget-percent}/100, so hedging adds at most that share of extra load, even during
+ * an outage when every request is slow.
+ */
+@Component
+@Slf4j
+public class Case360Hedging {
+
+    private final boolean enabled;
+    private final double percentile;
+    private final long minDelayNanos;
+    private final int minSamples;
+    private final int windowSize;
+    private final HedgeBudget budget;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, LatencyWindow> latencies = new ConcurrentHashMap<>();
+    private final ContextPropagatingExecutor executor = new ContextPropagatingExecutor(
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("case360-hedge-", 0).factory()));
+
+    public Case360Hedging(MeterRegistry meterRegistry,
+            @Value("${case360.hedging.enabled:false}") boolean enabled,
+            @Value("${case360.hedging.percentile:0.95}") double percentile,
+            @Value("${case360.hedging.min-delay-ms:50}") long minDelayMs,
+            @Value("${case360.hedging.min-samples:20}") int minSamples,
+            @Value("${case360.hedging.window-size:256}") int windowSize,
+            @Value("${case360.hedging.budget-percent:10}") double budgetPercent) {
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.percentile = percentile;
+        this.minDelayNanos = TimeUnit.MILLISECONDS.toNanos(minDelayMs);
+        this.minSamples = minSamples;
+        this.windowSize = Math.max(windowSize, 8);
+        this.budget = new HedgeBudget(budgetPercent / 100.0, 10);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.close();
+    }
+
+    public <T> T execute(String operation, Case360Call<T> call) throws Throwable {
+        if (!enabled) {
+            return call.call();
+        }
+
+        LatencyWindow window = latencies.computeIfAbsent(operation, this::newWindow);
+        budget.onRequest();
+
+        CompletableFuture<T> result = new CompletableFuture<>();
+        AtomicInteger pending = new AtomicInteger(1);
+        launch(operation, false, call, window, result, pending);
+
+        long delayNanos = hedgeDelayNanos(window);
+        try {
+            return result.get(delayNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            if (budget.tryAcquire()) {
+                pending.incrementAndGet();
+                count("case360.hedge.sent", operation);
+                log.debug("Hedging {} after {} ms", operation, TimeUnit.NANOSECONDS.toMillis(delayNanos));
+                launch(operation, true, call, window, result, pending);
+            } else {
+                count("case360.hedge.budget.denied", operation);
+            }
+        } catch (ExecutionException e) {
+            throw e.getCause();
+        }
+
+        try {
+            return result.get();
+        } catch (ExecutionException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Delay after which the next call to {@code operation} would be hedged.
+     */
+    public Duration currentDelay(String operation) {
+        LatencyWindow window = latencies.get(operation);
+        return Duration.ofNanos(window == null ? minDelayNanos : hedgeDelayNanos(window));
+    }
+
+    // -------------------------------------------------------------------------
+    //  INTERNALS
+    // -------------------------------------------------------------------------
+
+    private <T> void launch(String operation, boolean hedge, Case360Call<T> call, LatencyWindow window,
+            CompletableFuture<T> result, AtomicInteger pending) {
+        executor.execute(() -> {
+            long start = System.nanoTime();
+            try {
+                T value = call.call();
+                window.record(System.nanoTime() - start);
+                if (result.complete(value) && hedge) {
+                    count("case360.hedge.wins", operation);
+                }
+            } catch (Throwable t) {
+                if (pending.decrementAndGet() == 0) {
+                    result.completeExceptionally(t);
+                }
+            }
+        });
+    }
+
+    private long hedgeDelayNanos(LatencyWindow window) {
+        if (window.size() < minSamples) {
+            return minDelayNanos;
+        }
+        return Math.max(window.percentile(), minDelayNanos);
+    }
+
+    private LatencyWindow newWindow(String operation) {
+        LatencyWindow window = new LatencyWindow(windowSize, percentile);
+        Gauge.builder("case360.hedge.delay", window, w -> TimeUnit.NANOSECONDS.toMillis(hedgeDelayNanos(w)))
+                .tag("operation", operation)
+                .baseUnit("milliseconds")
+                .description("Current hedge delay (latency percentile)")
+                .register(meterRegistry);
+        return window;
+    }
+
+    private void count(String name, String operation) {
+        Counter.builder(name)
+                .tag("operation", operation)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    /**
+     * Ring buffer of the last successful latencies; the percentile is recomputed every
+     * eighth of the window rather than on every read.
+     */
+    static final class LatencyWindow {
+
+        private final long[] samples;
+        private final double percentile;
+        private int next;
+        private int count;
+        private int sinceRecompute;
+        private long cached;
+
+        LatencyWindow(int size, double percentile) {
+            this.samples = new long[size];
+            this.percentile = percentile;
+        }
+
+        synchronized void record(long nanos) {
+            samples[next] = nanos;
+            next = (next + 1) % samples.length;
+            if (count < samples.length) count++;
+            if (++sinceRecompute >= Math.max(samples.length / 8, 1) || count < samples.length / 8) {
+                recompute();
+            }
+        }
+
+        synchronized int size() {
+            return count;
+        }
+
+        synchronized long percentile() {
+            return cached;
+        }
+
+        private void recompute() {
+            long[] sorted = Arrays.copyOf(samples, count);
+            Arrays.sort(sorted);
+            int index = (int) Math.ceil(percentile * count) - 1;
+            cached = sorted[Math.min(Math.max(index, 0), count - 1)];
+            sinceRecompute = 0;
+        }
+    }
+
+    /**
+     * Token bucket: each primary request earns {@code ratio} tokens (capped), each hedge costs one.
+     */
+    static final class HedgeBudget {
+
+        private final double ratio;
+        private final double maxTokens;
+        private double tokens;
+
+        HedgeBudget(double ratio, double maxTokens) {
+            this.ratio = ratio;
+            this.maxTokens = maxTokens;
+        }
+
+        synchronized void onRequest() {
+            tokens = Math.min(tokens + ratio, maxTokens);
+        }
+
+        synchronized boolean tryAcquire() {
+            if (tokens >= 1.0) {
+                tokens -= 1.0;
+                return true;
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.solusoft.ai.mcp.integration.case360.resilience;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a {@link com.solusoft.ai.mcp.integration.case360.Case360Client} method as a SOAP call
+ * guarded by the circuit breaker and the bulkhead of the given type.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Case360Operation {
+
+    Case360OperationType value();
+}
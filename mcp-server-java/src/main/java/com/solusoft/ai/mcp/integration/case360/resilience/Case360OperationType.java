@@ -0,0 +1,11 @@
+package com.solusoft.ai.mcp.integration.case360.resilience;
+
+/**
+ * Bulkhead a Case360 operation runs in. Each type has its own concurrency limit so a
+ * backlog of slow uploads cannot starve status queries.
+ */
+public enum Case360OperationType {
+    QUERY,
+    CREATE,
+    UPLOAD
+}
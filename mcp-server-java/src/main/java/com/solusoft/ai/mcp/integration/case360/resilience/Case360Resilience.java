@@ -0,0 +1,145 @@
+package com.solusoft.ai.mcp.integration.case360.resilience;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.solusoft.ai.mcp.exception.Case360UnavailableException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Circuit breaker plus per-operation-type bulkheads around Case360 SOAP calls.
+ *
+ * A call first needs a bulkhead permit (waiting at most {@code max-wait-ms}), then permission
+ * from the circuit breaker. Either rejection fails fast with {@link Case360UnavailableException}
+ * instead of parking a request thread on a slow Case360. Transport failures and calls slower
+ * than {@code slow-call-ms} count against the circuit.
+ */
+@Component
+@Slf4j
+public class Case360Resilience {
+
+    @FunctionalInterface
+    public interface Case360Call<T> {
+        T call() throws Throwable;
+    }
+
+    private final boolean enabled;
+    private final long slowCallNanos;
+    private final long bulkheadMaxWaitMs;
+    private final Case360CircuitBreaker circuitBreaker;
+    private final Map<Case360OperationType, Semaphore> bulkheads = new EnumMap<>(Case360OperationType.class);
+    private final MeterRegistry meterRegistry;
+
+    public Case360Resilience(MeterRegistry meterRegistry,
+            @Value("${case360.resilience.enabled:true}") boolean enabled,
+            @Value("${case360.resilience.circuit.sliding-window:20}") int slidingWindow,
+            @Value("${case360.resilience.circuit.min-calls:10}") int minCalls,
+            @Value("${case360.resilience.circuit.failure-rate-threshold:50}") int failureRateThreshold,
+            @Value("${case360.resilience.circuit.slow-call-ms:10000}") long slowCallMs,
+            @Value("${case360.resilience.circuit.open-seconds:30}") long openSeconds,
+            @Value("${case360.resilience.circuit.half-open-probes:3}") int halfOpenProbes,
+            @Value("${case360.resilience.bulkhead.query:12}") int queryLimit,
+            @Value("${case360.resilience.bulkhead.create:5}") int createLimit,
+            @Value("${case360.resilience.bulkhead.upload:3}") int uploadLimit,
+            @Value("${case360.resilience.bulkhead.max-wait-ms:100}") long bulkheadMaxWaitMs) {
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.slowCallNanos = TimeUnit.MILLISECONDS.toNanos(slowCallMs);
+        this.bulkheadMaxWaitMs = bulkheadMaxWaitMs;
+        this.circuitBreaker = new Case360CircuitBreaker(slidingWindow, minCalls, failureRateThreshold,
+                Duration.ofSeconds(openSeconds), halfOpenProbes, System::nanoTime, this::onTransition);
+
+        bulkheads.put(Case360OperationType.QUERY, new Semaphore(queryLimit));
+        bulkheads.put(Case360OperationType.CREATE, new Semaphore(createLimit));
+        bulkheads.put(Case360OperationType.UPLOAD, new Semaphore(uploadLimit));
+
+        Gauge.builder("case360.circuit.state", circuitBreaker, cb -> cb.getState().ordinal())
+                .description("Case360 circuit state (0=closed, 1=open, 2=half-open)")
+                .register(meterRegistry);
+        bulkheads.forEach((type, semaphore) -> Gauge.builder("case360.bulkhead.available", semaphore, Semaphore::availablePermits)
+                .tag("type", type.name())
+                .description("Free Case360 bulkhead permits")
+                .register(meterRegistry));
+    }
+
+    public <T> T execute(Case360OperationType type, String operation, Case360Call<T> call) throws Throwable {
+        if (!enabled) {
+            return call.call();
+        }
+
+        Semaphore bulkhead = bulkheads.get(type);
+        boolean permitted;
+        try {
+            permitted = bulkhead.tryAcquire(bulkheadMaxWaitMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new Case360UnavailableException("Interrupted waiting for Case360 " + type + " capacity", Duration.ofSeconds(1));
+        }
+        if (!permitted) {
+            reject(type, operation, "bulkhead_full");
+            throw new Case360UnavailableException("Case360 " + type + " capacity exhausted for " + operation, Duration.ofSeconds(1));
+        }
+
+        try {
+            Case360CircuitBreaker.Permit permit = circuitBreaker.tryAcquire();
+            if (permit == null) {
+                reject(type, operation, "circuit_open");
+                Duration retryAfter = circuitBreaker.remainingOpen();
+                throw new Case360UnavailableException("Case360 circuit is open; " + operation + " not attempted",
+                        retryAfter.isZero() ? Duration.ofSeconds(1) : retryAfter);
+            }
+
+            long start = System.nanoTime();
+            try {
+                T result = call.call();
+                if (System.nanoTime() - start >= slowCallNanos) {
+                    log.warn("Slow Case360 call {} ({} ms)", operation, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+                    circuitBreaker.onFailure(permit);
+                } else {
+                    circuitBreaker.onSuccess(permit);
+                }
+                return result;
+            } catch (Throwable e) {
+                if (Case360CircuitBreaker.isTransportFailure(e) || System.nanoTime() - start >= slowCallNanos) {
+                    circuitBreaker.onFailure(permit);
+                } else {
+                    circuitBreaker.onSuccess(permit);
+                }
+                throw e;
+            }
+        } finally {
+            bulkhead.release();
+        }
+    }
+
+    public Case360CircuitBreaker.State getCircuitState() {
+        return circuitBreaker.getState();
+    }
+
+    private void reject(Case360OperationType type, String operation, String reason) {
+        log.warn("Rejected Case360 call {} ({}): {}", operation, type, reason);
+        Counter.builder("case360.calls.rejected")
+                .tag("type", type.name())
+                .tag("reason", reason)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private void onTransition(Case360CircuitBreaker.State state) {
+        log.warn("Case360 circuit -> {}", state);
+        Counter.builder("case360.circuit.transitions")
+                .tag("state", state.name())
+                .register(meterRegistry)
+                .increment();
+    }
+}
@@ -0,0 +1,16 @@
+package com.solusoft.ai.mcp.integration.case360.resilience;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks an idempotent {@link com.solusoft.ai.mcp.integration.case360.Case360Client} read that may
+ * be hedged: if it has not answered within the operation's latency percentile, a second identical
+ * request is sent and the first response wins. Only active with {@code case360.hedging.enabled=true}.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface HedgedRead {
+}
@@ -0,0 +1,249 @@
+package com.solusoft.ai.mcp.integration.case360.soap;
+
+import java.math.BigDecimal;
+
+import javax.xml.namespace.QName;
+
+import jakarta.xml.bind.JAXBElement;
+import jakarta.xml.bind.annotation.XmlElementDecl;
+import jakarta.xml.bind.annotation.XmlRegistry;
+
+/**
+ * Restricted JAXB registry: declares only the Case360 operations {@code Case360Client} calls.
+ *
+ * Bound instead of the generated {@link ObjectFactory} when {@code case360.jaxb.mode=restricted}.
+ * It lives in the generated package on purpose: the JAXB runtime loads a package's ObjectFactory
+ * whenever a bound class has JAXBElement properties, unless that package already has a registry.
+ * The scoped declarations at the bottom cover every nillable property reachable from these
+ * operations (44 of the WSDL's 383 types).
+ *
+ * Calling a new operation? Add its request/response pair here; Case360BindingsTest fails until you do.
+ */
+@XmlRegistry
+public class Case360RestrictedBindings {
+
+    public static final String NAMESPACE = "http://webservices.sonora.eistream.com/";
+
+    // -------------------------------------------------------------------------
+    //  OPERATIONS (request + response root elements)
+    // -------------------------------------------------------------------------
+
+    @XmlElementDecl(namespace = NAMESPACE, name = "doQueryByScriptName")
+    public JAXBElement<DoQueryByScriptName> createDoQueryByScriptName(DoQueryByScriptName value) {
+        return new JAXBElement<>(new QName(NAMESPACE, "doQueryByScriptName"), DoQueryByScriptName.class, null, value);
+    }
+
+    @XmlElementDecl(namespace = NAMESPACE, name = "doQueryByScriptNameResponse")
+    public JAXBElement<DoQueryByScriptNameResponse> createDoQueryByScriptNameResponse(DoQueryByScriptNameResponse value) {
+        return new JAXBElement<>(new QName(NAMESPACE, "doQueryByScriptNameResponse"), DoQueryByScriptNameResponse.class, null, value);
+    }
+
+    @XmlElementDecl(namespace = NAMESPACE, name = "getCaseFolderTemplates")
+    public JAXBElement<GetCaseFolderTemplates> createGetCaseFolderTemplates(GetCaseFolderTemplates value) {
+        return new JAXBElement<>(new QName(NAMESPACE, "getCaseFolderTemplates"), GetCaseFolderTemplates.class, null, value);
+    }
+
+    @XmlElementDecl(namespace = NAMESPACE, name = "getCaseFolderTemplatesResponse")
+    public JAXBElement<GetCaseFolderTemplatesResponse> createGetCaseFolderTemplatesResponse(GetCaseFolderTemplatesResponse value) {
+        return new JAXBElement<>(new QName(NAMESPACE, "getCaseFolderTemplatesResponse"), GetCaseFolderTemplatesResponse.class, null, value);
+    }
+
+    @XmlElementDecl(namespace = NAMESPACE, name = "getFileStoreTemplates")
+    public JAXBElement<GetFileStoreTemplates> createGetFileStoreTemplates(GetFileStoreTemplates value) {
+        return new JAXBElement<>(new QName(NAMESPACE, "getFileStoreTemplates"), GetFileStoreTemplates.class, null, value);
+    }
+
+    @XmlElementDecl(namespace = NAMESPACE, name = "getFileStoreTemplatesResponse")
+    public JAXBElement<GetFileStoreTemplatesResponse> createGetFileStoreTemplatesResponse(GetFileStoreTemplatesResponse value) {
+        return new JAXBElement<>(new QName(NAMESPACE, "getFileStoreTemplatesResponse"), GetFileStoreTemplatesResponse.class, null, value);
+    }
+
+    @XmlElementDecl(namespace = NAMESPACE, name = "createCaseFolder")
+    public JAXBElement<CreateCaseFolder> createCreateCaseFolder(CreateCaseFolder value) {
+        return new JAXBElement<>(new QName(NAMESPACE, "createCaseFolder"), CreateCaseFolder.class, null, value);
+    }
+
+    @XmlElementDecl(namespace = NAMESPACE, name = "createCaseFolderResponse")
+    public JAXBElement<CreateCaseFolderResponse> createCreateCaseFolderResponse(CreateCaseFolderResponse value) {
+        return new JAXBElement<>(new QName(NAMESPACE, "createCaseFolderResponse"), CreateCaseFolderResponse.class, null, value);
+    }
+
+    @XmlElementDecl(namespace = NAMESPACE, name = "removeCaseFolder")
+    public JAXBElement<RemoveCaseFolder> createRemoveCaseFolder(RemoveCaseFolder value) {
+        return new JAXBElement<>(new QName(NAMESPACE, "removeCaseFolder"), RemoveCaseFolder.class, null, value);
+    }
+
+    @XmlElementDecl(namespace = NAMESPACE, name = "removeCaseFolderResponse")
+    public JAXBElement<RemoveCaseFolderResponse> createRemoveCaseFolderResponse(RemoveCaseFolderResponse value) {
+        return new JAXBElement<>(new QName(NAMESPACE, "removeCaseFolderResponse"), RemoveCaseFolderResponse.class, null, value);
+    }
+
+    @XmlElementDecl(namespace = NAMESPACE, name = "getCaseFolderFields")
+    public JAXBElement<GetCaseFolderFields> createGetCaseFolderFields(GetCaseFolderFields value) {
+        return new JAXBElement<>(new QName(NAMESPACE, "getCaseFolderFields"), GetCaseFolderFields.class, null, value);
+    }
+
+    @XmlElementDecl(namespace = NAMESPACE, name = "getCaseFolderFieldsResponse")
+    public JAXBElement<GetCaseFolderFieldsResponse> createGetCaseFolderFieldsResponse(GetCaseFolderFieldsResponse value) {
+        return new JAXBElement<>(new QName(NAMESPACE, "getCaseFolderFieldsResponse"), GetCaseFolderFieldsResponse.class, null, value);
+    }
+
+    @XmlElementDecl(namespace = NAMESPACE, name = "setCaseFolderFields")
+    public JAXBElement<SetCaseFolderFields> createSetCaseFolderFields(SetCaseFolderFields value) {
+        return new JAXBElement<>(new QName(NAMESPACE, "setCaseFolderFields"), SetCaseFolderFields.class, null, value);
+    }
+
+    @XmlElementDecl(namespace = NAMESPACE, name = "setCaseFolderFieldsResponse")
+    public JAXBElement<SetCaseFolderFieldsResponse> createSetCaseFolderFieldsResponse(SetCaseFolderFieldsResponse value) {
+        return new JAXBElement<>(new QName(NAMESPACE, "setCaseFolderFieldsResponse"), SetCaseFolderFieldsResponse.class, null, value);
+    }
+
+    @XmlElementDecl(namespace = NAMESPACE, name = "createFileStore")
+    public JAXBElement<CreateFileStore> createCreateFileStore(CreateFileStore value) {
+        return new JAXBElement<>(new QName(NAMESPACE, "createFileStore"), CreateFileStore.class, null, value);
+    }
+
+    @XmlElementDecl(namespace = NAMESPACE, name = "createFileStoreResponse")
+    public JAXBElement<CreateFileStoreResponse> createCreateFileStoreResponse(CreateFileStoreResponse value) {
+        return new JAXBElement<>(new QName(NAMESPACE, "createFileStoreResponse"), CreateFileStoreResponse.class, null, value);
+    }
+
+    @XmlElementDecl(namespace = NAMESPACE, name = "putFile")
+    public JAXBElement<PutFile> createPutFile(PutFile value) {
+        return new JAXBElement<>(new QName(NAMESPACE, "putFile"), PutFile.class, null, value);
+    }
+
+    @XmlElementDecl(namespace = NAMESPACE, name = "putFileResponse")
+    public JAXBElement<PutFileResponse> createPutFileResponse(PutFileResponse value) {
+        return new JAXBElement<>(new QName(NAMESPACE, "putFileResponse"), PutFileResponse.class, null, value);
+    }
+
+    @XmlElementDecl(namespace = NAMESPACE, name = "getFileStore")
+    public JAXBElement<GetFileStore> createGetFileStore(GetFileStore value) {
+        return new JAXBElement<>(new QName(NAMESPACE, "getFileStore"), GetFileStore.class, null, value);
+    }
+
+    @XmlElementDecl(namespace = NAMESPACE, name = "getFileStoreResponse")
+    public JAXBElement<GetFileStoreResponse> createGetFileStoreResponse(GetFileStoreResponse value) {
+        return new JAXBElement<>(new QName(NAMESPACE, "getFileStoreResponse"), GetFileStoreResponse.class, null, value);
+    }
+
+    @XmlElementDecl(namespace = NAMESPACE, name = "getPartialFile")
+    public JAXBElement<GetPartialFile> createGetPartialFile(GetPartialFile value) {
+        return new JAXBElement<>(new QName(NAMESPACE, "getPartialFile"), GetPartialFile.class, null, value);
+    }
+
+    @XmlElementDecl(namespace = NAMESPACE, name = "getPartialFileResponse")
+    public JAXBElement<GetPartialFileResponse> createGetPartialFileResponse(GetPartialFileResponse value) {
+        return new JAXBElement<>(new QName(NAMESPACE, "getPartialFileResponse"), GetPartialFileResponse.class, null, value);
+    }
+
+    @XmlElementDecl(namespace = NAMESPACE, name = "getPartialFileRendition")
+    public JAXBElement<GetPartialFileRendition> createGetPartialFileRendition(GetPartialFileRendition value) {
+        return new JAXBElement<>(new QName(NAMESPACE, "getPartialFileRendition"), GetPartialFileRendition.class, null, value);
+    }
+
+    @XmlElementDecl(namespace = NAMESPACE, name = "getPartialFileRenditionResponse")
+    public JAXBElement<GetPartialFileRenditionResponse> createGetPartialFileRenditionResponse(GetPartialFileRenditionResponse value) {
+        return new JAXBElement<>(new QName(NAMESPACE, "getPartialFileRenditionResponse"), GetPartialFileRenditionResponse.class, null, value);
+    }
+
+    // -------------------------------------------------------------------------
+    //  NILLABLE DECIMAL PROPERTIES (unqualified, scoped to their owner type)
+    // -------------------------------------------------------------------------
+
+    @XmlElementDecl(namespace = "", name = "bigDecimalValue", scope = FieldPropertiesTO.class)
+    public JAXBElement<BigDecimal> createFieldPropertiesTOBigDecimalValue(BigDecimal value) {
+        return new JAXBElement<>(new QName("", "bigDecimalValue"), BigDecimal.class, FieldPropertiesTO.class, value);
+    }
+
+    @XmlElementDecl(namespace = "", name = "bigDecimalValue", scope = FmsFieldTO.class)
+    public JAXBElement<BigDecimal> createFmsFieldTOBigDecimalValue(BigDecimal value) {
+        return new JAXBElement<>(new QName("", "bigDecimalValue"), BigDecimal.class, FmsFieldTO.class, value);
+    }
+
+    @XmlElementDecl(namespace = "", name = "cId", scope = ColumnDefinitionTO.class)
+    public JAXBElement<BigDecimal> createColumnDefinitionTOCId(BigDecimal value) {
+        return new JAXBElement<>(new QName("", "cId"), BigDecimal.class, ColumnDefinitionTO.class, value);
+    }
+
+    @XmlElementDecl(namespace = "", name = "tableId", scope = ColumnDefinitionTO.class)
+    public JAXBElement<BigDecimal> createColumnDefinitionTOTableId(BigDecimal value) {
+        return new JAXBElement<>(new QName("", "tableId"), BigDecimal.class, ColumnDefinitionTO.class, value);
+    }
+
+    @XmlElementDecl(namespace = "", name = "displayOrder", scope = FmsValueDefinitionTO.class)
+    public JAXBElement<BigDecimal> createFmsValueDefinitionTODisplayOrder(BigDecimal value) {
+        return new JAXBElement<>(new QName("", "displayOrder"), BigDecimal.class, FmsValueDefinitionTO.class, value);
+    }
+
+    @XmlElementDecl(namespace = "", name = "tableId", scope = FmsRowTO.class)
+    public JAXBElement<BigDecimal> createFmsRowTOTableId(BigDecimal value) {
+        return new JAXBElement<>(new QName("", "tableId"), BigDecimal.class, FmsRowTO.class, value);
+    }
+
+    @XmlElementDecl(namespace = "", name = "archiveTemplateID", scope = CaseFolderTO.class)
+    public JAXBElement<BigDecimal> createCaseFolderTOArchiveTemplateID(BigDecimal value) {
+        return new JAXBElement<>(new QName("", "archiveTemplateID"), BigDecimal.class, CaseFolderTO.class, value);
+    }
+
+    @XmlElementDecl(namespace = "", name = "caseFolderID", scope = CaseFolderTO.class)
+    public JAXBElement<BigDecimal> createCaseFolderTOCaseFolderID(BigDecimal value) {
+        return new JAXBElement<>(new QName("", "caseFolderID"), BigDecimal.class, CaseFolderTO.class, value);
+    }
+
+    @XmlElementDecl(namespace = "", name = "componentDefId", scope = CaseFolderTO.class)
+    public JAXBElement<BigDecimal> createCaseFolderTOComponentDefId(BigDecimal value) {
+        return new JAXBElement<>(new QName("", "componentDefId"), BigDecimal.class, CaseFolderTO.class, value);
+    }
+
+    @XmlElementDecl(namespace = "", name = "componentId", scope = CaseFolderTO.class)
+    public JAXBElement<BigDecimal> createCaseFolderTOComponentId(BigDecimal value) {
+        return new JAXBElement<>(new QName("", "componentId"), BigDecimal.class, CaseFolderTO.class, value);
+    }
+
+    @XmlElementDecl(namespace = "", name = "filePlanViewId", scope = CaseFolderTO.class)
+    public JAXBElement<BigDecimal> createCaseFolderTOFilePlanViewId(BigDecimal value) {
+        return new JAXBElement<>(new QName("", "filePlanViewId"), BigDecimal.class, CaseFolderTO.class, value);
+    }
+
+    @XmlElementDecl(namespace = "", name = "fmsID", scope = CaseFolderTO.class)
+    public JAXBElement<BigDecimal> createCaseFolderTOFmsID(BigDecimal value) {
+        return new JAXBElement<>(new QName("", "fmsID"), BigDecimal.class, CaseFolderTO.class, value);
+    }
+
+    @XmlElementDecl(namespace = "", name = "templateID", scope = CaseFolderTO.class)
+    public JAXBElement<BigDecimal> createCaseFolderTOTemplateID(BigDecimal value) {
+        return new JAXBElement<>(new QName("", "templateID"), BigDecimal.class, CaseFolderTO.class, value);
+    }
+
+    @XmlElementDecl(namespace = "", name = "triggerElementID", scope = DeadlineTO.class)
+    public JAXBElement<BigDecimal> createDeadlineTOTriggerElementID(BigDecimal value) {
+        return new JAXBElement<>(new QName("", "triggerElementID"), BigDecimal.class, DeadlineTO.class, value);
+    }
+
+    @XmlElementDecl(namespace = "", name = "componentDefId", scope = FileStoreTO.class)
+    public JAXBElement<BigDecimal> createFileStoreTOComponentDefId(BigDecimal value) {
+        return new JAXBElement<>(new QName("", "componentDefId"), BigDecimal.class, FileStoreTO.class, value);
+    }
+
+    @XmlElementDecl(namespace = "", name = "documentID", scope = FileStoreTO.class)
+    public JAXBElement<BigDecimal> createFileStoreTODocumentID(BigDecimal value) {
+        return new JAXBElement<>(new QName("", "documentID"), BigDecimal.class, FileStoreTO.class, value);
+    }
+
+    @XmlElementDecl(namespace = "", name = "filePlanViewId", scope = FileStoreTO.class)
+    public JAXBElement<BigDecimal> createFileStoreTOFilePlanViewId(BigDecimal value) {
+        return new JAXBElement<>(new QName("", "filePlanViewId"), BigDecimal.class, FileStoreTO.class, value);
+    }
+
+    @XmlElementDecl(namespace = "", name = "fmsID", scope = FileStoreTO.class)
+    public JAXBElement<BigDecimal> createFileStoreTOFmsID(BigDecimal value) {
+        return new JAXBElement<>(new QName("", "fmsID"), BigDecimal.class, FileStoreTO.class, value);
+    }
+
+    @XmlElementDecl(namespace = "", name = "templateId", scope = FileStoreTO.class)
+    public JAXBElement<BigDecimal> createFileStoreTOTemplateId(BigDecimal value) {
+        return new JAXBElement<>(new QName("", "templateId"), BigDecimal.class, FileStoreTO.class, value);
+    }
+}
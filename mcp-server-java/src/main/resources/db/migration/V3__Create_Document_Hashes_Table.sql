@@ -0,0 +1,11 @@
+CREATE TABLE document_hashes (
+    content_hash CHAR(64) PRIMARY KEY,
+    document_id VARCHAR(50) NOT NULL,
+    stored_name VARCHAR(255),
+    mime_type VARCHAR(100),
+    size_bytes BIGINT NOT NULL,
+    version_number INTEGER,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX idx_document_hashes_document_id ON document_hashes (document_id, version_number);
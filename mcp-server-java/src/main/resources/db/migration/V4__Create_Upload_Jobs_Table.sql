@@ -0,0 +1,21 @@
+CREATE TABLE upload_jobs (
+    job_id VARCHAR(36) PRIMARY KEY,
+    status VARCHAR(20) NOT NULL,
+    file_name VARCHAR(255),
+    file_path VARCHAR(1024) NOT NULL,
+    content_hash CHAR(64) NOT NULL,
+    mime_type VARCHAR(100),
+    size_bytes BIGINT NOT NULL,
+    document_id VARCHAR(50),
+    stored_name VARCHAR(255),
+    deduplicated BOOLEAN,
+    error_message VARCHAR(1000),
+    attempts INTEGER NOT NULL DEFAULT 0,
+    locked_by VARCHAR(255),
+    locked_until TIMESTAMP,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Scan for unfinished jobs whose lock has expired
+CREATE INDEX idx_upload_jobs_unfinished ON upload_jobs (locked_until) WHERE status IN ('QUEUED', 'UPLOADING');
@@ -0,0 +1,7 @@
+-- Node ID leases for ClaimIdGenerator: each running instance holds one node ID (0..1023)
+-- and refreshes heartbeat_at; leases not refreshed within the TTL can be taken over.
+CREATE TABLE claim_id_nodes (
+    node_id INTEGER PRIMARY KEY,
+    instance_id VARCHAR(255) NOT NULL,
+    heartbeat_at TIMESTAMP NOT NULL
+);
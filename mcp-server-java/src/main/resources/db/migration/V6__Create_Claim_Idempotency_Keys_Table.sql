@@ -0,0 +1,11 @@
+CREATE TABLE claim_idempotency_keys (
+    key_hash CHAR(64) PRIMARY KEY,
+    tool_name VARCHAR(100) NOT NULL,
+    request_hash CHAR(64) NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    response TEXT,
+    created_at TIMESTAMP NOT NULL,
+    expires_at TIMESTAMP NOT NULL
+);
+
+CREATE INDEX idx_claim_idempotency_keys_expires_at ON claim_idempotency_keys (expires_at);
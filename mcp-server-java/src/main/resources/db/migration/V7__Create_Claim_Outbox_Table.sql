@@ -0,0 +1,18 @@
+CREATE TABLE claim_outbox (
+    id BIGSERIAL PRIMARY KEY,
+    claim_id VARCHAR(255) NOT NULL,
+    event_type VARCHAR(50) NOT NULL,
+    payload JSONB NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    attempts INTEGER NOT NULL DEFAULT 0,
+    last_error VARCHAR(1000),
+    locked_by VARCHAR(255),
+    locked_until TIMESTAMP,
+    created_at TIMESTAMP NOT NULL,
+    available_at TIMESTAMP NOT NULL,
+    dispatched_at TIMESTAMP
+);
+
+-- Dispatcher scan (oldest first) and the per-claim ordering check
+CREATE INDEX idx_claim_outbox_pending ON claim_outbox (available_at, id) WHERE status = 'PENDING';
+CREATE INDEX idx_claim_outbox_claim_pending ON claim_outbox (claim_id, id) WHERE status = 'PENDING';
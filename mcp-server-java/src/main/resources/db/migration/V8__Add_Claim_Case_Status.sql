@@ -0,0 +1,4 @@
+-- CLAIM_STATUS this server last wrote to the claim's Case360 case, and when.
+-- claims.status is the local processing status, not a Case360 status.
+ALTER TABLE claims ADD COLUMN case_status VARCHAR(50);
+ALTER TABLE claims ADD COLUMN case_status_at TIMESTAMP;
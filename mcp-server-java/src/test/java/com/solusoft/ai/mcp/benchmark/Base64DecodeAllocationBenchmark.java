@@ -0,0 +1,71 @@
+package com.solusoft.ai.mcp.benchmark;
+
+import java.util.Base64;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.tika.Tika;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.solusoft.ai.mcp.features.claims.service.Base64DocumentDecoder;
+import com.solusoft.ai.mcp.features.claims.service.Base64DocumentDecoder.DecodedDocument;
+
+/**
+ * Allocation per upload_document decode, 1 / 10 / 50 MB documents sent as MIME-wrapped data URIs.
+ *
+ * jdkBaseline is the previous path (substring, regex whitespace strip, Base64 decode, Tika on the
+ * whole array); streamingDecoder is Base64DocumentDecoder with the default 8 MB spill threshold.
+ * The number that matters is gc.alloc.rate.norm, so run org.openjdk.jmh.Main with -prof gc.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx1g")
+public class Base64DecodeAllocationBenchmark {
+
+    @Param({"1", "10", "50"})
+    public int sizeMb;
+
+    private String payload;
+    private final Tika tika = new Tika();
+    private final Base64DocumentDecoder decoder = new Base64DocumentDecoder(8L * 1024 * 1024, 8192);
+
+    @Setup(Level.Trial)
+    public void setup() {
+        byte[] document = new byte[sizeMb * 1024 * 1024];
+        new Random(42).nextBytes(document);
+        System.arraycopy("%PDF-1.5\n".getBytes(), 0, document, 0, 9);
+        payload = "data:application/pdf;base64," + Base64.getMimeEncoder().encodeToString(document);
+    }
+
+    @Benchmark
+    public long jdkBaseline() {
+        String base64 = payload;
+        if (base64.contains(",")) {
+            base64 = base64.substring(base64.indexOf(",") + 1);
+        }
+        base64 = base64.replaceAll("\\s+", "");
+        byte[] docBytes = Base64.getDecoder().decode(base64);
+        return docBytes.length + tika.detect(docBytes).length();
+    }
+
+    @Benchmark
+    public long streamingDecoder() throws Exception {
+        try (DecodedDocument document = decoder.decode(payload, type -> {})) {
+            return document.length() + document.mimeType().length();
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.solusoft.ai.mcp.benchmark;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.solusoft.ai.mcp.features.claims.model.CreateHealthClaimRequest;
+import com.solusoft.ai.mcp.features.claims.model.CreateMotorClaimRequest;
+import com.solusoft.ai.mcp.features.claims.service.CaseFieldPlan;
+
+/**
+ * Request record to Case360 case fields, as create_motor_claim and create_healthcare_claim do it.
+ *
+ * jacksonBaseline* is the previous path (objectMapper.convertValue to a Map, then a regex
+ * replaceAll per key and a contains("DATE") check per value); compiledPlan* is CaseFieldPlan.
+ * Run org.openjdk.jmh.Main with -prof gc to compare gc.alloc.rate.norm too.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CaseFieldMappingBenchmark {
+
+    private static final CaseFieldPlan<CreateMotorClaimRequest> MOTOR_CASE_FIELDS =
+            CaseFieldPlan.of(CreateMotorClaimRequest.class);
+    private static final CaseFieldPlan<CreateHealthClaimRequest> HEALTH_CASE_FIELDS =
+            CaseFieldPlan.of(CreateHealthClaimRequest.class);
+
+    private ObjectMapper objectMapper;
+    private CreateMotorClaimRequest motorRequest;
+    private CreateHealthClaimRequest healthRequest;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        // Configured as Spring Boot configures the injected mapper
+        objectMapper = new ObjectMapper().registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        motorRequest = new CreateMotorClaimRequest("Jane Doe", "POL-123456", new BigDecimal("1200.00"),
+                LocalDate.of(2025, 1, 1), "Rear-ended at a junction", "doc-1", "collision", "Tesla", "AB-123-CD", "high");
+        healthRequest = new CreateHealthClaimRequest("John Doe", "POL-654321", new BigDecimal("850.00"),
+                LocalDate.of(2025, 2, 1), "Fracture", "General Hospital", "Fell at home", "doc-2", "injury",
+                "Dr. Smith", "Cast applied", "normal", "Outpatient treatment");
+    }
+
+    @Benchmark
+    public Map<String, Object> jacksonBaselineMotor() {
+        return normalize(objectMapper.convertValue(motorRequest, Map.class));
+    }
+
+    @Benchmark
+    public Map<String, Object> compiledPlanMotor() {
+        return MOTOR_CASE_FIELDS.toCaseFields(motorRequest);
+    }
+
+    @Benchmark
+    public Map<String, Object> jacksonBaselineHealth() {
+        return normalize(objectMapper.convertValue(healthRequest, Map.class));
+    }
+
+    @Benchmark
+    public Map<String, Object> compiledPlanHealth() {
+        return HEALTH_CASE_FIELDS.toCaseFields(healthRequest);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> normalize(Map<?, ?> input) {
+        Map<String, Object> output = new HashMap<>();
+        for (Map.Entry<String, Object> entry : ((Map<String, Object>) input).entrySet()) {
+            String key = entry.getKey().replaceAll("([a-z])([A-Z]+)", "$1_$2")
+                    .replace(" ", "_")
+                    .replace("-", "_")
+                    .toUpperCase();
+            Object value = entry.getValue();
+            if (key.contains("DATE") && value instanceof String text) {
+                try {
+                    value = LocalDate.parse(text);
+                } catch (Exception e) {
+                    // Sent as is
+                }
+            }
+            output.put(key, value);
+        }
+        return output;
+    }
+}
@@ -0,0 +1,48 @@
+package com.solusoft.ai.mcp.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.oxm.jaxb.Jaxb2Marshaller;
+
+import com.solusoft.ai.mcp.integration.case360.soap.Case360RestrictedBindings;
+
+/**
+ * Cold JAXB context creation for case360.jaxb.mode=full vs restricted.
+ *
+ * Single-shot in a fresh JVM per fork, so each sample includes class loading and JAXB model
+ * building, which is what a pod pays at startup. Run with -prof gc or -prof cl to see the
+ * allocation / class-count difference as well.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(10)
+public class JaxbContextStartupBenchmark {
+
+    @Param({"full", "restricted"})
+    public String mode;
+
+    @Benchmark
+    public Object createContext() throws Exception {
+        Jaxb2Marshaller marshaller = new Jaxb2Marshaller();
+        if ("full".equals(mode)) {
+            marshaller.setContextPath("com.solusoft.ai.mcp.integration.case360.soap");
+        } else {
+            marshaller.setClassesToBeBound(Case360RestrictedBindings.class);
+        }
+        marshaller.afterPropertiesSet();
+        return marshaller.getJaxbContext();
+    }
+}
@@ -0,0 +1,244 @@
+package com.solusoft.ai.mcp.benchmark;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.GregorianCalendar;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import javax.xml.datatype.DatatypeFactory;
+import javax.xml.transform.stream.StreamResult;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.oxm.jaxb.Jaxb2Marshaller;
+import org.springframework.ws.client.core.WebServiceTemplate;
+
+import com.solusoft.ai.mcp.features.claims.model.CreateHealthClaimRequest;
+import com.solusoft.ai.mcp.features.claims.model.CreateMotorClaimRequest;
+import com.solusoft.ai.mcp.features.claims.service.CaseFieldPlan;
+import com.solusoft.ai.mcp.integration.case360.Case360Client;
+import com.solusoft.ai.mcp.integration.case360.soap.Case360RestrictedBindings;
+import com.solusoft.ai.mcp.integration.case360.soap.ColumnDefinitionTO;
+import com.solusoft.ai.mcp.integration.case360.soap.FieldDefinitionTO;
+import com.solusoft.ai.mcp.integration.case360.soap.FmsFieldMetaDataTO;
+import com.solusoft.ai.mcp.integration.case360.soap.FmsFieldTO;
+import com.solusoft.ai.mcp.integration.case360.soap.FmsRowTO;
+import com.solusoft.ai.mcp.integration.case360.soap.GetCaseFolderFields;
+import com.solusoft.ai.mcp.integration.case360.soap.GetCaseFolderFieldsResponse;
+import com.solusoft.ai.mcp.integration.case360.soap.ObjectFactory;
+import com.solusoft.ai.mcp.integration.case360.soap.SetCaseFolderFields;
+
+import jakarta.xml.bind.JAXBElement;
+
+/**
+ * SetCaseFolderFields size and marshalling cost for a create_motor_claim / create_healthcare_claim
+ * update of a fresh case folder, as read with GetCaseFolderFields.
+ *
+ * fullRows is the previous request (the whole row read, metadata included, sent as both the
+ * original and the new row); deltaRows is what Case360Client sends now (changed fields only,
+ * unmatched keys in ADDITIONAL_DATA). The SOAP envelope sizes of both are printed at setup,
+ * with the number of SOAP calls an update takes once the template schema is cached: an existing
+ * folder is read first to merge ADDITIONAL_DATA, a new one (updateNewCaseFields) is not.
+ *
+ * The templates are the request fields plus CLAIM_ID, CLAIM_STATUS, CREATED_ON, ADDITIONAL_DATA
+ * and ten workflow fields the create call does not touch; adjust readRow for a real template.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SetCaseFolderFieldsEnvelopeBenchmark {
+
+    private static final String[] WORKFLOW_FIELDS = {"ASSIGNED_ADJUSTER", "REVIEW_NOTES", "FRAUD_SCORE",
+            "SETTLEMENT_AMOUNT", "APPROVED_BY", "APPROVED_ON", "CLOSED_ON", "REGION", "BRANCH_CODE",
+            "LAST_CONTACT_DATE"};
+
+    private static final String ENVELOPE_START =
+            "<soap:Envelope xmlns:soap=\"http://schemas.xmlsoap.org/soap/envelope/\"><soap:Body>";
+    private static final String ENVELOPE_END = "</soap:Body></soap:Envelope>";
+
+    @Param({"motor", "health"})
+    public String claimType;
+
+    private final ObjectFactory objectFactory = new ObjectFactory();
+    private Jaxb2Marshaller marshaller;
+    private JAXBElement<SetCaseFolderFields> fullRows;
+    private JAXBElement<SetCaseFolderFields> deltaRows;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        marshaller = new Jaxb2Marshaller();
+        marshaller.setClassesToBeBound(Case360RestrictedBindings.class);
+        marshaller.setMarshallerProperties(Map.of(jakarta.xml.bind.Marshaller.JAXB_FRAGMENT, true));
+        marshaller.afterPropertiesSet();
+
+        boolean motor = "motor".equals(claimType);
+        String[] requestFields = motor
+                ? CaseFieldPlan.of(CreateMotorClaimRequest.class).fieldNames()
+                : CaseFieldPlan.of(CreateHealthClaimRequest.class).fieldNames();
+        Map<String, Object> updates = motor
+                ? CaseFieldPlan.of(CreateMotorClaimRequest.class).toCaseFields(new CreateMotorClaimRequest("Jane Doe",
+                        "POL-123456", new BigDecimal("1200.00"), LocalDate.of(2025, 1, 1), "Rear-ended at a junction",
+                        "doc-1", "collision", "Tesla", "AB-123-CD", "high"))
+                : CaseFieldPlan.of(CreateHealthClaimRequest.class).toCaseFields(new CreateHealthClaimRequest("John Doe",
+                        "POL-654321", new BigDecimal("850.00"), LocalDate.of(2025, 2, 1), "Fracture",
+                        "General Hospital", "Fell at home", "doc-2", "injury", "Dr. Smith", "Cast applied", "normal",
+                        "Outpatient treatment"));
+        updates.put("CLAIM_ID", motor ? "AUTO-1234567890" : "HC-1234567890");
+        updates.put("CLAIM_STATUS", "reported");
+        updates.put("CREATED_ON", LocalDate.of(2025, 1, 2));
+        // Extracted details with no template field, as the outbox sends them
+        updates.put("WITNESS_NAME", "Sam Roe");
+        updates.put("POLICE_REPORT_NUMBER", "PR-42");
+
+        fullRows = previousRequest(readRow(requestFields), updates);
+
+        CapturingTemplate template = new CapturingTemplate(readRow(requestFields));
+        new Case360Client(template).updateCaseFields("1001", updates);
+        deltaRows = template.captured;
+
+        // Cached schema: learnt by a first update, then one update of an existing and one of a new folder
+        CapturingTemplate cached = new CapturingTemplate(readRow(requestFields));
+        Case360Client cachingClient = new Case360Client(cached);
+        cachingClient.updateCaseFields("1000", BigDecimal.TEN, Map.of("CLAIM_STATUS", "reported"));
+        int before = cached.calls;
+        cachingClient.updateCaseFields("1001", BigDecimal.TEN, updates);
+        int existingFolderCalls = cached.calls - before;
+        before = cached.calls;
+        cachingClient.updateNewCaseFields("1002", BigDecimal.TEN, updates);
+        int newFolderCalls = cached.calls - before;
+
+        System.out.printf("%n[%s] SetCaseFolderFields envelope: full rows %d bytes, delta rows %d bytes, "
+                + "cached-schema rows %d bytes%n", claimType, envelope(fullRows).length, envelope(deltaRows).length,
+                envelope(cached.captured).length);
+        System.out.printf("[%s] SOAP calls with a cached schema: existing folder %d, new folder %d%n", claimType,
+                existingFolderCalls, newFolderCalls);
+    }
+
+    @Benchmark
+    public byte[] marshalFullRows() throws Exception {
+        return envelope(fullRows);
+    }
+
+    @Benchmark
+    public byte[] marshalDeltaRows() throws Exception {
+        return envelope(deltaRows);
+    }
+
+    private byte[] envelope(JAXBElement<SetCaseFolderFields> request) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(16 * 1024);
+        out.write(ENVELOPE_START.getBytes(StandardCharsets.UTF_8));
+        marshaller.marshal(request, new StreamResult(out));
+        out.write(ENVELOPE_END.getBytes(StandardCharsets.UTF_8));
+        return out.toByteArray();
+    }
+
+    // Row of a fresh case folder as GetCaseFolderFields returns it: no values, full metadata
+    private static FmsRowTO readRow(String[] requestFields) {
+        FmsRowTO row = new FmsRowTO();
+        row.setRepositoryId(1);
+        row.setRowId("1001");
+        for (String name : requestFields) {
+            row.getFieldList().add(field(name));
+        }
+        for (String name : new String[] {"CLAIM_ID", "CLAIM_STATUS", "CREATED_ON", "ADDITIONAL_DATA"}) {
+            row.getFieldList().add(field(name));
+        }
+        for (String name : WORKFLOW_FIELDS) {
+            row.getFieldList().add(field(name));
+        }
+        row.setFieldCount(row.getFieldList().size());
+        return row;
+    }
+
+    private static FmsFieldTO field(String name) {
+        int dataType = name.contains("DATE") || name.endsWith("_ON") ? 5 : name.contains("AMOUNT") ? 6 : 4;
+
+        ColumnDefinitionTO column = new ColumnDefinitionTO();
+        column.setFieldName(name);
+        column.setDisplayName(name.charAt(0) + name.substring(1).toLowerCase().replace('_', ' '));
+        FieldDefinitionTO definition = new FieldDefinitionTO();
+        definition.setFieldName(name);
+        definition.setDataType((short) dataType);
+        definition.setAllowNull(true);
+        definition.setLength(dataType == 4 ? 255 : 0);
+        definition.setDescription(column.getDisplayName() + " of the claim");
+        FmsFieldMetaDataTO metaData = new FmsFieldMetaDataTO();
+        metaData.setColumnDefinition(column);
+        metaData.setFieldDefinition(definition);
+
+        FmsFieldTO field = new FmsFieldTO();
+        field.setFieldName(name);
+        field.setDataType(dataType);
+        field.setNullValue(true);
+        field.setFieldMetaData(metaData);
+        return field;
+    }
+
+    // The previous updateCaseFields: values applied to the row that was read, sent as both rows
+    private JAXBElement<SetCaseFolderFields> previousRequest(FmsRowTO row, Map<String, Object> updates)
+            throws Exception {
+        DatatypeFactory datatypeFactory = DatatypeFactory.newInstance();
+        for (FmsFieldTO field : row.getFieldList()) {
+            Object value = updates.get(field.getFieldName());
+            if (value == null) continue;
+            field.setModified(true);
+            field.setNullValue(false);
+            switch (field.getDataType()) {
+                case 5 -> field.setCalendarValue(datatypeFactory.newXMLGregorianCalendar(
+                        GregorianCalendar.from(((LocalDate) value).atStartOfDay(java.time.ZoneId.systemDefault()))));
+                case 6 -> field.setBigDecimalValue(objectFactory.createFmsFieldTOBigDecimalValue(new BigDecimal(value.toString())));
+                default -> field.setStringValue(value.toString());
+            }
+        }
+        SetCaseFolderFields request = new SetCaseFolderFields();
+        request.setCaseFolderInstanceId(new BigDecimal("1001"));
+        request.setOriginalCaseFolderFields(row);
+        request.setNewCaseFolderFields(row);
+        request.setBForceUpdate(true);
+        return objectFactory.createSetCaseFolderFields(request);
+    }
+
+    /**
+     * Answers GetCaseFolderFields with the given row and keeps the SetCaseFolderFields request.
+     */
+    static class CapturingTemplate extends WebServiceTemplate {
+
+        private final FmsRowTO row;
+        private JAXBElement<SetCaseFolderFields> captured;
+        private int calls;
+
+        CapturingTemplate(FmsRowTO row) {
+            this.row = row;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Object marshalSendAndReceive(Object request) {
+            calls++;
+            Object payload = ((JAXBElement<?>) request).getValue();
+            if (payload instanceof GetCaseFolderFields) {
+                GetCaseFolderFieldsResponse response = new GetCaseFolderFieldsResponse();
+                response.setReturn(row);
+                return new ObjectFactory().createGetCaseFolderFieldsResponse(response);
+            }
+            captured = (JAXBElement<SetCaseFolderFields>) request;
+            return null;
+        }
+    }
+}
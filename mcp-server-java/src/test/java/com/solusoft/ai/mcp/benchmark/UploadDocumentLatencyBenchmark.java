@@ -0,0 +1,151 @@
+package com.solusoft.ai.mcp.benchmark;
+
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.util.Base64;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.tika.Tika;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.solusoft.ai.mcp.features.claims.service.Base64DocumentDecoder;
+import com.solusoft.ai.mcp.features.claims.service.DocumentMemoryBudget;
+import com.solusoft.ai.mcp.features.claims.service.DocumentUploadService;
+import com.solusoft.ai.mcp.features.claims.tool.ClaimsMcpTools;
+import com.solusoft.ai.mcp.integration.case360.AsyncCase360Client;
+import com.solusoft.ai.mcp.integration.case360.Case360Client;
+import com.solusoft.ai.mcp.integration.case360.Case360TemplateRegistry;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * upload_document latency against a stubbed Case360 with injected per-call latency.
+ *
+ * sequentialBaseline replays the original blocking order (template lookup, then decode,
+ * then createFileStore/putFile); uploadDocumentTool is the tool, which resolves the
+ * template on a virtual thread while decoding. Template lookups are cold (registry TTL 0).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UploadDocumentLatencyBenchmark {
+
+    @Param({"5", "20"})
+    public long latencyMs;
+
+    @Param({"1024", "8192"})
+    public int sizeKb;
+
+    private StubCase360Client case360Client;
+    private Case360TemplateRegistry templateRegistry;
+    private AsyncCase360Client asyncCase360Client;
+    private ClaimsMcpTools tools;
+    private String payload;
+    private final Tika tika = new Tika();
+
+    @Setup(Level.Trial)
+    public void setup() {
+        case360Client = new StubCase360Client(latencyMs);
+        templateRegistry = new Case360TemplateRegistry(case360Client, new SimpleMeterRegistry(), 0, 0);
+        asyncCase360Client = new AsyncCase360Client(case360Client, templateRegistry);
+        // Dedup off: every iteration uploads the same payload
+        DocumentUploadService documentUploadService = new DocumentUploadService(case360Client, asyncCase360Client,
+                new Base64DocumentDecoder(64L * 1024 * 1024, 8192), null, null,
+                new DocumentMemoryBudget(new SimpleMeterRegistry(), false, 256, 0), new SimpleMeterRegistry(), 1048576, false);
+        tools = new ClaimsMcpTools(case360Client, new ObjectMapper(), asyncCase360Client, null, documentUploadService, null, null, null, null, null, null, null, null);
+
+        byte[] document = new byte[sizeKb * 1024];
+        new Random(42).nextBytes(document);
+        System.arraycopy("%PDF-1.5\n".getBytes(), 0, document, 0, 9);
+        payload = "data:application/pdf;base64," + Base64.getMimeEncoder().encodeToString(document);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        asyncCase360Client.shutdown();
+    }
+
+    @Benchmark
+    public String sequentialBaseline() {
+        BigDecimal templateId = templateRegistry.getFilestoreTemplateId("Claim Document");
+
+        String base64 = payload.substring(payload.indexOf(",") + 1).replaceAll("\\s+", "");
+        byte[] docBytes = Base64.getDecoder().decode(base64);
+        tika.detect(docBytes);
+
+        String documentId = case360Client.createFileStore(templateId);
+        case360Client.uploadDocument(new BigDecimal(documentId), docBytes, "bench.pdf");
+        return documentId;
+    }
+
+    @Benchmark
+    public String uploadDocumentTool() {
+        return tools.uploadDocument(payload, "bench.pdf");
+    }
+
+    /**
+     * Case360 stand-in: every SOAP operation sleeps for the configured latency.
+     */
+    static class StubCase360Client extends Case360Client {
+
+        private final long latencyMs;
+
+        StubCase360Client(long latencyMs) {
+            super(null);
+            this.latencyMs = latencyMs;
+        }
+
+        @Override
+        public BigDecimal getFilestoreTemplateId(String templateName) {
+            pause();
+            return BigDecimal.ONE;
+        }
+
+        @Override
+        public String createFileStore(BigDecimal templateId) {
+            pause();
+            return "1001";
+        }
+
+        @Override
+        public void uploadDocument(BigDecimal docId, byte[] content, String fileName) {
+            pause();
+        }
+
+        @Override
+        public void uploadDocument(BigDecimal docId, InputStream content, long expectedSize, String fileName) {
+            pause();
+        }
+
+        @Override
+        public void uploadDocument(BigDecimal docId, Path file, String fileName) {
+            pause();
+        }
+
+        private void pause() {
+            try {
+                Thread.sleep(latencyMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
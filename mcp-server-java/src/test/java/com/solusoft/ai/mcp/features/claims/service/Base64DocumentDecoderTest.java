@@ -0,0 +1,93 @@
+package com.solusoft.ai.mcp.features.claims.service;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import com.solusoft.ai.mcp.features.claims.service.Base64DocumentDecoder.DecodedDocument;
+
+public class Base64DocumentDecoderTest {
+
+    private static byte[] pdf(int size) {
+        byte[] content = new byte[size];
+        new Random(7).nextBytes(content);
+        System.arraycopy("%PDF-1.5\n".getBytes(), 0, content, 0, 9);
+        return content;
+    }
+
+    @Test
+    public void testDecodesDataUriWithLineBreaksInMemory() throws Exception {
+        byte[] content = pdf(10_000);
+        String payload = "data:application/pdf;base64," + Base64.getMimeEncoder().encodeToString(content);
+
+        Base64DocumentDecoder decoder = new Base64DocumentDecoder(1024 * 1024, 8192);
+        try (DecodedDocument document = decoder.decode(payload, type -> {})) {
+            assertTrue(document.inMemory());
+            assertEquals("application/pdf", document.mimeType());
+            assertArrayEquals(content, document.bytes());
+        }
+    }
+
+    @Test
+    public void testUnpaddedInputMatchesJdkDecoder() throws Exception {
+        Base64DocumentDecoder decoder = new Base64DocumentDecoder(1024, 8192);
+        for (int size = 0; size < 10; size++) {
+            byte[] content = new byte[size];
+            new Random(size).nextBytes(content);
+            String unpadded = Base64.getEncoder().withoutPadding().encodeToString(content);
+
+            try (DecodedDocument document = decoder.decode(unpadded, type -> {})) {
+                assertArrayEquals(Base64.getDecoder().decode(unpadded), document.bytes());
+            }
+        }
+    }
+
+    @Test
+    public void testLargeDocumentSpillsToTempFileAndIsDeletedOnClose() throws Exception {
+        byte[] content = pdf(300_000);
+        String payload = Base64.getEncoder().encodeToString(content);
+
+        Base64DocumentDecoder decoder = new Base64DocumentDecoder(100_000, 8192);
+        Path file;
+        try (DecodedDocument document = decoder.decode(payload, type -> {})) {
+            assertFalse(document.inMemory());
+            assertEquals(content.length, document.length());
+            file = document.file();
+            assertArrayEquals(content, Files.readAllBytes(file));
+        }
+        assertFalse(Files.exists(file));
+    }
+
+    @Test
+    public void testDisallowedTypeRejectedBeforeRestIsDecoded() {
+        byte[] content = new byte[300_000];
+        String payload = Base64.getEncoder().encodeToString(content);
+        List<String> seen = new ArrayList<>();
+
+        Base64DocumentDecoder decoder = new Base64DocumentDecoder(100_000, 8192);
+        assertThrows(SecurityException.class, () -> decoder.decode(payload, type -> {
+            seen.add(type);
+            throw new SecurityException("blocked " + type);
+        }));
+        assertEquals(1, seen.size());
+    }
+
+    @Test
+    public void testIllegalCharacterIsRejected() {
+        Base64DocumentDecoder decoder = new Base64DocumentDecoder(1024, 8192);
+
+        assertThrows(IllegalArgumentException.class, () -> decoder.decode("QUJD$REVG", type -> {}));
+        assertThrows(IllegalArgumentException.class, () -> decoder.decode("QUJDR", type -> {}));
+    }
+}
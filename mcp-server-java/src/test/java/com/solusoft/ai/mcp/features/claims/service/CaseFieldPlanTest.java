@@ -0,0 +1,74 @@
+package com.solusoft.ai.mcp.features.claims.service;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.solusoft.ai.mcp.features.claims.model.CreateHealthClaimRequest;
+import com.solusoft.ai.mcp.features.claims.model.CreateMotorClaimRequest;
+
+public class CaseFieldPlanTest {
+
+    public record DatedRequest(String reportDate, String followUpDate, String eventType) {}
+
+    private record HiddenRequest(String name) {}
+
+    @Test
+    public void testMotorRequestMapsToSameKeysAsJacksonConversion() {
+        CreateMotorClaimRequest request = new CreateMotorClaimRequest("Jane Doe", "POL-1", new BigDecimal("1200.50"),
+                LocalDate.of(2025, 1, 1), "Fender bender", null, "collision", "Tesla", "AB-123", "high");
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        @SuppressWarnings("unchecked")
+        Map<String, Object> converted = objectMapper.convertValue(request, Map.class);
+
+        Map<String, Object> fields = CaseFieldPlan.of(CreateMotorClaimRequest.class).toCaseFields(request);
+
+        assertEquals(converted.size(), fields.size());
+        converted.keySet().forEach(key -> assertTrue(fields.containsKey(CaseFieldPlan.toFieldName(key)), key));
+        assertEquals(new BigDecimal("1200.50"), fields.get("CLAIM_AMOUNT"));
+        assertEquals(LocalDate.of(2025, 1, 1), fields.get("INCIDENT_DATE"));
+        assertEquals("AB-123", fields.get("LICENSE_PLATE_NUMBER"));
+        assertTrue(fields.containsKey("CLAIM_DOC_ID"));
+        assertNull(fields.get("CLAIM_DOC_ID"));
+    }
+
+    @Test
+    public void testFieldNamesFollowComponentOrder() {
+        assertArrayEquals(new String[] {"CLAIMANT_NAME", "POLICY_NUMBER", "CLAIM_AMOUNT", "INCIDENT_DATE", "DIAGNOSIS",
+                "HOSPITAL_NAME", "DESCRIPTION", "CLAIM_DOC_ID", "INCIDENT_TYPE", "PHYSICIAN", "PHYSICIAN_NOTES",
+                "PRIORITY", "TREATMENT_SUMMARY"}, CaseFieldPlan.of(CreateHealthClaimRequest.class).fieldNames());
+    }
+
+    @Test
+    public void testStringDatesAreParsedWhenValid() {
+        Map<String, Object> fields = CaseFieldPlan.of(DatedRequest.class)
+                .toCaseFields(new DatedRequest("2025-02-03", "next week", "2025-02-03"));
+
+        assertEquals(LocalDate.of(2025, 2, 3), fields.get("REPORT_DATE"));
+        assertEquals("next week", fields.get("FOLLOW_UP_DATE"));
+        assertEquals("2025-02-03", fields.get("EVENT_TYPE"));
+    }
+
+    @Test
+    public void testPlanIsCompiledOncePerType() {
+        assertSame(CaseFieldPlan.of(CreateMotorClaimRequest.class), CaseFieldPlan.of(CreateMotorClaimRequest.class));
+    }
+
+    @Test
+    public void testNonPublicRecordIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> CaseFieldPlan.of(HiddenRequest.class));
+    }
+}
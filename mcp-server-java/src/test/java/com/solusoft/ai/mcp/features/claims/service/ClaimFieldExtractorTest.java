@@ -0,0 +1,77 @@
+package com.solusoft.ai.mcp.features.claims.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.ClassPathResource;
+
+public class ClaimFieldExtractorTest {
+
+    private final ClaimFieldExtractor extractor = extractor();
+
+    private static ClaimFieldExtractor extractor() {
+        try {
+            return new ClaimFieldExtractor(new ClassPathResource("claim-extraction.properties"));
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Test
+    public void testSynonymsMapToOneKeyAndUnknownLabelsAreSnakeCased() {
+        Map<String, String> fields = extractor.extract(
+                "POLICY NO.: P-1\r\nInsured-Name:  Jane Doe \nDate of Loss : 2025-01-01\nAdjuster Notes: see file: page 2");
+
+        assertEquals("P-1", fields.get("policy_number"));
+        assertEquals("Jane Doe", fields.get("claimant_name"));
+        assertEquals("2025-01-01", fields.get("incident_date"));
+        assertEquals("see file: page 2", fields.get("adjuster_notes"));
+    }
+
+    @Test
+    public void testLastOccurrenceWinsAndLinesWithoutLabelAreSkipped() {
+        Map<String, String> fields = extractor.extract("Claim Amount: 100\n: orphan\nno label here\nAmount Claimed: 250");
+
+        assertEquals("250", fields.get("claim_amount"));
+        assertFalse(fields.containsKey(""));
+        assertEquals(2, fields.size());
+    }
+
+    @Test
+    public void testKeywordsOnlyMatchWholeWords() {
+        assertEquals("healthcare", extractor.extract("Primary care visit, scar tissue noted. Cardiology referral.")
+                .get("claim_type"));
+        assertEquals("auto", extractor.extract("Vehicle: Car\nMake: Tesla").get("claim_type"));
+        assertEquals("auto", extractor.extract("Photo of the license\nplate attached").get("claim_type"));
+    }
+
+    @Test
+    public void testFailedMultiWordKeywordStillCountsTheNextWord() throws Exception {
+        ClaimFieldExtractor custom = new ClaimFieldExtractor(new ByteArrayResource(
+                "type.auto = license plate, car\ntype.healthcare = clinic, plate number\n".getBytes()));
+
+        assertEquals("auto", custom.extract("License car, clinic nearby, second car").get("claim_type"));
+        assertEquals("healthcare", custom.extract("License plate number at the clinic").get("claim_type"));
+    }
+
+    @Test
+    public void testTypeWithMostHitsWins() {
+        assertEquals("healthcare", extractor.extract(
+                "Patient was driven by car to the hospital. Diagnosis by the attending physician.").get("claim_type"));
+        assertEquals("healthcare", extractor.extract("Nothing to classify").get("claim_type"));
+    }
+
+    @Test
+    public void testDictionaryIsConfigurable() throws Exception {
+        ClaimFieldExtractor custom = new ClaimFieldExtractor(new ByteArrayResource(
+                "field.policy_number = contract ref\ntype.property = roof, flood\ntype.healthcare = clinic\n".getBytes()));
+
+        Map<String, String> fields = custom.extract("Contract Ref: C-9\nFlood damage to the roof");
+        assertEquals("C-9", fields.get("policy_number"));
+        assertEquals("property", fields.get("claim_type"));
+    }
+}
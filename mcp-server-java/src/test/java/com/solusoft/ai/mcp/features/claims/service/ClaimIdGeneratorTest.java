@@ -0,0 +1,137 @@
+package com.solusoft.ai.mcp.features.claims.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+import com.solusoft.ai.mcp.features.claims.repository.ClaimIdNodeRepository;
+
+public class ClaimIdGeneratorTest {
+
+    @Test
+    public void testConcurrentIdsAreUniqueAndIncreasingPerThread() throws Exception {
+        ClaimIdGenerator generator = new ClaimIdGenerator(null, 7, 60);
+        int threads = 16;
+        int perThread = 20_000;
+        Set<Long> seen = ConcurrentHashMap.newKeySet();
+        CountDownLatch start = new CountDownLatch(1);
+
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                results.add(pool.submit(() -> {
+                    start.await();
+                    long previous = Long.MIN_VALUE;
+                    boolean increasing = true;
+                    for (int i = 0; i < perThread; i++) {
+                        long id = generator.nextId();
+                        increasing &= id > previous;
+                        previous = id;
+                        seen.add(id);
+                    }
+                    return increasing;
+                }));
+            }
+            start.countDown();
+            for (Future<Boolean> result : results) {
+                assertTrue(result.get());
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        assertEquals(threads * perThread, seen.size());
+    }
+
+    @Test
+    public void testNodesNeverCollideInTheSameMillisecond() {
+        ClaimIdGenerator first = new ClaimIdGenerator(null, 1, 60);
+        ClaimIdGenerator second = new ClaimIdGenerator(null, 2, 60);
+        long now = System.currentTimeMillis();
+
+        Set<Long> ids = new HashSet<>();
+        for (int i = 0; i < 1000; i++) {
+            ids.add(first.nextId(now, 1));
+            ids.add(second.nextId(now, 2));
+        }
+        assertEquals(2000, ids.size());
+    }
+
+    @Test
+    public void testSequenceOverflowCarriesIntoTheNextMillisecond() {
+        ClaimIdGenerator generator = new ClaimIdGenerator(null, 3, 60);
+        long now = System.currentTimeMillis();
+        int count = (1 << ClaimIdGenerator.SEQUENCE_BITS) * 3;
+
+        long previous = Long.MIN_VALUE;
+        for (int i = 0; i < count; i++) {
+            long id = generator.nextId(now, 3);
+            assertTrue(id > previous);
+            assertEquals(3, (id >>> ClaimIdGenerator.SEQUENCE_BITS) & ClaimIdGenerator.MAX_NODE_ID);
+            previous = id;
+        }
+    }
+
+    @Test
+    public void testClockSteppingBackStaysMonotonic() {
+        ClaimIdGenerator generator = new ClaimIdGenerator(null, 4, 60);
+        long now = System.currentTimeMillis();
+
+        long before = generator.nextId(now, 4);
+        long after = generator.nextId(now - 5_000, 4);
+        assertTrue(after > before);
+    }
+
+    @Test
+    public void testClaimIdKeepsPrefix() {
+        String claimId = new ClaimIdGenerator(null, 5, 60).nextClaimId("HC-");
+        assertTrue(claimId.matches("HC-\\d+"));
+    }
+
+    @Test
+    public void testLeasedNodeIsUsedAndReleasedOnShutdown() {
+        ClaimIdNodeRepository repository = mock(ClaimIdNodeRepository.class);
+        when(repository.lease(anyString(), anyInt(), any(), any())).thenReturn(Optional.of(42));
+        ClaimIdGenerator generator = new ClaimIdGenerator(repository, -1, 60);
+
+        long id = generator.nextId();
+        assertEquals(42, (id >>> ClaimIdGenerator.SEQUENCE_BITS) & ClaimIdGenerator.MAX_NODE_ID);
+
+        generator.shutdown();
+        verify(repository).release(eq(42), anyString());
+    }
+
+    @Test
+    public void testNoFreeNodeRefusesIds() {
+        ClaimIdNodeRepository repository = mock(ClaimIdNodeRepository.class);
+        when(repository.lease(anyString(), anyInt(), any(), any())).thenReturn(Optional.empty());
+
+        ClaimIdGenerator generator = new ClaimIdGenerator(repository, -1, 60);
+        assertThrows(IllegalStateException.class, () -> generator.nextClaimId("AUTO-"));
+    }
+
+    @Test
+    public void testNodeIdOutOfRangeIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new ClaimIdGenerator(null, 1024, 60));
+    }
+}
@@ -0,0 +1,200 @@
+package com.solusoft.ai.mcp.features.claims.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.solusoft.ai.mcp.exception.ServerBusyException;
+import com.solusoft.ai.mcp.features.claims.model.ClaimIdempotencyKey;
+import com.solusoft.ai.mcp.features.claims.repository.ClaimIdempotencyKeyRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class ClaimIdempotencyServiceTest {
+
+    private final ClaimIdempotencyKeyRepository repository = mock(ClaimIdempotencyKeyRepository.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicInteger casesCreated = new AtomicInteger();
+    private ClaimIdempotencyService service;
+
+    @BeforeEach
+    public void setup() {
+        service = new ClaimIdempotencyService(repository, new ObjectMapper(), meterRegistry, 86400, 100, 120, 1, 20);
+        when(repository.claim(any()))
+                .thenAnswer(invocation -> Optional.of(invocation.getArgument(0, ClaimIdempotencyKey.class).keyHash()));
+    }
+
+    private String createCase() {
+        return "{\"case_id\":\"CASE-" + casesCreated.incrementAndGet() + "\"}";
+    }
+
+    @Test
+    public void testRetryWithSameKeyReplaysResponse() throws Exception {
+        Map<String, String> request = Map.of("policy", "POL-1");
+
+        String first = service.execute("create_motor_claim", "key-1", request, this::createCase);
+        String retry = service.execute("create_motor_claim", "key-1", request, this::createCase);
+
+        assertEquals(first, retry);
+        assertEquals(1, casesCreated.get());
+        verify(repository, times(1)).claim(any());
+        verify(repository).complete(anyString(), eq(first), any());
+        assertEquals(1, meterRegistry.find("claims.idempotency.requests").tag("result", "memory_hit").counter().count());
+    }
+
+    @Test
+    public void testWithoutKeyIdenticalRequestsAreDeduplicated() throws Exception {
+        service.execute("create_motor_claim", null, Map.of("policy", "POL-1"), this::createCase);
+        service.execute("create_motor_claim", "  ", Map.of("policy", "POL-1"), this::createCase);
+        service.execute("create_motor_claim", null, Map.of("policy", "POL-2"), this::createCase);
+
+        assertEquals(2, casesCreated.get());
+    }
+
+    @Test
+    public void testConcurrentDuplicatesCreateOneCase() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        int callers = 8;
+        ExecutorService pool = Executors.newFixedThreadPool(callers);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                results.add(pool.submit(() -> service.execute("create_motor_claim", "key-2", Map.of("policy", "POL-1"),
+                        () -> {
+                            release.await(5, TimeUnit.SECONDS);
+                            return createCase();
+                        })));
+            }
+            Thread.sleep(200);
+            release.countDown();
+            for (Future<String> result : results) {
+                assertEquals("{\"case_id\":\"CASE-1\"}", result.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        assertEquals(1, casesCreated.get());
+    }
+
+    @Test
+    public void testResponseCompletedOnAnotherInstanceIsReplayed() throws Exception {
+        Map<String, String> request = Map.of("policy", "POL-1");
+        // The stored row carries this call's hashes, taken from the row it tried to insert
+        ClaimIdempotencyKey[] attempted = new ClaimIdempotencyKey[1];
+        // doAnswer, as when(repository.claim(any())) would run the setup answer with a null key
+        doAnswer(invocation -> {
+            attempted[0] = invocation.getArgument(0);
+            return Optional.empty();
+        }).when(repository).claim(any());
+        when(repository.findById(anyString())).thenAnswer(invocation -> Optional.of(new ClaimIdempotencyKey(
+                attempted[0].keyHash(), "create_motor_claim", attempted[0].requestHash(), ClaimIdempotencyKey.COMPLETED,
+                "{\"case_id\":\"CASE-OTHER\"}", Instant.now(), Instant.now().plusSeconds(3600))));
+
+        String response = service.execute("create_motor_claim", "key-3", request, this::createCase);
+
+        assertEquals("{\"case_id\":\"CASE-OTHER\"}", response);
+        assertEquals(0, casesCreated.get());
+    }
+
+    @Test
+    public void testInProgressOnAnotherInstanceTimesOutAsServerBusy() {
+        ClaimIdempotencyKey[] attempted = new ClaimIdempotencyKey[1];
+        doAnswer(invocation -> {
+            attempted[0] = invocation.getArgument(0);
+            return Optional.empty();
+        }).when(repository).claim(any());
+        when(repository.findById(anyString())).thenAnswer(invocation -> Optional.of(attempted[0]));
+
+        assertThrows(ServerBusyException.class,
+                () -> service.execute("create_motor_claim", "key-4", Map.of("policy", "POL-1"), this::createCase));
+        assertEquals(0, casesCreated.get());
+    }
+
+    @Test
+    public void testKeyReusedForDifferentRequestIsRejected() throws Exception {
+        service.execute("create_motor_claim", "key-5", Map.of("policy", "POL-1"), this::createCase);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> service.execute("create_motor_claim", "key-5", Map.of("policy", "POL-2"), this::createCase));
+        assertEquals(1, casesCreated.get());
+    }
+
+    @Test
+    public void testFailureReleasesKeySoRetryRunsAgain() throws Exception {
+        Map<String, String> request = Map.of("policy", "POL-1");
+
+        assertThrows(IOException.class, () -> service.execute("create_motor_claim", "key-6", request, () -> {
+            throw new IOException("Case360 timed out");
+        }));
+        verify(repository).release(anyString());
+
+        service.execute("create_motor_claim", "key-6", request, this::createCase);
+        assertEquals(1, casesCreated.get());
+    }
+
+    @Test
+    public void testDatabaseOutageStillDeduplicatesLocally() throws Exception {
+        doThrow(new IllegalStateException("connection refused")).when(repository).claim(any());
+        Map<String, String> request = Map.of("policy", "POL-1");
+
+        service.execute("submit_claim", "key-7", request, this::createCase);
+        service.execute("submit_claim", "key-7", request, this::createCase);
+
+        assertEquals(1, casesCreated.get());
+        verify(repository, never()).complete(anyString(), anyString(), any());
+    }
+
+    @Test
+    public void testRunningCallKeepsItsClaimAlive() throws Exception {
+        // 1 s in-progress timeout: refreshed every ~333 ms while Case360 takes longer than that
+        ClaimIdempotencyService slowCase360 = new ClaimIdempotencyService(repository, new ObjectMapper(), meterRegistry,
+                86400, 100, 1, 1, 20);
+        slowCase360.startSweeper();
+        try {
+            slowCase360.execute("create_motor_claim", "key-8", Map.of("policy", "POL-1"), () -> {
+                Thread.sleep(1200);
+                return createCase();
+            });
+
+            ArgumentCaptor<ClaimIdempotencyKey> claimed = ArgumentCaptor.forClass(ClaimIdempotencyKey.class);
+            verify(repository).claim(claimed.capture());
+            verify(repository, atLeast(2)).extend(eq(claimed.getValue().keyHash()), eq(claimed.getValue().createdAt()), any());
+
+            // No refresh once the response is stored
+            clearInvocations(repository);
+            Thread.sleep(700);
+            verify(repository, never()).extend(anyString(), any(), any());
+        } finally {
+            slowCase360.shutdown();
+        }
+    }
+}
@@ -0,0 +1,258 @@
+package com.solusoft.ai.mcp.features.claims.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.solusoft.ai.mcp.exception.Case360IntegrationException;
+import com.solusoft.ai.mcp.exception.Case360UnavailableException;
+import com.solusoft.ai.mcp.features.claims.model.Claim;
+import com.solusoft.ai.mcp.features.claims.model.ClaimOutboxEvent;
+import com.solusoft.ai.mcp.features.claims.repository.ClaimOutboxRepository;
+import com.solusoft.ai.mcp.features.claims.repository.ClaimRepository;
+import com.solusoft.ai.mcp.features.claims.service.ClaimOutboxService.ClaimRecord;
+import com.solusoft.ai.mcp.integration.case360.AsyncCase360Client;
+import com.solusoft.ai.mcp.integration.case360.Case360Client;
+import com.solusoft.ai.mcp.integration.case360.Case360TemplateRegistry;
+import com.solusoft.ai.mcp.integration.case360.CaseFolderPool;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class ClaimOutboxServiceTest {
+
+    private final ClaimRepository claimRepository = mock(ClaimRepository.class);
+    private final ClaimOutboxRepository outboxRepository = mock(ClaimOutboxRepository.class);
+    private final Case360Client case360Client = mock(Case360Client.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private ClaimOutboxService service;
+
+    @BeforeEach
+    public void setup() {
+        service = service(2, 2);
+        when(case360Client.getCaseFolderTemplateId("Motor Claim")).thenReturn(BigDecimal.TEN);
+        when(case360Client.getCaseFolderTemplateId("Healthcare Claim")).thenReturn(BigDecimal.ONE);
+        when(case360Client.createCase(any())).thenReturn("CASE-NEW");
+    }
+
+    private ClaimOutboxService service(int batchSize, int maxConcurrency) {
+        Case360TemplateRegistry templateRegistry = new Case360TemplateRegistry(case360Client, meterRegistry, 30, 5);
+        CaseFolderPool caseFolderPool = new CaseFolderPool(case360Client, templateRegistry, meterRegistry, false,
+                List.of("Motor Claim", "Healthcare Claim"), 5, 2, 3600, 300, 30);
+        return new ClaimOutboxService(claimRepository, outboxRepository, case360Client, templateRegistry,
+                caseFolderPool, new AsyncCase360Client(case360Client, templateRegistry), objectMapper, meterRegistry,
+                false, 500, batchSize, maxConcurrency, 3, 1000, 300, 300, 7, 2);
+    }
+
+    private static Claim claim(String claimId, String caseId) {
+        return new Claim(1, claimId, "doc-1", "POL-1", "Zed", "motor", new BigDecimal("500.00"), caseId,
+                "submitted", Instant.now(), Instant.now(), "{}", null, null);
+    }
+
+    private static ClaimOutboxEvent event(long id, String claimId, int attempts) {
+        return new ClaimOutboxEvent(id, claimId, ClaimOutboxEvent.CLAIM_UPSERTED,
+                "{\"CLAIM_ID\":\"" + claimId + "\",\"INCIDENT_DATE\":\"2025-01-01\"}", ClaimOutboxEvent.PENDING,
+                attempts, null, "test", Instant.now().plusSeconds(300), Instant.now(), Instant.now(), null);
+    }
+
+    private double events(String result) {
+        var counter = meterRegistry.find("claims.outbox.events").tag("result", result).counter();
+        return counter == null ? 0 : counter.count();
+    }
+
+    @Test
+    public void testStoreSavesClaimAndQueuesCaseFields() throws Exception {
+        when(claimRepository.upsert(any(Claim.class))).thenReturn(true);
+
+        assertTrue(service.store(claim("AUTO-1", null), LocalDate.of(2025, 1, 1),
+                Map.of("vehicleMake", "Ford", "CLAIM_ID", "spoofed")));
+
+        ArgumentCaptor<ClaimOutboxEvent> captor = ArgumentCaptor.forClass(ClaimOutboxEvent.class);
+        verify(outboxRepository).insert(captor.capture());
+        Map<?, ?> payload = objectMapper.readValue(captor.getValue().payload(), Map.class);
+        assertEquals("AUTO-1", captor.getValue().claimId());
+        assertEquals("AUTO-1", payload.get("CLAIM_ID"));
+        assertEquals("500.00", payload.get("CLAIM_AMOUNT"));
+        assertEquals("2025-01-01", payload.get("INCIDENT_DATE"));
+        assertEquals("Ford", payload.get("VEHICLE_MAKE"));
+        verify(case360Client, never()).updateCaseFields(anyString(), any(), any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testStoreAllWritesClaimsAndEventsInBatches() throws Exception {
+        when(claimRepository.upsertAll(anyList(), anyInt())).thenReturn(3);
+
+        int stored = service.storeAll(List.of(
+                new ClaimRecord(claim("AUTO-11", null), LocalDate.of(2025, 1, 1), Map.of()),
+                new ClaimRecord(claim("AUTO-12", "CASE-12"), null, Map.of("vehicleMake", "Ford")),
+                new ClaimRecord(claim("AUTO-13", null), null, Map.of())));
+
+        assertEquals(3, stored);
+        verify(claimRepository).upsertAll(anyList(), eq(2));
+        ArgumentCaptor<List<ClaimOutboxEvent>> events = ArgumentCaptor.forClass(List.class);
+        verify(outboxRepository).insertAll(events.capture(), eq(2));
+        assertEquals(List.of("AUTO-11", "AUTO-12", "AUTO-13"),
+                events.getValue().stream().map(ClaimOutboxEvent::claimId).toList());
+        Map<?, ?> payload = objectMapper.readValue(events.getValue().get(1).payload(), Map.class);
+        assertEquals("Ford", payload.get("VEHICLE_MAKE"));
+        verify(claimRepository, never()).upsert(any(Claim.class));
+        verify(outboxRepository, never()).insert(any(ClaimOutboxEvent.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testClaimWithoutCaseGetsOneAttachedBeforeFieldsAreWritten() {
+        when(claimRepository.findByClaimId("AUTO-2")).thenReturn(Optional.of(claim("AUTO-2", null)));
+        when(claimRepository.attachCase("AUTO-2", "CASE-NEW")).thenReturn(1);
+
+        service.dispatch(event(7, "AUTO-2", 0));
+
+        ArgumentCaptor<Map<String, Object>> fields = ArgumentCaptor.forClass(Map.class);
+        verify(case360Client).updateNewCaseFields(eq("CASE-NEW"), eq(BigDecimal.TEN), fields.capture());
+        assertEquals("reported", fields.getValue().get("CLAIM_STATUS"));
+        assertEquals(LocalDate.of(2025, 1, 1), fields.getValue().get("INCIDENT_DATE"));
+        verify(claimRepository).recordCaseStatus(eq("AUTO-2"), eq("reported"), any());
+        verify(outboxRepository).markDispatched(eq(7L), any());
+        assertEquals(1, events("dispatched"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testClaimWithCaseIsUpdatedInPlace() {
+        when(claimRepository.findByClaimId("AUTO-3")).thenReturn(Optional.of(claim("AUTO-3", "CASE-3")));
+
+        service.dispatch(event(8, "AUTO-3", 0));
+
+        ArgumentCaptor<Map<String, Object>> fields = ArgumentCaptor.forClass(Map.class);
+        verify(case360Client).updateCaseFields(eq("CASE-3"), eq(BigDecimal.TEN), fields.capture());
+        assertFalse(fields.getValue().containsKey("CLAIM_STATUS"));
+        verify(case360Client, never()).createCase(any());
+        verify(claimRepository, never()).attachCase(anyString(), anyString());
+        verify(claimRepository, never()).recordCaseStatus(anyString(), anyString(), any());
+    }
+
+    @Test
+    public void testCaseAttachedConcurrentlyIsReused() {
+        when(claimRepository.findByClaimId("AUTO-4"))
+                .thenReturn(Optional.of(claim("AUTO-4", null)), Optional.of(claim("AUTO-4", "CASE-OTHER")));
+        when(claimRepository.attachCase("AUTO-4", "CASE-NEW")).thenReturn(0);
+
+        service.dispatch(event(9, "AUTO-4", 0));
+
+        verify(case360Client).updateCaseFields(eq("CASE-OTHER"), eq(BigDecimal.TEN), any());
+        verify(outboxRepository).markDispatched(eq(9L), any());
+    }
+
+    @Test
+    public void testFailureIsRetriedWithBackoff() {
+        when(claimRepository.findByClaimId("AUTO-5")).thenReturn(Optional.of(claim("AUTO-5", "CASE-5")));
+        doThrow(new Case360IntegrationException("Read timed out"))
+                .when(case360Client).updateCaseFields(anyString(), any(), any());
+
+        Instant before = Instant.now();
+        service.dispatch(event(10, "AUTO-5", 1));
+
+        ArgumentCaptor<Instant> availableAt = ArgumentCaptor.forClass(Instant.class);
+        verify(outboxRepository).markRetry(eq(10L), anyString(), availableAt.capture());
+        // Second attempt: 1s backoff doubled
+        assertFalse(availableAt.getValue().isBefore(before.plusSeconds(2)));
+        verify(outboxRepository, never()).markDispatched(anyLong(), any());
+        assertEquals(1, events("retried"));
+    }
+
+    @Test
+    public void testLocalRejectionIsRescheduledWithoutUsingAnAttempt() {
+        when(claimRepository.findByClaimId("AUTO-15")).thenReturn(Optional.of(claim("AUTO-15", "CASE-15")));
+        doThrow(new Case360UnavailableException("Case360 CREATE capacity exhausted", Duration.ofSeconds(1)))
+                .when(case360Client).updateCaseFields(anyString(), any(), any());
+
+        Instant before = Instant.now();
+        // Already at the last attempt: a rejection still must not fail the event
+        service.dispatch(event(15, "AUTO-15", 2));
+
+        ArgumentCaptor<Instant> availableAt = ArgumentCaptor.forClass(Instant.class);
+        verify(outboxRepository).reschedule(eq(15L), anyString(), availableAt.capture());
+        assertFalse(availableAt.getValue().isBefore(before.plusSeconds(1)));
+        verify(outboxRepository, never()).markRetry(anyLong(), anyString(), any());
+        verify(outboxRepository, never()).markFailed(anyLong(), anyString());
+        assertEquals(1, events("rescheduled"));
+    }
+
+    @Test
+    public void testEventIsFailedAfterMaxAttempts() {
+        when(claimRepository.findByClaimId("AUTO-6")).thenReturn(Optional.empty());
+
+        service.dispatch(event(11, "AUTO-6", 2));
+
+        verify(outboxRepository).markFailed(eq(11L), anyString());
+        verify(outboxRepository, never()).markRetry(anyLong(), anyString(), any());
+        assertEquals(1, events("failed"));
+    }
+
+    @Test
+    public void testDispatchPendingKeepsAtMostMaxConcurrencyEventsInFlight() {
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+        when(claimRepository.findByClaimId(anyString()))
+                .thenAnswer(invocation -> Optional.of(claim(invocation.getArgument(0), "CASE-X")));
+        doAnswer(invocation -> {
+            peak.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            Thread.sleep(20);
+            inFlight.decrementAndGet();
+            return null;
+        }).when(case360Client).updateCaseFields(anyString(), any(), any());
+        service = service(8, 2);
+        when(outboxRepository.lockBatch(anyString(), any(), any(), anyInt()))
+                .thenReturn(IntStream.range(0, 6).mapToObj(i -> event(20 + i, "AUTO-2" + i, 0)).toList());
+
+        service.dispatchPending();
+
+        verify(outboxRepository, times(6)).markDispatched(anyLong(), any());
+        assertTrue(peak.get() <= 2, "peak in flight: " + peak.get());
+    }
+
+    @Test
+    public void testDispatchPendingDrainsFullBatches() {
+        when(claimRepository.findByClaimId(anyString()))
+                .thenAnswer(invocation -> Optional.of(claim(invocation.getArgument(0), "CASE-X")));
+        when(outboxRepository.lockBatch(anyString(), any(), any(), anyInt()))
+                .thenReturn(List.of(event(1, "AUTO-7", 0), event(2, "AUTO-8", 0)), List.of(event(3, "AUTO-9", 0)));
+        when(outboxRepository.countPending()).thenReturn(0L);
+
+        service.dispatchPending();
+
+        verify(outboxRepository, times(2)).lockBatch(anyString(), any(), any(), eq(2));
+        verify(outboxRepository, times(3)).markDispatched(anyLong(), any());
+        assertEquals(0.0, meterRegistry.find("claims.outbox.pending").gauge().value());
+    }
+}
@@ -0,0 +1,51 @@
+package com.solusoft.ai.mcp.features.claims.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class ClaimStatusCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    public void testEvictsLeastRecentlyUsedBeyondCapacity() {
+        ClaimStatusCache cache = new ClaimStatusCache(meterRegistry, 2, 30);
+        cache.put("A", "reported");
+        cache.put("B", "reported");
+        cache.get("A");
+        cache.put("C", "reported");
+
+        assertNotNull(cache.get("A"));
+        assertNull(cache.get("B"));
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    public void testExpiredEntryIsNotServed() {
+        ClaimStatusCache cache = new ClaimStatusCache(meterRegistry, 10, 30);
+        cache.put("A", "approved", Instant.now().minus(Duration.ofMinutes(1)));
+
+        assertNull(cache.get("A"));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testHitRatioCountsMemoryAndDatabaseHits() {
+        ClaimStatusCache cache = new ClaimStatusCache(meterRegistry, 10, 30);
+        cache.recordLookup("memory_hit", Instant.now());
+        cache.recordLookup("db_hit", Instant.now());
+        cache.recordLookup("miss", null);
+        cache.recordLookup("miss", null);
+
+        assertEquals(0.5, meterRegistry.get("claims.status.cache.hit.ratio").gauge().value());
+        assertEquals(1, meterRegistry.get("claims.status.cache.age").tag("tier", "database").summary().count());
+    }
+}
@@ -0,0 +1,164 @@
+package com.solusoft.ai.mcp.features.claims.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.core.io.ClassPathResource;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.solusoft.ai.mcp.features.claims.model.Claim;
+import com.solusoft.ai.mcp.features.claims.model.SubmitClaimRequest;
+import com.solusoft.ai.mcp.features.claims.repository.ClaimRepository;
+import com.solusoft.ai.mcp.features.claims.repository.DocumentHashRepository;
+import com.solusoft.ai.mcp.features.claims.service.ClaimSubmissionService.SubmissionResult;
+import com.solusoft.ai.mcp.integration.case360.AsyncCase360Client;
+import com.solusoft.ai.mcp.integration.case360.Case360Client;
+import com.solusoft.ai.mcp.integration.case360.Case360TemplateRegistry;
+import com.solusoft.ai.mcp.integration.case360.CaseFolderPool;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class ClaimSubmissionServiceTest {
+
+    private static final String MOTOR_DOC = "Policy Number: POL-777\nClaimant Name: Carl Chain\nVehicle: Car\n"
+            + "Incident Date: 2025-01-01\nClaim Amount: $1,200.50\nLicense Plate: ABC-123\nWitness: Bob";
+
+    private final Case360Client case360Client = mock(Case360Client.class);
+    private final ClaimRepository claimRepository = mock(ClaimRepository.class);
+    private AsyncCase360Client asyncCase360Client;
+    private ClaimSubmissionService service;
+
+    @BeforeEach
+    public void setup() throws Exception {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        Case360TemplateRegistry templateRegistry = new Case360TemplateRegistry(case360Client, meterRegistry, 30, 5);
+        asyncCase360Client = new AsyncCase360Client(case360Client, templateRegistry);
+        ClaimStatusService claimStatusService = new ClaimStatusService(case360Client, asyncCase360Client,
+                new ClaimStatusCache(meterRegistry, 1000, 30), claimRepository, Set.of("getMotorClaimByClaimId"),
+                50, 4, 500, 300);
+        DocumentUploadService documentUploadService = new DocumentUploadService(case360Client, asyncCase360Client,
+                new Base64DocumentDecoder(1024 * 1024, 8192), mock(DocumentHashRepository.class), null,
+                new DocumentMemoryBudget(meterRegistry, true, 64, 100), meterRegistry, 1048576, true);
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+        service = new ClaimSubmissionService(asyncCase360Client,
+                new ClaimFieldExtractor(new ClassPathResource("claim-extraction.properties")), documentUploadService,
+                null, claimRepository, claimStatusService, objectMapper, new ClaimIdGenerator(null, 1, 60),
+                new CaseFolderPool(case360Client, templateRegistry, meterRegistry, false,
+                        List.of("Motor Claim", "Healthcare Claim"), 5, 2, 3600, 300, 30));
+
+        when(case360Client.getCaseFolderTemplateId(any())).thenReturn(BigDecimal.TEN);
+        when(case360Client.getFilestoreTemplateId(any())).thenReturn(BigDecimal.ONE);
+        when(claimRepository.save(any(Claim.class))).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        asyncCase360Client.shutdown();
+    }
+
+    @Test
+    public void testUploadRunsAlongsideCaseCreationAndResultsAreCombined() throws Exception {
+        // Each call only returns once the other has started: a sequential pipeline would time out
+        CountDownLatch caseStarted = new CountDownLatch(1);
+        CountDownLatch uploadStarted = new CountDownLatch(1);
+        when(case360Client.createCase(any())).thenAnswer(invocation -> {
+            caseStarted.countDown();
+            assertTrue(uploadStarted.await(5, TimeUnit.SECONDS));
+            return "CASE-1";
+        });
+        when(case360Client.createFileStore(any())).thenAnswer(invocation -> {
+            uploadStarted.countDown();
+            assertTrue(caseStarted.await(5, TimeUnit.SECONDS));
+            return "900";
+        });
+
+        String pdf = Base64.getEncoder().encodeToString("%PDF-1.5\nclaim form".getBytes());
+        SubmissionResult result = service.submit(new SubmitClaimRequest(MOTOR_DOC, pdf, "claim.pdf", null, null));
+
+        assertTrue(result.claimId().startsWith("AUTO-"));
+        assertEquals("CASE-1", result.caseId());
+        assertEquals("900", result.documentId());
+        assertEquals("auto", result.claimType());
+        assertTrue(result.warnings().isEmpty());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Map<String, Object>> updates = ArgumentCaptor.forClass(Map.class);
+        verify(case360Client).updateNewCaseFields(eq("CASE-1"), eq(BigDecimal.TEN), updates.capture());
+        assertEquals("900", updates.getValue().get("CLAIM_DOC_ID"));
+        assertEquals("ABC-123", updates.getValue().get("LICENSE_PLATE_NUMBER"));
+        assertEquals(new BigDecimal("1200.50"), updates.getValue().get("CLAIM_AMOUNT"));
+        assertEquals(LocalDate.parse("2025-01-01"), updates.getValue().get("INCIDENT_DATE"));
+
+        ArgumentCaptor<Claim> stored = ArgumentCaptor.forClass(Claim.class);
+        verify(claimRepository).save(stored.capture());
+        assertEquals("CASE-1", stored.getValue().caseId());
+        assertEquals("900", stored.getValue().claimDocId());
+        assertTrue(stored.getValue().additionalData().contains("\"witness\":\"Bob\""));
+    }
+
+    @Test
+    public void testMissingRequiredFieldWritesNothing() throws Exception {
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> service.submit(
+                new SubmitClaimRequest("Claimant Name: Jane Doe\nHospital: General", null, null, null, null)));
+
+        assertTrue(e.getMessage().contains("policy_number"));
+        verify(case360Client, never()).createCase(any());
+        verify(claimRepository, never()).save(any());
+    }
+
+    @Test
+    public void testClaimTypeOverrideAndUnparseableAmountIsAWarning() throws Exception {
+        when(case360Client.createCase(any())).thenReturn("CASE-2");
+
+        SubmissionResult result = service.submit(new SubmitClaimRequest(
+                "Policy Number: POL-1\nClaimant Name: Jane\nClaim Amount: tbd", null, null, null, "healthcare"));
+
+        assertEquals("healthcare", result.claimType());
+        assertTrue(result.claimId().startsWith("HC-"));
+        assertEquals(1, result.warnings().size());
+        verify(case360Client).getCaseFolderTemplateId("Healthcare Claim");
+        verify(case360Client, never()).createFileStore(any());
+        verify(case360Client).updateNewCaseFields(eq("CASE-2"), any(BigDecimal.class), any());
+        verify(claimRepository).save(any(Claim.class));
+        verify(case360Client, never()).uploadDocument(any(BigDecimal.class), any(byte[].class), anyString());
+    }
+
+    @Test
+    public void testFailedCaseUpdateStoresNoRowAndRemovesTheFolder() throws Exception {
+        when(case360Client.createCase(any())).thenReturn("CASE-3");
+        doThrow(new IllegalStateException("Case360 rejected the update"))
+                .when(case360Client).updateNewCaseFields(eq("CASE-3"), any(BigDecimal.class), any());
+
+        assertThrows(IllegalStateException.class, () -> service.submit(
+                new SubmitClaimRequest("Policy Number: POL-3\nClaimant Name: Jane", null, null, null, "healthcare")));
+
+        // claim_doc_id stays free for a retry, and the inline-created folder is not orphaned
+        verify(claimRepository, never()).save(any());
+        verify(case360Client).removeCaseFolder("CASE-3");
+    }
+}
@@ -0,0 +1,45 @@
+package com.solusoft.ai.mcp.features.claims.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import com.solusoft.ai.mcp.exception.ServerBusyException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class DocumentMemoryBudgetTest {
+
+    private static final long MB = 1024 * 1024;
+
+    @Test
+    public void testRejectsWithRetryableErrorWhenExhaustedAndRecoversOnRelease() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        DocumentMemoryBudget budget = new DocumentMemoryBudget(meterRegistry, true, 10, 20);
+
+        DocumentMemoryBudget.Permit first = budget.acquire(6 * MB);
+        assertEquals(0.6, meterRegistry.get("claims.memory.budget.utilization").gauge().value(), 0.001);
+
+        ServerBusyException busy = assertThrows(ServerBusyException.class, () -> budget.acquire(6 * MB));
+        assertEquals(1.0, meterRegistry.get("claims.memory.budget.rejected").counter().count());
+        assertEquals(2, busy.getRetryAfter().toSeconds());
+
+        first.close();
+        first.close(); // idempotent
+        try (DocumentMemoryBudget.Permit second = budget.acquire(6 * MB)) {
+            assertEquals(6 * MB, budget.usedBytes());
+        }
+        assertEquals(0, budget.usedBytes());
+    }
+
+    @Test
+    public void testDocumentLargerThanBudgetReservesAllOfIt() {
+        DocumentMemoryBudget budget = new DocumentMemoryBudget(new SimpleMeterRegistry(), true, 10, 20);
+
+        try (DocumentMemoryBudget.Permit permit = budget.acquire(50 * MB)) {
+            assertEquals(10 * MB, budget.usedBytes());
+            assertThrows(ServerBusyException.class, () -> budget.acquire(1));
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.solusoft.ai.mcp.features.claims.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.solusoft.ai.mcp.features.claims.service.DocumentStagingService.Redeemed;
+import com.solusoft.ai.mcp.features.claims.service.DocumentStagingService.StagedDocument;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class DocumentStagingServiceTest {
+
+    @TempDir
+    Path stagingDir;
+
+    private static final byte[] PDF = "%PDF-1.5\nstaging test".getBytes();
+
+    private long filesInStaging() throws Exception {
+        try (var files = Files.list(stagingDir)) {
+            return files.count();
+        }
+    }
+
+    @Test
+    public void testStageHashesContentAndRedeemDeletesFileOnClose() throws Exception {
+        DocumentStagingService service = new DocumentStagingService(new SimpleMeterRegistry(), stagingDir, 1024, 900, 8192);
+
+        StagedDocument staged = service.stage(new ByteArrayInputStream(PDF), "claim.pdf", type -> {});
+        assertEquals("application/pdf", staged.mimeType());
+        assertEquals(HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(PDF)), staged.contentHash());
+        assertEquals(1, filesInStaging());
+
+        Redeemed redeemed = service.redeem(staged.token());
+        try (var content = redeemed.content()) {
+            assertEquals(PDF.length, Files.size(content.file()));
+        }
+        assertEquals(0, filesInStaging());
+        assertThrows(IllegalArgumentException.class, () -> service.redeem(staged.token()));
+    }
+
+    @Test
+    public void testOversizedOrBlockedDocumentLeavesNoFile() throws Exception {
+        DocumentStagingService service = new DocumentStagingService(new SimpleMeterRegistry(), stagingDir, 10, 900, 8192);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> service.stage(new ByteArrayInputStream(PDF), "big.pdf", type -> {}));
+        assertThrows(SecurityException.class,
+                () -> service.stage(new ByteArrayInputStream("plain".getBytes()), "a.txt", DocumentUploadService::requireAllowedType));
+        assertEquals(0, filesInStaging());
+    }
+
+    @Test
+    public void testExpiredTokenIsSweptAndRejected() throws Exception {
+        DocumentStagingService service = new DocumentStagingService(new SimpleMeterRegistry(), stagingDir, 1024, 0, 8192);
+
+        StagedDocument staged = service.stage(new ByteArrayInputStream(PDF), "claim.pdf", type -> {});
+        Thread.sleep(5);
+        service.sweepExpired();
+
+        assertEquals(0, filesInStaging());
+        assertTrue(assertThrows(IllegalArgumentException.class, () -> service.redeem(staged.token()))
+                .getMessage().contains("expired"));
+    }
+}
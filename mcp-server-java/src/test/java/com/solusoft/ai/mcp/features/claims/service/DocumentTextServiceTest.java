@@ -0,0 +1,160 @@
+package com.solusoft.ai.mcp.features.claims.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.apache.pdfbox.pdmodel.font.Standard14Fonts;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+
+import com.solusoft.ai.mcp.features.claims.model.DocumentHash;
+import com.solusoft.ai.mcp.features.claims.repository.DocumentHashRepository;
+import com.solusoft.ai.mcp.features.claims.service.DocumentStagingService.StagedDocument;
+import com.solusoft.ai.mcp.features.claims.service.DocumentTextService.TextResult;
+import com.solusoft.ai.mcp.integration.case360.Case360Client;
+import com.solusoft.ai.mcp.integration.case360.Case360DocumentTransfer;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class DocumentTextServiceTest {
+
+    @TempDir
+    Path stagingDir;
+
+    private final Case360Client case360Client = mock(Case360Client.class);
+    private final Case360DocumentTransfer documentTransfer = mock(Case360DocumentTransfer.class);
+    private final DocumentHashRepository documentHashRepository = mock(DocumentHashRepository.class);
+
+    private DocumentStagingService stagingService;
+    private DocumentTextService textService;
+
+    @BeforeEach
+    public void setup() {
+        stagingService = new DocumentStagingService(new SimpleMeterRegistry(), stagingDir, 10 * 1024 * 1024, 900, 8192);
+        // 3 workers, slices of at least 3 pages, at most 10 pages
+        textService = new DocumentTextService(stagingService, case360Client, documentTransfer, documentHashRepository,
+                new SimpleMeterRegistry(), 3, 10, 3, 30, 10);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        textService.shutdown();
+    }
+
+    private static byte[] pdf(int pages) throws Exception {
+        try (PDDocument document = new PDDocument(); ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            PDType1Font font = new PDType1Font(Standard14Fonts.FontName.HELVETICA);
+            for (int i = 1; i <= pages; i++) {
+                PDPage page = new PDPage();
+                document.addPage(page);
+                try (PDPageContentStream content = new PDPageContentStream(document, page)) {
+                    content.beginText();
+                    content.setFont(font, 12);
+                    content.newLineAtOffset(72, 700);
+                    content.showText("Claim page " + i + " end");
+                    content.endText();
+                }
+            }
+            document.save(out);
+            return out.toByteArray();
+        }
+    }
+
+    @Test
+    public void testExtractsPagesInOrderUpToLimitAndCachesByHash() throws Exception {
+        byte[] pdf = pdf(14);
+        StagedDocument staged = stagingService.stage(new ByteArrayInputStream(pdf), "claim.pdf", type -> {});
+
+        TextResult result = textService.extractStaged(staged.token());
+
+        assertEquals(14, result.pageCount());
+        assertEquals(10, result.pagesExtracted());
+        assertTrue(result.truncated());
+        assertFalse(result.cached());
+        int previous = -1;
+        for (int i = 1; i <= 10; i++) {
+            int index = result.text().indexOf("Claim page " + i + " end");
+            assertTrue(index > previous, "page " + i + " missing or out of order");
+            previous = index;
+        }
+        assertFalse(result.text().contains("Claim page 11 end"));
+
+        // Same content staged again: served from the cache, token still redeemable
+        StagedDocument again = stagingService.stage(new ByteArrayInputStream(pdf), "copy.pdf", type -> {});
+        assertTrue(textService.extractStaged(again.token()).cached());
+        stagingService.redeem(staged.token()).content().close();
+    }
+
+    @Test
+    public void testRejectsNonPdfAndUnknownTokens() throws Exception {
+        StagedDocument text = stagingService.stage(new ByteArrayInputStream("plain text".getBytes()), "a.txt", type -> {});
+
+        assertThrows(IllegalArgumentException.class, () -> textService.extractStaged(text.token()));
+        assertThrows(IllegalArgumentException.class, () -> textService.extractStaged("nope"));
+    }
+
+    @Test
+    public void testUploadedDocument_hashIsReusedOnlyForTheVersionItWasTakenFrom() throws Exception {
+        byte[] pdf = pdf(2);
+        BigDecimal docId = new BigDecimal("4242");
+        when(documentTransfer.download(eq(docId), anyInt(), any(Path.class), isNull(), anyLong())).thenAnswer(inv -> {
+            Files.write(inv.getArgument(2, Path.class), pdf);
+            return (long) pdf.length;
+        });
+        when(documentHashRepository.findFirstByDocumentIdAndVersionNumber(anyString(), anyInt())).thenReturn(Optional.empty());
+
+        when(case360Client.getCurrentVersion(docId)).thenReturn(1);
+        TextResult first = textService.extractUploaded("4242");
+        ArgumentCaptor<DocumentHash> recorded = ArgumentCaptor.forClass(DocumentHash.class);
+        verify(documentHashRepository).insertOrSetVersion(recorded.capture());
+        assertEquals(1, recorded.getValue().versionNumber());
+        assertEquals(first.contentHash(), recorded.getValue().contentHash());
+
+        // Known hash for version 1: no download
+        when(documentHashRepository.findFirstByDocumentIdAndVersionNumber("4242", 1)).thenReturn(Optional.of(recorded.getValue()));
+        assertTrue(textService.extractUploaded("4242").cached());
+        verify(documentTransfer, times(1)).download(eq(docId), anyInt(), any(Path.class), isNull(), anyLong());
+
+        // A new version is downloaded again, not served from the version 1 hash
+        when(case360Client.getCurrentVersion(docId)).thenReturn(2);
+        textService.extractUploaded("4242");
+        verify(documentTransfer).download(eq(docId), eq(2), any(Path.class), isNull(), eq(-1L));
+    }
+
+    @Test
+    public void testCancelledSliceStopsBeforeTheNextPage() throws Exception {
+        Path file = stagingDir.resolve("claim.pdf");
+        Files.write(file, pdf(3));
+
+        assertThrows(CancellationException.class, () -> DocumentTextService.extractPages(file, 1, 3, new AtomicBoolean(true)));
+        assertTrue(DocumentTextService.extractPages(file, 1, 3, new AtomicBoolean(false)).contains("Claim page 3 end"));
+    }
+}
@@ -0,0 +1,85 @@
+package com.solusoft.ai.mcp.features.claims.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.util.Base64;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import com.solusoft.ai.mcp.features.claims.repository.DocumentHashRepository;
+import com.solusoft.ai.mcp.features.claims.service.DocumentUploadService.UploadResult;
+import com.solusoft.ai.mcp.integration.case360.AsyncCase360Client;
+import com.solusoft.ai.mcp.integration.case360.Case360Client;
+import com.solusoft.ai.mcp.integration.case360.Case360TemplateRegistry;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class DocumentUploadServiceTest {
+
+    @Test
+    public void testConcurrentUploadsOfSameContentShareOneTransfer() throws Exception {
+        Case360Client case360Client = mock(Case360Client.class);
+        DocumentHashRepository documentHashRepository = mock(DocumentHashRepository.class);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+        CountDownLatch transferStarted = new CountDownLatch(1);
+        CountDownLatch releaseTransfer = new CountDownLatch(1);
+        when(case360Client.getFilestoreTemplateId(any())).thenReturn(BigDecimal.ONE);
+        when(case360Client.createFileStore(any())).thenAnswer(invocation -> {
+            transferStarted.countDown();
+            releaseTransfer.await(5, TimeUnit.SECONDS);
+            return "900";
+        });
+
+        AsyncCase360Client asyncCase360Client = new AsyncCase360Client(case360Client,
+                new Case360TemplateRegistry(case360Client, meterRegistry, 30, 5));
+        DocumentUploadService service = new DocumentUploadService(case360Client, asyncCase360Client,
+                new Base64DocumentDecoder(1024 * 1024, 8192), documentHashRepository, null,
+                new DocumentMemoryBudget(meterRegistry, true, 64, 100), meterRegistry, 1048576, true);
+
+        String payload = Base64.getEncoder().encodeToString("%PDF-1.5\nsame bytes".getBytes());
+
+        try {
+            CompletableFuture<UploadResult> first = CompletableFuture.supplyAsync(() -> upload(service, payload, "a.pdf"));
+            assertTrue(transferStarted.await(5, TimeUnit.SECONDS));
+
+            CompletableFuture<UploadResult> second = CompletableFuture.supplyAsync(() -> upload(service, payload, "b.pdf"));
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (meterRegistry.find("claims.upload.dedup").tag("result", "inflight").counter() == null
+                    && System.nanoTime() < deadline) {
+                Thread.sleep(5);
+            }
+            releaseTransfer.countDown();
+
+            assertEquals("900", first.get(5, TimeUnit.SECONDS).documentId());
+            assertFalse(first.get().deduplicated());
+            assertEquals("900", second.get(5, TimeUnit.SECONDS).documentId());
+            assertTrue(second.get().deduplicated());
+
+            verify(case360Client, times(1)).createFileStore(any());
+            verify(case360Client, times(1)).uploadDocument(any(BigDecimal.class), any(byte[].class), anyString());
+        } finally {
+            asyncCase360Client.shutdown();
+        }
+    }
+
+    private static UploadResult upload(DocumentUploadService service, String payload, String name) {
+        try {
+            return service.upload(payload, name);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
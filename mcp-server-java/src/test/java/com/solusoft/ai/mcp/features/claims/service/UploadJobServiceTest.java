@@ -0,0 +1,200 @@
+package com.solusoft.ai.mcp.features.claims.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.solusoft.ai.mcp.exception.ServerBusyException;
+import com.solusoft.ai.mcp.features.claims.model.UploadJob;
+import com.solusoft.ai.mcp.features.claims.repository.DocumentHashRepository;
+import com.solusoft.ai.mcp.features.claims.repository.UploadJobRepository;
+import com.solusoft.ai.mcp.integration.case360.AsyncCase360Client;
+import com.solusoft.ai.mcp.integration.case360.Case360Client;
+import com.solusoft.ai.mcp.integration.case360.Case360TemplateRegistry;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class UploadJobServiceTest {
+
+    @TempDir
+    Path jobsDir;
+
+    private final Case360Client case360Client = mock(Case360Client.class);
+    private final UploadJobRepository uploadJobRepository = mock(UploadJobRepository.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AsyncCase360Client asyncCase360Client = new AsyncCase360Client(case360Client,
+            new Case360TemplateRegistry(case360Client, meterRegistry, 30, 5));
+
+    private UploadJobService service;
+
+    private static final String PDF_BASE64 = Base64.getEncoder().encodeToString("%PDF-1.5\nasync upload".getBytes());
+
+    private UploadJobService newService(int threads, int queueCapacity) {
+        Base64DocumentDecoder decoder = new Base64DocumentDecoder(1024 * 1024, 8192);
+        DocumentMemoryBudget memoryBudget = new DocumentMemoryBudget(meterRegistry, true, 64, 100);
+        DocumentUploadService documentUploadService = new DocumentUploadService(case360Client, asyncCase360Client,
+                decoder, mock(DocumentHashRepository.class), null, memoryBudget, meterRegistry, 1048576, true);
+        service = new UploadJobService(documentUploadService, decoder, null, memoryBudget, uploadJobRepository,
+                meterRegistry, jobsDir, threads, queueCapacity, 900, 60);
+        when(uploadJobRepository.lock(anyString(), anyString(), any(), any())).thenReturn(1);
+        when(uploadJobRepository.markUploading(anyString(), anyString(), any(), any())).thenReturn(1);
+        return service;
+    }
+
+    private long filesInJobsDir() throws Exception {
+        try (var files = Files.list(jobsDir)) {
+            return files.count();
+        }
+    }
+
+    @AfterEach
+    public void tearDown() {
+        if (service != null) {
+            service.shutdown();
+        }
+        asyncCase360Client.shutdown();
+    }
+
+    @Test
+    public void testSubmitReturnsQueuedJobAndCompletesInBackground() throws Exception {
+        when(case360Client.getFilestoreTemplateId(any())).thenReturn(BigDecimal.ONE);
+        when(case360Client.createFileStore(any())).thenReturn("700");
+
+        UploadJob job = newService(1, 10).submit(PDF_BASE64, "claim.pdf");
+        assertEquals(UploadJob.QUEUED, job.status());
+        verify(uploadJobRepository).insert(any(UploadJob.class));
+
+        verify(uploadJobRepository, timeout(5000)).markCompleted(eq(job.jobId()), eq("700"), anyString(), eq(false), any());
+        verify(case360Client).uploadDocument(eq(new BigDecimal("700")), any(Path.class), anyString());
+        assertEquals(0, filesInJobsDir());
+    }
+
+    @Test
+    public void testFullQueueIsRejectedAsServerBusy() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        when(case360Client.getFilestoreTemplateId(any())).thenReturn(BigDecimal.ONE);
+        when(case360Client.createFileStore(any())).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return "701";
+        });
+        newService(1, 1);
+
+        try {
+            service.submit(PDF_BASE64, "running.pdf");
+            verify(uploadJobRepository, timeout(5000)).markUploading(anyString(), anyString(), any(), any());
+            service.submit(PDF_BASE64, "waiting.pdf");
+
+            assertThrows(ServerBusyException.class, () -> service.submit(PDF_BASE64, "rejected.pdf"));
+            verify(uploadJobRepository).markFailed(anyString(), contains("queue is full"), any());
+            assertEquals(2, filesInJobsDir());
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    public void testResumeRequeuesJobsWithFileAndFailsJobsWithout() throws Exception {
+        when(case360Client.getFilestoreTemplateId(any())).thenReturn(BigDecimal.ONE);
+        when(case360Client.createFileStore(any())).thenReturn("702");
+
+        Path kept = Files.write(jobsDir.resolve("kept.bin"), "%PDF-1.5\nkept".getBytes());
+        Instant now = Instant.now();
+        UploadJob interrupted = new UploadJob("kept", UploadJob.UPLOADING, "kept.pdf", kept.toString(), "aa",
+                "application/pdf", Files.size(kept), null, null, null, null, 1, "gone", now.minusSeconds(1), now, now);
+        UploadJob lost = new UploadJob("lost", UploadJob.QUEUED, "lost.pdf", jobsDir.resolve("lost.bin").toString(), "bb",
+                "application/pdf", 10L, null, null, null, null, 0, null, null, now, now);
+        when(uploadJobRepository.findUnlocked(any())).thenReturn(List.of(interrupted, lost));
+
+        newService(1, 10).resumeJobs();
+
+        verify(uploadJobRepository).markFailed(eq("lost"), contains("lost"), any());
+        verify(uploadJobRepository, timeout(5000)).markCompleted(eq("kept"), eq("702"), anyString(), eq(false), any());
+        assertFalse(Files.exists(kept));
+        assertTrue(meterRegistry.find("claims.upload.jobs").tag("result", "completed").counter().count() >= 1);
+    }
+
+    @Test
+    public void testResumeSkipsJobsLockedByAnotherInstance() throws Exception {
+        Path file = Files.write(jobsDir.resolve("taken.bin"), "%PDF-1.5\ntaken".getBytes());
+        Instant now = Instant.now();
+        UploadJob taken = new UploadJob("taken", UploadJob.QUEUED, "taken.pdf", file.toString(), "cc",
+                "application/pdf", Files.size(file), null, null, null, null, 0, "old", now.minusSeconds(1), now, now);
+        when(uploadJobRepository.findUnlocked(any())).thenReturn(List.of(taken));
+        newService(1, 10);
+        when(uploadJobRepository.lock(eq("taken"), anyString(), any(), any())).thenReturn(0);
+
+        service.resumeJobs();
+
+        verify(uploadJobRepository, after(200).never()).markUploading(anyString(), anyString(), any(), any());
+        verify(case360Client, never()).createFileStore(any());
+        assertTrue(Files.exists(file));
+    }
+
+    @Test
+    public void testResumeUnlocksJobsTheQueueRejects() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        when(case360Client.getFilestoreTemplateId(any())).thenReturn(BigDecimal.ONE);
+        when(case360Client.createFileStore(any())).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return "703";
+        });
+        Instant now = Instant.now();
+        List<UploadJob> jobs = new ArrayList<>();
+        for (String id : List.of("a", "b", "c")) {
+            Path file = Files.write(jobsDir.resolve(id + ".bin"), "%PDF-1.5\nqueued".getBytes());
+            jobs.add(new UploadJob(id, UploadJob.QUEUED, id + ".pdf", file.toString(), id, "application/pdf",
+                    Files.size(file), null, null, null, null, 0, null, null, now, now));
+        }
+        when(uploadJobRepository.findUnlocked(any())).thenReturn(jobs);
+        newService(1, 1);
+
+        try {
+            // One worker and one queue slot: "c" never fits and is left for the next scan
+            service.resumeJobs();
+
+            verify(uploadJobRepository).unlock(eq("c"), anyString());
+            verify(uploadJobRepository, never()).markFailed(eq("c"), anyString(), any());
+            assertTrue(Files.exists(jobsDir.resolve("c.bin")));
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    public void testFailureToMarkUploadingFailsTheJob() throws Exception {
+        newService(1, 10);
+        when(uploadJobRepository.markUploading(anyString(), anyString(), any(), any()))
+                .thenThrow(new RuntimeException("database unavailable"));
+
+        service.submit(PDF_BASE64, "claim.pdf");
+
+        verify(uploadJobRepository, timeout(5000)).markFailed(anyString(), contains("database unavailable"), any());
+        verify(case360Client, never()).createFileStore(any());
+        assertEquals(0, filesInJobsDir());
+    }
+}
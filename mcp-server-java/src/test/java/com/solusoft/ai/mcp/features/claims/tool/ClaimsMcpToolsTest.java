@@ -5,6 +5,8 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
@@ -15,26 +17,62 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.io.ByteArrayInputStream;
 import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.util.Base64;
+import java.util.HexFormat;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.core.io.ClassPathResource;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule; // <--- 1. ADD IMPORT
+import com.solusoft.ai.mcp.exception.Case360UnavailableException;
 import com.solusoft.ai.mcp.features.claims.model.Claim;
+import com.solusoft.ai.mcp.features.claims.model.ClaimIdempotencyKey;
+import com.solusoft.ai.mcp.features.claims.model.ClaimOutboxEvent;
 import com.solusoft.ai.mcp.features.claims.model.CreateHealthClaimRequest;
 import com.solusoft.ai.mcp.features.claims.model.CreateMotorClaimRequest;
+import com.solusoft.ai.mcp.features.claims.model.DocumentHash;
 import com.solusoft.ai.mcp.features.claims.model.StoreClaimRequest;
+import com.solusoft.ai.mcp.features.claims.model.UploadJob;
+import com.solusoft.ai.mcp.features.claims.repository.ClaimIdempotencyKeyRepository;
+import com.solusoft.ai.mcp.features.claims.repository.ClaimOutboxRepository;
 import com.solusoft.ai.mcp.features.claims.repository.ClaimRepository;
+import com.solusoft.ai.mcp.features.claims.repository.DocumentHashRepository;
+import com.solusoft.ai.mcp.features.claims.service.Base64DocumentDecoder;
+import com.solusoft.ai.mcp.features.claims.service.ClaimFieldExtractor;
+import com.solusoft.ai.mcp.features.claims.service.ClaimIdGenerator;
+import com.solusoft.ai.mcp.features.claims.service.ClaimIdempotencyService;
+import com.solusoft.ai.mcp.features.claims.service.ClaimOutboxService;
+import com.solusoft.ai.mcp.features.claims.service.ClaimStatusCache;
+import com.solusoft.ai.mcp.features.claims.service.ClaimStatusService;
+import com.solusoft.ai.mcp.features.claims.service.DocumentMemoryBudget;
+import com.solusoft.ai.mcp.features.claims.service.DocumentStagingService;
+import com.solusoft.ai.mcp.features.claims.service.DocumentStagingService.StagedDocument;
+import com.solusoft.ai.mcp.features.claims.service.DocumentUploadService;
+import com.solusoft.ai.mcp.features.claims.service.UploadJobService;
+import com.solusoft.ai.mcp.integration.case360.AsyncCase360Client;
 import com.solusoft.ai.mcp.integration.case360.Case360Client;
+import com.solusoft.ai.mcp.integration.case360.Case360TemplateRegistry;
+import com.solusoft.ai.mcp.integration.case360.CaseFolderPool;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 public class ClaimsMcpToolsTest {
 
@@ -44,18 +82,62 @@ public class ClaimsMcpToolsTest {
     @Mock
     private Case360Client case360Client;
 
+    @Mock
+    private DocumentHashRepository documentHashRepository;
+
+    @Mock
+    private UploadJobService uploadJobService;
+
+    @Mock
+    private ClaimIdempotencyKeyRepository claimIdempotencyKeyRepository;
+
+    @Mock
+    private ClaimOutboxRepository claimOutboxRepository;
+
     private ObjectMapper objectMapper;
     
     private ClaimsMcpTools tools;
+
+    @TempDir
+    Path stagingDir;
+
+    private DocumentStagingService documentStagingService;
     
     @BeforeEach
-    public void setup() {
+    public void setup() throws Exception {
         MockitoAnnotations.openMocks(this);
         
         objectMapper = new ObjectMapper();
         objectMapper.registerModule(new JavaTimeModule()); // <--- 2. REGISTER MODULE
         
-        tools = new ClaimsMcpTools(claimRepository, case360Client, objectMapper);
+        // Registry is never preloaded here, so every lookup falls through to the mocked client
+        Case360TemplateRegistry templateRegistry = new Case360TemplateRegistry(case360Client, new SimpleMeterRegistry(), 30, 5);
+        
+        AsyncCase360Client asyncCase360Client = new AsyncCase360Client(case360Client, templateRegistry);
+        
+        ClaimStatusCache claimStatusCache = new ClaimStatusCache(new SimpleMeterRegistry(), 1000, 30);
+        ClaimStatusService claimStatusService = new ClaimStatusService(case360Client, asyncCase360Client,
+                claimStatusCache, claimRepository, Set.of("getMotorClaimByClaimId"), 50, 4, 500, 300);
+        
+        documentStagingService = new DocumentStagingService(new SimpleMeterRegistry(), stagingDir, 1024 * 1024, 900, 8192);
+        DocumentUploadService documentUploadService = new DocumentUploadService(case360Client, asyncCase360Client,
+                new Base64DocumentDecoder(8 * 1024 * 1024, 8192), documentHashRepository, documentStagingService,
+                new DocumentMemoryBudget(new SimpleMeterRegistry(), true, 64, 100), new SimpleMeterRegistry(), 1048576, true);
+        
+        CaseFolderPool caseFolderPool = new CaseFolderPool(case360Client, templateRegistry, new SimpleMeterRegistry(),
+                false, List.of("Motor Claim", "Healthcare Claim"), 5, 2, 3600, 300, 30);
+        ClaimOutboxService claimOutboxService = new ClaimOutboxService(claimRepository, claimOutboxRepository,
+                case360Client, templateRegistry, caseFolderPool, asyncCase360Client, objectMapper,
+                new SimpleMeterRegistry(), false, 500, 50, 5, 10, 1000, 300, 300, 7, 200);
+
+        tools = new ClaimsMcpTools(case360Client, objectMapper, asyncCase360Client, claimStatusService,
+                documentUploadService, null, new ClaimFieldExtractor(new ClassPathResource("claim-extraction.properties")),
+                uploadJobService, null, new ClaimIdGenerator(null, 1, 60),
+                new ClaimIdempotencyService(claimIdempotencyKeyRepository, objectMapper, new SimpleMeterRegistry(),
+                        86400, 1000, 120, 5, 50),
+                caseFolderPool, claimOutboxService);
+        when(claimIdempotencyKeyRepository.claim(any()))
+                .thenAnswer(invocation -> Optional.of(invocation.getArgument(0, ClaimIdempotencyKey.class).keyHash()));
     }
 
     @Test
@@ -140,14 +222,14 @@ public class ClaimsMcpToolsTest {
         when(case360Client.getCaseFolderTemplateId(any())).thenReturn(BigDecimal.TEN);
         when(case360Client.createCase(any())).thenReturn("123");
 
-        String result = tools.createMotorClaim(motorReq);
+        String result = tools.createMotorClaim(motorReq, null);
 
         Map<?,?> resp = objectMapper.readValue(result, Map.class);
         assertEquals("success", resp.get("status"));
         assertEquals("123", resp.get("case_id"));
         assertEquals(motorReq.claimDocId(), resp.get("claim_doc_id"));
 
-        verify(case360Client, times(1)).updateCaseFields(eq("123"), any(Map.class));
+        verify(case360Client, times(1)).updateNewCaseFields(eq("123"), any(BigDecimal.class), any(Map.class));
     }
 
     @Test
@@ -158,14 +240,30 @@ public class ClaimsMcpToolsTest {
         when(case360Client.getCaseFolderTemplateId(any())).thenReturn(BigDecimal.TEN);
         when(case360Client.createCase(any())).thenReturn("999");
 
-        String result = tools.createHealthClaim(healthReq);
+        String result = tools.createHealthClaim(healthReq, null);
 
         Map<?,?> resp = objectMapper.readValue(result, Map.class);
         assertEquals("success", resp.get("status"));
         assertEquals("999", resp.get("case_id"));
         assertEquals(healthReq.claimDocId(), resp.get("claim_doc_id"));
 
-        verify(case360Client, times(1)).updateCaseFields(eq("999"), any(Map.class));
+        verify(case360Client, times(1)).updateNewCaseFields(eq("999"), any(BigDecimal.class), any(Map.class));
+    }
+
+    @Test
+    public void testCreateMotorClaim_retryWithSameKeyReturnsOriginalCase() throws Exception {
+        CreateMotorClaimRequest motorReq = new CreateMotorClaimRequest("Alice", "POL-0001", new BigDecimal("1500"),
+                LocalDate.now(), "Rear end collision", null, "accident", "2023 Tesla Model 3", "XYZ-1234", "high");
+
+        when(case360Client.getCaseFolderTemplateId(any())).thenReturn(BigDecimal.TEN);
+        when(case360Client.createCase(any())).thenReturn("CASE-A", "CASE-B");
+
+        Map<?,?> first = objectMapper.readValue(tools.createMotorClaim(motorReq, "agent-run-1"), Map.class);
+        Map<?,?> retry = objectMapper.readValue(tools.createMotorClaim(motorReq, "agent-run-1"), Map.class);
+
+        assertEquals("CASE-A", retry.get("case_id"));
+        assertEquals(first.get("claim_id"), retry.get("claim_id"));
+        verify(case360Client, times(1)).createCase(any());
     }
 
     @Test
@@ -177,11 +275,8 @@ public class ClaimsMcpToolsTest {
             LocalDate.now(),"{vehicle_details: 2021 Elantra, color: blue}"
         );
 
-        // Mock DB behavior: 
-        // 1. findByClaimId returns empty (triggers insert)
-        // 2. save returns the entity
-        when(claimRepository.findByClaimId("12334324")).thenReturn(Optional.empty());
-        when(claimRepository.save(any(Claim.class))).thenAnswer(i -> i.getArguments()[0]);
+        // Mock DB behavior: the upsert inserted a new row
+        when(claimRepository.upsert(any(Claim.class))).thenReturn(true);
 
         String resultJson = tools.storeClaimRecord(request);
         Map<?,?> result = objectMapper.readValue(resultJson, Map.class);
@@ -189,9 +284,54 @@ public class ClaimsMcpToolsTest {
         assertTrue((Boolean)result.get("success"));
         assertEquals("12334324", result.get("claim_id"));
         assertEquals("created", result.get("action"));
+        assertEquals("queued", result.get("case_sync"));
 
-        // Verify save was called on the repository
-        verify(claimRepository, times(1)).save(any(Claim.class));
+        // Verify the upsert was called on the repository, and the Case360 update queued rather than sent
+        verify(claimRepository, times(1)).upsert(any(Claim.class));
+        verify(claimRepository, never()).findByClaimId(anyString());
+        verify(claimOutboxRepository, times(1)).insert(any(ClaimOutboxEvent.class));
+        verify(case360Client, never()).updateCaseFields(anyString(), any(), any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testStoreClaimRecords_batchesClaimsAndOutboxEvents() throws Exception {
+        List<StoreClaimRequest> requests = List.of(
+            new StoreClaimRequest("AUTO-101", "28", "POL-100", "Zed", "motor",
+                new BigDecimal("500.00"), null, LocalDate.of(2025, 1, 1), "{\"vehicle_make\": \"Ford\"}"),
+            new StoreClaimRequest("HC-102", "29", "POL-200", "Amy", "healthcare",
+                new BigDecimal("750.00"), "CASE-2", LocalDate.of(2025, 1, 2), null));
+        when(claimRepository.upsertAll(anyList(), anyInt())).thenReturn(2);
+
+        String resultJson = tools.storeClaimRecords(requests);
+        Map<?,?> result = objectMapper.readValue(resultJson, Map.class);
+
+        assertTrue((Boolean)result.get("success"));
+        assertEquals(2, result.get("stored"));
+        assertEquals(List.of("AUTO-101", "HC-102"), result.get("claim_ids"));
+        assertEquals("queued", result.get("case_sync"));
+
+        ArgumentCaptor<List<Claim>> claims = ArgumentCaptor.forClass(List.class);
+        verify(claimRepository).upsertAll(claims.capture(), eq(200));
+        assertEquals("CASE-2", claims.getValue().get(1).caseId());
+        ArgumentCaptor<List<ClaimOutboxEvent>> events = ArgumentCaptor.forClass(List.class);
+        verify(claimOutboxRepository).insertAll(events.capture(), eq(200));
+        assertEquals(2, events.getValue().size());
+        verify(claimRepository, never()).upsert(any(Claim.class));
+    }
+
+    @Test
+    public void testStoreClaimRecords_missingClaimIdIsRejected() throws Exception {
+        List<StoreClaimRequest> requests = List.of(
+            new StoreClaimRequest(" ", "28", "POL-100", "Zed", "motor",
+                new BigDecimal("500.00"), null, LocalDate.of(2025, 1, 1), null));
+
+        Map<?,?> result = objectMapper.readValue(tools.storeClaimRecords(requests), Map.class);
+
+        assertFalse((Boolean)result.get("success"));
+        assertEquals("USER_ERROR", result.get("category"));
+        verify(claimRepository, never()).upsertAll(anyList(), anyInt());
+        verify(claimOutboxRepository, never()).insertAll(anyList(), anyInt());
     }
 
     @Test
@@ -235,9 +375,9 @@ public class ClaimsMcpToolsTest {
         
         when(case360Client.getCaseFolderTemplateId(any())).thenReturn(BigDecimal.TEN);
         when(case360Client.createCase(any())).thenReturn("CASE-CHAIN-1");
-        doNothing().when(case360Client).updateCaseFields(anyString(), any(Map.class));
+        doNothing().when(case360Client).updateNewCaseFields(anyString(), any(BigDecimal.class), any(Map.class));
 
-        String createResult = tools.createMotorClaim(motorReq);
+        String createResult = tools.createMotorClaim(motorReq, null);
         Map<?,?> createResp = objectMapper.readValue(createResult, Map.class);
         assertEquals("success", createResp.get("status"));
 
@@ -255,8 +395,7 @@ public class ClaimsMcpToolsTest {
             "{vehicle_make: Toyota Camry, license_plate_number: ABC-123}"
         );
 
-        when(claimRepository.findByClaimId(anyString())).thenReturn(Optional.empty());
-        when(claimRepository.save(any(Claim.class))).thenAnswer(i -> i.getArguments()[0]);
+        when(claimRepository.upsert(any(Claim.class))).thenReturn(true);
 
         String storeResult = tools.storeClaimRecord(storeReq);
         Map<?,?> storeMap = objectMapper.readValue(storeResult, Map.class);
@@ -274,9 +413,9 @@ public class ClaimsMcpToolsTest {
         );
         inOrder.verify(case360Client).getCaseFolderTemplateId(any());
         inOrder.verify(case360Client).createCase(any());
-        inOrder.verify(case360Client).updateCaseFields(eq("CASE-CHAIN-1"), any(Map.class));
+        inOrder.verify(case360Client).updateNewCaseFields(eq("CASE-CHAIN-1"), any(BigDecimal.class), any(Map.class));
         // Verify DB Save called last
-        inOrder.verify(claimRepository).save(any(Claim.class));
+        inOrder.verify(claimRepository).upsert(any(Claim.class));
     }
 
     @Test
@@ -314,9 +453,9 @@ public class ClaimsMcpToolsTest {
         
         when(case360Client.getCaseFolderTemplateId(any())).thenReturn(BigDecimal.TEN);
         when(case360Client.createCase(any())).thenReturn("CASE-HC-1");
-        doNothing().when(case360Client).updateCaseFields(anyString(), any(Map.class));
+        doNothing().when(case360Client).updateNewCaseFields(anyString(), any(BigDecimal.class), any(Map.class));
 
-        String result = tools.createHealthClaim(healthReq);
+        String result = tools.createHealthClaim(healthReq, null);
         Map<?,?> resp = objectMapper.readValue(result, Map.class);
         assertEquals("success", resp.get("status"));
 
@@ -333,8 +472,7 @@ public class ClaimsMcpToolsTest {
             "{diagnosis: Sprain, hospital: General Hospital, physician: Dr. House}"
         );
 
-        when(claimRepository.findByClaimId(anyString())).thenReturn(Optional.empty());
-        when(claimRepository.save(any(Claim.class))).thenAnswer(i -> i.getArguments()[0]);
+        when(claimRepository.upsert(any(Claim.class))).thenReturn(true);
 
         String storeResult = tools.storeClaimRecord(storeReq);
         Map<?,?> storeMap = objectMapper.readValue(storeResult, Map.class);
@@ -351,8 +489,8 @@ public class ClaimsMcpToolsTest {
         );
         inOrder.verify(case360Client).getCaseFolderTemplateId(any());
         inOrder.verify(case360Client).createCase(any());
-        inOrder.verify(case360Client).updateCaseFields(eq("CASE-HC-1"), any(Map.class));
-        inOrder.verify(claimRepository).save(any(Claim.class));
+        inOrder.verify(case360Client).updateNewCaseFields(eq("CASE-HC-1"), any(BigDecimal.class), any(Map.class));
+        inOrder.verify(claimRepository).upsert(any(Claim.class));
     }
 
     @Test
@@ -385,7 +523,7 @@ public class ClaimsMcpToolsTest {
         
         // Ensure we didn't proceed to create a case or save a claim record
         verify(case360Client, never()).createCase(any());
-        verify(claimRepository, never()).save(any(Claim.class));
+        verify(claimRepository, never()).upsert(any(Claim.class));
     }
 
     @Test
@@ -414,7 +552,7 @@ public class ClaimsMcpToolsTest {
         // 5. Verify Isolation
         verify(case360Client, never()).uploadDocument(any(BigDecimal.class), any(byte[].class), anyString());
         verify(case360Client, never()).createCase(any());
-        verify(claimRepository, never()).save(any(Claim.class));
+        verify(claimRepository, never()).upsert(any(Claim.class));
     }
     
     @Test
@@ -435,7 +573,199 @@ public class ClaimsMcpToolsTest {
         // Ensure createCase and Repo Save were never called
         verify(case360Client, never()).getCaseFolderTemplateId(any());
         verify(case360Client, never()).createCase(any());
-        verify(case360Client, never()).updateCaseFields(anyString(), any(Map.class));
-        verify(claimRepository, never()).save(any(Claim.class));
+        verify(case360Client, never()).updateNewCaseFields(anyString(), any(BigDecimal.class), any(Map.class));
+        verify(claimRepository, never()).upsert(any(Claim.class));
+    }
+
+    @Test
+    public void testUploadDocument_knownContent_returnsExistingDocumentWithoutCase360() throws Exception {
+        byte[] pdf = "%PDF-1.5\nretry of the same claim form".getBytes();
+        String base64WithPrefix = "data:application/pdf;base64," + Base64.getEncoder().encodeToString(pdf);
+        String hash = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(pdf));
+
+        when(case360Client.getFilestoreTemplateId(any())).thenReturn(BigDecimal.ONE);
+        when(documentHashRepository.findById(hash)).thenReturn(Optional.of(
+                new DocumentHash(hash, "4242", "first.pdf", "application/pdf", (long) pdf.length, null, Instant.now())));
+
+        String resultJson = tools.uploadDocument(base64WithPrefix, "again.pdf");
+        Map<?,?> result = objectMapper.readValue(resultJson, Map.class);
+
+        assertTrue((Boolean) result.get("success"));
+        assertEquals("4242", result.get("document_id"));
+        assertEquals("first.pdf", result.get("stored_name"));
+        assertTrue((Boolean) result.get("deduplicated"));
+        verify(case360Client, never()).createFileStore(any());
+        verify(case360Client, never()).uploadDocument(any(BigDecimal.class), any(byte[].class), anyString());
+    }
+
+    @Test
+    public void testUploadDocument_newContent_recordsHash() throws Exception {
+        byte[] pdf = "%PDF-1.5\nnew claim form".getBytes();
+        String base64 = Base64.getEncoder().encodeToString(pdf);
+
+        when(case360Client.getFilestoreTemplateId(any())).thenReturn(BigDecimal.ONE);
+        when(case360Client.createFileStore(any())).thenReturn("777");
+
+        tools.uploadDocument(base64, "new.pdf");
+
+        ArgumentCaptor<DocumentHash> hashCaptor = ArgumentCaptor.forClass(DocumentHash.class);
+        verify(documentHashRepository).insertIfAbsent(hashCaptor.capture());
+        assertEquals("777", hashCaptor.getValue().documentId());
+        assertEquals(64, hashCaptor.getValue().contentHash().length());
+    }
+
+    @Test
+    public void testUploadStagedDocument_streamsStagedFileAndTokenIsSingleUse() throws Exception {
+        byte[] pdf = "%PDF-1.5\nstaged out of band".getBytes();
+        StagedDocument staged = documentStagingService.stage(new ByteArrayInputStream(pdf), "scan.pdf",
+                DocumentUploadService::requireAllowedType);
+
+        when(case360Client.getFilestoreTemplateId(any())).thenReturn(BigDecimal.ONE);
+        when(case360Client.createFileStore(any())).thenReturn("3131");
+
+        Map<?,?> result = objectMapper.readValue(tools.uploadStagedDocument(staged.token()), Map.class);
+
+        assertTrue((Boolean) result.get("success"));
+        assertEquals("3131", result.get("document_id"));
+        assertTrue(((String) result.get("stored_name")).endsWith(".pdf"));
+        verify(case360Client).uploadDocument(eq(new BigDecimal("3131")), any(Path.class), anyString());
+        verify(case360Client, never()).uploadDocument(any(BigDecimal.class), any(byte[].class), anyString());
+
+        Map<?,?> reuse = objectMapper.readValue(tools.uploadStagedDocument(staged.token()), Map.class);
+        assertFalse((Boolean) reuse.get("success"));
+        assertEquals("USER_ERROR", reuse.get("category"));
+        try (var files = Files.list(stagingDir)) {
+            assertEquals(0, files.count());
+        }
+    }
+
+    @Test
+    public void testGetUploadStatus_reportsDocumentIdOnceCompletedAndUnknownJobAsUserError() throws Exception {
+        Instant now = Instant.now();
+        when(uploadJobService.find("job-1")).thenReturn(Optional.of(new UploadJob("job-1", UploadJob.COMPLETED, "scan.pdf",
+                "/tmp/job-1.bin", "ab", "application/pdf", 42L, "4242", "stored.pdf", false, null, 1, null, null, now, now)));
+        when(uploadJobService.find("job-2")).thenReturn(Optional.empty());
+
+        Map<?,?> done = objectMapper.readValue(tools.getUploadStatus("job-1"), Map.class);
+        assertTrue((Boolean) done.get("success"));
+        assertEquals("COMPLETED", done.get("job_status"));
+        assertEquals("4242", done.get("document_id"));
+
+        Map<?,?> unknown = objectMapper.readValue(tools.getUploadStatus("job-2"), Map.class);
+        assertFalse((Boolean) unknown.get("success"));
+        assertEquals("USER_ERROR", unknown.get("category"));
+    }
+
+    @Test
+    public void testGetClaimStatuses_batchesMultiParamScriptAndReportsFailuresPerId() throws Exception {
+        when(case360Client.getClaimStatuses(eq("getMotorClaimByClaimId"), any()))
+                .thenReturn(Map.of("AUTO-1", "approved", "AUTO-2", "reported"));
+        when(case360Client.getClaimStatus("HC-1")).thenReturn("in_review");
+        when(case360Client.getClaimStatus("HC-2")).thenThrow(new RuntimeException("Case360 Operation getClaimStatus Failed for: HC-2"));
+
+        String json = tools.getClaimStatuses(List.of("AUTO-1", "HC-1", "AUTO-2", "HC-2", "AUTO-1"));
+        Map<?,?> resp = objectMapper.readValue(json, Map.class);
+
+        assertEquals("partial_success", resp.get("status"));
+        assertEquals(4, resp.get("total"));
+        assertEquals(1, resp.get("failed"));
+
+        List<?> results = (List<?>) resp.get("results");
+        Map<?,?> auto1 = (Map<?,?>) results.get(0);
+        assertEquals("AUTO-1", auto1.get("claim_id"));
+        assertEquals("approved", auto1.get("claim_status"));
+        Map<?,?> hc2 = (Map<?,?>) results.get(3);
+        assertEquals("HC-2", hc2.get("claim_id"));
+        assertFalse((Boolean) hc2.get("success"));
+
+        // Motor IDs go out as one multi-parameter query, healthcare IDs one by one
+        verify(case360Client, times(1)).getClaimStatuses(eq("getMotorClaimByClaimId"), eq(List.of("AUTO-1", "AUTO-2")));
+        verify(case360Client, never()).getClaimStatus("AUTO-1");
+        verify(case360Client, times(1)).getClaimStatus("HC-1");
+    }
+
+    @Test
+    public void testGetClaimStatuses_emptyList_isUserError() throws Exception {
+        String json = tools.getClaimStatuses(List.of());
+        Map<?,?> resp = objectMapper.readValue(json, Map.class);
+
+        assertEquals("USER_ERROR", resp.get("category"));
+    }
+
+    @Test
+    public void testCircuitOpen_isReportedAsRetryable() throws Exception {
+        when(case360Client.getClaimStatus("AUTO-1"))
+                .thenThrow(new Case360UnavailableException("Case360 circuit is open; getClaimStatus not attempted", Duration.ofSeconds(12)));
+
+        String json = tools.getClaimStatus("AUTO-1");
+        Map<?,?> resp = objectMapper.readValue(json, Map.class);
+
+        assertFalse((Boolean) resp.get("success"));
+        assertEquals("RETRYABLE", resp.get("category"));
+        assertEquals(12, resp.get("retry_after_seconds"));
+    }
+
+    @Test
+    public void testStoredClaim_localStatusIsNotServedAsCaseStatus() throws Exception {
+        StoreClaimRequest request = new StoreClaimRequest(
+            "HC-777", "doc-777", "POL-7", "Ann", "healthcare",
+            new BigDecimal("100.00"), "CASE-7", LocalDate.now(), null
+        );
+        tools.storeClaimRecord(request);
+        Claim row = new Claim(1, "HC-777", "doc-777", "POL-7", "Ann", "healthcare", new BigDecimal("100.00"), "CASE-7",
+                "submitted", Instant.now(), Instant.now(), "{}", null, null);
+        when(claimRepository.findByClaimId("HC-777")).thenReturn(Optional.of(row));
+        when(case360Client.getClaimStatus("HC-777")).thenReturn("reported");
+
+        Map<?,?> resp = objectMapper.readValue(tools.getClaimStatus("HC-777"), Map.class);
+
+        assertEquals("reported", resp.get("claim_status"));
+        assertEquals("case360", resp.get("source"));
+    }
+
+    @Test
+    public void testRecentClaimRow_servedFromDatabaseThenMemory() throws Exception {
+        Claim row = new Claim(1, "AUTO-55", null, null, null, null, null, null, "submitted", Instant.now(), Instant.now(), "{}",
+                "approved", Instant.now());
+        when(claimRepository.findByClaimId("AUTO-55")).thenReturn(Optional.of(row));
+
+        Map<?,?> first = objectMapper.readValue(tools.getClaimStatus("AUTO-55"), Map.class);
+        Map<?,?> second = objectMapper.readValue(tools.getClaimStatus("AUTO-55"), Map.class);
+
+        assertEquals("database", first.get("source"));
+        assertEquals("approved", second.get("claim_status"));
+        assertEquals("memory", second.get("source"));
+        verify(claimRepository, times(1)).findByClaimId("AUTO-55");
+        verify(case360Client, never()).getClaimStatus(anyString());
+    }
+
+    @Test
+    public void testStaleClaimRow_fallsThroughToCase360() throws Exception {
+        Instant longAgo = Instant.now().minus(Duration.ofHours(2));
+        Claim row = new Claim(1, "AUTO-56", null, null, null, null, null, null, "submitted", longAgo, longAgo, "{}",
+                "reported", longAgo);
+        when(claimRepository.findByClaimId("AUTO-56")).thenReturn(Optional.of(row));
+        when(case360Client.getClaimStatus("AUTO-56")).thenReturn("settled");
+
+        Map<?,?> resp = objectMapper.readValue(tools.getClaimStatus("AUTO-56"), Map.class);
+
+        assertEquals("settled", resp.get("claim_status"));
+        assertEquals("case360", resp.get("source"));
+    }
+
+    @Test
+    public void testDatabaseDown_statusLookupsFallThroughToCase360() throws Exception {
+        when(claimRepository.findByClaimId(anyString())).thenThrow(new RuntimeException("connection refused"));
+        when(claimRepository.findByClaimIdIn(anyList())).thenThrow(new RuntimeException("connection refused"));
+        when(case360Client.getClaimStatus("HC-9")).thenReturn("approved");
+        when(case360Client.getClaimStatus("HC-10")).thenReturn("reported");
+
+        Map<?,?> single = objectMapper.readValue(tools.getClaimStatus("HC-9"), Map.class);
+        Map<?,?> batch = objectMapper.readValue(tools.getClaimStatuses(List.of("HC-10")), Map.class);
+
+        assertEquals("approved", single.get("claim_status"));
+        assertEquals("case360", single.get("source"));
+        assertEquals("success", batch.get("status"));
+        assertEquals("reported", ((Map<?,?>) ((List<?>) batch.get("results")).get(0)).get("claim_status"));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,88 @@
+package com.solusoft.ai.mcp.integration.case360;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import com.solusoft.ai.mcp.config.ContextPropagatingExecutor;
+
+public class AsyncCase360ClientTest {
+
+    private final Case360Client case360Client = mock(Case360Client.class);
+    private final Authentication caller = new UsernamePasswordAuthenticationToken("claims-agent", null, List.of());
+
+    private AsyncCase360Client asyncClient;
+
+    @BeforeEach
+    public void setup() {
+        asyncClient = new AsyncCase360Client(case360Client, null);
+        MDC.put("trace_id", "trace-42");
+        SecurityContextHolder.getContext().setAuthentication(caller);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        asyncClient.shutdown();
+        MDC.clear();
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    public void testCallRunsOnVirtualThreadWithCallerContext() throws Exception {
+        AtomicReference<Thread> thread = new AtomicReference<>();
+        AtomicReference<String> traceId = new AtomicReference<>();
+        AtomicReference<Authentication> auth = new AtomicReference<>();
+        when(case360Client.getClaimStatus("CLM-1")).thenAnswer(inv -> {
+            thread.set(Thread.currentThread());
+            traceId.set(MDC.get("trace_id"));
+            auth.set(SecurityContextHolder.getContext().getAuthentication());
+            return "OPEN";
+        });
+
+        assertEquals("OPEN", asyncClient.getClaimStatus("CLM-1").get(5, TimeUnit.SECONDS));
+
+        assertTrue(thread.get().isVirtual());
+        assertEquals("trace-42", traceId.get());
+        assertSame(caller, auth.get());
+    }
+
+    @Test
+    public void testContextIsClearedFromTheWorkerAfterTheTask() throws Exception {
+        // A single pooled thread, so the next task sees whatever the previous one left behind
+        ExecutorService worker = Executors.newSingleThreadExecutor();
+        try (ContextPropagatingExecutor executor = new ContextPropagatingExecutor(worker)) {
+            AtomicReference<String> inside = new AtomicReference<>();
+            CompletableFuture.runAsync(() -> inside.set(MDC.get("trace_id")), executor).get(5, TimeUnit.SECONDS);
+            assertEquals("trace-42", inside.get());
+
+            AtomicReference<Map<String, String>> mdcAfter = new AtomicReference<>();
+            AtomicReference<Authentication> authAfter = new AtomicReference<>();
+            worker.submit(() -> {
+                mdcAfter.set(MDC.getCopyOfContextMap());
+                authAfter.set(SecurityContextHolder.getContext().getAuthentication());
+            }).get(5, TimeUnit.SECONDS);
+
+            assertTrue(mdcAfter.get() == null || mdcAfter.get().isEmpty());
+            assertNull(authAfter.get());
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package com.solusoft.ai.mcp.integration.case360;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import javax.xml.namespace.QName;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.oxm.jaxb.Jaxb2Marshaller;
+import org.springframework.ws.client.core.WebServiceTemplate;
+import org.springframework.xml.transform.StringResult;
+import org.springframework.xml.transform.StringSource;
+
+import com.solusoft.ai.mcp.exception.Case360IntegrationException;
+import com.solusoft.ai.mcp.integration.case360.soap.Case360RestrictedBindings;
+import com.solusoft.ai.mcp.integration.case360.soap.DoQueryByScriptNameResponse;
+import com.solusoft.ai.mcp.integration.case360.soap.FmsFieldTO;
+import com.solusoft.ai.mcp.integration.case360.soap.FmsRowSetTO;
+import com.solusoft.ai.mcp.integration.case360.soap.FmsRowSetTOArray;
+import com.solusoft.ai.mcp.integration.case360.soap.FmsRowTO;
+import com.solusoft.ai.mcp.integration.case360.soap.GetCaseFolderFieldsResponse;
+
+import jakarta.xml.bind.JAXBElement;
+import jakarta.xml.bind.annotation.XmlElementDecl;
+
+/**
+ * Guards case360.jaxb.mode=restricted: every request Case360Client sends must marshal, and every
+ * response must unmarshal, with a context built from {@link Case360RestrictedBindings} alone.
+ */
+public class Case360BindingsTest {
+
+    private static final Set<String> CLIENT_OPERATIONS = Set.of(
+            "doQueryByScriptName", "getCaseFolderTemplates", "getFileStoreTemplates", "createCaseFolder",
+            "removeCaseFolder", "getCaseFolderFields", "setCaseFolderFields", "createFileStore", "putFile", "getFileStore",
+            "getPartialFile", "getPartialFileRendition");
+
+    @Mock
+    private WebServiceTemplate webServiceTemplate;
+
+    private Jaxb2Marshaller restricted;
+    private Case360Client client;
+    private final Set<String> sent = new TreeSet<>();
+    private final List<String> failures = new ArrayList<>();
+
+    @BeforeEach
+    public void setup() throws Exception {
+        MockitoAnnotations.openMocks(this);
+
+        restricted = new Jaxb2Marshaller();
+        restricted.setClassesToBeBound(Case360RestrictedBindings.class);
+        restricted.afterPropertiesSet();
+
+        // Stand-in transport: marshal the request and round-trip a canned response through the restricted context
+        when(webServiceTemplate.marshalSendAndReceive(any())).thenAnswer(inv -> {
+            JAXBElement<?> request = inv.getArgument(0);
+            String operation = request.getName().getLocalPart();
+            sent.add(operation);
+            try {
+                restricted.marshal(request, new StringResult());
+                return roundTrip(cannedResponse(operation));
+            } catch (Exception e) {
+                failures.add(operation + ": " + e);
+                throw e;
+            }
+        });
+
+        client = new Case360Client(webServiceTemplate);
+    }
+
+    @Test
+    public void testEveryClientOperation_marshalsWithRestrictedContext() {
+        call(() -> client.ping());
+        call(() -> client.getClaimStatus("AUTO-1"));
+        call(() -> client.getClaimStatuses("getMotorClaimByClaimId", List.of("AUTO-1", "AUTO-2")));
+        call(() -> client.getCaseFolderTemplateId("Motor Claim"));
+        call(() -> client.getFilestoreTemplateId("Claim Document"));
+        call(() -> client.getCaseFolderTemplates());
+        call(() -> client.getFileStoreTemplates());
+        call(() -> client.createCase(BigDecimal.ONE));
+        call(() -> client.removeCaseFolder("100"));
+        call(() -> client.updateCaseFields("100", BigDecimal.ONE, Map.of("CLAIM_STATUS", "reported", "CLAIM_AMOUNT", 10)));
+        call(() -> client.createFileStore(BigDecimal.ONE));
+        call(() -> client.uploadDocument(BigDecimal.ONE, new byte[] {1, 2, 3}, "a.pdf"));
+        call(() -> client.getCurrentVersion(BigDecimal.ONE));
+        call(() -> client.getPartialFile(BigDecimal.ONE, 1, 0, 16));
+        call(() -> client.getPartialFileRendition(BigDecimal.ONE, 1, 0, 16, "pdf"));
+
+        assertEquals(List.of(), failures);
+        assertEquals(new TreeSet<>(CLIENT_OPERATIONS), sent);
+    }
+
+    @Test
+    public void testScopedDecimal_survivesRestrictedRoundTrip() throws Exception {
+        @SuppressWarnings("unchecked")
+        JAXBElement<DoQueryByScriptNameResponse> back =
+                (JAXBElement<DoQueryByScriptNameResponse>) roundTrip(cannedResponse("doQueryByScriptName"));
+
+        FmsFieldTO field = back.getValue().getReturn().getFmsRowSetTO().get(0).getFmsRowTO().get(0).getFieldList().get(0);
+        assertEquals(new BigDecimal("42"), field.getBigDecimalValue().getValue());
+    }
+
+    @Test
+    public void testRegistryDeclaresEveryClientOperation() throws Exception {
+        for (String operation : CLIENT_OPERATIONS) {
+            assertTrue(hasDecl(operation), "Missing request element: " + operation);
+            assertTrue(hasDecl(operation + "Response"), "Missing response element: " + operation + "Response");
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    //  HELPERS
+    // -------------------------------------------------------------------------
+
+    private void call(Runnable operation) {
+        try {
+            operation.run();
+        } catch (Case360IntegrationException e) {
+            // Canned responses are minimal; only marshalling is under test here
+        }
+    }
+
+    private Object roundTrip(JAXBElement<?> response) throws Exception {
+        StringResult xml = new StringResult();
+        restricted.marshal(response, xml);
+        return restricted.unmarshal(new StringSource(xml.toString()));
+    }
+
+    private JAXBElement<?> cannedResponse(String operation) throws Exception {
+        String responseName = operation + "Response";
+        QName name = new QName(Case360RestrictedBindings.NAMESPACE, responseName);
+
+        if (operation.equals("doQueryByScriptName")) {
+            FmsFieldTO field = new FmsFieldTO();
+            field.setFieldName("CLAIM_ID");
+            field.setStringValue("AUTO-1");
+            field.setBigDecimalValue(new JAXBElement<>(new QName("", "bigDecimalValue"), BigDecimal.class, FmsFieldTO.class, new BigDecimal("42")));
+            FmsRowTO row = new FmsRowTO();
+            row.getFieldList().add(field);
+            FmsRowSetTO rowSet = new FmsRowSetTO();
+            rowSet.getFmsRowTO().add(row);
+            FmsRowSetTOArray rowSets = new FmsRowSetTOArray();
+            rowSets.getFmsRowSetTO().add(rowSet);
+            DoQueryByScriptNameResponse response = new DoQueryByScriptNameResponse();
+            response.setReturn(rowSets);
+            return new JAXBElement<>(name, DoQueryByScriptNameResponse.class, response);
+        }
+
+        if (operation.equals("getCaseFolderFields")) {
+            FmsFieldTO field = new FmsFieldTO();
+            field.setFieldName("CLAIM_STATUS");
+            field.setDataType(4);
+            FmsRowTO row = new FmsRowTO();
+            row.getFieldList().add(field);
+            GetCaseFolderFieldsResponse response = new GetCaseFolderFieldsResponse();
+            response.setReturn(row);
+            return new JAXBElement<>(name, GetCaseFolderFieldsResponse.class, response);
+        }
+
+        return emptyElement(name, Class.forName(FmsRowTO.class.getPackageName() + "."
+                + Character.toUpperCase(responseName.charAt(0)) + responseName.substring(1)));
+    }
+
+    private static <T> JAXBElement<T> emptyElement(QName name, Class<T> type) throws Exception {
+        return new JAXBElement<>(name, type, type.getDeclaredConstructor().newInstance());
+    }
+
+    private static boolean hasDecl(String elementName) {
+        for (var method : Case360RestrictedBindings.class.getDeclaredMethods()) {
+            XmlElementDecl decl = method.getAnnotation(XmlElementDecl.class);
+            if (decl != null && decl.name().equals(elementName)
+                    && decl.namespace().equals(Case360RestrictedBindings.NAMESPACE)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -2,15 +2,19 @@ package com.solusoft.ai.mcp.integration.case360;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.math.BigDecimal;
+import java.util.Map;
 
 import javax.xml.namespace.QName;
 
@@ -19,8 +23,15 @@ import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.ws.client.WebServiceIOException;
 import org.springframework.ws.client.core.WebServiceTemplate;
+import org.springframework.ws.soap.SoapMessage;
+import org.springframework.ws.soap.client.SoapFaultClientException;
 
+import com.solusoft.ai.mcp.exception.Case360IntegrationException;
+import com.solusoft.ai.mcp.integration.case360.mtom.MtomPutFile;
+import com.solusoft.ai.mcp.integration.case360.soap.CaseFolderTO;
+import com.solusoft.ai.mcp.integration.case360.soap.CaseFolderTOArray;
 import com.solusoft.ai.mcp.integration.case360.soap.CreateCaseFolder;
 import com.solusoft.ai.mcp.integration.case360.soap.CreateCaseFolderResponse;
 import com.solusoft.ai.mcp.integration.case360.soap.CreateFileStore;
@@ -34,9 +45,12 @@ import com.solusoft.ai.mcp.integration.case360.soap.FmsRowSetTO;
 import com.solusoft.ai.mcp.integration.case360.soap.FmsRowSetTOArray;
 import com.solusoft.ai.mcp.integration.case360.soap.FmsRowTO;
 import com.solusoft.ai.mcp.integration.case360.soap.GetCaseFolderFieldsResponse;
+import com.solusoft.ai.mcp.integration.case360.soap.GetCaseFolderTemplatesResponse;
 import com.solusoft.ai.mcp.integration.case360.soap.PutFile;
 import com.solusoft.ai.mcp.integration.case360.soap.PutFileResponse;
+import com.solusoft.ai.mcp.integration.case360.soap.SetCaseFolderFields;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.xml.bind.JAXBElement;
 
 public class Case360ClientTest {
@@ -108,6 +122,24 @@ public class Case360ClientTest {
         assertEquals(new BigDecimal("123"), result);
     }
 
+    @Test
+    public void testGetCaseFolderTemplates_mapsNameToTemplateId() {
+        // Template records can carry a caseFolderID too; createCaseFolder needs the templateID
+        CaseFolderTO template = new CaseFolderTO();
+        template.setTemplateName("Motor Claim");
+        template.setTemplateID(new JAXBElement<>(new QName("", "templateID"), BigDecimal.class, new BigDecimal("42")));
+        template.setCaseFolderID(new JAXBElement<>(new QName("", "caseFolderID"), BigDecimal.class, new BigDecimal("7")));
+        CaseFolderTOArray arr = new CaseFolderTOArray();
+        arr.getCaseFolderTO().add(template);
+        GetCaseFolderTemplatesResponse resp = new GetCaseFolderTemplatesResponse();
+        resp.setReturn(arr);
+
+        when(webServiceTemplate.marshalSendAndReceive(any())).thenReturn(
+                new JAXBElement<>(new QName("", "getCaseFolderTemplatesResponse"), GetCaseFolderTemplatesResponse.class, resp));
+
+        assertEquals(Map.of("Motor Claim", new BigDecimal("42")), client.getCaseFolderTemplates());
+    }
+
     @Test
     public void testCreateCase_andCreateFileStore_returnsStringIds() {
         CreateCaseFolderResponse caseResp = new CreateCaseFolderResponse();
@@ -146,16 +178,266 @@ public class Case360ClientTest {
         JAXBElement<com.solusoft.ai.mcp.integration.case360.soap.SetCaseFolderFieldsResponse> setWrap = new JAXBElement<>(new QName("","setCaseFolderFieldsResponse"), com.solusoft.ai.mcp.integration.case360.soap.SetCaseFolderFieldsResponse.class, setResp);
 
         // First call returns getWrap, second call returns setWrap
-        when(webServiceTemplate.marshalSendAndReceive(any())).thenReturn(getWrap).thenReturn(setWrap);
+        ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+        when(webServiceTemplate.marshalSendAndReceive(captor.capture())).thenReturn(getWrap).thenReturn(setWrap);
 
         client.updateCaseFields("123", java.util.Map.of("CLAIMANT_NAME", "New Name"));
 
         // verify that marshalSendAndReceive was called at least twice (get + set)
         verify(webServiceTemplate, atLeast(2)).marshalSendAndReceive(any());
 
-        // ensure the field was modified in the Get response object before set (the client's code modifies the same object and passes it to set)
-        assertEquals("New Name", row.getFieldList().get(0).getStringValue());
-        assertTrue(row.getFieldList().get(0).isModified());
+        // The original row keeps the value that was read; only the new row is modified
+        SetCaseFolderFields set = (SetCaseFolderFields) ((JAXBElement<?>) captor.getAllValues().get(1)).getValue();
+        assertEquals("Old Name", set.getOriginalCaseFolderFields().getFieldList().get(0).getStringValue());
+        assertFalse(set.getOriginalCaseFolderFields().getFieldList().get(0).isModified());
+        assertEquals("New Name", set.getNewCaseFolderFields().getFieldList().get(0).getStringValue());
+        assertTrue(set.getNewCaseFolderFields().getFieldList().get(0).isModified());
+        assertEquals("Old Name", row.getFieldList().get(0).getStringValue());
+    }
+
+    private static FmsFieldTO stringField(String name, String value) {
+        FmsFieldTO field = new FmsFieldTO();
+        field.setFieldName(name);
+        field.setDataType(4);
+        field.setStringValue(value);
+        return field;
+    }
+
+    @Test
+    public void testUpdateCaseFields_sendsOnlyChangedFieldsWithUnmatchedKeysInAdditionalData() {
+        GetCaseFolderFieldsResponse getResp = new GetCaseFolderFieldsResponse();
+        FmsRowTO row = new FmsRowTO();
+        row.getFieldList().add(stringField("CLAIMANT_NAME", "Old Name"));
+        row.getFieldList().add(stringField("POLICY_NUMBER", "POL-1"));
+        row.getFieldList().add(stringField("CLAIM_STATUS", "reported"));
+        row.getFieldList().add(stringField("ADDITIONAL_DATA", null));
+        getResp.setReturn(row);
+        JAXBElement<GetCaseFolderFieldsResponse> getWrap = new JAXBElement<>(new QName("","getCaseFolderFieldsResponse"), GetCaseFolderFieldsResponse.class, getResp);
+
+        ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+        when(webServiceTemplate.marshalSendAndReceive(captor.capture())).thenReturn(getWrap).thenReturn(null);
+
+        java.util.Map<String, Object> updates = new java.util.HashMap<>();
+        updates.put("CLAIMANT_NAME", "New Name");
+        updates.put("CLAIM_STATUS", null);
+        updates.put("VEHICLE_COLOR", "blue");
+        updates.put("NEXT_REVIEW", java.time.LocalDate.of(2025, 3, 1));
+        client.updateCaseFields("123", updates);
+
+        SetCaseFolderFields set = (SetCaseFolderFields) ((JAXBElement<?>) captor.getAllValues().get(1)).getValue();
+        java.util.List<FmsFieldTO> sent = set.getNewCaseFolderFields().getFieldList();
+        assertEquals(2, sent.size());
+        assertEquals(2, set.getNewCaseFolderFields().getFieldCount());
+        assertEquals(2, set.getOriginalCaseFolderFields().getFieldList().size());
+        assertEquals("CLAIMANT_NAME", sent.get(0).getFieldName());
+        assertEquals("ADDITIONAL_DATA", sent.get(1).getFieldName());
+        assertEquals("{\"NEXT_REVIEW\":\"2025-03-01\",\"VEHICLE_COLOR\":\"blue\"}", sent.get(1).getStringValue());
+        assertTrue(sent.get(1).isModified());
+    }
+
+    @Test
+    public void testUpdateCaseFields_mergesUnmatchedKeysIntoExistingAdditionalData() {
+        GetCaseFolderFieldsResponse getResp = new GetCaseFolderFieldsResponse();
+        FmsRowTO row = new FmsRowTO();
+        row.getFieldList().add(stringField("CLAIMANT_NAME", "Old Name"));
+        row.getFieldList().add(stringField("ADDITIONAL_DATA", "{\"VEHICLE_COLOR\":\"red\",\"WITNESS_NAME\":\"Sam Roe\"}"));
+        getResp.setReturn(row);
+        JAXBElement<GetCaseFolderFieldsResponse> getWrap = new JAXBElement<>(new QName("","getCaseFolderFieldsResponse"), GetCaseFolderFieldsResponse.class, getResp);
+
+        ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+        when(webServiceTemplate.marshalSendAndReceive(captor.capture())).thenReturn(getWrap).thenReturn(null);
+
+        client.updateCaseFields("123", java.util.Map.of("VEHICLE_COLOR", "blue", "POLICE_REPORT", "PR-42"));
+
+        SetCaseFolderFields set = (SetCaseFolderFields) ((JAXBElement<?>) captor.getAllValues().get(1)).getValue();
+        java.util.List<FmsFieldTO> sent = set.getNewCaseFolderFields().getFieldList();
+        assertEquals(1, sent.size());
+        assertEquals("{\"POLICE_REPORT\":\"PR-42\",\"VEHICLE_COLOR\":\"blue\",\"WITNESS_NAME\":\"Sam Roe\"}",
+                sent.get(0).getStringValue());
+        assertEquals("{\"VEHICLE_COLOR\":\"red\",\"WITNESS_NAME\":\"Sam Roe\"}",
+                set.getOriginalCaseFolderFields().getFieldList().get(0).getStringValue());
+    }
+
+    @Test
+    public void testUpdateCaseFields_additionalDataNotJson_isNotOverwritten() {
+        GetCaseFolderFieldsResponse getResp = new GetCaseFolderFieldsResponse();
+        FmsRowTO row = new FmsRowTO();
+        row.getFieldList().add(stringField("CLAIMANT_NAME", "Old Name"));
+        row.getFieldList().add(stringField("ADDITIONAL_DATA", "entered by hand"));
+        getResp.setReturn(row);
+        JAXBElement<GetCaseFolderFieldsResponse> getWrap = new JAXBElement<>(new QName("","getCaseFolderFieldsResponse"), GetCaseFolderFieldsResponse.class, getResp);
+
+        ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+        when(webServiceTemplate.marshalSendAndReceive(captor.capture())).thenReturn(getWrap).thenReturn(null);
+
+        client.updateCaseFields("123", java.util.Map.of("CLAIMANT_NAME", "New Name", "VEHICLE_COLOR", "blue"));
+
+        SetCaseFolderFields set = (SetCaseFolderFields) ((JAXBElement<?>) captor.getAllValues().get(1)).getValue();
+        assertEquals(1, set.getNewCaseFolderFields().getFieldList().size());
+        assertEquals("CLAIMANT_NAME", set.getNewCaseFolderFields().getFieldList().get(0).getFieldName());
+    }
+
+    @Test
+    public void testUpdateCaseFields_cachedSchema_readsBeforeMergingAdditionalData() {
+        GetCaseFolderFieldsResponse getResp = new GetCaseFolderFieldsResponse();
+        FmsRowTO row = new FmsRowTO();
+        row.getFieldList().add(stringField("CLAIMANT_NAME", null));
+        row.getFieldList().add(stringField("ADDITIONAL_DATA", "{\"WITNESS_NAME\":\"Sam Roe\"}"));
+        getResp.setReturn(row);
+        JAXBElement<GetCaseFolderFieldsResponse> getWrap = new JAXBElement<>(new QName("","getCaseFolderFieldsResponse"), GetCaseFolderFieldsResponse.class, getResp);
+
+        ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+        when(webServiceTemplate.marshalSendAndReceive(captor.capture())).thenReturn(getWrap, null, getWrap, null);
+
+        BigDecimal templateId = new BigDecimal("12");
+        client.updateCaseFields("300", templateId, java.util.Map.of("CLAIMANT_NAME", "First"));
+        // Schema is cached now, but VEHICLE_COLOR must be merged with the stored ADDITIONAL_DATA
+        client.updateCaseFields("300", templateId, java.util.Map.of("VEHICLE_COLOR", "blue"));
+
+        verify(webServiceTemplate, times(4)).marshalSendAndReceive(any());
+        SetCaseFolderFields set = (SetCaseFolderFields) ((JAXBElement<?>) captor.getAllValues().get(3)).getValue();
+        assertEquals("{\"VEHICLE_COLOR\":\"blue\",\"WITNESS_NAME\":\"Sam Roe\"}",
+                set.getNewCaseFolderFields().getFieldList().get(0).getStringValue());
+    }
+
+    @Test
+    public void testUpdateNewCaseFields_cachedSchema_writesAdditionalDataWithoutReading() {
+        GetCaseFolderFieldsResponse getResp = new GetCaseFolderFieldsResponse();
+        FmsRowTO row = new FmsRowTO();
+        row.getFieldList().add(stringField("CLAIMANT_NAME", null));
+        row.getFieldList().add(stringField("ADDITIONAL_DATA", null));
+        getResp.setReturn(row);
+        JAXBElement<GetCaseFolderFieldsResponse> getWrap = new JAXBElement<>(new QName("","getCaseFolderFieldsResponse"), GetCaseFolderFieldsResponse.class, getResp);
+
+        ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+        when(webServiceTemplate.marshalSendAndReceive(captor.capture())).thenReturn(getWrap, null, null);
+
+        BigDecimal templateId = new BigDecimal("13");
+        client.updateCaseFields("300", templateId, java.util.Map.of("CLAIMANT_NAME", "First"));
+        // A new folder has no ADDITIONAL_DATA yet: the cached schema is enough
+        client.updateNewCaseFields("301", templateId, java.util.Map.of("CLAIMANT_NAME", "Second", "VEHICLE_COLOR", "blue"));
+
+        verify(webServiceTemplate, times(3)).marshalSendAndReceive(any());
+        SetCaseFolderFields set = (SetCaseFolderFields) ((JAXBElement<?>) captor.getAllValues().get(2)).getValue();
+        assertEquals(new BigDecimal("301"), set.getCaseFolderInstanceId());
+        assertEquals("{\"VEHICLE_COLOR\":\"blue\"}",
+                set.getNewCaseFolderFields().getFieldList().get(1).getStringValue());
+    }
+
+    @Test
+    public void testUpdateCaseFields_withoutAdditionalDataField_dropsUnmatchedKeys() {
+        GetCaseFolderFieldsResponse getResp = new GetCaseFolderFieldsResponse();
+        FmsRowTO row = new FmsRowTO();
+        row.getFieldList().add(stringField("CLAIMANT_NAME", "Old Name"));
+        getResp.setReturn(row);
+        JAXBElement<GetCaseFolderFieldsResponse> getWrap = new JAXBElement<>(new QName("","getCaseFolderFieldsResponse"), GetCaseFolderFieldsResponse.class, getResp);
+
+        ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+        when(webServiceTemplate.marshalSendAndReceive(captor.capture())).thenReturn(getWrap).thenReturn(null);
+
+        client.updateCaseFields("123", java.util.Map.of("CLAIMANT_NAME", "New Name", "VEHICLE_COLOR", "blue"));
+
+        SetCaseFolderFields set = (SetCaseFolderFields) ((JAXBElement<?>) captor.getAllValues().get(1)).getValue();
+        assertEquals(1, set.getNewCaseFolderFields().getFieldList().size());
+        assertEquals("CLAIMANT_NAME", set.getNewCaseFolderFields().getFieldList().get(0).getFieldName());
+    }
+
+    @Test
+    public void testUpdateCaseFields_nothingToChange_skipsSet() {
+        GetCaseFolderFieldsResponse getResp = new GetCaseFolderFieldsResponse();
+        FmsRowTO row = new FmsRowTO();
+        FmsFieldTO readOnly = stringField("CLAIM_ID", "AUTO-1");
+        readOnly.setReadOnly(true);
+        row.getFieldList().add(readOnly);
+        getResp.setReturn(row);
+        JAXBElement<GetCaseFolderFieldsResponse> getWrap = new JAXBElement<>(new QName("","getCaseFolderFieldsResponse"), GetCaseFolderFieldsResponse.class, getResp);
+        when(webServiceTemplate.marshalSendAndReceive(any())).thenReturn(getWrap);
+
+        client.updateCaseFields("123", java.util.Map.of("CLAIM_ID", "AUTO-2"));
+
+        verify(webServiceTemplate, times(1)).marshalSendAndReceive(any());
+    }
+
+    @Test
+    public void testUpdateCaseFields_cachedSchema_singleRoundTrip() {
+        GetCaseFolderFieldsResponse getResp = new GetCaseFolderFieldsResponse();
+        FmsRowTO row = new FmsRowTO();
+        FmsFieldTO field = new FmsFieldTO();
+        field.setFieldName("CLAIMANT_NAME");
+        field.setDataType(4);
+        row.getFieldList().add(field);
+        getResp.setReturn(row);
+        JAXBElement<GetCaseFolderFieldsResponse> getWrap = new JAXBElement<>(new QName("","getCaseFolderFieldsResponse"), GetCaseFolderFieldsResponse.class, getResp);
+
+        ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+        when(webServiceTemplate.marshalSendAndReceive(captor.capture())).thenReturn(getWrap).thenReturn(null);
+
+        BigDecimal templateId = new BigDecimal("10");
+        // First update learns the schema (get + set), second one is built locally (set only)
+        client.updateCaseFields("123", templateId, java.util.Map.of("CLAIMANT_NAME", "First"));
+        client.updateCaseFields("124", templateId, java.util.Map.of("CLAIMANT_NAME", "Second"));
+
+        verify(webServiceTemplate, times(3)).marshalSendAndReceive(any());
+
+        JAXBElement<?> last = (JAXBElement<?>) captor.getAllValues().get(2);
+        assertTrue(last.getValue() instanceof SetCaseFolderFields);
+        SetCaseFolderFields set = (SetCaseFolderFields) last.getValue();
+        assertEquals(new BigDecimal("124"), set.getCaseFolderInstanceId());
+        FmsFieldTO sent = set.getNewCaseFolderFields().getFieldList().get(0);
+        assertEquals("Second", sent.getStringValue());
+        assertTrue(sent.isModified());
+    }
+
+    @Test
+    public void testUpdateCaseFields_cachedSchemaRejected_fallsBackToReadThenWrite() {
+        GetCaseFolderFieldsResponse getResp = new GetCaseFolderFieldsResponse();
+        FmsRowTO row = new FmsRowTO();
+        FmsFieldTO field = new FmsFieldTO();
+        field.setFieldName("CLAIM_STATUS");
+        field.setDataType(4);
+        row.getFieldList().add(field);
+        getResp.setReturn(row);
+        JAXBElement<GetCaseFolderFieldsResponse> getWrap = new JAXBElement<>(new QName("","getCaseFolderFieldsResponse"), GetCaseFolderFieldsResponse.class, getResp);
+
+        ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+        when(webServiceTemplate.marshalSendAndReceive(captor.capture()))
+            .thenReturn(getWrap)                                                 // 1st update: get
+            .thenReturn(null)                                                    // 1st update: set
+            .thenThrow(new SoapFaultClientException(mock(SoapMessage.class)))    // 2nd update: cached set rejected
+            .thenReturn(getWrap)                                                 // 2nd update: re-read
+            .thenReturn(null);                                                   // 2nd update: set
+
+        BigDecimal templateId = new BigDecimal("11");
+        client.updateCaseFields("200", templateId, java.util.Map.of("CLAIM_STATUS", "reported"));
+        client.updateCaseFields("201", templateId, java.util.Map.of("CLAIM_STATUS", "closed"));
+
+        verify(webServiceTemplate, times(5)).marshalSendAndReceive(any());
+
+        // The cached row has no values, so its original field is null rather than the template's nullability
+        SetCaseFolderFields cached = (SetCaseFolderFields) ((JAXBElement<?>) captor.getAllValues().get(2)).getValue();
+        assertTrue(cached.getOriginalCaseFolderFields().getFieldList().get(0).isNullValue());
+    }
+
+    @Test
+    public void testUpdateCaseFields_cachedSchemaTimeout_isNotRetriedAsReadThenWrite() {
+        GetCaseFolderFieldsResponse getResp = new GetCaseFolderFieldsResponse();
+        FmsRowTO row = new FmsRowTO();
+        row.getFieldList().add(stringField("CLAIM_STATUS", "new"));
+        getResp.setReturn(row);
+        JAXBElement<GetCaseFolderFieldsResponse> getWrap = new JAXBElement<>(new QName("","getCaseFolderFieldsResponse"), GetCaseFolderFieldsResponse.class, getResp);
+
+        when(webServiceTemplate.marshalSendAndReceive(any()))
+            .thenReturn(getWrap)                                      // 1st update: get
+            .thenReturn(null)                                         // 1st update: set
+            .thenThrow(new WebServiceIOException("Read timed out"));  // 2nd update: cached set times out
+
+        BigDecimal templateId = new BigDecimal("11");
+        client.updateCaseFields("200", templateId, java.util.Map.of("CLAIM_STATUS", "reported"));
+
+        // The set may have been applied: re-sending it would double the write and the timeout
+        assertThrows(Case360IntegrationException.class,
+                () -> client.updateCaseFields("201", templateId, java.util.Map.of("CLAIM_STATUS", "closed")));
+        verify(webServiceTemplate, times(3)).marshalSendAndReceive(any());
     }
 
     @Test
@@ -171,6 +453,16 @@ public class Case360ClientTest {
         verify(webServiceTemplate, times(1)).marshalSendAndReceive(any());
     }
 
+    @Test
+    public void testUploadDocument_recordsMemoryInInjectedRegistry() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        Case360Client measured = new Case360Client(webServiceTemplate, webServiceTemplate, new CaseFolderSchemaCache(60), registry);
+
+        measured.uploadDocument(new BigDecimal("777"), new byte[] {1, 2, 3}, "file.bin");
+
+        assertEquals(1, registry.find("case360.upload.heap.used.bytes").tag("path", "inline").summary().count());
+    }
+
     @Test
     public void testDoQuery_requestShaping() {
         // Prepare response wrapper so call succeeds
@@ -271,4 +563,20 @@ public class Case360ClientTest {
         assertArrayEquals(content, req.getData());
         assertEquals(fileName, req.getFileName());
     }
+
+    @Test
+    public void testUploadDocument_stream_sendsMtomRequestWithAttachment() throws Exception {
+        ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+        when(webServiceTemplate.marshalSendAndReceive(captor.capture())).thenReturn(null);
+
+        byte[] content = new byte[] {4,5,6};
+        client.uploadDocument(new BigDecimal("778"), new java.io.ByteArrayInputStream(content), content.length, "scan.tiff");
+
+        Object sent = captor.getValue();
+        assertTrue(sent instanceof MtomPutFile);
+        MtomPutFile req = (MtomPutFile) sent;
+        assertEquals(new BigDecimal("778"), req.getDocumentId());
+        assertEquals("scan.tiff", req.getFileName());
+        assertArrayEquals(content, req.getData().getInputStream().readAllBytes());
+    }
 }
@@ -0,0 +1,138 @@
+package com.solusoft.ai.mcp.integration.case360;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import com.solusoft.ai.mcp.exception.Case360IntegrationException;
+
+public class Case360DocumentTransferTest {
+
+    private static final BigDecimal DOC_ID = new BigDecimal("4242");
+
+    @Mock
+    private Case360Client case360Client;
+
+    @TempDir
+    Path tempDir;
+
+    private Case360DocumentTransfer transfer;
+    private byte[] document;
+
+    @BeforeEach
+    public void setup() {
+        MockitoAnnotations.openMocks(this);
+        transfer = new Case360DocumentTransfer(case360Client, 10, 2, 1);
+
+        document = new byte[35];
+        for (int i = 0; i < document.length; i++) document[i] = (byte) i;
+    }
+
+    @Test
+    public void testDownload_transientFailure_resumesFromLastOffset() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        when(case360Client.getPartialFile(eq(DOC_ID), eq(3), anyLong(), eq(10))).thenAnswer(inv -> {
+            long offset = inv.getArgument(2);
+            if (offset == 20 && calls.incrementAndGet() == 1) {
+                throw new Case360IntegrationException("read timed out", new IOException("Read timed out"));
+            }
+            int end = (int) Math.min(document.length, offset + 10);
+            return Arrays.copyOfRange(document, (int) offset, end);
+        });
+
+        Path target = tempDir.resolve("doc.pdf");
+        long size = transfer.download(DOC_ID, 3, target, null);
+
+        assertEquals(35, size);
+        assertArrayEquals(document, Files.readAllBytes(target));
+        // Chunks 0,10 once; chunk 20 failed then retried; chunk 30 is the short tail, 35 the empty end
+        verify(case360Client, times(2)).getPartialFile(DOC_ID, 3, 20L, 10);
+        verify(case360Client, times(1)).getPartialFile(DOC_ID, 3, 0L, 10);
+    }
+
+    @Test
+    public void testDownload_existingPartialTarget_resumesFromItsSize() throws Exception {
+        Path target = tempDir.resolve("partial.pdf");
+        Files.write(target, Arrays.copyOfRange(document, 0, 20));
+
+        when(case360Client.getPartialFile(eq(DOC_ID), eq(1), anyLong(), anyInt())).thenAnswer(inv -> {
+            long offset = inv.getArgument(2);
+            return Arrays.copyOfRange(document, (int) offset, (int) Math.min(document.length, offset + 10));
+        });
+
+        transfer.download(DOC_ID, 1, target, null);
+
+        assertArrayEquals(document, Files.readAllBytes(target));
+        verify(case360Client, times(0)).getPartialFile(DOC_ID, 1, 0L, 10);
+    }
+
+    @Test
+    public void testDownload_nonTransientFailure_isNotRetried() {
+        when(case360Client.getPartialFile(any(), anyInt(), anyLong(), anyInt()))
+            .thenThrow(new Case360IntegrationException("SOAP fault: no such document"));
+
+        assertThrows(Case360IntegrationException.class, () -> transfer.download(DOC_ID, 1, tempDir.resolve("x"), null));
+        verify(case360Client, times(1)).getPartialFile(any(), anyInt(), anyLong(), anyInt());
+    }
+
+    @Test
+    public void testDownload_shortChunk_keepsReadingUntilEmptyChunk() throws Exception {
+        // The server caps each reply at 7 bytes although 10 were asked for
+        when(case360Client.getPartialFile(eq(DOC_ID), eq(1), anyLong(), eq(10))).thenAnswer(inv -> {
+            long offset = inv.getArgument(2);
+            return Arrays.copyOfRange(document, (int) offset, (int) Math.min(document.length, offset + 7));
+        });
+
+        Path target = tempDir.resolve("short.pdf");
+        long size = transfer.download(DOC_ID, 1, target, null);
+
+        assertEquals(35, size);
+        assertArrayEquals(document, Files.readAllBytes(target));
+        verify(case360Client, times(1)).getPartialFile(DOC_ID, 1, 35L, 10);
+    }
+
+    @Test
+    public void testDownload_knownSize_stopsWithoutReadingPastTheEnd() throws Exception {
+        when(case360Client.getPartialFile(eq(DOC_ID), eq(1), anyLong(), eq(10))).thenAnswer(inv -> {
+            long offset = inv.getArgument(2);
+            return Arrays.copyOfRange(document, (int) offset, (int) Math.min(document.length, offset + 10));
+        });
+
+        long size = transfer.download(DOC_ID, 1, tempDir.resolve("sized.pdf"), null, 35);
+
+        assertEquals(35, size);
+        verify(case360Client, times(4)).getPartialFile(eq(DOC_ID), eq(1), anyLong(), eq(10));
+    }
+
+    @Test
+    public void testDownload_lengthMismatch_failsAndEmptiesTarget() throws Exception {
+        when(case360Client.getPartialFile(eq(DOC_ID), eq(1), anyLong(), eq(10))).thenAnswer(inv -> {
+            long offset = inv.getArgument(2);
+            return Arrays.copyOfRange(document, (int) offset, (int) Math.min(document.length, offset + 10));
+        });
+
+        Path target = tempDir.resolve("truncated.pdf");
+        assertThrows(Case360IntegrationException.class, () -> transfer.download(DOC_ID, 1, target, null, 40));
+        assertEquals(0, Files.size(target));
+    }
+}
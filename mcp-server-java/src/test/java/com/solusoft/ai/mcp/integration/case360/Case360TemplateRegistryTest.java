@@ -0,0 +1,85 @@
+package com.solusoft.ai.mcp.integration.case360;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import com.solusoft.ai.mcp.exception.Case360IntegrationException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class Case360TemplateRegistryTest {
+
+    @Mock
+    private Case360Client case360Client;
+
+    private SimpleMeterRegistry meterRegistry;
+    private Case360TemplateRegistry registry;
+
+    @BeforeEach
+    public void setup() {
+        MockitoAnnotations.openMocks(this);
+        meterRegistry = new SimpleMeterRegistry();
+        registry = new Case360TemplateRegistry(case360Client, meterRegistry, 30, 5);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        registry.shutdown();
+    }
+
+    @Test
+    public void testPreload_servesLookupsFromMemory() {
+        when(case360Client.getCaseFolderTemplates()).thenReturn(Map.of("Motor Claim", new BigDecimal("10"), "Healthcare Claim", new BigDecimal("11")));
+        when(case360Client.getFileStoreTemplates()).thenReturn(Map.of("Claim Document", new BigDecimal("20")));
+
+        registry.preload();
+
+        assertEquals(new BigDecimal("10"), registry.getCaseFolderTemplateId("Motor Claim"));
+        assertEquals(new BigDecimal("10"), registry.getCaseFolderTemplateId("Motor Claim"));
+        assertEquals(new BigDecimal("11"), registry.getCaseFolderTemplateId("Healthcare Claim"));
+        assertEquals(new BigDecimal("20"), registry.getFilestoreTemplateId("Claim Document"));
+
+        // No per-name SOAP queries once the tables are loaded
+        verify(case360Client, never()).getCaseFolderTemplateId(anyString());
+        verify(case360Client, never()).getFilestoreTemplateId(anyString());
+        assertEquals(4.0, meterRegistry.get("case360.templates.lookups").tag("result", "hit").counters()
+                .stream().mapToDouble(c -> c.count()).sum());
+    }
+
+    @Test
+    public void testUnknownName_fallsBackToSingleQueryOnce() {
+        when(case360Client.getCaseFolderTemplateId("New Template")).thenReturn(new BigDecimal("77"));
+
+        assertEquals(new BigDecimal("77"), registry.getCaseFolderTemplateId("New Template"));
+        assertEquals(new BigDecimal("77"), registry.getCaseFolderTemplateId("New Template"));
+
+        verify(case360Client, times(1)).getCaseFolderTemplateId("New Template");
+        assertEquals(1.0, meterRegistry.get("case360.templates.lookups").tags("kind", "CASE_FOLDER", "result", "miss").counter().count());
+    }
+
+    @Test
+    public void testFailedPreload_isNotFatal() {
+        when(case360Client.getCaseFolderTemplates()).thenThrow(new Case360IntegrationException("down"));
+        when(case360Client.getFileStoreTemplates()).thenThrow(new Case360IntegrationException("down"));
+        when(case360Client.getFilestoreTemplateId("Claim Document")).thenThrow(new Case360IntegrationException("down"));
+
+        registry.preload();
+
+        assertEquals(1.0, meterRegistry.get("case360.templates.refreshes").tags("kind", "FILE_STORE", "outcome", "failure").counter().count());
+        assertThrows(Case360IntegrationException.class, () -> registry.getFilestoreTemplateId("Claim Document"));
+    }
+}
@@ -0,0 +1,165 @@
+package com.solusoft.ai.mcp.integration.case360;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class CaseFolderPoolTest {
+
+    private final Case360Client case360Client = mock(Case360Client.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicInteger nextCaseId = new AtomicInteger(100);
+    private Case360TemplateRegistry templateRegistry;
+
+    @BeforeEach
+    public void setup() {
+        templateRegistry = new Case360TemplateRegistry(case360Client, meterRegistry, 30, 5);
+        when(case360Client.getCaseFolderTemplateId("Motor Claim")).thenReturn(BigDecimal.TEN);
+        when(case360Client.createCase(any())).thenAnswer(invocation -> String.valueOf(nextCaseId.getAndIncrement()));
+    }
+
+    private CaseFolderPool newPool(boolean enabled, long ttlSeconds, long leaseTimeoutSeconds) {
+        return new CaseFolderPool(case360Client, templateRegistry, meterRegistry, enabled, List.of("Motor Claim"),
+                3, 1, ttlSeconds, leaseTimeoutSeconds, 30);
+    }
+
+    private double requests(String result) {
+        var counter = meterRegistry.find("case360.case_folder_pool.requests").tag("result", result).counter();
+        return counter == null ? 0 : counter.count();
+    }
+
+    private double reclaimed(String reason) {
+        var counter = meterRegistry.find("case360.case_folder_pool.reclaimed").tag("reason", reason).counter();
+        return counter == null ? 0 : counter.count();
+    }
+
+    @Test
+    public void testDisabledPoolCreatesInline() {
+        CaseFolderPool pool = newPool(false, 3600, 300);
+
+        assertEquals("100", pool.acquire("Motor Claim", BigDecimal.TEN));
+        assertEquals(0, requests("miss"));
+        verify(case360Client, times(1)).createCase(BigDecimal.TEN);
+
+        pool.commit("100");
+        pool.discard("100");
+        verify(case360Client, never()).removeCaseFolder(anyString());
+    }
+
+    @Test
+    public void testRefillReachesTargetAndTakesAreHits() {
+        CaseFolderPool pool = newPool(true, 3600, 300);
+        pool.refill();
+        assertEquals(3, pool.depth("Motor Claim"));
+        assertEquals(3.0, meterRegistry.find("case360.case_folder_pool.depth").tag("template", "Motor Claim").gauge().value());
+
+        assertEquals("100", pool.acquire("Motor Claim", BigDecimal.TEN));
+        assertEquals("101", pool.acquire("Motor Claim", BigDecimal.TEN));
+        pool.commit("100");
+        pool.commit("101");
+
+        assertEquals(1, pool.depth("Motor Claim"));
+        assertEquals(2, requests("hit"));
+        verify(case360Client, times(3)).createCase(any());
+    }
+
+    @Test
+    public void testEmptyPoolIsAMissAndCreatesInline() {
+        CaseFolderPool pool = newPool(true, 3600, 300);
+
+        assertEquals("100", pool.acquire("Motor Claim", BigDecimal.TEN));
+        assertEquals(1, requests("miss"));
+        // The inline folder is leased too: a failed claim does not leave it behind
+        pool.discard("100");
+        verify(case360Client).removeCaseFolder("100");
+        assertEquals(1, reclaimed("discarded"));
+    }
+
+    @Test
+    public void testDiscardRemovesPooledFolder() {
+        CaseFolderPool pool = newPool(true, 3600, 300);
+        pool.refill();
+
+        String caseId = pool.acquire("Motor Claim", BigDecimal.TEN);
+        pool.discard(caseId);
+
+        verify(case360Client).removeCaseFolder(caseId);
+        assertEquals(1, reclaimed("discarded"));
+    }
+
+    @Test
+    public void testExpiredFoldersAreReclaimedAndReplaced() {
+        CaseFolderPool pool = newPool(true, 0, 300);
+        pool.refill();
+
+        pool.maintain();
+
+        verify(case360Client, times(3)).removeCaseFolder(anyString());
+        assertEquals(3, reclaimed("expired"));
+        assertEquals(3, pool.depth("Motor Claim"));
+    }
+
+    @Test
+    public void testUncommittedLeaseIsReclaimedAsLeak() {
+        CaseFolderPool pool = newPool(true, 3600, 0);
+        pool.refill();
+        String leaked = pool.acquire("Motor Claim", BigDecimal.TEN);
+
+        pool.maintain();
+
+        verify(case360Client).removeCaseFolder(leaked);
+        assertEquals(1, reclaimed("leaked"));
+    }
+
+    @Test
+    public void testDisabledPoolStillReclaimsLeakedInlineFolders() {
+        CaseFolderPool pool = newPool(false, 3600, 0);
+        String leaked = pool.acquire("Motor Claim", BigDecimal.TEN);
+
+        pool.start();
+        try {
+            verify(case360Client, timeout(5000)).removeCaseFolder(leaked);
+        } finally {
+            pool.shutdown();
+        }
+        assertEquals(1, reclaimed("leaked"));
+        assertEquals(0, pool.depth("Motor Claim"));
+        verify(case360Client, times(1)).createCase(any());
+    }
+
+    @Test
+    public void testFolderFromRedefinedTemplateIsNotHandedOut() {
+        CaseFolderPool pool = newPool(true, 3600, 300);
+        pool.refill();
+
+        assertEquals("103", pool.acquire("Motor Claim", BigDecimal.ONE));
+        verify(case360Client, times(3)).removeCaseFolder(anyString());
+        assertEquals(1, requests("miss"));
+    }
+
+    @Test
+    public void testShutdownRemovesPooledFolders() {
+        CaseFolderPool pool = newPool(true, 3600, 300);
+        pool.refill();
+
+        pool.shutdown();
+
+        verify(case360Client, times(3)).removeCaseFolder(anyString());
+        assertEquals(0, pool.depth("Motor Claim"));
+    }
+}
@@ -0,0 +1,108 @@
+package com.solusoft.ai.mcp.integration.case360.resilience;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.solusoft.ai.mcp.exception.Case360IntegrationException;
+import com.solusoft.ai.mcp.integration.case360.resilience.Case360CircuitBreaker.Permit;
+import com.solusoft.ai.mcp.integration.case360.resilience.Case360CircuitBreaker.State;
+
+public class Case360CircuitBreakerTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private final List<State> transitions = new ArrayList<>();
+    private Case360CircuitBreaker breaker;
+
+    @BeforeEach
+    public void setup() {
+        breaker = new Case360CircuitBreaker(10, 4, 50, Duration.ofSeconds(30), 2, clock::get, transitions::add);
+    }
+
+    @Test
+    public void testOpensAtFailureRateAfterMinCalls() {
+        breaker.onFailure(breaker.tryAcquire());
+        breaker.onFailure(breaker.tryAcquire());
+        breaker.onFailure(breaker.tryAcquire());
+        assertEquals(State.CLOSED, breaker.getState(), "Below min-calls the circuit stays closed");
+
+        breaker.onSuccess(breaker.tryAcquire());
+        breaker.onFailure(breaker.tryAcquire());
+
+        assertEquals(State.OPEN, breaker.getState());
+        assertNull(breaker.tryAcquire());
+        assertEquals(Duration.ofSeconds(30), breaker.remainingOpen());
+    }
+
+    @Test
+    public void testHalfOpenProbesCloseTheCircuit() {
+        open();
+        clock.addAndGet(Duration.ofSeconds(30).toNanos());
+
+        Permit first = breaker.tryAcquire();
+        assertTrue(first.probe());
+        assertEquals(State.HALF_OPEN, breaker.getState());
+        Permit second = breaker.tryAcquire();
+        assertNotNull(second);
+        assertNull(breaker.tryAcquire(), "Only the configured number of probes is let through");
+
+        breaker.onSuccess(first);
+        breaker.onSuccess(second);
+
+        assertEquals(State.CLOSED, breaker.getState());
+        assertEquals(List.of(State.OPEN, State.HALF_OPEN, State.CLOSED), transitions);
+    }
+
+    @Test
+    public void testFailedProbeReopens() {
+        open();
+        clock.addAndGet(Duration.ofSeconds(31).toNanos());
+
+        breaker.onFailure(breaker.tryAcquire());
+
+        assertEquals(State.OPEN, breaker.getState());
+        assertNull(breaker.tryAcquire());
+    }
+
+    @Test
+    public void testCallsAdmittedBeforeHalfOpenDoNotDecideProbes() {
+        Permit slowSuccess = breaker.tryAcquire();
+        Permit slowFailure = breaker.tryAcquire();
+        open();
+        clock.addAndGet(Duration.ofSeconds(30).toNanos());
+        Permit probe = breaker.tryAcquire();
+
+        breaker.onFailure(slowFailure);
+        assertEquals(State.HALF_OPEN, breaker.getState(), "A stale failure must not re-open the circuit");
+        breaker.onSuccess(slowSuccess);
+        breaker.onSuccess(probe);
+        assertEquals(State.HALF_OPEN, breaker.getState(), "A stale success must not count as a probe");
+
+        breaker.onSuccess(breaker.tryAcquire());
+        assertEquals(State.CLOSED, breaker.getState());
+    }
+
+    @Test
+    public void testOnlyTransportErrorsAreFailures() {
+        assertTrue(Case360CircuitBreaker.isTransportFailure(new Case360IntegrationException("x", new IOException("reset"))));
+        assertFalse(Case360CircuitBreaker.isTransportFailure(new Case360IntegrationException("claimId is null or empty")));
+    }
+
+    private void open() {
+        for (int i = 0; i < 4; i++) {
+            breaker.onFailure(breaker.tryAcquire());
+        }
+        assertEquals(State.OPEN, breaker.getState());
+    }
+}
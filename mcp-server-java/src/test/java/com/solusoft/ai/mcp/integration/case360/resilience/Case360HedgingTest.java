@@ -0,0 +1,102 @@
+package com.solusoft.ai.mcp.integration.case360.resilience;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.solusoft.ai.mcp.exception.Case360IntegrationException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class Case360HedgingTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private Case360Hedging hedging;
+
+    @AfterEach
+    public void tearDown() {
+        hedging.shutdown();
+    }
+
+    @Test
+    public void testSlowPrimary_hedgeWins() throws Throwable {
+        // 100% budget so the very first slow call may hedge
+        hedging = new Case360Hedging(meterRegistry, true, 0.95, 20, 1000, 64, 100);
+        AtomicInteger attempts = new AtomicInteger();
+
+        long start = System.nanoTime();
+        String result = hedging.execute("getClaimStatus", () -> {
+            if (attempts.incrementAndGet() == 1) {
+                Thread.sleep(2000);
+                return "slow";
+            }
+            return "fast";
+        });
+        long elapsedMs = Duration.ofNanos(System.nanoTime() - start).toMillis();
+
+        assertEquals("fast", result);
+        assertEquals(2, attempts.get());
+        assertTrue(elapsedMs < 1000, "Hedge should answer long before the slow primary, took " + elapsedMs + " ms");
+        // The win is counted just after the result is handed over
+        long deadline = System.nanoTime() + Duration.ofSeconds(1).toNanos();
+        while (meterRegistry.find("case360.hedge.wins").counter() == null && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals(1.0, meterRegistry.get("case360.hedge.wins").tag("operation", "getClaimStatus").counter().count());
+    }
+
+    @Test
+    public void testEmptyBudget_doesNotHedge() throws Throwable {
+        hedging = new Case360Hedging(meterRegistry, true, 0.95, 10, 1000, 64, 10);
+        AtomicInteger attempts = new AtomicInteger();
+
+        String result = hedging.execute("ping", () -> {
+            attempts.incrementAndGet();
+            Thread.sleep(100);
+            return "ok";
+        });
+
+        assertEquals("ok", result);
+        assertEquals(1, attempts.get());
+        assertEquals(1.0, meterRegistry.get("case360.hedge.budget.denied").counter().count());
+    }
+
+    @Test
+    public void testFastFailure_isNotHedged() {
+        hedging = new Case360Hedging(meterRegistry, true, 0.95, 200, 1000, 64, 100);
+        AtomicInteger attempts = new AtomicInteger();
+
+        assertThrows(Case360IntegrationException.class, () -> hedging.execute("getClaimStatus", () -> {
+            attempts.incrementAndGet();
+            throw new Case360IntegrationException("fault");
+        }));
+        assertEquals(1, attempts.get());
+    }
+
+    @Test
+    public void testDelayTracksLatencyPercentile() throws Throwable {
+        hedging = new Case360Hedging(meterRegistry, true, 0.5, 1, 4, 64, 0);
+        for (int i = 0; i < 8; i++) {
+            hedging.execute("getCaseFolderTemplateId", () -> {
+                Thread.sleep(30);
+                return 1;
+            });
+        }
+
+        long delayMs = hedging.currentDelay("getCaseFolderTemplateId").toMillis();
+        assertTrue(delayMs >= 30 && delayMs < 500, "Delay should follow the observed median, was " + delayMs + " ms");
+    }
+
+    @Test
+    public void testDisabled_callsThrough() throws Throwable {
+        hedging = new Case360Hedging(meterRegistry, false, 0.95, 1, 1, 64, 100);
+
+        assertEquals("direct", hedging.execute("ping", () -> "direct"));
+    }
+}
@@ -0,0 +1,83 @@
+package com.solusoft.ai.mcp.integration.case360.resilience;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.solusoft.ai.mcp.exception.Case360IntegrationException;
+import com.solusoft.ai.mcp.exception.Case360UnavailableException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class Case360ResilienceTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private Case360Resilience resilience;
+
+    @BeforeEach
+    public void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        // window 4, min-calls 4, 50%, slow-call 10s, open 30s, 1 probe; query bulkhead of 1
+        resilience = new Case360Resilience(meterRegistry, true, 4, 4, 50, 10_000, 30, 1, 1, 1, 1, 10);
+    }
+
+    @Test
+    public void testOpenCircuit_failsFastWithoutCallingCase360() throws Throwable {
+        for (int i = 0; i < 4; i++) {
+            assertThrows(Case360IntegrationException.class, () -> resilience.execute(Case360OperationType.QUERY, "getClaimStatus", () -> {
+                throw new Case360IntegrationException("down", new IOException("connect timed out"));
+            }));
+        }
+        assertEquals(Case360CircuitBreaker.State.OPEN, resilience.getCircuitState());
+
+        AtomicInteger calls = new AtomicInteger();
+        Case360UnavailableException e = assertThrows(Case360UnavailableException.class,
+                () -> resilience.execute(Case360OperationType.QUERY, "getClaimStatus", calls::incrementAndGet));
+
+        assertEquals(0, calls.get());
+        assertEquals(true, e.getRetryAfter().toSeconds() > 0);
+        assertEquals(1.0, meterRegistry.get("case360.calls.rejected").tag("reason", "circuit_open").counter().count());
+        assertEquals(1.0, meterRegistry.get("case360.circuit.state").gauge().value());
+    }
+
+    @Test
+    public void testSoapFaults_doNotOpenCircuit() {
+        for (int i = 0; i < 6; i++) {
+            assertThrows(Case360IntegrationException.class, () -> resilience.execute(Case360OperationType.CREATE, "createCase", () -> {
+                throw new Case360IntegrationException("template not found");
+            }));
+        }
+        assertEquals(Case360CircuitBreaker.State.CLOSED, resilience.getCircuitState());
+    }
+
+    @Test
+    public void testFullBulkhead_rejectsOnlyItsOwnType() throws Throwable {
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread upload = Thread.ofVirtual().start(() -> {
+            try {
+                resilience.execute(Case360OperationType.UPLOAD, "uploadDocument", () -> {
+                    entered.countDown();
+                    release.await();
+                    return null;
+                });
+            } catch (Throwable ignored) {
+            }
+        });
+        entered.await();
+
+        assertThrows(Case360UnavailableException.class,
+                () -> resilience.execute(Case360OperationType.UPLOAD, "uploadDocument", () -> null));
+        assertEquals("ok", resilience.execute(Case360OperationType.QUERY, "getClaimStatus", () -> "ok"));
+        assertEquals(1.0, meterRegistry.get("case360.calls.rejected").tags("type", "UPLOAD", "reason", "bulkhead_full").counter().count());
+
+        release.countDown();
+        upload.join();
+    }
+}